@@ -0,0 +1,40 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import static org.dotwebstack.framework.backend.postgres.NotificationCacheInvalidator.MAX_BACKOFF;
+import static org.dotwebstack.framework.backend.postgres.NotificationCacheInvalidator.MIN_BACKOFF;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+/**
+ * Streams the changed rows of the tables of object types, as announced by notifications which hold the key of the
+ * changed row. The changes of an object type are shared by all its subscribers, which all receive them through the
+ * single connection of the notification listener.
+ */
+@Slf4j
+public class ChangeFeed {
+
+  private final NotificationListener notificationListener;
+
+  private final Map<String, Flux<TableChange>> changes = new ConcurrentHashMap<>();
+
+  public ChangeFeed(NotificationListener notificationListener) {
+    this.notificationListener = notificationListener;
+  }
+
+  Flux<TableChange> getChanges(PostgresObjectType objectType) {
+    return changes.computeIfAbsent(objectType.getName(), name -> notificationListener.getNotifications()
+        .doOnError(e -> LOG.warn("Listening for changes of {} failed, reconnecting: {}", name, e.getMessage()))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF)
+            .maxBackoff(MAX_BACKOFF))
+        .doOnComplete(() -> LOG.warn("Listening for changes of {} stopped, reconnecting.", name))
+        .repeatWhen(completions -> completions.delayElements(MIN_BACKOFF))
+        .map(TableChange::of)
+        .filter(change -> change.key() != null && change.isTable(objectType))
+        .share());
+  }
+}
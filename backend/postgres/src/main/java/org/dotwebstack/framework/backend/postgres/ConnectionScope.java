@@ -0,0 +1,88 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.core.query.model.RequestContext;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fixed set of connections which is shared by all queries of a single GraphQL request. Connections are acquired on
+ * first use and handed out round-robin, queries which share a connection are pipelined by the driver. The connections
+ * are returned to the pool when the scope is closed.
+ */
+@Slf4j
+public class ConnectionScope {
+
+  // Acquired connections are kept for the lifetime of the scope, failed acquisitions are retried on next use
+  private static final Duration CACHE_FOREVER = Duration.ofMillis(Long.MAX_VALUE);
+
+  private final List<Mono<Connection>> connections;
+
+  private final Queue<Connection> acquiredConnections = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger counter = new AtomicInteger();
+
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  ConnectionScope(ConnectionFactory connectionFactory, int size) {
+    connections = new ArrayList<>(size);
+
+    for (var index = 0; index < size; index++) {
+      connections.add(Mono.defer(() -> Mono.<Connection>from(connectionFactory.create()))
+          .doOnNext(this::acquired)
+          .cache(connection -> CACHE_FOREVER, error -> Duration.ZERO, () -> Duration.ZERO));
+    }
+  }
+
+  static ConnectionScope of(RequestContext requestContext) {
+    if (requestContext == null || requestContext.getGraphQlContext() == null) {
+      return null;
+    }
+
+    return requestContext.getGraphQlContext()
+        .get(ConnectionScope.class);
+  }
+
+  Mono<Connection> getConnection() {
+    if (closed.get()) {
+      return Mono.error(new IllegalStateException("Connection scope has already been closed."));
+    }
+
+    return connections.get(Math.floorMod(counter.getAndIncrement(), connections.size()));
+  }
+
+  void close() {
+    if (closed.compareAndSet(false, true)) {
+      Connection connection;
+
+      while ((connection = acquiredConnections.poll()) != null) {
+        release(connection);
+      }
+    }
+  }
+
+  private void acquired(Connection connection) {
+    acquiredConnections.add(connection);
+
+    // Release connections which arrive after the scope has been closed
+    if (closed.get() && acquiredConnections.remove(connection)) {
+      release(connection);
+    }
+  }
+
+  private static void release(Connection connection) {
+    LOG.debug("Closing scoped connection...");
+    Mono.from(connection.close())
+        .doOnError(e -> LOG.error("Connection close failed: {}", e.getMessage()))
+        .doOnSuccess(v -> LOG.debug("Successfully closed scoped connection."))
+        .subscribe();
+  }
+}
@@ -0,0 +1,48 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.language.OperationDefinition;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds a {@link ConnectionScope} to the execution of every query or mutation operation. Subscriptions outlive the
+ * operation execution, so these keep acquiring a connection per query.
+ */
+@Component
+@ConditionalOnProperty(prefix = "dotwebstack.postgres", name = "request-connections.enabled")
+public class ConnectionScopeInstrumentation implements Instrumentation {
+
+  private final ConnectionFactory connectionFactory;
+
+  private final int size;
+
+  public ConnectionScopeInstrumentation(ConnectionFactory connectionFactory, PostgresProperties postgresProperties) {
+    this.connectionFactory = connectionFactory;
+    this.size = postgresProperties.getRequestConnections()
+        .getSize();
+  }
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+      InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+    var executionContext = parameters.getExecutionContext();
+
+    if (executionContext.getOperationDefinition()
+        .getOperation() == OperationDefinition.Operation.SUBSCRIPTION) {
+      return SimpleInstrumentationContext.noOp();
+    }
+
+    var connectionScope = new ConnectionScope(connectionFactory, size);
+    executionContext.getGraphQLContext()
+        .put(ConnectionScope.class, connectionScope);
+
+    return SimpleInstrumentationContext.whenCompleted((result, throwable) -> connectionScope.close());
+  }
+}
@@ -0,0 +1,95 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+import org.dotwebstack.framework.core.backend.EntityCacheManager;
+import org.dotwebstack.framework.core.model.Schema;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+/**
+ * Invalidates cached entities when notifications arrive. Changes of a table invalidate the cached entities of the
+ * object types using the table, or only the ones which may match the changed row when the notification holds its key.
+ * All caches are invalidated for changes without table, and whenever the listener (re)connects, since notifications
+ * may have been missed while it was disconnected. When reading from replicas, reads are routed to the primary for a
+ * while after each notification, so the replicas, which may not have replayed the change yet, do not cache it again.
+ */
+@Slf4j
+public class NotificationCacheInvalidator implements Disposable {
+
+  static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+
+  static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+  private final NotificationListener notificationListener;
+
+  private final Schema schema;
+
+  private final EntityCacheManager entityCacheManager;
+
+  private final ConnectionFactory connectionFactory;
+
+  private Disposable subscription;
+
+  public NotificationCacheInvalidator(NotificationListener notificationListener, Schema schema,
+      EntityCacheManager entityCacheManager, ConnectionFactory connectionFactory) {
+    this.notificationListener = notificationListener;
+    this.schema = schema;
+    this.entityCacheManager = entityCacheManager;
+    this.connectionFactory = connectionFactory;
+  }
+
+  public void start() {
+    subscription = Flux.defer(() -> {
+      readFromPrimary();
+      entityCacheManager.invalidateAll();
+      return notificationListener.getNotifications();
+    })
+        .doOnError(e -> LOG.warn("Listening for notifications failed, reconnecting: {}", e.getMessage()))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF)
+            .maxBackoff(MAX_BACKOFF))
+        .doOnComplete(() -> LOG.warn("Listening for notifications stopped, reconnecting."))
+        .repeatWhen(completions -> completions.delayElements(MIN_BACKOFF))
+        .map(TableChange::of)
+        .subscribe(this::invalidate);
+  }
+
+  @Override
+  public void dispose() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+  void invalidate(TableChange change) {
+    readFromPrimary();
+
+    if (change.table() == null) {
+      entityCacheManager.invalidateAll();
+      return;
+    }
+
+    schema.getObjectTypes()
+        .values()
+        .stream()
+        .filter(PostgresObjectType.class::isInstance)
+        .map(PostgresObjectType.class::cast)
+        .filter(change::isTable)
+        .forEach(objectType -> {
+          if (change.key() == null) {
+            entityCacheManager.invalidate(objectType.getName());
+          } else {
+            entityCacheManager.invalidate(objectType.getName(), change.getFieldValues(objectType));
+          }
+        });
+  }
+
+  private void readFromPrimary() {
+    if (connectionFactory instanceof ReplicaRoutingConnectionFactory replicaRoutingConnectionFactory) {
+      replicaRoutingConnectionFactory.readFromPrimary();
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Listens on the configured notification channels over a single dedicated connection, which is shared by all
+ * subscribers. The connection factory is expected to open unpooled connections, since closing the connection is what
+ * stops the listening. The connection is opened for the first subscriber and closed after the last one has cancelled.
+ * Errors are propagated to the subscribers, and the notifications complete when the server closes the connection. In
+ * both cases subscribers re-establish the connection by subscribing again. Notifications sent while no connection was
+ * listening are lost.
+ */
+@Slf4j
+public class NotificationListener {
+
+  private final ConnectionFactory connectionFactory;
+
+  private final List<String> channels;
+
+  private final Flux<Notification> notifications;
+
+  public NotificationListener(ConnectionFactory connectionFactory, List<String> channels) {
+    this.connectionFactory = connectionFactory;
+    this.channels = channels;
+    this.notifications = listen().share();
+  }
+
+  public Flux<Notification> getNotifications() {
+    return notifications;
+  }
+
+  public Flux<Notification> getNotifications(String channel) {
+    return notifications.filter(notification -> channel.equals(notification.getName()));
+  }
+
+  private Flux<Notification> listen() {
+    return Flux.usingWhen(connectionFactory.create(), connection -> {
+      var postgresqlConnection = PostgresClient.unwrap(connection);
+
+      // Subscribes to the notifications before listening, so none are missed in between
+      return postgresqlConnection.getNotifications()
+          .mergeWith(Flux.fromIterable(channels)
+              .concatMap(channel -> Flux.from(connection.createStatement(createListenStatement(channel))
+                  .execute())
+                  .flatMap(Result::getRowsUpdated))
+              .doOnComplete(() -> LOG.info("Listening for notifications on channels {}.", channels))
+              .then(Mono.empty()));
+    }, Connection::close);
+  }
+
+  // Channel names are quoted, to match the case-sensitive names passed to pg_notify
+  static String createListenStatement(String channel) {
+    return "LISTEN \"".concat(channel.replace("\"", "\"\""))
+        .concat("\"");
+  }
+}
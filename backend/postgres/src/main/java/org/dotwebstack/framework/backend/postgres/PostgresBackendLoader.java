@@ -1,16 +1,27 @@
 package org.dotwebstack.framework.backend.postgres;
 
+import static org.dotwebstack.framework.core.backend.BackendConstants.REMOVED_KEY;
 import static org.dotwebstack.framework.core.helpers.MapHelper.getNestedMap;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
 import org.dotwebstack.framework.backend.postgres.query.Query;
+import org.dotwebstack.framework.backend.postgres.query.QueryPlanCache;
 import org.dotwebstack.framework.core.backend.BackendLoader;
 import org.dotwebstack.framework.core.datafetchers.KeyGroupedFlux;
 import org.dotwebstack.framework.core.query.model.BatchRequest;
 import org.dotwebstack.framework.core.query.model.CollectionBatchRequest;
 import org.dotwebstack.framework.core.query.model.CollectionRequest;
+import org.dotwebstack.framework.core.query.model.KeyCriteria;
 import org.dotwebstack.framework.core.query.model.ObjectRequest;
 import org.dotwebstack.framework.core.query.model.RequestContext;
+import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.GroupedFlux;
 import reactor.core.publisher.Mono;
@@ -19,51 +30,147 @@ import reactor.util.function.Tuples;
 
 public class PostgresBackendLoader implements BackendLoader {
 
+  private static final int MAX_EMITTED_ROWS = 1000;
+
   private final PostgresClient postgresClient;
 
+  private final ChangeFeed changeFeed;
+
+  private final QueryPlanCache queryPlanCache;
+
   public PostgresBackendLoader(PostgresClient postgresClient) {
+    this(postgresClient, null);
+  }
+
+  public PostgresBackendLoader(PostgresClient postgresClient, ChangeFeed changeFeed) {
+    this(postgresClient, changeFeed, null);
+  }
+
+  public PostgresBackendLoader(PostgresClient postgresClient, ChangeFeed changeFeed, QueryPlanCache queryPlanCache) {
     this.postgresClient = postgresClient;
+    this.changeFeed = changeFeed;
+    this.queryPlanCache = queryPlanCache;
   }
 
   @Override
   public Mono<Map<String, Object>> loadSingle(ObjectRequest objectRequest, RequestContext requestContext) {
-    var query = new Query(objectRequest, requestContext);
+    var query = new Query(objectRequest, requestContext, queryPlanCache);
 
-    if (query.getSelectQuery() == null) {
+    if (query.isEmpty()) {
       return Mono.just(Map.of());
     }
 
-    return postgresClient.fetch(query)
+    return postgresClient.fetch(query, ConnectionScope.of(requestContext))
         .singleOrEmpty();
   }
 
   @Override
   public Flux<Map<String, Object>> loadMany(CollectionRequest collectionRequest, RequestContext requestContext) {
-    var query = new Query(collectionRequest, requestContext);
+    var query = new Query(collectionRequest, requestContext, queryPlanCache);
+    var rows = postgresClient.fetch(query, ConnectionScope.of(requestContext));
 
-    return postgresClient.fetch(query);
+    return query.isReversed() ? reverse(rows) : rows;
   }
 
   @Override
   public Flux<GroupedFlux<Map<String, Object>, Map<String, Object>>> batchLoadMany(
       CollectionBatchRequest collectionBatchRequest, RequestContext requestContext) {
-    var query = new Query(collectionBatchRequest, requestContext);
+    var query = new Query(collectionBatchRequest, requestContext, queryPlanCache);
 
-    return postgresClient.fetch(query)
+    return postgresClient.fetch(query, ConnectionScope.of(requestContext))
         .groupBy(row -> getNestedMap(row, Query.GROUP_KEY))
-        .map(
-            groupedFlux -> new KeyGroupedFlux(groupedFlux.key(), groupedFlux.filter(PostgresBackendLoader::rowExists)));
+        .map(groupedFlux -> {
+          var rows = groupedFlux.filter(PostgresBackendLoader::rowExists);
+          return new KeyGroupedFlux(groupedFlux.key(), query.isReversed() ? reverse(rows) : rows);
+        });
   }
 
   @Override
   public Flux<Tuple2<Map<String, Object>, Map<String, Object>>> batchLoadSingle(BatchRequest batchRequest,
       RequestContext requestContext) {
-    var query = new Query(batchRequest, requestContext);
+    var query = new Query(batchRequest, requestContext, queryPlanCache);
 
-    return postgresClient.fetch(query)
+    return postgresClient.fetch(query, ConnectionScope.of(requestContext))
         .map(row -> Tuples.of(getNestedMap(row, Query.GROUP_KEY), rowExists(row) ? row : BackendLoader.NILL_MAP));
   }
 
+  @Override
+  public Flux<Map<String, Object>> loadChanges(CollectionRequest collectionRequest, RequestContext requestContext) {
+    if (changeFeed == null) {
+      return Flux.empty();
+    }
+
+    var objectRequest = (SingleObjectRequest) collectionRequest.getObjectRequest();
+    var objectType = (PostgresObjectType) objectRequest.getObjectType();
+
+    return Flux.defer(() -> {
+      Cache<Map<String, Object>, Map<String, Object>> emittedRows = CacheBuilder.newBuilder()
+          .maximumSize(MAX_EMITTED_ROWS)
+          .build();
+
+      // A change may be announced more than once, for instance for the old and the new row, so rows are only emitted
+      // when they differ from the row emitted last for the same key
+      return changeFeed.getChanges(objectType)
+          .map(change -> change.getFieldValues(objectType))
+          .filter(fieldValues -> !fieldValues.isEmpty())
+          .concatMap(fieldValues -> loadChange(createChangeRequest(collectionRequest, objectType, fieldValues),
+              requestContext).defaultIfEmpty(createTombstone(objectRequest, fieldValues))
+                  .filter(row -> !row.equals(emittedRows.asMap()
+                      .put(fieldValues, row))));
+    });
+  }
+
+  // Changed rows are loaded with the request of the subscriber, so only rows matching its arguments are emitted. The
+  // rows are read from the primary, since the replicas may not have replayed the change yet.
+  private Flux<Map<String, Object>> loadChange(CollectionRequest collectionRequest, RequestContext requestContext) {
+    return postgresClient.fetchFromPrimary(new Query(collectionRequest, requestContext, queryPlanCache));
+  }
+
+  // A changed key without a row was deleted, or no longer matches the request of the subscriber
+  private static Map<String, Object> createTombstone(SingleObjectRequest objectRequest,
+      Map<String, Object> fieldValues) {
+    var tombstone = new HashMap<String, Object>();
+
+    objectRequest.getScalarFields()
+        .stream()
+        .filter(fieldRequest -> fieldValues.containsKey(fieldRequest.getName()))
+        .forEach(fieldRequest -> tombstone.put(fieldRequest.getResultKey(), fieldValues.get(fieldRequest.getName())));
+
+    tombstone.put(REMOVED_KEY, true);
+
+    return tombstone;
+  }
+
+  private static CollectionRequest createChangeRequest(CollectionRequest collectionRequest,
+      PostgresObjectType objectType, Map<String, Object> fieldValues) {
+    var objectRequest = (SingleObjectRequest) collectionRequest.getObjectRequest();
+    var keyCriterias = new ArrayList<>(objectRequest.getKeyCriterias());
+
+    fieldValues.forEach((fieldName, value) -> keyCriterias.add(KeyCriteria.builder()
+        .fieldPath(List.of(objectType.getField(fieldName)))
+        .value(value)
+        .build()));
+
+    return CollectionRequest.builder()
+        .objectRequest(SingleObjectRequest.builder()
+            .objectType(objectType)
+            .scalarFields(objectRequest.getScalarFields())
+            .objectFields(objectRequest.getObjectFields())
+            .objectListFields(objectRequest.getObjectListFields())
+            .aggregateObjectFields(objectRequest.getAggregateObjectFields())
+            .keyCriterias(keyCriterias)
+            .contextCriteria(objectRequest.getContextCriteria())
+            .build())
+        .filterCriteria(collectionRequest.getFilterCriteria())
+        .sortCriterias(collectionRequest.getSortCriterias())
+        .build();
+  }
+
+  private static Flux<Map<String, Object>> reverse(Flux<Map<String, Object>> rows) {
+    return rows.collectList()
+        .flatMapIterable(Lists::reverse);
+  }
+
   private static boolean rowExists(Map<String, Object> row) {
     return !row.containsKey(Query.EXISTS_KEY) || getNestedMap(row, Query.EXISTS_KEY).size() > 0;
   }
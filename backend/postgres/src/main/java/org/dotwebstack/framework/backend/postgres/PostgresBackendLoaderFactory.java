@@ -1,5 +1,7 @@
 package org.dotwebstack.framework.backend.postgres;
 
+import javax.annotation.Nullable;
+import org.dotwebstack.framework.backend.postgres.query.QueryPlanCache;
 import org.dotwebstack.framework.core.backend.BackendLoader;
 import org.dotwebstack.framework.core.backend.BackendLoaderFactory;
 import org.dotwebstack.framework.core.model.ObjectType;
@@ -10,12 +12,19 @@ public class PostgresBackendLoaderFactory implements BackendLoaderFactory {
 
   private final PostgresClient postgresClient;
 
-  public PostgresBackendLoaderFactory(PostgresClient postgresClient) {
+  private final ChangeFeed changeFeed;
+
+  private final QueryPlanCache queryPlanCache;
+
+  public PostgresBackendLoaderFactory(PostgresClient postgresClient, @Nullable ChangeFeed changeFeed,
+      @Nullable QueryPlanCache queryPlanCache) {
     this.postgresClient = postgresClient;
+    this.changeFeed = changeFeed;
+    this.queryPlanCache = queryPlanCache;
   }
 
   @Override
   public <T extends ObjectType<?>> BackendLoader create(T objectType) {
-    return new PostgresBackendLoader(postgresClient);
+    return new PostgresBackendLoader(postgresClient, changeFeed, queryPlanCache);
   }
 }
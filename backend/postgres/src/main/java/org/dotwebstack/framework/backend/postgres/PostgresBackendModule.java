@@ -5,9 +5,11 @@ import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConf
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
@@ -20,6 +22,7 @@ import org.dotwebstack.framework.core.backend.BackendModule;
 import org.dotwebstack.framework.core.datafetchers.aggregate.AggregateHelper;
 import org.dotwebstack.framework.core.model.ObjectField;
 import org.dotwebstack.framework.core.model.ObjectType;
+import org.dotwebstack.framework.ext.spatial.SpatialConstants;
 import org.springframework.stereotype.Component;
 
 @AllArgsConstructor
@@ -45,6 +48,7 @@ class PostgresBackendModule implements BackendModule<PostgresObjectType> {
     setTargetType(objectTypes, allFields);
     setMappedByObjectField(objectTypes, allFields);
     setAggregationOfType(objectTypes, allFields);
+    validateInlineFields(allFields);
     initColumns(objectTypes.values());
   }
 
@@ -155,6 +159,41 @@ class PostgresBackendModule implements BackendModule<PostgresObjectType> {
         });
   }
 
+  // Inline lists are aggregated as json, so values bypass the driver codecs and geometries can not be decoded
+  private void validateInlineFields(List<PostgresObjectField> allFields) {
+    allFields.stream()
+        .filter(PostgresObjectField::isInline)
+        .filter(objectField -> objectField.getTargetType() != null)
+        .forEach(objectField -> findGeometryType((PostgresObjectType) objectField.getTargetType(), new HashSet<>())
+            .ifPresent(objectType -> {
+              throw invalidConfigurationException("Inline field '{}' is not supported, since type '{}' has "
+                  + "geometry fields.", objectField.getName(), objectType.getName());
+            }));
+  }
+
+  private Optional<PostgresObjectType> findGeometryType(PostgresObjectType objectType,
+      Set<PostgresObjectType> visited) {
+    if (!visited.add(objectType)) {
+      return Optional.empty();
+    }
+
+    var fields = objectType.getFields()
+        .values();
+
+    if (fields.stream()
+        .anyMatch(objectField -> SpatialConstants.GEOMETRY.equals(objectField.getType()))) {
+      return Optional.of(objectType);
+    }
+
+    // Nested lists which are not inlined are fetched separately, so their values are decoded as usual
+    return fields.stream()
+        .filter(objectField -> objectField.getTargetType() != null)
+        .filter(objectField -> !objectField.isList() || objectField.isInline())
+        .map(objectField -> findGeometryType((PostgresObjectType) objectField.getTargetType(), visited))
+        .flatMap(Optional::stream)
+        .findFirst();
+  }
+
   private static PostgresObjectType getObjectType(Map<String, ObjectType<? extends ObjectField>> objectTypes,
       String name) {
     return (PostgresObjectType) Optional.ofNullable(objectTypes.get(name))
@@ -1,26 +1,30 @@
 package org.dotwebstack.framework.backend.postgres;
 
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.observe;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.observeRows;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.orNoop;
+
+import com.google.common.hash.Hashing;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 import io.r2dbc.spi.Statement;
 import io.r2dbc.spi.Wrapped;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.function.UnaryOperator;
-import java.util.stream.IntStream;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.dotwebstack.framework.backend.postgres.query.Query;
-import org.jooq.Param;
-import org.jooq.Record;
-import org.jooq.SelectQuery;
-import org.jooq.conf.ParamType;
+import org.dotwebstack.framework.backend.postgres.query.ResultRow;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedCaseInsensitiveMap;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -28,29 +32,81 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class PostgresClient {
 
+  static final String QUERY_OBSERVATION = "dotwebstack.postgres.query";
+
+  static final String RENDER_OBSERVATION = "dotwebstack.postgres.render";
+
+  static final String CONNECTION_OBSERVATION = "dotwebstack.postgres.connection";
+
+  static final String QUERY_DIGEST_KEY = "dotwebstack.query.digest";
+
+  static final String STATEMENT_KEY = "db.statement";
+
   private final ConnectionFactory connectionFactory;
 
-  public PostgresClient(ConnectionFactory connectionFactory) {
+  private final ConnectionFactory primaryConnectionFactory;
+
+  private final int fetchSize;
+
+  private final ObservationRegistry observationRegistry;
+
+  public PostgresClient(ConnectionFactory connectionFactory, PostgresProperties postgresProperties,
+      @Nullable ObservationRegistry observationRegistry) {
     this.connectionFactory = connectionFactory;
+    this.primaryConnectionFactory =
+        connectionFactory instanceof ReplicaRoutingConnectionFactory replicaRoutingConnectionFactory
+            ? replicaRoutingConnectionFactory.getPrimary()
+            : connectionFactory;
+    this.observationRegistry = orNoop(observationRegistry);
+
+    fetchSize = postgresProperties.getFetchSize();
   }
 
   public Flux<Map<String, Object>> fetch(String sql) {
-    return fetch(connection -> connection.createStatement(sql), row -> row);
+    return fetch(connectionFactory, connection -> connection.createStatement(sql), ResultRow::toMap);
+  }
+
+  /**
+   * Fetches the rows of the query from the primary, for reads which have to observe changes which the replicas may not
+   * have replayed yet.
+   */
+  public Flux<Map<String, Object>> fetchFromPrimary(Query query) {
+    var observation = Observation.createNotStarted(QUERY_OBSERVATION, observationRegistry);
+
+    return observeRows(fetch(primaryConnectionFactory, connection -> createStatement(connection, query, observation),
+        row -> query.getRowMapper()
+            .apply(row)),
+        observation);
   }
 
   public Flux<Map<String, Object>> fetch(Query query) {
-    return fetch(connection -> createStatement(connection, query.getSelectQuery()), row -> query.getRowMapper()
-        .apply(row));
+    return fetch(query, null);
   }
 
-  private Flux<Map<String, Object>> fetch(Function<Connection, Statement> statementFunction,
-      UnaryOperator<Map<String, Object>> rowMapper) {
-    return Mono.from(connectionFactory.create())
+  public Flux<Map<String, Object>> fetch(Query query, ConnectionScope connectionScope) {
+    var observation = Observation.createNotStarted(QUERY_OBSERVATION, observationRegistry);
+
+    if (connectionScope == null) {
+      return observeRows(fetch(connectionFactory, connection -> createStatement(connection, query, observation),
+          row -> query.getRowMapper()
+              .apply(row)),
+          observation);
+    }
+
+    // Scoped connections are shared with the other queries of the request, so these are neither cancelled nor closed
+    return observeRows(connectionScope.getConnection()
+        .flatMapMany(connection -> execute(createStatement(connection, query, observation), row -> query
+            .getRowMapper()
+            .apply(row))), observation);
+  }
+
+  private Flux<Map<String, Object>> fetch(ConnectionFactory connectionFactory,
+      Function<Connection, Statement> statementFunction, Function<ResultRow, Map<String, Object>> rowMapper) {
+    return createConnection(connectionFactory)
         .flatMapMany(connection -> {
           var statement = statementFunction.apply(connection);
 
-          return Mono.from(statement.execute())
-              .flatMapMany(result -> result.map(PostgresClient::rowToMap))
+          return execute(statement, rowMapper)
               .doOnCancel(() -> {
                 LOG.debug("Cancelling request...");
                 unwrap(connection).cancelRequest()
@@ -58,7 +114,6 @@ public class PostgresClient {
                     .doOnSuccess(v -> LOG.debug("Successfully cancelled request."))
                     .subscribe();
               })
-              .map(rowMapper)
               .doFinally(signalType -> {
                 LOG.debug("Closing connection...");
                 Mono.from(connection.close())
@@ -69,8 +124,19 @@ public class PostgresClient {
         });
   }
 
+  private Mono<Connection> createConnection(ConnectionFactory connectionFactory) {
+    return observe(Mono.from(connectionFactory.create()),
+        Observation.createNotStarted(CONNECTION_OBSERVATION, observationRegistry));
+  }
+
+  private Flux<Map<String, Object>> execute(Statement statement, Function<ResultRow, Map<String, Object>> rowMapper) {
+    return Mono.from(statement.execute())
+        .flatMapMany(result -> result.map(new RowDecoder()))
+        .map(rowMapper);
+  }
+
   @SuppressWarnings("unchecked")
-  private static PostgresqlConnection unwrap(Connection connection) {
+  static PostgresqlConnection unwrap(Connection connection) {
     if (connection instanceof PostgresqlConnection postgresqlConnection) {
       return postgresqlConnection;
     }
@@ -82,15 +148,18 @@ public class PostgresClient {
     throw new IllegalArgumentException("R2DBC connection could not be unwrapped.");
   }
 
-  private static Statement createStatement(Connection connection, SelectQuery<Record> query) {
-    var sql = query.getSQL(ParamType.NAMED)
-        .replaceAll("(:)(\\d+)", "\\$$2");
-
-    var params = query.getParams()
-        .values()
-        .stream()
-        .filter(Predicate.not(Param::isInline))
-        .toList();
+  private Statement createStatement(Connection connection, Query query, Observation observation) {
+    var sql = render(query, observation);
+    var params = query.getBindValues();
+
+    // Queries of the same shape render the same SQL, so the digest identifies the query shape in traces. It is not
+    // bounded by the schema, so it is not used as a metric tag.
+    if (!observation.isNoop()) {
+      observation.highCardinalityKeyValue(QUERY_DIGEST_KEY, Hashing.murmur3_32_fixed()
+          .hashString(sql, StandardCharsets.UTF_8)
+          .toString())
+          .highCardinalityKeyValue(STATEMENT_KEY, sql);
+    }
 
     LOG.debug("Executing query: {}", sql);
     LOG.debug("Binding variables: {}", params);
@@ -99,24 +168,62 @@ public class PostgresClient {
 
     for (var index = 0; index < params.size(); index++) {
       var paramBinding = "$".concat(String.valueOf(index + 1));
-      var paramValue = Objects.requireNonNull(params.get(index)
-          .getValue());
+      var paramValue = Objects.requireNonNull(params.get(index));
       statement = statement.bind(paramBinding, paramValue);
     }
 
+    // Fetch rows in chunks through a portal, further chunks are only requested on downstream demand
+    var queryFetchSize = query.getFetchSize()
+        .orElse(fetchSize);
+
+    if (queryFetchSize > 0 && query.isStreamable()) {
+      statement = statement.fetchSize(queryFetchSize);
+    }
+
     return statement;
   }
 
-  private static Map<String, Object> rowToMap(Row row, RowMetadata rowMetadata) {
-    var columnMetadatas = rowMetadata.getColumnMetadatas();
-    var mapOfColValues = new LinkedCaseInsensitiveMap<>(columnMetadatas.size());
+  // Queries taken from the query plan cache are already rendered
+  private String render(Query query, Observation parentObservation) {
+    if (parentObservation.isNoop()) {
+      return query.getSql();
+    }
 
-    IntStream.range(0, columnMetadatas.size())
-        .forEach(index -> {
-          var columnMetadata = columnMetadatas.get(index);
-          mapOfColValues.put(columnMetadata.getName(), row.get(index));
-        });
+    return Observation.createNotStarted(RENDER_OBSERVATION, observationRegistry)
+        .parentObservation(parentObservation)
+        .observe(() -> query.getSql());
+  }
+
+  /**
+   * Decodes rows into flat value arrays. The column index is created once per row metadata, which is shared by all rows
+   * of a result.
+   */
+  private static class RowDecoder implements BiFunction<Row, RowMetadata, ResultRow> {
+
+    private RowMetadata rowMetadata;
+
+    private Map<String, Integer> columnIndex;
+
+    private int columnCount;
 
-    return mapOfColValues;
+    @Override
+    public ResultRow apply(Row row, RowMetadata rowMetadata) {
+      if (rowMetadata != this.rowMetadata) {
+        var columnMetadatas = rowMetadata.getColumnMetadatas();
+        this.rowMetadata = rowMetadata;
+        this.columnIndex = ResultRow.createColumnIndex(columnMetadatas.stream()
+            .map(ColumnMetadata::getName)
+            .toList());
+        this.columnCount = columnMetadatas.size();
+      }
+
+      var values = new Object[columnCount];
+
+      for (var index = 0; index < values.length; index++) {
+        values[index] = row.get(index);
+      }
+
+      return new ResultRow(columnIndex, values);
+    }
   }
 }
@@ -9,9 +9,13 @@ import io.r2dbc.spi.ConnectionFactory;
 import java.time.Duration;
 import java.util.Collection;
 import org.apache.commons.lang3.StringUtils;
+import org.dotwebstack.framework.backend.postgres.query.QueryPlanCache;
+import org.dotwebstack.framework.core.backend.EntityCacheManager;
+import org.dotwebstack.framework.core.model.Schema;
 import org.jooq.DSLContext;
 import org.jooq.SQLDialect;
 import org.jooq.impl.DSL;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,27 +40,65 @@ public class PostgresConfiguration {
     return DSL.using(SQLDialect.POSTGRES);
   }
 
-  @Bean
+  @Bean(destroyMethod = "dispose")
   public ConnectionFactory connectionFactory() {
-    var configurationBuilder = PostgresqlConnectionConfiguration.builder()
-        .host(postgresProperties.getHost())
-        .port(postgresProperties.getPort())
-        .username(postgresProperties.getUsername())
-        .password(postgresProperties.getPassword())
-        .sslMode(postgresProperties.getSslMode())
-        .forceBinary(false); // Disable due to R2DBC bug with numeric values
+    var primary = createConnectionPool(postgresProperties.getHost(), postgresProperties.getPort());
+    var replicasProperties = postgresProperties.getReplicas();
 
-    if (postgresProperties.getOptions() != null) {
-      configurationBuilder.options(postgresProperties.getOptions());
+    if (replicasProperties == null || replicasProperties.getHosts()
+        .isEmpty()) {
+      return primary;
     }
 
-    if (StringUtils.isNotEmpty(postgresProperties.getDatabase())) {
-      configurationBuilder.database(postgresProperties.getDatabase());
-    }
+    var replicas = replicasProperties.getHosts()
+        .stream()
+        .map(host -> (ConnectionFactory) createConnectionPool(host.getHost(), host.getPort()))
+        .toList();
 
-    codecRegistrars.forEach(configurationBuilder::codecRegistrar);
+    var connectionFactory = new ReplicaRoutingConnectionFactory(primary, replicas,
+        replicasProperties.getLoadBalancing(), replicasProperties.getMaxLag());
+    connectionFactory.startHealthCheck(Duration.ofSeconds(replicasProperties.getHealthCheckInterval()));
 
-    var connectionFactory = new PostgresqlConnectionFactory(configurationBuilder.build());
+    return connectionFactory;
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "dotwebstack.postgres", name = "query-cache.enabled")
+  public QueryPlanCache queryPlanCache() {
+    return new QueryPlanCache(postgresProperties.getQueryCache()
+        .getMaxSize());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "dotwebstack.postgres", name = "notifications.enabled")
+  public NotificationListener notificationListener() {
+    // Listening happens on the primary, over a connection of its own which is not taken from the pool, since replicas
+    // do not support listening and a pooled connection would be returned to the pool while still listening
+    var connectionFactory = createConnectionFactory(postgresProperties.getHost(), postgresProperties.getPort());
+
+    return new NotificationListener(connectionFactory, postgresProperties.getNotifications()
+        .getChannels());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "dotwebstack.postgres", name = "notifications.enabled")
+  public ChangeFeed changeFeed(NotificationListener notificationListener) {
+    return new ChangeFeed(notificationListener);
+  }
+
+  @Bean(destroyMethod = "dispose")
+  @ConditionalOnProperty(prefix = "dotwebstack.postgres", name = "notifications.enabled")
+  public NotificationCacheInvalidator notificationCacheInvalidator(NotificationListener notificationListener,
+      Schema schema, EntityCacheManager entityCacheManager, ConnectionFactory connectionFactory) {
+    var notificationCacheInvalidator = new NotificationCacheInvalidator(notificationListener, schema,
+        entityCacheManager, connectionFactory);
+    notificationCacheInvalidator.start();
+
+    return notificationCacheInvalidator;
+  }
+
+  private ConnectionPool createConnectionPool(String host, int port) {
+    var connectionFactory = createConnectionFactory(host, port);
     var poolProperties = postgresProperties.getPool();
 
     var poolConfiguration = ConnectionPoolConfiguration.builder(connectionFactory)
@@ -68,4 +110,27 @@ public class PostgresConfiguration {
 
     return new ConnectionPool(poolConfiguration);
   }
+
+  private PostgresqlConnectionFactory createConnectionFactory(String host, int port) {
+    var configurationBuilder = PostgresqlConnectionConfiguration.builder()
+        .host(host)
+        .port(port)
+        .username(postgresProperties.getUsername())
+        .password(postgresProperties.getPassword())
+        .sslMode(postgresProperties.getSslMode())
+        .preparedStatementCacheQueries(postgresProperties.getPreparedStatementCacheQueries())
+        .forceBinary(postgresProperties.isForceBinary());
+
+    if (postgresProperties.getOptions() != null) {
+      configurationBuilder.options(postgresProperties.getOptions());
+    }
+
+    if (StringUtils.isNotEmpty(postgresProperties.getDatabase())) {
+      configurationBuilder.database(postgresProperties.getDatabase());
+    }
+
+    codecRegistrars.forEach(configurationBuilder::codecRegistrar);
+
+    return new PostgresqlConnectionFactory(configurationBuilder.build());
+  }
 }
@@ -1,8 +1,10 @@
 package org.dotwebstack.framework.backend.postgres;
 
 import io.r2dbc.postgresql.client.SSLMode;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
@@ -34,9 +36,28 @@ public class PostgresProperties {
   @NotNull
   private Map<String, String> options;
 
+  @Min(-1)
+  private int preparedStatementCacheQueries = 256;
+
+  private boolean forceBinary = false;
+
+  private int fetchSize = 0;
+
   @NotNull
   private Pool pool = new Pool();
 
+  @NotNull
+  private RequestConnections requestConnections = new RequestConnections();
+
+  @NotNull
+  private Replicas replicas = new Replicas();
+
+  @NotNull
+  private Notifications notifications = new Notifications();
+
+  @NotNull
+  private QueryCache queryCache = new QueryCache();
+
   @Getter
   @Setter
   static class Pool {
@@ -53,4 +74,66 @@ public class PostgresProperties {
     @NotNull
     private Integer maxLifeTime = 120;
   }
+
+  @Getter
+  @Setter
+  static class RequestConnections {
+
+    private boolean enabled = false;
+
+    @NotNull
+    private Integer size = 1;
+  }
+
+  @Getter
+  @Setter
+  static class Replicas {
+
+    @NotNull
+    private List<Host> hosts = List.of();
+
+    @NotNull
+    private LoadBalancing loadBalancing = LoadBalancing.ROUND_ROBIN;
+
+    @NotNull
+    private Integer healthCheckInterval = 10;
+
+    @NotNull
+    private Integer maxLag = 30;
+  }
+
+  @Getter
+  @Setter
+  static class Notifications {
+
+    private boolean enabled = false;
+
+    @NotNull
+    private List<String> channels = List.of("dotwebstack");
+  }
+
+  @Getter
+  @Setter
+  static class QueryCache {
+
+    private boolean enabled = false;
+
+    @NotNull
+    private Long maxSize = 1000L;
+  }
+
+  @Getter
+  @Setter
+  static class Host {
+
+    @NotBlank
+    private String host;
+
+    @NotNull
+    private int port = 5432;
+  }
+
+  enum LoadBalancing {
+    ROUND_ROBIN, LEAST_OUTSTANDING
+  }
 }
@@ -0,0 +1,198 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.postgres.PostgresProperties.LoadBalancing;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Routes connection requests to a set of read replicas, falling back to the primary when no replica is available.
+ * Replicas are ejected when a connection can't be acquired or the health check fails, and skipped while their
+ * replication lag exceeds the configured maximum. A periodic health check re-admits replicas once they have recovered.
+ * After a change has been announced, all connection requests are routed to the primary for as long as the replicas
+ * may lag behind, which is the maximum lag plus the health check interval.
+ */
+@Slf4j
+public class ReplicaRoutingConnectionFactory implements ConnectionFactory, Disposable {
+
+  static final String LAG_STMT = "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+      + "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)::float8 AS lag";
+
+  private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(5);
+
+  @Getter
+  private final ConnectionFactory primary;
+
+  private final List<Replica> replicas;
+
+  private final LoadBalancing loadBalancing;
+
+  private final double maxLag;
+
+  private final AtomicInteger counter = new AtomicInteger();
+
+  private final AtomicLong primaryUntil = new AtomicLong(System.nanoTime());
+
+  private volatile Duration primaryWindow;
+
+  private Disposable healthCheck;
+
+  public ReplicaRoutingConnectionFactory(ConnectionFactory primary, List<ConnectionFactory> replicas,
+      LoadBalancing loadBalancing, int maxLag) {
+    this.primary = primary;
+    this.replicas = replicas.stream()
+        .map(Replica::new)
+        .toList();
+    this.loadBalancing = loadBalancing;
+    this.maxLag = maxLag;
+    this.primaryWindow = Duration.ofSeconds(maxLag);
+  }
+
+  public void startHealthCheck(Duration interval) {
+    primaryWindow = Duration.ofSeconds(maxLag)
+        .plus(interval);
+    healthCheck = Flux.interval(Duration.ZERO, interval)
+        .onBackpressureDrop()
+        .concatMap(tick -> checkHealth())
+        .subscribe();
+  }
+
+  /**
+   * Routes all connection requests to the primary until the replicas are known to have replayed the changes made so
+   * far.
+   */
+  public void readFromPrimary() {
+    primaryUntil.accumulateAndGet(System.nanoTime() + primaryWindow.toNanos(), Math::max);
+  }
+
+  @Override
+  public Mono<Connection> create() {
+    return Mono.defer(() -> {
+      var replica = System.nanoTime() - primaryUntil.get() < 0 ? null : selectReplica();
+
+      if (replica == null) {
+        return Mono.from(primary.create());
+      }
+
+      return Mono.<Connection>from(replica.getConnectionFactory()
+          .create())
+          .onErrorResume(e -> {
+            LOG.warn("Ejecting replica, connection could not be acquired: {}", e.getMessage());
+            replica.setState(ReplicaState.EJECTED);
+            return Mono.from(primary.create());
+          });
+    });
+  }
+
+  @Override
+  public ConnectionFactoryMetadata getMetadata() {
+    return primary.getMetadata();
+  }
+
+  @Override
+  public void dispose() {
+    if (healthCheck != null) {
+      healthCheck.dispose();
+    }
+
+    replicas.forEach(replica -> disposeConnectionFactory(replica.getConnectionFactory()));
+    disposeConnectionFactory(primary);
+  }
+
+  List<ReplicaState> getReplicaStates() {
+    return replicas.stream()
+        .map(Replica::getState)
+        .toList();
+  }
+
+  Mono<Void> checkHealth() {
+    return Flux.fromIterable(replicas)
+        .flatMap(this::checkHealth)
+        .then();
+  }
+
+  private Mono<Void> checkHealth(Replica replica) {
+    return Mono.usingWhen(replica.getConnectionFactory()
+        .create(), connection -> Flux.from(connection.createStatement(LAG_STMT)
+            .execute())
+            .flatMap(result -> result.map((row, rowMetadata) -> row.get(0, Double.class)))
+            .next(),
+        Connection::close)
+        .timeout(HEALTH_CHECK_TIMEOUT)
+        .doOnNext(lag -> replica.setState(lag <= maxLag ? ReplicaState.HEALTHY : ReplicaState.LAGGING))
+        .doOnError(e -> {
+          LOG.warn("Ejecting replica, health check failed: {}", e.getMessage());
+          replica.setState(ReplicaState.EJECTED);
+        })
+        .onErrorResume(e -> Mono.empty())
+        .then();
+  }
+
+  private Replica selectReplica() {
+    var available = replicas.stream()
+        .filter(replica -> replica.getState() == ReplicaState.HEALTHY)
+        .toList();
+
+    if (available.isEmpty()) {
+      return null;
+    }
+
+    if (loadBalancing == LoadBalancing.LEAST_OUTSTANDING) {
+      return available.stream()
+          .min(Comparator.comparingInt(Replica::getOutstanding))
+          .orElseThrow();
+    }
+
+    return available.get(Math.floorMod(counter.getAndIncrement(), available.size()));
+  }
+
+  private static void disposeConnectionFactory(ConnectionFactory connectionFactory) {
+    if (connectionFactory instanceof Disposable disposable) {
+      disposable.dispose();
+    }
+  }
+
+  enum ReplicaState {
+    HEALTHY, LAGGING, EJECTED
+  }
+
+  @Getter
+  private static class Replica {
+
+    private final ConnectionFactory connectionFactory;
+
+    private volatile ReplicaState state = ReplicaState.HEALTHY;
+
+    Replica(ConnectionFactory connectionFactory) {
+      this.connectionFactory = connectionFactory;
+    }
+
+    void setState(ReplicaState state) {
+      if (this.state != state) {
+        LOG.info("Replica state changed from {} to {}.", this.state, state);
+        this.state = state;
+      }
+    }
+
+    int getOutstanding() {
+      if (connectionFactory instanceof ConnectionPool connectionPool) {
+        return connectionPool.getMetrics()
+            .map(metrics -> metrics.acquiredSize() + metrics.pendingAcquireSize())
+            .orElse(0);
+      }
+
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.api.Notification;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+
+/**
+ * Change of a table, as announced by a notification. A notification payload either holds the name of the changed
+ * table, or a JSON object with the table and the column values of the changed row:
+ *
+ * <pre>
+ * {"table": "db.breweries", "key": {"identifier_brewery": "123"}}
+ * </pre>
+ *
+ * <p>
+ * Empty or unparsable payloads result in a change without table, which means that any table may have changed.
+ */
+@Slf4j
+record TableChange(String table, Map<String, Object> key) {
+
+  static final String TABLE_KEY = "table";
+
+  static final String KEY_KEY = "key";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  static TableChange of(Notification notification) {
+    var payload = StringUtils.trimToEmpty(notification.getParameter());
+
+    if (payload.isEmpty()) {
+      return new TableChange(null, null);
+    }
+
+    if (!payload.startsWith("{")) {
+      return new TableChange(payload, null);
+    }
+
+    try {
+      var change = OBJECT_MAPPER.readValue(payload, new TypeReference<Map<String, Object>>() {});
+      return new TableChange((String) change.get(TABLE_KEY), castToMap(change.get(KEY_KEY)));
+    } catch (JsonProcessingException | ClassCastException e) {
+      LOG.warn("Notification payload could not be parsed: {}", payload);
+      return new TableChange(null, null);
+    }
+  }
+
+  // Tables may be configured with their schema, while triggers can send either name
+  boolean isTable(PostgresObjectType objectType) {
+    var objectTable = objectType.getTable();
+
+    if (table == null || StringUtils.isBlank(objectTable)) {
+      return false;
+    }
+
+    return objectTable.equals(table) || StringUtils.substringAfterLast(objectTable, ".")
+        .equals(table);
+  }
+
+  /**
+   * Returns the values of the changed row by the names of the fields of the object type, which are matched on their
+   * column.
+   */
+  Map<String, Object> getFieldValues(PostgresObjectType objectType) {
+    var fieldValues = new HashMap<String, Object>();
+
+    if (key != null) {
+      objectType.getFields()
+          .values()
+          .stream()
+          .filter(field -> key.containsKey(field.getColumn()))
+          .forEach(field -> fieldValues.put(field.getName(), key.get(field.getColumn())));
+    }
+
+    return fieldValues;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> castToMap(Object value) {
+    return (Map<String, Object>) value;
+  }
+}
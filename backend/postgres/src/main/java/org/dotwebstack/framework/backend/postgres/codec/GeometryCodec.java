@@ -2,9 +2,9 @@ package org.dotwebstack.framework.backend.postgres.codec;
 
 import static io.r2dbc.postgresql.client.EncodedParameter.NULL_VALUE;
 import static io.r2dbc.postgresql.message.Format.FORMAT_BINARY;
-import static io.r2dbc.postgresql.message.Format.FORMAT_TEXT;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
 import io.r2dbc.postgresql.client.EncodedParameter;
 import io.r2dbc.postgresql.codec.Codec;
@@ -13,11 +13,13 @@ import io.r2dbc.postgresql.codec.PostgresTypeIdentifier;
 import io.r2dbc.postgresql.message.Format;
 import io.r2dbc.postgresql.util.Assert;
 import io.r2dbc.postgresql.util.ByteBufUtils;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import javax.annotation.Nullable;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.InputStreamInStream;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKBReader;
 import org.locationtech.jts.io.WKBWriter;
@@ -67,11 +69,14 @@ class GeometryCodec implements Codec<Geometry>, CodecMetadata {
       return null;
     }
 
-    Assert.isTrue(format == FORMAT_TEXT, "format must be FORMAT_TEXT");
-
     try {
+      if (format == FORMAT_BINARY) {
+        // Read the (E)WKB bytes straight from the buffer, without hex encoding
+        return new WKBReader(geometryFactory).read(new InputStreamInStream(new ByteBufInputStream(buffer)));
+      }
+
       return new WKBReader(geometryFactory).read(WKBReader.hexToBytes(ByteBufUtils.decode(buffer)));
-    } catch (ParseException e) {
+    } catch (IOException | ParseException e) {
       throw new IllegalArgumentException("Unable to read WKB geometry", e);
     }
   }
@@ -1,7 +1,6 @@
 package org.dotwebstack.framework.backend.postgres.codec;
 
 import static io.r2dbc.postgresql.message.Format.FORMAT_BINARY;
-import static io.r2dbc.postgresql.message.Format.FORMAT_TEXT;
 
 import io.netty.buffer.ByteBuf;
 import io.r2dbc.postgresql.client.EncodedParameter;
@@ -9,12 +8,13 @@ import io.r2dbc.postgresql.codec.Codec;
 import io.r2dbc.postgresql.message.Format;
 import io.r2dbc.postgresql.util.Assert;
 import io.r2dbc.postgresql.util.ByteBufUtils;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Set;
 
 public class LocalDateCodec implements Codec<LocalDate> {
 
+  private static final LocalDate POSTGRES_EPOCH = LocalDate.of(2000, 1, 1);
+
   private final Set<Integer> dataTypes;
 
   public LocalDateCodec(Set<Integer> dataTypes) {
@@ -41,16 +41,12 @@ public class LocalDateCodec implements Codec<LocalDate> {
   public LocalDate decode(ByteBuf buffer, int dataType, Format format, Class<? extends LocalDate> type) {
     Assert.requireNonNull(buffer, "byteBuf must not be null");
 
-    String dateString = "";
-
-    if (format == FORMAT_TEXT) {
-      dateString = ByteBufUtils.decode(buffer);
-    }
-
     if (format == FORMAT_BINARY) {
-      dateString = buffer.toString(StandardCharsets.UTF_8);
+      return decodeBinary(buffer);
     }
 
+    var dateString = ByteBufUtils.decode(buffer);
+
     String yearSubstring;
 
     if (dateString.startsWith("-")) {
@@ -66,6 +62,21 @@ public class LocalDateCodec implements Codec<LocalDate> {
     return LocalDate.parse(dateString);
   }
 
+  private LocalDate decodeBinary(ByteBuf buffer) {
+    // Binary dates are sent as the number of days since the Postgres epoch
+    var days = buffer.readInt();
+
+    if (days == Integer.MAX_VALUE) {
+      return LocalDate.MAX;
+    }
+
+    if (days == Integer.MIN_VALUE) {
+      return LocalDate.MIN;
+    }
+
+    return POSTGRES_EPOCH.plusDays(days);
+  }
+
   @Override
   public EncodedParameter encode(Object value) {
     return null;
@@ -0,0 +1,89 @@
+package org.dotwebstack.framework.backend.postgres.codec;
+
+import static io.r2dbc.postgresql.codec.PostgresqlObjectId.NUMERIC;
+import static io.r2dbc.postgresql.message.Format.FORMAT_BINARY;
+
+import io.netty.buffer.ByteBuf;
+import io.r2dbc.postgresql.client.EncodedParameter;
+import io.r2dbc.postgresql.codec.Codec;
+import io.r2dbc.postgresql.message.Format;
+import io.r2dbc.postgresql.util.Assert;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Decodes binary formatted numeric values. A numeric is sent as a sequence of base 10000 digits, preceded by the digit
+ * count, the weight of the first digit, the sign and the display scale. Text formatted values are left to the driver.
+ */
+public class NumericCodec implements Codec<BigDecimal> {
+
+  private static final BigInteger NBASE = BigInteger.valueOf(10000);
+
+  private static final int NBASE_DIGITS = 4;
+
+  private static final int SIGN_NEGATIVE = 0x4000;
+
+  private static final int SIGN_NAN = 0xC000;
+
+  private static final int SIGN_POSITIVE_INFINITY = 0xD000;
+
+  private static final int SIGN_NEGATIVE_INFINITY = 0xF000;
+
+  @Override
+  public boolean canDecode(int dataType, Format format, Class<?> type) {
+    return dataType == NUMERIC.getObjectId() && format == FORMAT_BINARY && type.isAssignableFrom(BigDecimal.class);
+  }
+
+  @Override
+  public boolean canEncode(Object value) {
+    return false;
+  }
+
+  @Override
+  public boolean canEncodeNull(Class<?> type) {
+    return false;
+  }
+
+  @Override
+  public BigDecimal decode(ByteBuf buffer, int dataType, Format format, Class<? extends BigDecimal> type) {
+    Assert.requireNonNull(buffer, "byteBuf must not be null");
+
+    var digitCount = buffer.readShort();
+    var weight = buffer.readShort();
+    var sign = buffer.readUnsignedShort();
+    var displayScale = buffer.readUnsignedShort();
+
+    if (sign == SIGN_NAN || sign == SIGN_POSITIVE_INFINITY || sign == SIGN_NEGATIVE_INFINITY) {
+      throw new IllegalArgumentException("Numeric value NaN or Infinity can't be represented as BigDecimal");
+    }
+
+    var unscaledValue = BigInteger.ZERO;
+
+    for (var i = 0; i < digitCount; i++) {
+      unscaledValue = unscaledValue.multiply(NBASE)
+          .add(BigInteger.valueOf(buffer.readShort()));
+    }
+
+    // The last digit has weight (weight - digitCount + 1), every weight equals four decimal positions
+    var value = new BigDecimal(unscaledValue, (digitCount - weight - 1) * NBASE_DIGITS)
+        .setScale(displayScale, RoundingMode.DOWN);
+
+    return sign == SIGN_NEGATIVE ? value.negate() : value;
+  }
+
+  @Override
+  public EncodedParameter encode(Object value) {
+    return null;
+  }
+
+  @Override
+  public EncodedParameter encode(Object value, int dataType) {
+    return null;
+  }
+
+  @Override
+  public EncodedParameter encodeNull() {
+    return null;
+  }
+}
@@ -0,0 +1,18 @@
+package org.dotwebstack.framework.backend.postgres.codec;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.codec.CodecRegistry;
+import io.r2dbc.postgresql.extension.CodecRegistrar;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+public class NumericCodecRegistrar implements CodecRegistrar {
+
+  @Override
+  public Publisher<Void> register(PostgresqlConnection connection, ByteBufAllocator allocator, CodecRegistry registry) {
+    return Mono.fromRunnable(() -> registry.addFirst(new NumericCodec()));
+  }
+}
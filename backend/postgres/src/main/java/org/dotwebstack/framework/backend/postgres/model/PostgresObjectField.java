@@ -41,6 +41,8 @@ public class PostgresObjectField extends AbstractObjectField {
 
   private String presenceColumn;
 
+  private boolean inline;
+
   @JsonIgnore
   private PostgresSpatial spatial;
 
@@ -73,6 +75,7 @@ public class PostgresObjectField extends AbstractObjectField {
     this.mappedBy = objectField.getMappedBy();
     this.mappedByObjectField = objectField.getMappedByObjectField();
     this.presenceColumn = objectField.getPresenceColumn();
+    this.inline = objectField.isInline();
   }
 
   public void initColumns() {
@@ -16,6 +16,10 @@ public class PostgresObjectType extends AbstractObjectType<PostgresObjectField>
 
   private boolean distinct;
 
+  private List<String> primaryKey = List.of();
+
+  private Integer fetchSize;
+
   @Override
   public boolean isNested() {
     return StringUtils.isBlank(table);
@@ -33,6 +37,8 @@ public class PostgresObjectType extends AbstractObjectType<PostgresObjectField>
 
     this.table = objectType.getTable();
     this.distinct = objectType.isDistinct();
+    this.primaryKey = objectType.getPrimaryKey();
+    this.fetchSize = objectType.getFetchSize();
 
     var fields = objectType.getFields()
         .values()
@@ -8,7 +8,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.dotwebstack.framework.core.backend.query.FieldMapper;
 
-public class ArrayObjectMapper implements FieldMapper<Map<String, Object>, List<Object>> {
+public class ArrayObjectMapper implements FieldMapper<ResultRow, List<Object>> {
 
   protected final Map<String, ColumnMapper> fieldMappers = new HashMap<>();
 
@@ -17,7 +17,7 @@ public class ArrayObjectMapper implements FieldMapper<Map<String, Object>, List<
   }
 
   @Override
-  public List<Object> apply(Map<String, Object> row) {
+  public List<Object> apply(ResultRow row) {
     var first = fieldMappers.values()
         .stream()
         .findFirst()
@@ -32,16 +32,12 @@ public class ArrayObjectMapper implements FieldMapper<Map<String, Object>, List<
         .collect(Collectors.toList());
   }
 
-  private Map<String, Object> getCompositeObjects(Map<String, Object> row, int index) {
-    return fieldMappers.keySet()
-        .stream()
-        .collect(Collectors.toMap(fieldName -> fieldName, fieldName -> {
-          var fieldMapper = fieldMappers.get(fieldName);
+  private Map<String, Object> getCompositeObjects(ResultRow row, int index) {
+    var compositeObject = new HashMap<String, Object>(fieldMappers.size() * 2);
 
-          var data = Map.of(fieldMapper.getAlias(), ((Object[]) row.get(fieldMapper.getAlias()))[index]);
+    fieldMappers.forEach((fieldName, fieldMapper) -> compositeObject.put(fieldName,
+        fieldMapper.map(((Object[]) row.get(fieldMapper.getAlias()))[index])));
 
-          return fieldMappers.get(fieldName)
-              .apply(data);
-        }));
+    return compositeObject;
   }
 }
@@ -9,6 +9,8 @@ import static org.dotwebstack.framework.backend.postgres.query.QueryHelper.colum
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
 
 import jakarta.validation.constraints.NotNull;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -27,7 +29,6 @@ import org.dotwebstack.framework.core.query.model.ContextCriteria;
 import org.jooq.DSLContext;
 import org.jooq.JoinType;
 import org.jooq.Record;
-import org.jooq.RowN;
 import org.jooq.SQLDialect;
 import org.jooq.SelectQuery;
 import org.jooq.Table;
@@ -37,10 +38,12 @@ import org.jooq.impl.DSL;
 @Setter
 class BatchQueryBuilder {
 
+  private static final Set<Class<?>> INTEGRAL_TYPES = Set.of(Short.class, Integer.class, Long.class);
+
   private final DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
 
   @NotNull
-  private ObjectFieldMapper<Map<String, Object>> fieldMapper;
+  private ObjectFieldMapper<ResultRow> fieldMapper;
 
   @NotNull
   private AliasManager aliasManager;
@@ -59,6 +62,8 @@ class BatchQueryBuilder {
 
   private boolean fromUnion = false;
 
+  private QueryParameters parameters = QueryParameters.none();
+
   private BatchQueryBuilder() {}
 
   static BatchQueryBuilder newBatchQuery() {
@@ -87,6 +92,7 @@ class BatchQueryBuilder {
       return newBatchQuery().joinConfiguration(mappedByJoinConfiguration)
           .contextCriteria(contextCriteria)
           .aliasManager(aliasManager)
+          .parameters(parameters)
           .fieldMapper(fieldMapper)
           .dataQuery(dataQuery)
           .table(table)
@@ -116,7 +122,7 @@ class BatchQueryBuilder {
             .stream())
         .collect(Collectors.toMap(Function.identity(), field -> aliasManager.newAlias()));
 
-    var keyTable = createValuesTable(columnAliases, joinKeys);
+    var keyTable = createKeyTable(columnAliases, joinKeys);
 
     columnAliases.entrySet()
         .stream()
@@ -139,7 +145,7 @@ class BatchQueryBuilder {
         .stream()
         .collect(Collectors.toMap(e -> columnName(e.getKey(), objectType), Map.Entry::getValue));
 
-    var keyTable = createValuesTable(keyColumnAliases, joinKeys);
+    var keyTable = createKeyTable(keyColumnAliases, joinKeys);
 
     keyJoinColumnAliasMap.entrySet()
         .stream()
@@ -178,30 +184,79 @@ class BatchQueryBuilder {
     return batchQuery(joinTable.getJoinColumns(), junctionTable);
   }
 
-  private Table<Record> createValuesTable(Map<String, String> keyColumnAliases, Collection<Map<String, Object>> keys) {
-    var keyTableRows = keys.stream()
-        .map(joinKey -> keyColumnAliases.keySet()
-            .stream()
-            .map(joinKey::get)
-            .toArray())
-        .map(DSL::row)
-        .toArray(RowN[]::new);
-
-    return createValuesTable(keyColumnAliases, keyTableRows);
-
-  }
-
-  private Table<Record> createValuesTable(Map<String, String> keyColumnAliases, RowN[] keyTableRows) {
+  private Table<Record> createKeyTable(Map<String, String> keyColumnAliases, Set<Map<String, Object>> keys) {
     // Register field mapper for grouping rows per key
     if (!fromUnion) {
       register(GROUP_KEY, keyColumnAliases);
     }
 
-    return DSL.values(keyTableRows)
+    // Every key column is bound as a single array, so the statement is the same for any number of keys. The keys are
+    // copied per column in the iteration order of the set, which is the same for every column.
+    var keyArrays = keyColumnAliases.keySet()
+        .stream()
+        .map(keyColumn -> parameters.bind(keys, value -> createKeyArray(keyColumn, List.copyOf((Set<?>) value))))
+        .toList();
+
+    return DSL.table("unnest({0})", DSL.list(keyArrays))
         .as(aliasManager.newAlias(), keyColumnAliases.values()
             .toArray(String[]::new));
   }
 
+  private static Object[] createKeyArray(String keyColumn, List<?> keys) {
+    var values = keys.stream()
+        .map(key -> ((Map<?, ?>) key).get(keyColumn))
+        .toList();
+
+    var componentType = getComponentType(keyColumn, values);
+    var keyArray = (Object[]) Array.newInstance(componentType, values.size());
+
+    for (var index = 0; index < values.size(); index++) {
+      keyArray[index] = convert(values.get(index), componentType);
+    }
+
+    return keyArray;
+  }
+
+  // Keys of a single column can differ in class, for example when taken from both int4 and int8 columns
+  private static Class<?> getComponentType(String keyColumn, List<Object> values) {
+    var classes = values.stream()
+        .filter(Objects::nonNull)
+        .<Class<?>>map(Object::getClass)
+        .collect(Collectors.toSet());
+
+    if (classes.isEmpty()) {
+      return String.class;
+    }
+
+    if (classes.size() == 1) {
+      return classes.iterator()
+          .next();
+    }
+
+    if (INTEGRAL_TYPES.containsAll(classes)) {
+      return Long.class;
+    }
+
+    if (classes.stream()
+        .allMatch(Number.class::isAssignableFrom)) {
+      return BigDecimal.class;
+    }
+
+    throw illegalArgumentException("Key column '{}' has values of different types: {}", keyColumn, classes);
+  }
+
+  private static Object convert(Object value, Class<?> componentType) {
+    if (value == null || componentType.isInstance(value)) {
+      return value;
+    }
+
+    if (componentType == Long.class) {
+      return ((Number) value).longValue();
+    }
+
+    return new BigDecimal(value.toString());
+  }
+
   private void addExistsJoinColumns(SelectQuery<Record> dataQuery, List<JoinColumn> joinColumns, Table<Record> table) {
     var columnsNames = joinColumns.stream()
         .map(JoinColumn::getName)
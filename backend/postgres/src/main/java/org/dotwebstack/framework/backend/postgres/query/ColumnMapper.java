@@ -4,10 +4,12 @@ import java.util.Map;
 import org.dotwebstack.framework.core.backend.query.ScalarFieldMapper;
 import org.jooq.Field;
 
-class ColumnMapper implements ScalarFieldMapper<Map<String, Object>> {
+class ColumnMapper implements ScalarFieldMapper<ResultRow> {
 
   private final Field<Object> column;
 
+  private ResolvedColumn resolvedColumn;
+
   public ColumnMapper(Field<Object> column) {
     this.column = column;
   }
@@ -22,7 +24,22 @@ class ColumnMapper implements ScalarFieldMapper<Map<String, Object>> {
   }
 
   @Override
-  public Object apply(Map<String, Object> row) {
-    return row.get(column.getName());
+  public Object apply(ResultRow row) {
+    var resolved = resolvedColumn;
+
+    // The column index is shared by all rows of a result, so the alias only needs to be resolved once
+    if (resolved == null || resolved.columnIndex() != row.getColumnIndex()) {
+      resolved = new ResolvedColumn(row.getColumnIndex(), row.indexOf(column.getName()));
+      resolvedColumn = resolved;
+    }
+
+    return map(row.get(resolved.index()));
+  }
+
+  public Object map(Object value) {
+    return value;
+  }
+
+  private record ResolvedColumn(Map<String, Integer> columnIndex, int index) {
   }
 }
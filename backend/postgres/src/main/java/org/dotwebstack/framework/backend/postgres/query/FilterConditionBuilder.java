@@ -83,6 +83,8 @@ class FilterConditionBuilder {
   @NotNull
   private Table<Record> table;
 
+  private QueryParameters parameters = QueryParameters.none();
+
   private FilterConditionBuilder() {}
 
   static FilterConditionBuilder newFiltering() {
@@ -164,6 +166,7 @@ class FilterConditionBuilder {
       if (!childCriteria.getFieldPath()
           .isEmpty()) {
         var nestedCondition = newFiltering().aliasManager(aliasManager)
+            .parameters(parameters)
             .contextCriteria(contextCriteria)
             .table(filterTable)
             .filterCriteria(childCriteria)
@@ -302,10 +305,10 @@ class FilterConditionBuilder {
     if (MATCH == operator) {
       var stringField = DSL.field(field.getQualifiedName(), String.class);
 
-      var escapedValue = escapeMatchValue(Objects.toString(value));
+      var matchValue = parameters.bind(value, this::createMatchValue);
 
       return DSL.lower(stringField)
-          .like(DSL.lower(DSL.val(String.format("%%%s%%", escapedValue))))
+          .like(DSL.lower(matchValue))
           .escape(LIKE_ESCAPE_CHARACTER);
     }
 
@@ -401,10 +404,10 @@ class FilterConditionBuilder {
     }
 
     if (objectField == null) {
-      return DSL.val(value);
+      return parameters.bind(value);
     }
 
-    return getFieldValue(objectField, value);
+    return getFieldValue(objectField, parameters.bind(value));
   }
 
   private DataType<?> createDataType(Class<?> dataType) {
@@ -439,6 +442,10 @@ class FilterConditionBuilder {
         .build();
   }
 
+  private String createMatchValue(Object value) {
+    return String.format("%%%s%%", escapeMatchValue(Objects.toString(value)));
+  }
+
   private String escapeMatchValue(String inputValue) {
     String result = inputValue.replace(String.valueOf(LIKE_ESCAPE_CHARACTER),
         String.valueOf(new char[] {LIKE_ESCAPE_CHARACTER, LIKE_ESCAPE_CHARACTER}));
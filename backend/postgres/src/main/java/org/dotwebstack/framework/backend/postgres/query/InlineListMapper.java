@@ -0,0 +1,88 @@
+package org.dotwebstack.framework.backend.postgres.query;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import io.r2dbc.postgresql.codec.Json;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.dotwebstack.framework.core.backend.query.FieldMapper;
+import org.dotwebstack.framework.core.backend.query.ObjectFieldMapper;
+
+/**
+ * Maps a JSON array column, which holds the rows of an inlined nested list, to a list of objects. The array is decoded
+ * with a streaming parser and every element is mapped as a row by the object mapper of the nested list. Elements with
+ * the same keys share a single column index, like the rows of a regular result.
+ */
+class InlineListMapper implements FieldMapper<ResultRow, List<Map<String, Object>>> {
+
+  private static final JsonFactory JSON_FACTORY = new MappingJsonFactory();
+
+  private final String alias;
+
+  private final ObjectFieldMapper<ResultRow> objectMapper;
+
+  InlineListMapper(String alias, ObjectFieldMapper<ResultRow> objectMapper) {
+    this.alias = alias;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<Map<String, Object>> apply(ResultRow row) {
+    var value = row.get(alias);
+
+    if (value == null) {
+      return List.of();
+    }
+
+    // Lists nested in an inlined list are already decoded together with their parent
+    if (value instanceof List<?> elements) {
+      return elements.stream()
+          .map(element -> objectMapper.apply(ResultRow.of((Map<String, Object>) element)))
+          .toList();
+    }
+
+    var json = value instanceof Json jsonValue ? jsonValue.asString() : value.toString();
+
+    try (var parser = JSON_FACTORY.createParser(json)) {
+      return map(parser);
+    } catch (IOException e) {
+      throw new DotWebStackRuntimeException("Unable to convert Json column to GraphQL type.", e);
+    }
+  }
+
+  private List<Map<String, Object>> map(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_ARRAY) {
+      throw new DotWebStackRuntimeException("Expected a Json array for inlined list '{}'.", alias);
+    }
+
+    var result = new ArrayList<Map<String, Object>>();
+    List<String> columnNames = List.of();
+    Map<String, Integer> columnIndex = Map.of();
+
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      var names = new ArrayList<String>(columnNames.size());
+      var values = new ArrayList<>(columnNames.size());
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        names.add(parser.currentName());
+        parser.nextToken();
+        values.add(parser.readValueAs(Object.class));
+      }
+
+      if (!names.equals(columnNames)) {
+        columnNames = names;
+        columnIndex = ResultRow.createColumnIndex(names);
+      }
+
+      result.add(objectMapper.apply(new ResultRow(columnIndex, values.toArray())));
+    }
+
+    return result;
+  }
+}
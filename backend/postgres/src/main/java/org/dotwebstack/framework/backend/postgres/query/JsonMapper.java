@@ -9,7 +9,7 @@ import java.util.Map;
 import org.dotwebstack.framework.core.DotWebStackRuntimeException;
 import org.dotwebstack.framework.core.backend.query.AbstractObjectMapper;
 
-public class JsonMapper extends AbstractObjectMapper<Map<String, Object>> {
+public class JsonMapper extends AbstractObjectMapper<ResultRow> {
 
   private final String columnName;
 
@@ -21,7 +21,7 @@ public class JsonMapper extends AbstractObjectMapper<Map<String, Object>> {
   }
 
   @Override
-  public Map<String, Object> apply(Map<String, Object> row) {
+  public Map<String, Object> apply(ResultRow row) {
     var rowVal = row.get(columnName);
 
     if (rowVal == null) {
@@ -4,7 +4,7 @@ import java.util.Map;
 import lombok.Getter;
 import org.dotwebstack.framework.core.backend.query.AbstractObjectMapper;
 
-public class ObjectMapper extends AbstractObjectMapper<Map<String, Object>> {
+public class ObjectMapper extends AbstractObjectMapper<ResultRow> {
 
   @Getter
   private String alias;
@@ -25,7 +25,7 @@ public class ObjectMapper extends AbstractObjectMapper<Map<String, Object>> {
 
   @Override
   @SuppressWarnings("squid:S1168")
-  public Map<String, Object> apply(Map<String, Object> row) {
+  public Map<String, Object> apply(ResultRow row) {
     if (isAliasResultNull(row) || isPresenceAliasResultFalse(row)) {
       return null;
     }
@@ -33,11 +33,11 @@ public class ObjectMapper extends AbstractObjectMapper<Map<String, Object>> {
     return super.apply(row);
   }
 
-  private boolean isAliasResultNull(Map<String, Object> row) {
+  private boolean isAliasResultNull(ResultRow row) {
     return alias != null && row.get(alias) == null;
   }
 
-  private boolean isPresenceAliasResultFalse(Map<String, Object> row) {
+  private boolean isPresenceAliasResultFalse(ResultRow row) {
     return presenceAlias != null
         && (row.get(presenceAlias) == null || Boolean.FALSE.equals(Boolean.valueOf(row.get(presenceAlias)
             .toString())));
@@ -2,17 +2,40 @@ package org.dotwebstack.framework.backend.postgres.query;
 
 import static java.util.Optional.ofNullable;
 import static org.dotwebstack.framework.backend.postgres.helpers.ValidationHelper.validateFields;
+import static org.dotwebstack.framework.backend.postgres.query.QueryHelper.column;
+import static org.dotwebstack.framework.backend.postgres.query.QueryHelper.getFieldValue;
 import static org.dotwebstack.framework.core.backend.BackendConstants.PAGING_KEY_PREFIX;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.AFTER_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.BEFORE_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.CURSOR_KEY;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.FIRST_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.NODES_FIELD_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.OFFSET_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalStateException;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConfigurationException;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.requestValidationException;
 
 import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectField;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+import org.dotwebstack.framework.core.backend.query.AliasManager;
+import org.dotwebstack.framework.core.backend.query.ObjectFieldMapper;
+import org.dotwebstack.framework.core.datafetchers.paging.PagingCursor;
 import org.dotwebstack.framework.core.query.model.RequestContext;
+import org.dotwebstack.framework.core.query.model.SortCriteria;
+import org.dotwebstack.framework.core.query.model.SortDirection;
+import org.jooq.Condition;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.SelectQuery;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
 
 @Accessors(fluent = true)
 @Setter
@@ -24,12 +47,31 @@ class PagingBuilder {
   @NotNull
   private SelectQuery<Record> dataQuery;
 
+  private List<SortCriteria> sortCriterias = List.of();
+
+  private PostgresObjectType objectType;
+
+  private Table<Record> table;
+
+  private ObjectFieldMapper<ResultRow> fieldMapper;
+
+  private AliasManager aliasManager;
+
   private PagingBuilder() {}
 
   static PagingBuilder newPaging() {
     return new PagingBuilder();
   }
 
+  /**
+   * Returns whether the rows preceding a cursor are requested. These rows are selected in reverse order, so the result
+   * needs to be reversed to restore the requested order.
+   */
+  static boolean isBackward(RequestContext requestContext) {
+    return requestContext != null && requestContext.getSource() != null && requestContext.getSource()
+        .get(PAGING_KEY_PREFIX.concat(BEFORE_ARGUMENT_NAME)) != null;
+  }
+
   void build() {
     validateFields(this);
     addPagingCriteria();
@@ -46,6 +88,12 @@ class PagingBuilder {
         ofNullable(source.get(PAGING_KEY_PREFIX.concat(OFFSET_ARGUMENT_NAME))).map(Integer.class::cast);
     Optional<Integer> first =
         ofNullable(source.get(PAGING_KEY_PREFIX.concat(FIRST_ARGUMENT_NAME))).map(Integer.class::cast);
+
+    if (isKeyset(source)) {
+      addKeysetCriteria(source, offset.orElse(-1), first.orElse(-1));
+      return;
+    }
+
     if (offset.isPresent() && first.isPresent() && hasLimit(offset.get(), first.get())) {
       dataQuery.addLimit(offset.get(), first.get());
     }
@@ -54,4 +102,136 @@ class PagingBuilder {
   private boolean hasLimit(int offset, int first) {
     return offset >= 0 && first >= 0;
   }
+
+  private boolean isKeyset(Map<String, Object> source) {
+    return source.get(PAGING_KEY_PREFIX.concat(AFTER_ARGUMENT_NAME)) != null
+        || source.get(PAGING_KEY_PREFIX.concat(BEFORE_ARGUMENT_NAME)) != null
+        || source.get(PAGING_KEY_PREFIX.concat(NODES_FIELD_NAME)) != null;
+  }
+
+  // Rows carry cursors as soon as these are selected, while seeking only happens when a cursor is given
+  private void addKeysetCriteria(Map<String, Object> source, int offset, int first) {
+    if (objectType == null || table == null || fieldMapper == null || aliasManager == null) {
+      throw illegalStateException("Cursor paging is not supported for this query.");
+    }
+
+    var backward = isBackward(requestContext);
+    var keyFields = getKeyFields();
+    var columns = new ArrayList<Field<Object>>(keyFields.size());
+    var columnAliases = new ArrayList<String>(keyFields.size());
+
+    keyFields.forEach(keyField -> {
+      var column = column(table, keyField.objectField()
+          .getColumn());
+      var columnAlias = aliasManager.newAlias();
+
+      columns.add(column);
+      columnAliases.add(columnAlias);
+      dataQuery.addSelect(column.as(columnAlias));
+
+      // Sort fields are already ordered by, primary key fields are added to make the order unique
+      if (keyField.tieBreaker()) {
+        dataQuery.addOrderBy(backward ? column.desc() : column.asc());
+      }
+    });
+
+    fieldMapper.register(PAGING_KEY_PREFIX.concat(CURSOR_KEY), row -> PagingCursor.encode(columnAliases.stream()
+        .map(row::get)
+        .toList()));
+
+    var cursorKey = PAGING_KEY_PREFIX.concat(backward ? BEFORE_ARGUMENT_NAME : AFTER_ARGUMENT_NAME);
+    var cursor = ofNullable(source.get(cursorKey)).map(String.class::cast);
+
+    cursor.ifPresent(value -> dataQuery.addConditions(createSeekCondition(value, keyFields, columns, backward)));
+
+    if (cursor.isEmpty() && hasLimit(offset, first)) {
+      dataQuery.addLimit(offset, first);
+    } else if (first >= 0) {
+      dataQuery.addLimit(first);
+    }
+  }
+
+  // The primary key makes the order unique, without it rows would be skipped or repeated across pages
+  private List<KeyField> getKeyFields() {
+    if (objectType.getPrimaryKey()
+        .isEmpty()) {
+      throw requestValidationException("Cursor paging requires a primary key for type '{}'.", objectType.getName());
+    }
+
+    var keyFields = new ArrayList<KeyField>();
+
+    sortCriterias.forEach(sortCriteria -> {
+      if (sortCriteria.getFieldPath()
+          .size() > 1) {
+        throw requestValidationException("Cursor paging is not supported when sorting on nested fields.");
+      }
+
+      var objectField = (PostgresObjectField) sortCriteria.getFieldPath()
+          .get(0);
+
+      keyFields.add(new KeyField(objectField, sortCriteria.getDirection(), false));
+    });
+
+    objectType.getPrimaryKey()
+        .stream()
+        .filter(fieldName -> keyFields.stream()
+            .noneMatch(keyField -> keyField.objectField()
+                .getName()
+                .equals(fieldName)))
+        .map(fieldName -> ofNullable(objectType.getField(fieldName))
+            .orElseThrow(() -> invalidConfigurationException("Primary key field '{}' not found in object type '{}'.",
+                fieldName, objectType.getName())))
+        .forEach(objectField -> keyFields.add(new KeyField(objectField, SortDirection.ASC, true)));
+
+    return keyFields;
+  }
+
+  private Condition createSeekCondition(String cursor, List<KeyField> keyFields, List<Field<Object>> columns,
+      boolean backward) {
+    var values = PagingCursor.decode(cursor);
+
+    if (values.size() != keyFields.size()) {
+      throw requestValidationException("Cursor '{}' does not match the requested sort order.", cursor);
+    }
+
+    // Expands the row comparison (a, b) > (x, y) to a > x or (a = x and b > y), since the directions may differ
+    var conditions = new ArrayList<Condition>(keyFields.size());
+    var equalities = new ArrayList<Condition>(keyFields.size());
+
+    for (var index = 0; index < keyFields.size(); index++) {
+      var keyField = keyFields.get(index);
+      var column = columns.get(index);
+      var value = values.get(index);
+      var ascending = (keyField.direction() == SortDirection.ASC) != backward;
+
+      var comparisons = new ArrayList<>(equalities);
+      comparisons.add(ascending ? greaterThan(column, keyField, value) : lessThan(column, keyField, value));
+
+      conditions.add(DSL.and(comparisons));
+      equalities.add(value == null ? column.isNull() : column.eq(getFieldValue(keyField.objectField(), value)));
+    }
+
+    return DSL.or(conditions);
+  }
+
+  // Nulls are sorted last in ascending order, which is the default for Postgres
+  private static Condition greaterThan(Field<Object> column, KeyField keyField, Object value) {
+    if (value == null) {
+      return DSL.falseCondition();
+    }
+
+    return column.gt(getFieldValue(keyField.objectField(), value))
+        .or(column.isNull());
+  }
+
+  private static Condition lessThan(Field<Object> column, KeyField keyField, Object value) {
+    if (value == null) {
+      return column.isNotNull();
+    }
+
+    return column.lt(getFieldValue(keyField.objectField(), value));
+  }
+
+  private record KeyField(PostgresObjectField objectField, SortDirection direction, boolean tieBreaker) {
+  }
 }
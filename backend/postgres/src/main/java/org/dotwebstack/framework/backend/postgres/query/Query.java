@@ -2,16 +2,25 @@ package org.dotwebstack.framework.backend.postgres.query;
 
 import static org.dotwebstack.framework.backend.postgres.query.SelectBuilder.newSelect;
 
-import java.util.Map;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
 import org.dotwebstack.framework.core.backend.query.AliasManager;
+import org.dotwebstack.framework.core.backend.query.QueryShape;
 import org.dotwebstack.framework.core.backend.query.RowMapper;
 import org.dotwebstack.framework.core.query.model.BatchRequest;
 import org.dotwebstack.framework.core.query.model.CollectionBatchRequest;
 import org.dotwebstack.framework.core.query.model.CollectionRequest;
 import org.dotwebstack.framework.core.query.model.ObjectRequest;
 import org.dotwebstack.framework.core.query.model.RequestContext;
+import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
+import org.jooq.Param;
 import org.jooq.Record;
 import org.jooq.SelectQuery;
+import org.jooq.conf.ParamType;
 
 public class Query {
 
@@ -19,46 +28,214 @@ public class Query {
 
   public static final String EXISTS_KEY = "$exists";
 
+  private static final Pattern NAMED_PARAM_PATTERN = Pattern.compile("(:)(\\d+)");
+
   private final AliasManager aliasManager = new AliasManager();
 
-  private final RowMapper<Map<String, Object>> rowMapper = new RowMapper<>();
+  private final RequestContext requestContext;
+
+  private final QueryPlanCache queryPlanCache;
+
+  private final QueryShape shape;
+
+  private final QueryParameters parameters;
+
+  private final QueryPlan cachedPlan;
+
+  private final RowMapper<ResultRow> rowMapper;
 
   private final SelectQuery<Record> selectQuery;
 
-  private final RequestContext requestContext;
+  private final boolean streamable;
+
+  private final boolean reversed;
+
+  private final Integer fetchSize;
+
+  private Statement statement;
 
   public Query(CollectionRequest collectionRequest, RequestContext requestContext) {
+    this(collectionRequest, requestContext, null);
+  }
+
+  public Query(CollectionRequest collectionRequest, RequestContext requestContext,
+      @Nullable QueryPlanCache queryPlanCache) {
     this.requestContext = requestContext;
-    selectQuery = createSelect(collectionRequest);
+    this.queryPlanCache = queryPlanCache;
+    shape = createShape(collectionRequest);
+    parameters = createParameters();
+    cachedPlan = findPlan();
+    rowMapper = cachedPlan != null ? cachedPlan.getRowMapper() : new RowMapper<>();
+    selectQuery = cachedPlan != null ? null : createSelect(collectionRequest);
+    streamable = true;
+    reversed = PagingBuilder.isBackward(requestContext);
+    fetchSize = getFetchSize(collectionRequest.getObjectRequest());
   }
 
   public Query(CollectionBatchRequest collectionBatchRequest, RequestContext requestContext) {
+    this(collectionBatchRequest, requestContext, null);
+  }
+
+  public Query(CollectionBatchRequest collectionBatchRequest, RequestContext requestContext,
+      @Nullable QueryPlanCache queryPlanCache) {
     this.requestContext = requestContext;
-    selectQuery = createSelect(collectionBatchRequest);
+    this.queryPlanCache = queryPlanCache;
+    shape = createShape(collectionBatchRequest);
+    parameters = createParameters();
+    cachedPlan = findPlan();
+    rowMapper = cachedPlan != null ? cachedPlan.getRowMapper() : new RowMapper<>();
+    selectQuery = cachedPlan != null ? null : createSelect(collectionBatchRequest);
+    streamable = false;
+    reversed = PagingBuilder.isBackward(requestContext);
+    fetchSize = null;
   }
 
   public Query(ObjectRequest objectRequest, RequestContext requestContext) {
+    this(objectRequest, requestContext, null);
+  }
+
+  public Query(ObjectRequest objectRequest, RequestContext requestContext, @Nullable QueryPlanCache queryPlanCache) {
     this.requestContext = requestContext;
-    selectQuery = createSelect(objectRequest);
+    this.queryPlanCache = queryPlanCache;
+    shape = createShape(objectRequest);
+    parameters = createParameters();
+    cachedPlan = findPlan();
+    rowMapper = cachedPlan != null ? cachedPlan.getRowMapper() : new RowMapper<>();
+    selectQuery = cachedPlan != null ? null : createSelect(objectRequest);
+    streamable = false;
+    reversed = false;
+    fetchSize = null;
   }
 
   public Query(BatchRequest batchRequest, RequestContext requestContext) {
+    this(batchRequest, requestContext, null);
+  }
+
+  public Query(BatchRequest batchRequest, RequestContext requestContext, @Nullable QueryPlanCache queryPlanCache) {
     this.requestContext = requestContext;
-    selectQuery = createSelect(batchRequest);
+    this.queryPlanCache = queryPlanCache;
+    shape = createShape(batchRequest);
+    parameters = createParameters();
+    cachedPlan = findPlan();
+    rowMapper = cachedPlan != null ? cachedPlan.getRowMapper() : new RowMapper<>();
+    selectQuery = cachedPlan != null ? null : createSelect(batchRequest);
+    streamable = false;
+    reversed = false;
+    fetchSize = null;
   }
 
+  /**
+   * Returns the select query, which is not built when the plan of the query is taken from the cache.
+   */
   public SelectQuery<Record> getSelectQuery() {
     return selectQuery;
   }
 
-  public RowMapper<Map<String, Object>> getRowMapper() {
+  /**
+   * Returns whether the request does not result in a query at all.
+   */
+  public boolean isEmpty() {
+    return cachedPlan == null && selectQuery == null;
+  }
+
+  /**
+   * Returns the statement with positional parameters. A query built for the request is rendered once, a cached query
+   * plan is already rendered.
+   */
+  public String getSql() {
+    return getStatement().sql();
+  }
+
+  /**
+   * Returns the values to bind to the positional parameters of the statement, in order.
+   */
+  public List<Object> getBindValues() {
+    return getStatement().bindValues();
+  }
+
+  public RowMapper<ResultRow> getRowMapper() {
     return rowMapper;
   }
 
+  /**
+   * Returns whether the rows of this query can be fetched in chunks. Only applies to plain collection queries, since
+   * rows of batch queries are grouped per key and single object queries return one row at most.
+   */
+  public boolean isStreamable() {
+    return streamable;
+  }
+
+  /**
+   * Returns whether the rows are selected in reverse order, which is the case when paging backward from a cursor. The
+   * rows (of every group) need to be reversed to restore the requested order.
+   */
+  public boolean isReversed() {
+    return reversed;
+  }
+
+  /**
+   * Returns the number of rows to fetch per chunk configured for the object type of this query, which is empty when the
+   * connection default applies.
+   */
+  public Optional<Integer> getFetchSize() {
+    return Optional.ofNullable(fetchSize);
+  }
+
+  private Statement getStatement() {
+    if (statement == null) {
+      statement = cachedPlan != null ? new Statement(cachedPlan.getSql(), cachedPlan.bind(shape)) : render();
+    }
+
+    return statement;
+  }
+
+  private Statement render() {
+    var params = selectQuery.getParams()
+        .values()
+        .stream()
+        .filter(Predicate.not(Param::isInline))
+        .toList();
+
+    var sql = NAMED_PARAM_PATTERN.matcher(selectQuery.getSQL(ParamType.NAMED))
+        .replaceAll("\\$$2");
+
+    if (shape != null) {
+      QueryPlan.create(shape, parameters, sql, params, rowMapper)
+          .ifPresent(plan -> queryPlanCache.add(shape, plan));
+    }
+
+    return new Statement(sql, params.stream()
+        .<Object>map(Param::getValue)
+        .toList());
+  }
+
+  private QueryShape createShape(Object request) {
+    return queryPlanCache != null ? QueryShape.of(request, requestContext) : null;
+  }
+
+  private QueryParameters createParameters() {
+    return shape != null ? QueryParameters.of(shape) : QueryParameters.none();
+  }
+
+  private QueryPlan findPlan() {
+    return shape != null ? queryPlanCache.find(shape)
+        .orElse(null) : null;
+  }
+
+  private static Integer getFetchSize(ObjectRequest objectRequest) {
+    if (objectRequest instanceof SingleObjectRequest singleObjectRequest
+        && singleObjectRequest.getObjectType() instanceof PostgresObjectType objectType) {
+      return objectType.getFetchSize();
+    }
+
+    return null;
+  }
+
   private SelectQuery<Record> createSelect(CollectionRequest collectionRequest) {
     return newSelect().requestContext(requestContext)
         .fieldMapper(rowMapper)
         .aliasManager(aliasManager)
+        .parameters(parameters)
         .tableAlias(aliasManager.newAlias())
         .build(collectionRequest, null);
   }
@@ -69,6 +246,7 @@ public class Query {
     return newSelect().requestContext(requestContext)
         .fieldMapper(rowMapper)
         .aliasManager(aliasManager)
+        .parameters(parameters)
         .tableAlias(aliasManager.newAlias())
         .build(collectionRequest, collectionBatchRequest.getJoinCriteria());
   }
@@ -77,6 +255,7 @@ public class Query {
     return newSelect().requestContext(requestContext)
         .fieldMapper(rowMapper)
         .aliasManager(aliasManager)
+        .parameters(parameters)
         .tableAlias(aliasManager.newAlias())
         .build(objectRequest);
   }
@@ -85,7 +264,11 @@ public class Query {
     return newSelect().requestContext(requestContext)
         .fieldMapper(rowMapper)
         .aliasManager(aliasManager)
+        .parameters(parameters)
         .tableAlias(aliasManager.newAlias())
         .build(batchRequest);
   }
+
+  private record Statement(String sql, List<Object> bindValues) {
+  }
 }
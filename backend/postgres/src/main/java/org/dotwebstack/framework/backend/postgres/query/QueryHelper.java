@@ -110,14 +110,17 @@ class QueryHelper {
   }
 
   public static Field<Object> getFieldValue(ObjectField field, Object fieldValue) {
+    return getFieldValue(field, DSL.val(fieldValue));
+  }
+
+  public static Field<Object> getFieldValue(ObjectField field, Field<Object> fieldValue) {
     return Optional.of(field)
         .map(ObjectField::getEnumeration)
         .map(FieldEnumConfiguration::getType)
         .map(type -> {
           var dataType = getDefaultDataType(SQLDialect.POSTGRES, type);
-          return DSL.val(fieldValue)
-              .cast(dataType);
+          return fieldValue.cast(dataType);
         })
-        .orElse(DSL.val(fieldValue));
+        .orElse(fieldValue);
   }
 }
@@ -0,0 +1,74 @@
+package org.dotwebstack.framework.backend.postgres.query;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.dotwebstack.framework.core.backend.query.QueryShape;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.impl.DSL;
+
+/**
+ * Creates the bind parameters for request values. When a request value is a leaf of the query shape, the parameter is
+ * recorded as a slot, so the statement can be reused for requests of the same shape by binding the (transformed) value
+ * of that leaf. Request values need to be passed as is, every conversion belongs in the transform, since the leaf is
+ * found by the identity of the value.
+ */
+class QueryParameters {
+
+  private final QueryShape shape;
+
+  private final Map<Param<?>, Slot> slots = new IdentityHashMap<>();
+
+  private QueryParameters(QueryShape shape) {
+    this.shape = shape;
+  }
+
+  static QueryParameters none() {
+    return new QueryParameters(null);
+  }
+
+  static QueryParameters of(QueryShape shape) {
+    return new QueryParameters(shape);
+  }
+
+  Param<Object> bind(Object value) {
+    return bind(value, Function.identity());
+  }
+
+  <T> Param<T> bind(Object value, Field<T> field) {
+    var param = DSL.val(value, field);
+    addSlot(param, value, Function.identity());
+    return param;
+  }
+
+  <T> Param<T> bind(Object value, Function<Object, T> transform) {
+    var param = DSL.val(transform.apply(value));
+    addSlot(param, value, transform);
+    return param;
+  }
+
+  Slot getSlot(Param<?> param) {
+    return slots.get(param);
+  }
+
+  private void addSlot(Param<?> param, Object value, Function<Object, ?> transform) {
+    if (shape == null || value == null) {
+      return;
+    }
+
+    var leafIndex = shape.indexOf(value);
+
+    if (leafIndex >= 0) {
+      slots.put(param, new Slot(leafIndex, transform));
+    }
+  }
+
+  record Slot(int leafIndex, Function<Object, ?> transform) {
+
+    Object bind(QueryShape shape) {
+      return transform.apply(shape.getLeaves()
+          .get(leafIndex));
+    }
+  }
+}
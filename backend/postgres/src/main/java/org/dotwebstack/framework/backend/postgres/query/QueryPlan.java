@@ -0,0 +1,118 @@
+package org.dotwebstack.framework.backend.postgres.query;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.dotwebstack.framework.core.backend.query.QueryShape;
+import org.dotwebstack.framework.core.backend.query.RowMapper;
+import org.jooq.Param;
+
+/**
+ * A rendered statement with its row mapper, which is reused for requests of the same shape. Parameters bound to a leaf
+ * of the shape take the value of that leaf, all other parameters keep the value they were rendered with. The values of
+ * the leaves which are not bound to a parameter were used for building the statement, so the plan only applies to
+ * requests with equal values for these leaves.
+ */
+final class QueryPlan {
+
+  private final String sql;
+
+  private final List<Binding> bindings;
+
+  private final RowMapper<ResultRow> rowMapper;
+
+  private final BitSet boundLeaves;
+
+  private final List<Object> leaves;
+
+  private QueryPlan(String sql, List<Binding> bindings, RowMapper<ResultRow> rowMapper, BitSet boundLeaves,
+      List<Object> leaves) {
+    this.sql = sql;
+    this.bindings = bindings;
+    this.rowMapper = rowMapper;
+    this.boundLeaves = boundLeaves;
+    this.leaves = leaves;
+  }
+
+  /**
+   * Creates the plan for the rendered statement of a request, which is empty when the statement cannot be reused. This
+   * is the case when a parameter does not hold the value of its slot, or when a request value is bound without being
+   * recorded as a slot, since its value would then be reused for other requests.
+   */
+  static Optional<QueryPlan> create(QueryShape shape, QueryParameters parameters, String sql, List<Param<?>> params,
+      RowMapper<ResultRow> rowMapper) {
+    var bindings = new ArrayList<Binding>(params.size());
+    var boundLeaves = new BitSet();
+
+    for (var param : params) {
+      var slot = parameters.getSlot(param);
+
+      if (slot == null) {
+        bindings.add(new Binding(null, param.getValue()));
+        continue;
+      }
+
+      if (!Objects.deepEquals(param.getValue(), slot.bind(shape))) {
+        return Optional.empty();
+      }
+
+      bindings.add(new Binding(slot, null));
+      boundLeaves.set(slot.leafIndex());
+    }
+
+    var boundValues = Collections.newSetFromMap(new IdentityHashMap<>());
+    boundLeaves.stream()
+        .forEach(index -> boundValues.add(shape.getLeaves()
+            .get(index)));
+
+    if (containsAny(bindings, boundValues)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(new QueryPlan(sql, List.copyOf(bindings), rowMapper, boundLeaves, shape.getLeaves()));
+  }
+
+  String getSql() {
+    return sql;
+  }
+
+  RowMapper<ResultRow> getRowMapper() {
+    return rowMapper;
+  }
+
+  boolean matches(QueryShape shape) {
+    var otherLeaves = shape.getLeaves();
+
+    for (var index = 0; index < leaves.size(); index++) {
+      if (!boundLeaves.get(index) && !Objects.deepEquals(leaves.get(index), otherLeaves.get(index))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  List<Object> bind(QueryShape shape) {
+    var values = new ArrayList<>(bindings.size());
+
+    for (var binding : bindings) {
+      values.add(binding.slot() != null ? binding.slot()
+          .bind(shape) : binding.value());
+    }
+
+    return values;
+  }
+
+  private static boolean containsAny(List<Binding> bindings, Set<Object> values) {
+    return bindings.stream()
+        .anyMatch(binding -> binding.slot() == null && values.contains(binding.value()));
+  }
+
+  private record Binding(QueryParameters.Slot slot, Object value) {
+  }
+}
@@ -0,0 +1,74 @@
+package org.dotwebstack.framework.backend.postgres.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.dotwebstack.framework.core.backend.query.QueryShape;
+
+/**
+ * Bounded cache of query plans, keyed by request shape. Requests of the same shape only differ in their leaf values,
+ * so a few plans are kept per shape for the leaf values which ended up in the statement itself. Its hits, misses and
+ * evictions are published as cache metrics, when bound to a meter registry. A lookup counts as a hit as soon as the
+ * shape is known, regardless of the leaf values.
+ */
+public class QueryPlanCache implements MeterBinder {
+
+  static final String CACHE_NAME = "dotwebstack.postgres.queries";
+
+  static final int MAX_PLANS_PER_SHAPE = 16;
+
+  private final Cache<List<Object>, List<QueryPlan>> cache;
+
+  public QueryPlanCache(long maximumSize) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  Optional<QueryPlan> find(QueryShape shape) {
+    var plans = cache.getIfPresent(shape.getKey());
+
+    if (plans == null) {
+      return Optional.empty();
+    }
+
+    return plans.stream()
+        .filter(plan -> plan.matches(shape))
+        .findFirst();
+  }
+
+  void add(QueryShape shape, QueryPlan plan) {
+    cache.asMap()
+        .compute(shape.getKey(), (key, plans) -> {
+          if (plans == null) {
+            return List.of(plan);
+          }
+
+          // The plan which was added first is replaced, when the shape has too many plans
+          var newPlans = new ArrayList<>(plans);
+
+          if (newPlans.size() >= MAX_PLANS_PER_SHAPE) {
+            newPlans.remove(0);
+          }
+
+          newPlans.add(plan);
+
+          return List.copyOf(newPlans);
+        });
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public long size() {
+    return cache.size();
+  }
+}
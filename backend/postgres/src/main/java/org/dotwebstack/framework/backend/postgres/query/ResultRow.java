@@ -0,0 +1,70 @@
+package org.dotwebstack.framework.backend.postgres.query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Result row which holds its column values in a flat array. Column names are resolved to indexes once per result, the
+ * resulting column index is shared by all of its rows. Column names are matched case-insensitively.
+ */
+public final class ResultRow {
+
+  private final Map<String, Integer> columnIndex;
+
+  private final Object[] values;
+
+  public ResultRow(Map<String, Integer> columnIndex, Object[] values) {
+    this.columnIndex = columnIndex;
+    this.values = values;
+  }
+
+  public static ResultRow of(Map<String, Object> values) {
+    var columnNames = List.copyOf(values.keySet());
+
+    return new ResultRow(createColumnIndex(columnNames), columnNames.stream()
+        .map(values::get)
+        .toArray());
+  }
+
+  public static Map<String, Integer> createColumnIndex(List<String> columnNames) {
+    var columnIndex = new LinkedHashMap<String, Integer>(columnNames.size() * 2);
+
+    for (var index = 0; index < columnNames.size(); index++) {
+      columnIndex.putIfAbsent(columnNames.get(index)
+          .toLowerCase(Locale.ROOT), index);
+    }
+
+    return columnIndex;
+  }
+
+  public Map<String, Integer> getColumnIndex() {
+    return columnIndex;
+  }
+
+  public int indexOf(String columnName) {
+    var index = columnIndex.get(columnName);
+
+    if (index == null) {
+      index = columnIndex.get(columnName.toLowerCase(Locale.ROOT));
+    }
+
+    return index != null ? index : -1;
+  }
+
+  public Object get(int index) {
+    return index >= 0 ? values[index] : null;
+  }
+
+  public Object get(String columnName) {
+    return get(indexOf(columnName));
+  }
+
+  public Map<String, Object> toMap() {
+    var map = new LinkedCaseInsensitiveMap<>(columnIndex.size());
+    columnIndex.forEach((columnName, index) -> map.put(columnName, values[index]));
+    return map;
+  }
+}
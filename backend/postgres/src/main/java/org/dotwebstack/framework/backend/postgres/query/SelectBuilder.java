@@ -94,7 +94,7 @@ class SelectBuilder {
   private RequestContext requestContext;
 
   @NotNull
-  private ObjectFieldMapper<Map<String, Object>> fieldMapper;
+  private ObjectFieldMapper<ResultRow> fieldMapper;
 
   @NotNull
   private AliasManager aliasManager;
@@ -102,6 +102,8 @@ class SelectBuilder {
   @NotNull
   private String tableAlias;
 
+  private QueryParameters parameters = QueryParameters.none();
+
   private SelectBuilder() {}
 
   public static SelectBuilder newSelect() {
@@ -196,12 +198,14 @@ class SelectBuilder {
 
     newSorting().sortCriterias(collectionRequest.getSortCriterias())
         .fieldMapper(fieldMapper)
+        .reversed(PagingBuilder.isBackward(requestContext))
         .build()
         .forEach(dataQuery::addOrderBy);
 
     Optional.of(collectionRequest)
         .map(CollectionRequest::getFilterCriteria)
         .map(filterCriteria -> newFiltering().aliasManager(aliasManager)
+            .parameters(parameters)
             .filterCriteria(filterCriteria)
             .table(DSL.table(tableAlias))
             .contextCriteria(collectionRequest.getObjectRequest()
@@ -211,6 +215,11 @@ class SelectBuilder {
 
     newPaging().requestContext(requestContext)
         .dataQuery(dataQuery)
+        .sortCriterias(collectionRequest.getSortCriterias())
+        .objectType(asJson ? null : getObjectType(objectRequest))
+        .table(DSL.table(tableAlias))
+        .fieldMapper(fieldMapper)
+        .aliasManager(aliasManager)
         .build();
 
     if (joinCriteria != null) {
@@ -296,6 +305,11 @@ class SelectBuilder {
           var objectField = getObjectField(objectRequest, entry.getKey()
               .getName());
 
+          if (!asJson && isInline(objectField, entry.getValue())) {
+            return Stream.of(createInlineList(objectField, entry.getKey()
+                .getResultKey(), entry.getValue(), table));
+          }
+
           return processObjectListFields(objectField, table).stream();
         })
         .filter(Objects::nonNull)
@@ -335,6 +349,64 @@ class SelectBuilder {
     return List.of();
   }
 
+  private boolean isInline(PostgresObjectField objectField, CollectionRequest collectionRequest) {
+    return objectField.isInline() && !objectField.isPageable()
+        && collectionRequest.getObjectRequest() instanceof SingleObjectRequest;
+  }
+
+  private Field<?> createInlineList(PostgresObjectField objectField, String resultKey,
+      CollectionRequest collectionRequest, Table<Record> table) {
+    addSortFields(collectionRequest);
+
+    var objectRequest = (SingleObjectRequest) collectionRequest.getObjectRequest();
+    var objectMapper = new ObjectMapper();
+    var nestedTableAlias = aliasManager.newAlias();
+
+    var select = newSelect().requestContext(requestContext)
+        .fieldMapper(objectMapper)
+        .aliasManager(aliasManager)
+        .parameters(parameters)
+        .tableAlias(nestedTableAlias)
+        .build(objectRequest, false);
+
+    Optional.ofNullable(collectionRequest.getFilterCriteria())
+        .map(filterCriteria -> newFiltering().aliasManager(aliasManager)
+            .parameters(parameters)
+            .filterCriteria(filterCriteria)
+            .table(DSL.table(nestedTableAlias))
+            .contextCriteria(objectRequest.getContextCriteria())
+            .build())
+        .ifPresent(select::addConditions);
+
+    var joinConditions = newJoin().table(table)
+        .relatedTable(DSL.table(nestedTableAlias))
+        .joinConfiguration(JoinConfiguration.toJoinConfiguration(objectField))
+        .tableCreator(createTableCreator(select, objectRequest.getContextCriteria(), aliasManager))
+        .build();
+
+    select.addConditions(joinConditions);
+
+    var rowAlias = aliasManager.newAlias();
+    var columnAlias = aliasManager.newAlias();
+
+    fieldMapper.register(resultKey, new InlineListMapper(columnAlias, objectMapper));
+
+    // The order of a subquery is not preserved by the aggregate, so the rows are ordered within the aggregate itself
+    var sortFields = newSorting().sortCriterias(collectionRequest.getSortCriterias())
+        .fieldMapper(objectMapper)
+        .table(DSL.table(DSL.name(rowAlias)))
+        .build();
+
+    var aggregate = sortFields.isEmpty()
+        ? DSL.field("coalesce(jsonb_agg(to_jsonb({0})), '[]'::jsonb)", DSL.name(rowAlias))
+        : DSL.field("coalesce(jsonb_agg(to_jsonb({0}) order by {1}), '[]'::jsonb)", DSL.name(rowAlias),
+            DSL.list(sortFields));
+
+    return DSL.select(aggregate)
+        .from(select.asTable(rowAlias))
+        .asField(columnAlias);
+  }
+
   private List<JSONEntry<?>> processObjectFields(SingleObjectRequest objectRequest, PostgresObjectType objectType,
       SelectQuery<Record> dataQuery, Table<Record> selectTable, boolean asJson) {
     var jsonEntries = new ArrayList<JSONEntry<?>>();
@@ -500,6 +572,7 @@ class SelectBuilder {
         .map(GroupFilterCriteria::getFilterCriterias)
         .map(Collection::stream)
         .map(filterCriteriaList -> filterCriteriaList.map(filterCriteria -> newFiltering().aliasManager(aliasManager)
+            .parameters(parameters)
             .filterCriteria(filterCriteria)
             .table(aliasedAggregateTable)
             .build())
@@ -548,7 +621,7 @@ class SelectBuilder {
     }
 
     var keyField = (PostgresObjectField) getLeaf(fieldPath);
-    var keyFieldValue = getFieldValue(keyField, keyCriteria.getValue());
+    var keyFieldValue = getFieldValue(keyField, parameters.bind(keyCriteria.getValue()));
 
     return Optional.of(column(table, keyField.getColumn()).equal(keyFieldValue));
   }
@@ -569,13 +642,13 @@ class SelectBuilder {
   }
 
   private Optional<Condition> getEqualCondition(KeyCriteria keyCriteria, Field<Object> sqlField) {
-    var condition = sqlField.equal(keyCriteria.getValue());
+    var condition = sqlField.equal(parameters.bind(keyCriteria.getValue(), sqlField));
 
     return Optional.of(andCondition(List.of(condition)));
   }
 
   private Field<?> processScalarField(FieldRequest fieldRequest, PostgresObjectType objectType, Table<Record> table,
-      ObjectFieldMapper<Map<String, Object>> parentMapper, boolean jsonObject) {
+      ObjectFieldMapper<ResultRow> parentMapper, boolean jsonObject) {
     var objectField = objectType.getField(fieldRequest.getName());
 
     ColumnMapper columnMapper;
@@ -624,12 +697,12 @@ class SelectBuilder {
   }
 
   private Stream<SelectResult> createNestedSelect(PostgresObjectField objectField, String resultKey,
-      SingleObjectRequest objectRequest, Table<Record> table, ObjectFieldMapper<Map<String, Object>> parentMapper) {
+      SingleObjectRequest objectRequest, Table<Record> table, ObjectFieldMapper<ResultRow> parentMapper) {
     return createNestedSelect(objectField, resultKey, objectRequest, table, parentMapper, false);
   }
 
   private Stream<SelectResult> createNestedSelect(PostgresObjectField objectField, String resultKey,
-      SingleObjectRequest objectRequest, Table<Record> table, ObjectFieldMapper<Map<String, Object>> parentMapper,
+      SingleObjectRequest objectRequest, Table<Record> table, ObjectFieldMapper<ResultRow> parentMapper,
       boolean shouldBeJson) {
 
     // Create a relation object
@@ -649,7 +722,7 @@ class SelectBuilder {
   }
 
   private Stream<SelectResult> createObject(PostgresObjectField objectField, SingleObjectRequest objectRequest,
-      Table<Record> table, ObjectFieldMapper<Map<String, Object>> parentMapper, JoinConfiguration joinConfiguration,
+      Table<Record> table, ObjectFieldMapper<ResultRow> parentMapper, JoinConfiguration joinConfiguration,
       String resultKey) {
     var objectMapper = new ObjectMapper(aliasManager.newAlias());
     parentMapper.register(resultKey, objectMapper);
@@ -657,6 +730,7 @@ class SelectBuilder {
     var select = newSelect().requestContext(requestContext)
         .fieldMapper(objectMapper)
         .aliasManager(aliasManager)
+        .parameters(parameters)
         .tableAlias(objectMapper.getAlias())
         .build(objectRequest, false);
 
@@ -681,7 +755,7 @@ class SelectBuilder {
   }
 
   private List<SelectResult> createRelationObject(PostgresObjectField objectField, SingleObjectRequest objectRequest,
-      Table<Record> table, ObjectFieldMapper<Map<String, Object>> parentMapper, String resultKey) {
+      Table<Record> table, ObjectFieldMapper<ResultRow> parentMapper, String resultKey) {
     if (!objectField.getJoinColumns()
         .isEmpty()) {
       return createRelationObject(objectField, objectField.getJoinColumns(), objectRequest, table, parentMapper,
@@ -725,7 +799,7 @@ class SelectBuilder {
   }
 
   private List<SelectResult> createRelationObject(PostgresObjectField objectField, List<JoinColumn> joinColumns,
-      SingleObjectRequest objectRequest, Table<Record> table, ObjectFieldMapper<Map<String, Object>> parentMapper,
+      SingleObjectRequest objectRequest, Table<Record> table, ObjectFieldMapper<ResultRow> parentMapper,
       String resultKey) {
     var objectMapper = new ObjectMapper(aliasManager.newAlias());
     parentMapper.register(resultKey, objectMapper);
@@ -810,7 +884,7 @@ class SelectBuilder {
   }
 
   private Stream<SelectResult> createNestedObject(PostgresObjectField objectField, SingleObjectRequest objectRequest,
-      Table<Record> table, ObjectFieldMapper<Map<String, Object>> parentMapper, String resultKey,
+      Table<Record> table, ObjectFieldMapper<ResultRow> parentMapper, String resultKey,
       boolean scalarAsJson) {
     var presenceAlias = objectField.getPresenceColumn() == null ? null : aliasManager.newAlias();
     var objectMapper = new ObjectMapper(null, presenceAlias);
@@ -875,7 +949,7 @@ class SelectBuilder {
   }
 
   private SelectQuery<Record> getJoinTableReferences(PostgresObjectField objectField, SingleObjectRequest objectRequest,
-      Table<Record> parentTable, ObjectFieldMapper<Map<String, Object>> nestedFieldMapper, FieldRequest fieldRequest) {
+      Table<Record> parentTable, ObjectFieldMapper<ResultRow> nestedFieldMapper, FieldRequest fieldRequest) {
     var objectType = (PostgresObjectType) objectField.getObjectType();
     var joinTable = resolveJoinTable(objectType, objectField.getJoinTable());
 
@@ -940,7 +1014,7 @@ class SelectBuilder {
     return selectJoinColumns((PostgresObjectType) objectField.getObjectType(), joinColumns, table);
   }
 
-  private Map<String, Object> getJoinColumnValues(List<JoinColumn> joinColumns, Map<String, Object> row) {
+  private Map<String, Object> getJoinColumnValues(List<JoinColumn> joinColumns, ResultRow row) {
     return joinColumns.stream()
         .collect(HashMap::new, (map, joinColumn) -> {
           var key = (joinColumn.getReferencedField() != null ? joinColumn.getReferencedField()
@@ -987,6 +1061,7 @@ class SelectBuilder {
 
     var builder = newBatchQuery().contextCriteria(objectRequest.getContextCriteria())
         .aliasManager(aliasManager)
+        .parameters(parameters)
         .fieldMapper(fieldMapper)
         .dataQuery(dataQuery)
         .table(dataTable)
@@ -12,7 +12,9 @@ import lombok.experimental.Accessors;
 import org.dotwebstack.framework.core.backend.query.ObjectFieldMapper;
 import org.dotwebstack.framework.core.model.ObjectField;
 import org.dotwebstack.framework.core.query.model.SortCriteria;
+import org.jooq.Record;
 import org.jooq.SortField;
+import org.jooq.Table;
 
 @Accessors(fluent = true)
 @Setter
@@ -22,7 +24,11 @@ class SortBuilder {
   private List<SortCriteria> sortCriterias;
 
   @NotNull
-  private ObjectFieldMapper<Map<String, Object>> fieldMapper;
+  private ObjectFieldMapper<ResultRow> fieldMapper;
+
+  private boolean reversed;
+
+  private Table<Record> table;
 
   private SortBuilder() {}
 
@@ -42,13 +48,13 @@ class SortBuilder {
     List<ObjectField> fieldPath = sortCriteria.getFieldPath();
     var leafFieldMapper = fieldMapper.getLeafFieldMapper(fieldPath);
 
-    var sortField = column(null, leafFieldMapper.getAlias());
+    var sortField = column(table, leafFieldMapper.getAlias());
 
     switch (sortCriteria.getDirection()) {
       case ASC:
-        return sortField.asc();
+        return reversed ? sortField.desc() : sortField.asc();
       case DESC:
-        return sortField.desc();
+        return reversed ? sortField.asc() : sortField.desc();
       default:
         throw unsupportedOperationException("Unsupported direction: {}", sortCriteria.getDirection());
     }
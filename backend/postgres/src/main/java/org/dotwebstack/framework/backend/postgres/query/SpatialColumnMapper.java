@@ -2,7 +2,6 @@ package org.dotwebstack.framework.backend.postgres.query;
 
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
 
-import java.util.Map;
 import java.util.Optional;
 import org.dotwebstack.framework.backend.postgres.model.PostgresSpatial;
 import org.jooq.Field;
@@ -28,9 +27,7 @@ class SpatialColumnMapper extends ColumnMapper {
   }
 
   @Override
-  public Object apply(Map<String, Object> row) {
-    Object value = super.apply(row);
-
+  public Object map(Object value) {
     Geometry geometry = getGeometry(value).orElse(null);
 
     return Optional.ofNullable(geometry)
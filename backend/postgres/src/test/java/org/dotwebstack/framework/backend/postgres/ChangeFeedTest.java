@@ -0,0 +1,78 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.r2dbc.postgresql.api.Notification;
+import java.util.Map;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedTest {
+
+  @Mock
+  private NotificationListener notificationListener;
+
+  @Test
+  void getChanges_emitsRowChangesOfTable_forObjectType() {
+    var notifications = Flux.just(mockNotification("breweries"),
+        mockNotification("{\"table\": \"beers\", \"key\": {\"identifier_beer\": \"1\"}}"),
+        mockNotification("{\"table\": \"breweries\", \"key\": {\"identifier_brewery\": \"2\"}}"));
+    when(notificationListener.getNotifications()).thenReturn(notifications);
+
+    var changeFeed = new ChangeFeed(notificationListener);
+
+    StepVerifier.create(changeFeed.getChanges(createObjectType("Brewery")))
+        .expectNext(new TableChange("breweries", Map.of("identifier_brewery", "2")))
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  void getChanges_listensAgain_afterCompletion() {
+    var notifications = Flux.just(mockNotification("{\"table\": \"breweries\", \"key\": {\"id\": \"1\"}}"));
+    when(notificationListener.getNotifications()).thenReturn(notifications);
+
+    var changeFeed = new ChangeFeed(notificationListener);
+    var change = new TableChange("breweries", Map.of("id", "1"));
+
+    StepVerifier.withVirtualTime(() -> changeFeed.getChanges(createObjectType("Brewery")))
+        .expectNext(change)
+        .thenAwait(NotificationCacheInvalidator.MIN_BACKOFF)
+        .expectNext(change)
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  void getChanges_returnsSharedChanges_forSameObjectType() {
+    when(notificationListener.getNotifications()).thenReturn(Flux.empty());
+
+    var changeFeed = new ChangeFeed(notificationListener);
+    var changes = changeFeed.getChanges(createObjectType("Brewery"));
+
+    assertThat(changeFeed.getChanges(createObjectType("Brewery")), is(sameInstance(changes)));
+  }
+
+  private static Notification mockNotification(String payload) {
+    var notification = mock(Notification.class);
+    when(notification.getParameter()).thenReturn(payload);
+    return notification;
+  }
+
+  private static PostgresObjectType createObjectType(String name) {
+    var objectType = new PostgresObjectType();
+    objectType.setName(name);
+    objectType.setTable("dbeerpedia.breweries");
+    return objectType;
+  }
+}
@@ -0,0 +1,73 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import graphql.GraphQLContext;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.language.OperationDefinition;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionScopeInstrumentationTest {
+
+  @Mock
+  private ConnectionFactory connectionFactory;
+
+  @Mock
+  private ExecutionContext executionContext;
+
+  @Test
+  void beginExecuteOperation_bindsScope_forQuery() {
+    var graphQlContext = GraphQLContext.newContext()
+        .build();
+    var parameters = mockParameters(OperationDefinition.Operation.QUERY, graphQlContext);
+
+    var instrumentation = new ConnectionScopeInstrumentation(connectionFactory, new PostgresProperties());
+    var context = instrumentation.beginExecuteOperation(parameters, null);
+
+    ConnectionScope connectionScope = graphQlContext.get(ConnectionScope.class);
+    assertThat(connectionScope, instanceOf(ConnectionScope.class));
+
+    context.onCompleted(null, null);
+
+    StepVerifier.create(connectionScope.getConnection())
+        .expectError(IllegalStateException.class)
+        .verify();
+  }
+
+  @Test
+  void beginExecuteOperation_doesNotBindScope_forSubscription() {
+    var graphQlContext = GraphQLContext.newContext()
+        .build();
+    var parameters = mockParameters(OperationDefinition.Operation.SUBSCRIPTION, graphQlContext);
+
+    var instrumentation = new ConnectionScopeInstrumentation(connectionFactory, new PostgresProperties());
+    instrumentation.beginExecuteOperation(parameters, null);
+
+    assertThat(graphQlContext.get(ConnectionScope.class), nullValue());
+  }
+
+  private InstrumentationExecuteOperationParameters mockParameters(OperationDefinition.Operation operation,
+      GraphQLContext graphQlContext) {
+    when(executionContext.getOperationDefinition()).thenReturn(OperationDefinition.newOperationDefinition()
+        .operation(operation)
+        .build());
+    if (operation != OperationDefinition.Operation.SUBSCRIPTION) {
+      when(executionContext.getGraphQLContext()).thenReturn(graphQlContext);
+    }
+
+    var parameters = mock(InstrumentationExecuteOperationParameters.class);
+    when(parameters.getExecutionContext()).thenReturn(executionContext);
+    return parameters;
+  }
+}
@@ -0,0 +1,126 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import graphql.GraphQLContext;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.dotwebstack.framework.core.query.model.RequestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"rawtypes", "unchecked"})
+class ConnectionScopeTest {
+
+  @Mock
+  private ConnectionFactory connectionFactory;
+
+  @Test
+  void getConnection_returnsConnectionsRoundRobin_forMultipleConnections() {
+    var first = mock(Connection.class);
+    var second = mock(Connection.class);
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.just(first), (Publisher) Mono.just(second));
+
+    var connectionScope = new ConnectionScope(connectionFactory, 2);
+
+    assertThat(connectionScope.getConnection()
+        .block(), sameInstance(first));
+    assertThat(connectionScope.getConnection()
+        .block(), sameInstance(second));
+    assertThat(connectionScope.getConnection()
+        .block(), sameInstance(first));
+    verify(connectionFactory, times(2)).create();
+  }
+
+  @Test
+  void getConnection_acquiresConnectionAgain_afterFailure() {
+    var connection = mock(Connection.class);
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.error(new IllegalStateException("Pool exhausted")),
+        (Publisher) Mono.just(connection));
+
+    var connectionScope = new ConnectionScope(connectionFactory, 1);
+
+    StepVerifier.create(connectionScope.getConnection())
+        .expectError(IllegalStateException.class)
+        .verify();
+    assertThat(connectionScope.getConnection()
+        .block(), sameInstance(connection));
+    assertThat(connectionScope.getConnection()
+        .block(), sameInstance(connection));
+    verify(connectionFactory, times(2)).create();
+  }
+
+  @Test
+  void close_releasesAcquiredConnections_always() {
+    var connection = mock(Connection.class);
+    when(connection.close()).thenReturn((Publisher) Mono.empty());
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.just(connection));
+
+    var connectionScope = new ConnectionScope(connectionFactory, 2);
+    connectionScope.getConnection()
+        .block();
+    connectionScope.close();
+    connectionScope.close();
+
+    verify(connectionFactory, times(1)).create();
+    verify(connection, times(1)).close();
+  }
+
+  @Test
+  void close_doesNotAcquireConnections_forUnusedScope() {
+    var connectionScope = new ConnectionScope(connectionFactory, 1);
+    connectionScope.close();
+
+    verify(connectionFactory, never()).create();
+  }
+
+  @Test
+  void getConnection_returnsError_forClosedScope() {
+    var connectionScope = new ConnectionScope(connectionFactory, 1);
+    connectionScope.close();
+
+    StepVerifier.create(connectionScope.getConnection())
+        .expectError(IllegalStateException.class)
+        .verify();
+  }
+
+  @Test
+  void of_returnsScope_forRequestContextWithScope() {
+    var connectionScope = new ConnectionScope(connectionFactory, 1);
+    var graphQlContext = GraphQLContext.newContext()
+        .of(ConnectionScope.class, connectionScope)
+        .build();
+
+    var requestContext = RequestContext.builder()
+        .graphQlContext(graphQlContext)
+        .build();
+
+    assertThat(ConnectionScope.of(requestContext), is(connectionScope));
+  }
+
+  @Test
+  void of_returnsNull_forRequestContextWithoutScope() {
+    var requestContext = RequestContext.builder()
+        .graphQlContext(GraphQLContext.getDefault())
+        .build();
+
+    assertThat(ConnectionScope.of(requestContext), nullValue());
+    assertThat(ConnectionScope.of(RequestContext.builder()
+        .build()), nullValue());
+    assertThat(ConnectionScope.of(null), nullValue());
+  }
+}
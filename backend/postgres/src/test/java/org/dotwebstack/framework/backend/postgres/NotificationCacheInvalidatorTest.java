@@ -0,0 +1,102 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.r2dbc.postgresql.api.Notification;
+import java.util.Map;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectField;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+import org.dotwebstack.framework.core.backend.EntityCacheManager;
+import org.dotwebstack.framework.core.model.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCacheInvalidatorTest {
+
+  @Mock
+  private NotificationListener notificationListener;
+
+  @Mock
+  private EntityCacheManager entityCacheManager;
+
+  @Mock
+  private Notification notification;
+
+  @Mock
+  private ReplicaRoutingConnectionFactory connectionFactory;
+
+  private NotificationCacheInvalidator notificationCacheInvalidator;
+
+  @BeforeEach
+  void doBeforeEach() {
+    var identifierField = new PostgresObjectField();
+    identifierField.setName("identifier");
+    identifierField.setColumn("identifier_brewery");
+
+    var brewery = new PostgresObjectType();
+    brewery.setName("Brewery");
+    brewery.setTable("dbeerpedia.breweries");
+    brewery.setFields(Map.of("identifier", identifierField));
+
+    var schema = new Schema();
+    schema.setObjectTypes(Map.of("Brewery", brewery));
+
+    notificationCacheInvalidator = new NotificationCacheInvalidator(notificationListener, schema, entityCacheManager,
+        connectionFactory);
+  }
+
+  @Test
+  void invalidate_invalidatesObjectType_forTableChange() {
+    notificationCacheInvalidator.invalidate(new TableChange("breweries", null));
+
+    verify(entityCacheManager).invalidate("Brewery");
+  }
+
+  @Test
+  void invalidate_invalidatesKey_forRowChange() {
+    notificationCacheInvalidator.invalidate(new TableChange("breweries", Map.of("identifier_brewery", "123")));
+
+    verify(entityCacheManager).invalidate("Brewery", Map.of("identifier", "123"));
+  }
+
+  @Test
+  void invalidate_readsFromPrimary_forChange() {
+    notificationCacheInvalidator.invalidate(new TableChange("breweries", null));
+
+    verify(connectionFactory).readFromPrimary();
+  }
+
+  @Test
+  void invalidate_doesNothing_forUnknownTable() {
+    notificationCacheInvalidator.invalidate(new TableChange("beers", null));
+
+    verifyNoMoreInteractions(entityCacheManager);
+  }
+
+  @Test
+  void invalidate_invalidatesAll_forChangeWithoutTable() {
+    notificationCacheInvalidator.invalidate(new TableChange(null, null));
+
+    verify(entityCacheManager).invalidateAll();
+  }
+
+  @Test
+  void start_invalidatesAllAndHandlesNotifications_forListener() {
+    when(notificationListener.getNotifications()).thenReturn(Flux.just(notification));
+    when(notification.getParameter()).thenReturn("breweries");
+
+    notificationCacheInvalidator.start();
+    notificationCacheInvalidator.dispose();
+
+    verify(entityCacheManager).invalidateAll();
+    verify(entityCacheManager).invalidate("Brewery");
+    verifyNoMoreInteractions(entityCacheManager);
+  }
+}
@@ -0,0 +1,87 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.postgresql.api.PostgresqlStatement;
+import io.r2dbc.spi.ConnectionFactory;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"rawtypes", "unchecked"})
+class NotificationListenerTest {
+
+  @Mock
+  private ConnectionFactory connectionFactory;
+
+  @Mock
+  private PostgresqlConnection connection;
+
+  @Mock
+  private PostgresqlStatement statement;
+
+  @Mock
+  private PostgresqlResult result;
+
+  @Mock
+  private Notification breweryNotification;
+
+  @Mock
+  private Notification beerNotification;
+
+  @Test
+  void getNotifications_listensOnChannelsAndEmitsNotifications_forSubscriber() {
+    mockConnection();
+
+    var notificationListener = new NotificationListener(connectionFactory, List.of("breweries", "beers"));
+
+    StepVerifier.create(notificationListener.getNotifications())
+        .expectNext(breweryNotification, beerNotification)
+        .verifyComplete();
+
+    verify(connection).createStatement("LISTEN \"breweries\"");
+    verify(connection).createStatement("LISTEN \"beers\"");
+    verify(connection).close();
+  }
+
+  @Test
+  void getNotifications_emitsChannelNotifications_forChannel() {
+    mockConnection();
+    when(breweryNotification.getName()).thenReturn("breweries");
+    when(beerNotification.getName()).thenReturn("beers");
+
+    var notificationListener = new NotificationListener(connectionFactory, List.of("breweries", "beers"));
+
+    StepVerifier.create(notificationListener.getNotifications("beers"))
+        .expectNext(beerNotification)
+        .verifyComplete();
+  }
+
+  @Test
+  void createListenStatement_quotesChannel_always() {
+    assertThat(NotificationListener.createListenStatement("Brewery\"Changes"), is("LISTEN \"Brewery\"\"Changes\""));
+  }
+
+  private void mockConnection() {
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.just(connection));
+    when(connection.getNotifications()).thenReturn(Flux.just(breweryNotification, beerNotification));
+    when(connection.createStatement(anyString())).thenReturn(statement);
+    when(statement.execute()).thenReturn(Flux.just(result));
+    when(result.getRowsUpdated()).thenReturn(Mono.just(0));
+    when(connection.close()).thenReturn(Mono.empty());
+  }
+}
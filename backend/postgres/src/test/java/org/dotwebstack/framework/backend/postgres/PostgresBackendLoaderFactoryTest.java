@@ -25,7 +25,7 @@ class PostgresBackendLoaderFactoryTest {
 
   @BeforeEach
   void doBeforeEach() {
-    backendLoaderFactory = new PostgresBackendLoaderFactory(postgresClient);
+    backendLoaderFactory = new PostgresBackendLoaderFactory(postgresClient, null, null);
   }
 
   @Test
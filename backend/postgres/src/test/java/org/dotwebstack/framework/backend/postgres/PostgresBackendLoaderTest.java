@@ -1,9 +1,12 @@
 package org.dotwebstack.framework.backend.postgres;
 
+import static org.dotwebstack.framework.core.backend.BackendConstants.REMOVED_KEY;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -27,10 +30,12 @@ import org.dotwebstack.framework.core.query.model.RequestContext;
 import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
 import org.dotwebstack.framework.core.query.model.UnionObjectRequest;
 import org.hamcrest.CoreMatchers;
+import org.jooq.conf.ParamType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
@@ -51,7 +56,7 @@ class PostgresBackendLoaderTest {
 
   @Test
   void loadSingle_returnsMonoObject_forSingleObjectRequest() {
-    when(postgresClient.fetch(any(Query.class))).thenReturn(Flux.just(Collections.emptyMap()));
+    when(postgresClient.fetch(any(Query.class), isNull())).thenReturn(Flux.just(Collections.emptyMap()));
     Map<String, Object> source = Map.of("a", "bbb");
 
     var requestContext = RequestContext.builder()
@@ -88,7 +93,7 @@ class PostgresBackendLoaderTest {
 
   @Test
   void loadMany_returnsFluxObject_forSingleObjectRequest() {
-    when(postgresClient.fetch(any(Query.class))).thenReturn(Flux.just(Collections.emptyMap()));
+    when(postgresClient.fetch(any(Query.class), isNull())).thenReturn(Flux.just(Collections.emptyMap()));
     Map<String, Object> source = Map.of("a", "bbb");
 
     var requestContext = RequestContext.builder()
@@ -112,7 +117,7 @@ class PostgresBackendLoaderTest {
   @Test
   @Disabled("fix me")
   void batchLoadMany_returnsFluxObject_forSingleObjectRequest() {
-    when(postgresClient.fetch(any(Query.class))).thenReturn(Flux.just(Map.of("@@@", "ccc")));
+    when(postgresClient.fetch(any(Query.class), isNull())).thenReturn(Flux.just(Map.of("@@@", "ccc")));
     PostgresObjectField objectFieldMock = mock(PostgresObjectField.class);
     when(objectFieldMock.getJoinTable()).thenReturn(mock(JoinTable.class));
     Map<String, Object> source = Map.of("a", "bbb");
@@ -139,7 +144,7 @@ class PostgresBackendLoaderTest {
 
   @Test
   void loadSingle_returnsMonoEmptyMap_forUnionObjectRequest() {
-    when(postgresClient.fetch(any(Query.class))).thenReturn(Flux.just(Collections.emptyMap()));
+    when(postgresClient.fetch(any(Query.class), isNull())).thenReturn(Flux.just(Collections.emptyMap()));
     Map<String, Object> source = Map.of("a", "bbb");
 
     var requestContext = RequestContext.builder()
@@ -178,6 +183,94 @@ class PostgresBackendLoaderTest {
         .verifyComplete();
   }
 
+  @Test
+  void loadChanges_loadsChangedRowsOnce_forRepeatedRowChanges() {
+    var identifierField = new PostgresObjectField();
+    identifierField.setName("identifier");
+    identifierField.setColumn("identifier_brewery");
+    identifierField.setType("String");
+
+    var objectType = new PostgresObjectType();
+    objectType.setName("Brewery");
+    objectType.setTable("breweries");
+    objectType.setFields(Map.of("identifier", identifierField));
+
+    var changeFeed = mock(ChangeFeed.class);
+    when(changeFeed.getChanges(objectType))
+        .thenReturn(Flux.just(new TableChange("breweries", Map.of("identifier_brewery", "123")),
+            new TableChange("breweries", Map.of("identifier_brewery", "123"))));
+    Map<String, Object> row = Map.of("identifier", "123");
+    var queryCaptor = ArgumentCaptor.forClass(Query.class);
+    when(postgresClient.fetchFromPrimary(queryCaptor.capture())).thenReturn(Flux.just(row));
+
+    var request = CollectionRequest.builder()
+        .objectRequest(SingleObjectRequest.builder()
+            .objectType(objectType)
+            .scalarFields(List.of(FieldRequest.builder()
+                .name("identifier")
+                .resultKey("identifier")
+                .build()))
+            .build())
+        .build();
+
+    StepVerifier.create(new PostgresBackendLoader(postgresClient, changeFeed).loadChanges(request,
+        RequestContext.builder()
+            .build()))
+        .expectNext(row)
+        .verifyComplete();
+
+    assertThat(queryCaptor.getValue()
+        .getSelectQuery()
+        .getSQL(ParamType.INLINED), containsString("\"identifier_brewery\" = '123'"));
+  }
+
+  @Test
+  void loadChanges_emitsTombstoneOnce_forRepeatedChangesWithoutRow() {
+    var identifierField = new PostgresObjectField();
+    identifierField.setName("identifier");
+    identifierField.setColumn("identifier_brewery");
+    identifierField.setType("String");
+
+    var objectType = new PostgresObjectType();
+    objectType.setName("Brewery");
+    objectType.setTable("breweries");
+    objectType.setFields(Map.of("identifier", identifierField));
+
+    var changeFeed = mock(ChangeFeed.class);
+    when(changeFeed.getChanges(objectType))
+        .thenReturn(Flux.just(new TableChange("breweries", Map.of("identifier_brewery", "123")),
+            new TableChange("breweries", Map.of("identifier_brewery", "123"))));
+    when(postgresClient.fetchFromPrimary(any(Query.class))).thenReturn(Flux.empty());
+
+    var request = CollectionRequest.builder()
+        .objectRequest(SingleObjectRequest.builder()
+            .objectType(objectType)
+            .scalarFields(List.of(FieldRequest.builder()
+                .name("identifier")
+                .resultKey("id")
+                .build()))
+            .build())
+        .build();
+
+    StepVerifier.create(new PostgresBackendLoader(postgresClient, changeFeed).loadChanges(request,
+        RequestContext.builder()
+            .build()))
+        .expectNext(Map.of("id", "123", REMOVED_KEY, true))
+        .verifyComplete();
+  }
+
+  @Test
+  void loadChanges_returnsEmptyFlux_withoutChangeFeed() {
+    var request = CollectionRequest.builder()
+        .objectRequest(SingleObjectRequest.builder()
+            .build())
+        .build();
+
+    StepVerifier.create(backendLoader.loadChanges(request, RequestContext.builder()
+        .build()))
+        .verifyComplete();
+  }
+
   private SingleObjectRequest initSingleObjectRequest(boolean isNested) {
     var objectType = mock(PostgresObjectType.class);
     var contextCriteria = mock(ContextCriteria.class);
@@ -3,12 +3,14 @@ package org.dotwebstack.framework.backend.postgres;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
 import java.net.MalformedURLException;
 import java.util.Map;
 import org.dotwebstack.framework.backend.postgres.model.PostgresObjectField;
 import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+import org.dotwebstack.framework.core.InvalidConfigurationException;
 import org.dotwebstack.framework.core.model.ObjectType;
 import org.dotwebstack.framework.core.model.Schema;
 import org.hamcrest.CoreMatchers;
@@ -32,7 +34,7 @@ class PostgresBackendModuleTest {
 
   @BeforeEach
   void doBeforeEach() {
-    backendLoaderFactory = new PostgresBackendLoaderFactory(postgresClient);
+    backendLoaderFactory = new PostgresBackendLoaderFactory(postgresClient, null, null);
     postgresBackendModule = new PostgresBackendModule(backendLoaderFactory);
     testHelper = new TestHelper(postgresBackendModule);
   }
@@ -74,6 +76,38 @@ class PostgresBackendModuleTest {
     assertThat(addressStreet.getColumn(), equalTo("custom_street_column"));
   }
 
+  @Test
+  void init_throwsException_forInlineFieldWithGeometryFields() {
+    var geometryField = new PostgresObjectField();
+    geometryField.setName("geometry");
+    geometryField.setType("Geometry");
+
+    var beer = new PostgresObjectType();
+    beer.setName("Beer");
+    beer.setTable("beer");
+    beer.getFields()
+        .put("geometry", geometryField);
+
+    var beersField = new PostgresObjectField();
+    beersField.setName("beers");
+    beersField.setType("Beer");
+    beersField.setList(true);
+    beersField.setInline(true);
+
+    var brewery = new PostgresObjectType();
+    brewery.setName("Brewery");
+    brewery.setTable("brewery");
+    brewery.getFields()
+        .put("beers", beersField);
+
+    Map<String, ObjectType<?>> objectTypes = Map.of("Brewery", brewery, "Beer", beer);
+
+    var exception = assertThrows(InvalidConfigurationException.class, () -> postgresBackendModule.init(objectTypes));
+
+    assertThat(exception.getMessage(),
+        equalTo("Inline field 'beers' is not supported, since type 'Beer' has geometry fields."));
+  }
+
   private Map<String, ObjectType<?>> init() throws MalformedURLException {
     File file = new File("src/test/resources/config/dotwebstack/dotwebstack-objecttypes.yaml");
     String localUrl = file.toURI()
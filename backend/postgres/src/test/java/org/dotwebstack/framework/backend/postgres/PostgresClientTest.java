@@ -1,24 +1,40 @@
 package org.dotwebstack.framework.backend.postgres;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.hash.Hashing;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 import io.r2dbc.postgresql.api.PostgresqlConnection;
 import io.r2dbc.postgresql.api.PostgresqlResult;
 import io.r2dbc.postgresql.api.PostgresqlStatement;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.Wrapped;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import org.dotwebstack.framework.backend.postgres.query.Query;
+import org.dotwebstack.framework.backend.postgres.query.ResultRow;
 import org.dotwebstack.framework.core.backend.query.RowMapper;
-import org.jooq.impl.DSL;
+import org.dotwebstack.framework.core.helpers.ObservationHelper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,7 +57,7 @@ class PostgresClientTest {
 
   @BeforeEach
   void doBeforeEach() {
-    postgresClient = new PostgresClient(connectionFactory);
+    postgresClient = new PostgresClient(connectionFactory, new PostgresProperties(), ObservationRegistry.NOOP);
   }
 
   @Test
@@ -164,21 +180,16 @@ class PostgresClientTest {
 
   @Test
   void fetch_completes_forQueryWithRowMapper() {
-    var selectQuery = DSL.select(DSL.asterisk())
-        .from(DSL.table("table"))
-        .where(DSL.field("identifier", String.class)
-            .eq(DSL.val("id-1")))
-        .getQuery();
-
     var query = mock(Query.class);
 
     Map<String, Object> rowData = Map.of("a", "value");
     Map<String, Object> mappedData = Map.of("a", "mapped-value");
 
-    when(query.getSelectQuery()).thenReturn(selectQuery);
+    when(query.getSql()).thenReturn("select * from table where identifier = $1");
+    when(query.getBindValues()).thenReturn(List.of("id-1"));
 
-    RowMapper<Map<String, Object>> rowMapper = mock(RowMapper.class);
-    when(rowMapper.apply(rowData)).thenReturn(mappedData);
+    RowMapper<ResultRow> rowMapper = mock(RowMapper.class);
+    when(rowMapper.apply(any(ResultRow.class))).thenReturn(mappedData);
 
     when(query.getRowMapper()).thenReturn(rowMapper);
 
@@ -195,6 +206,175 @@ class PostgresClientTest {
     verify(connection).close();
   }
 
+  @Test
+  void fetch_reusesScopedConnection_forQueriesInSameScope() {
+    var statement = mockStatement(Map.of("a", "value"));
+    var connection = mock(PostgresqlConnection.class);
+    when(connection.createStatement("select * from table where identifier = $1")).thenReturn(statement);
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.just(connection));
+
+    var connectionScope = new ConnectionScope(connectionFactory, 1);
+
+    StepVerifier.create(postgresClient.fetch(mockQuery("id-1"), connectionScope))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    StepVerifier.create(postgresClient.fetch(mockQuery("id-2"), connectionScope))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    verify(connectionFactory, times(1)).create();
+    verify(connection, never()).close();
+  }
+
+  @Test
+  void fetch_observesQueryAndConnection_forObservationRegistry() {
+    var observations = new ArrayList<Observation.Context>();
+    var observationRegistry = ObservationRegistry.create();
+    observationRegistry.observationConfig()
+        .observationHandler(new ObservationHandler<>() {
+          @Override
+          public void onStop(Observation.Context context) {
+            observations.add(context);
+          }
+
+          @Override
+          public boolean supportsContext(Observation.Context context) {
+            return true;
+          }
+        });
+    postgresClient = new PostgresClient(connectionFactory, new PostgresProperties(), observationRegistry);
+
+    var statement = mockStatement(Map.of("a", "value"));
+    var connection = mockPostgresConnection(statement, "select * from table where identifier = $1");
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.just(connection));
+
+    var parentObservation = Observation.start("parent", observationRegistry);
+
+    StepVerifier.create(postgresClient.fetch(mockQuery("id-1"))
+        .contextWrite(context -> context.put(ObservationHelper.OBSERVATION_KEY, parentObservation)))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    assertThat(observations.stream()
+        .map(Observation.Context::getName)
+        .toList(), containsInAnyOrder(PostgresClient.RENDER_OBSERVATION, PostgresClient.CONNECTION_OBSERVATION,
+            PostgresClient.QUERY_OBSERVATION));
+
+    var queryContext = observations.stream()
+        .filter(context -> PostgresClient.QUERY_OBSERVATION.equals(context.getName()))
+        .findFirst()
+        .orElseThrow();
+    assertThat(queryContext.getLowCardinalityKeyValue(ObservationHelper.ROWS_KEY)
+        .getValue(), is("1"));
+    assertThat(queryContext.getLowCardinalityKeyValue(PostgresClient.QUERY_DIGEST_KEY), is(nullValue()));
+    assertThat(queryContext.getHighCardinalityKeyValue(PostgresClient.QUERY_DIGEST_KEY)
+        .getValue(), is(Hashing.murmur3_32_fixed()
+            .hashString("select * from table where identifier = $1", StandardCharsets.UTF_8)
+            .toString()));
+    assertThat(queryContext.getHighCardinalityKeyValue(PostgresClient.STATEMENT_KEY)
+        .getValue(), is("select * from table where identifier = $1"));
+
+    // Rendering and connection acquisition are nested in the query, which is nested in the subscriber context
+    observations.stream()
+        .filter(context -> !PostgresClient.QUERY_OBSERVATION.equals(context.getName()))
+        .forEach(context -> assertThat(context.getParentObservation()
+            .getContextView(), sameInstance(queryContext)));
+    assertThat(queryContext.getParentObservation(), is(parentObservation));
+  }
+
+  @Test
+  void fetch_setsFetchSize_forStreamableQuery() {
+    var postgresProperties = new PostgresProperties();
+    postgresProperties.setFetchSize(100);
+    postgresClient = new PostgresClient(connectionFactory, postgresProperties, ObservationRegistry.NOOP);
+
+    var statement = mockStatement(Map.of("a", "value"));
+    var connection = mockPostgresConnection(statement, "select * from table where identifier = $1");
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.just(connection));
+
+    var query = mockQuery("id-1");
+    when(query.isStreamable()).thenReturn(true);
+
+    StepVerifier.create(postgresClient.fetch(query))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    verify(statement).fetchSize(100);
+  }
+
+  @Test
+  void fetch_setsFetchSizeOfObjectType_forStreamableQuery() {
+    var postgresProperties = new PostgresProperties();
+    postgresProperties.setFetchSize(100);
+    postgresClient = new PostgresClient(connectionFactory, postgresProperties, ObservationRegistry.NOOP);
+
+    var statement = mockStatement(Map.of("a", "value"));
+    var connection = mockPostgresConnection(statement, "select * from table where identifier = $1");
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.just(connection));
+
+    var query = mockQuery("id-1");
+    when(query.isStreamable()).thenReturn(true);
+    when(query.getFetchSize()).thenReturn(Optional.of(500));
+
+    StepVerifier.create(postgresClient.fetch(query))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    verify(statement).fetchSize(500);
+  }
+
+  @Test
+  void fetch_doesNotSetFetchSize_forNonStreamableQuery() {
+    var postgresProperties = new PostgresProperties();
+    postgresProperties.setFetchSize(100);
+    postgresClient = new PostgresClient(connectionFactory, postgresProperties, ObservationRegistry.NOOP);
+
+    var statement = mockStatement(Map.of("a", "value"));
+    var connection = mockPostgresConnection(statement, "select * from table where identifier = $1");
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.just(connection));
+
+    StepVerifier.create(postgresClient.fetch(mockQuery("id-1")))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    verify(statement, never()).fetchSize(anyInt());
+  }
+
+  @Test
+  void fetchFromPrimary_usesPrimaryConnection_forReplicaRouting() {
+    var query = mockQuery("id-1");
+    Map<String, Object> rowData = Map.of("a", "value");
+    var statement = mockStatement(rowData);
+    var connection = mockPostgresConnection(statement, "select * from table where identifier = $1");
+
+    var primary = mock(ConnectionFactory.class);
+    when(primary.create()).thenReturn((Publisher) Mono.just(connection));
+    var replicaRoutingConnectionFactory = mock(ReplicaRoutingConnectionFactory.class);
+    when(replicaRoutingConnectionFactory.getPrimary()).thenReturn(primary);
+
+    var client = new PostgresClient(replicaRoutingConnectionFactory, new PostgresProperties(), ObservationRegistry.NOOP);
+
+    StepVerifier.create(client.fetchFromPrimary(query))
+        .expectNext(rowData)
+        .verifyComplete();
+
+    verify(replicaRoutingConnectionFactory, never()).create();
+  }
+
+  private Query mockQuery(String identifier) {
+    var query = mock(Query.class);
+    when(query.getSql()).thenReturn("select * from table where identifier = $1");
+    when(query.getBindValues()).thenReturn(List.of(identifier));
+
+    RowMapper<ResultRow> rowMapper = mock(RowMapper.class);
+    when(rowMapper.apply(any())).thenAnswer(invocation -> invocation.<ResultRow>getArgument(0)
+        .toMap());
+    when(query.getRowMapper()).thenReturn(rowMapper);
+
+    return query;
+  }
+
   private PostgresqlConnection mockPostgresConnection(PostgresqlStatement statement, String expectedQueryStatement) {
     var connection = mock(PostgresqlConnection.class);
 
@@ -212,7 +392,7 @@ class PostgresClientTest {
     var statement = mock(PostgresqlStatement.class);
 
     var result = mock(PostgresqlResult.class);
-    when(result.map(any(BiFunction.class))).thenReturn(data);
+    when(result.map(any(BiFunction.class))).thenReturn(data.map(ResultRow::of));
 
     var fluxResult = Flux.just(result);
 
@@ -222,6 +402,9 @@ class PostgresClientTest {
     lenient().when(statement.bind(any(String.class), any(Object.class)))
         .thenReturn(statement);
 
+    lenient().when(statement.fetchSize(anyInt()))
+        .thenReturn(statement);
+
     return statement;
   }
 
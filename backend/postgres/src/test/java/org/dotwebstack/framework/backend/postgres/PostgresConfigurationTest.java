@@ -1,5 +1,6 @@
 package org.dotwebstack.framework.backend.postgres;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
@@ -12,6 +13,7 @@ import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryMetadata;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.jooq.DSLContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -77,4 +79,18 @@ class PostgresConfigurationTest {
     assertTrue(result instanceof ConnectionFactory);
     assertTrue(result.getMetadata() instanceof ConnectionFactoryMetadata);
   }
+
+  @Test
+  void connectionFactory_returnsRoutingConnectionFactory_forReplicas() {
+    var properties = new PostgresProperties();
+    var replica = new PostgresProperties.Host();
+    replica.setHost("replica");
+    properties.getReplicas()
+        .setHosts(List.of(replica));
+
+    var result = new PostgresConfiguration(properties, List.of()).connectionFactory();
+
+    assertThat(result, instanceOf(ReplicaRoutingConnectionFactory.class));
+    ((ReplicaRoutingConnectionFactory) result).dispose();
+  }
 }
@@ -25,5 +25,17 @@ class PostgresPropertiesTest {
     assertThat(resultObject.getUsername(), CoreMatchers.is("postgres"));
     assertThat(resultObject.getPort(), CoreMatchers.is(5432));
     assertThat(resultObject.getHost(), CoreMatchers.is("localhost"));
+    assertThat(resultObject.getPreparedStatementCacheQueries(), CoreMatchers.is(256));
+    assertThat(resultObject.isForceBinary(), CoreMatchers.is(false));
+    assertThat(resultObject.getFetchSize(), CoreMatchers.is(0));
+    assertThat(resultObject.getRequestConnections()
+        .isEnabled(), CoreMatchers.is(false));
+    assertThat(resultObject.getRequestConnections()
+        .getSize(), CoreMatchers.is(1));
+    assertThat(resultObject.getReplicas()
+        .getHosts()
+        .isEmpty(), CoreMatchers.is(true));
+    assertThat(resultObject.getReplicas()
+        .getLoadBalancing(), CoreMatchers.is(PostgresProperties.LoadBalancing.ROUND_ROBIN));
   }
 }
@@ -0,0 +1,171 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import org.dotwebstack.framework.backend.postgres.PostgresProperties.LoadBalancing;
+import org.dotwebstack.framework.backend.postgres.ReplicaRoutingConnectionFactory.ReplicaState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"rawtypes", "unchecked"})
+class ReplicaRoutingConnectionFactoryTest {
+
+  @Mock
+  private ConnectionFactory primary;
+
+  @Mock
+  private Connection primaryConnection;
+
+  @Test
+  void create_returnsReplicaConnectionsRoundRobin_forHealthyReplicas() {
+    var firstConnection = mock(Connection.class);
+    var secondConnection = mock(Connection.class);
+    var connectionFactory = new ReplicaRoutingConnectionFactory(primary,
+        List.of(mockConnectionFactory(firstConnection), mockConnectionFactory(secondConnection)),
+        LoadBalancing.ROUND_ROBIN, 30);
+
+    assertThat(connectionFactory.create()
+        .block(), sameInstance(firstConnection));
+    assertThat(connectionFactory.create()
+        .block(), sameInstance(secondConnection));
+    assertThat(connectionFactory.create()
+        .block(), sameInstance(firstConnection));
+  }
+
+  @Test
+  void create_returnsLeastOutstandingReplica_forLeastOutstandingBalancing() {
+    var busyConnection = mock(Connection.class);
+    var idleConnection = mock(Connection.class);
+    var connectionFactory = new ReplicaRoutingConnectionFactory(primary,
+        List.of(mockConnectionPool(busyConnection, 5), mockConnectionPool(idleConnection, 1)),
+        LoadBalancing.LEAST_OUTSTANDING, 30);
+
+    assertThat(connectionFactory.create()
+        .block(), sameInstance(idleConnection));
+  }
+
+  @Test
+  void create_ejectsReplicaAndFallsBackToPrimary_forFailingReplica() {
+    var replica = mock(ConnectionFactory.class);
+    when(replica.create()).thenReturn((Publisher) Mono.error(new IllegalStateException("Connection refused")));
+    when(primary.create()).thenReturn((Publisher) Mono.just(primaryConnection));
+
+    var connectionFactory =
+        new ReplicaRoutingConnectionFactory(primary, List.of(replica), LoadBalancing.ROUND_ROBIN, 30);
+
+    assertThat(connectionFactory.create()
+        .block(), sameInstance(primaryConnection));
+    assertThat(connectionFactory.getReplicaStates(), contains(ReplicaState.EJECTED));
+    assertThat(connectionFactory.create()
+        .block(), sameInstance(primaryConnection));
+    verify(replica).create();
+  }
+
+  @Test
+  void create_returnsPrimaryConnection_afterReadFromPrimary() {
+    var replica = mock(ConnectionFactory.class);
+    when(primary.create()).thenReturn((Publisher) Mono.just(primaryConnection));
+
+    var connectionFactory =
+        new ReplicaRoutingConnectionFactory(primary, List.of(replica), LoadBalancing.ROUND_ROBIN, 30);
+    connectionFactory.readFromPrimary();
+
+    assertThat(connectionFactory.create()
+        .block(), sameInstance(primaryConnection));
+    verify(replica, never()).create();
+  }
+
+  @Test
+  void checkHealth_marksReplicaLagging_forLagAboveMax() {
+    var connectionFactory = new ReplicaRoutingConnectionFactory(primary, List.of(mockHealthCheck(60.0)),
+        LoadBalancing.ROUND_ROBIN, 30);
+    when(primary.create()).thenReturn((Publisher) Mono.just(primaryConnection));
+
+    connectionFactory.checkHealth()
+        .block();
+
+    assertThat(connectionFactory.getReplicaStates(), contains(ReplicaState.LAGGING));
+    assertThat(connectionFactory.create()
+        .block(), sameInstance(primaryConnection));
+  }
+
+  @Test
+  void checkHealth_readmitsReplica_forLagWithinMax() {
+    var replica = mockHealthCheck(1.0);
+    var connectionFactory =
+        new ReplicaRoutingConnectionFactory(primary, List.of(replica), LoadBalancing.ROUND_ROBIN, 30);
+
+    connectionFactory.checkHealth()
+        .block();
+
+    assertThat(connectionFactory.getReplicaStates(), contains(ReplicaState.HEALTHY));
+  }
+
+  @Test
+  void checkHealth_ejectsReplica_forFailingHealthCheck() {
+    var replica = mock(ConnectionFactory.class);
+    when(replica.create()).thenReturn((Publisher) Mono.error(new IllegalStateException("Connection refused")));
+
+    var connectionFactory =
+        new ReplicaRoutingConnectionFactory(primary, List.of(replica), LoadBalancing.ROUND_ROBIN, 30);
+
+    connectionFactory.checkHealth()
+        .block();
+
+    assertThat(connectionFactory.getReplicaStates(), contains(ReplicaState.EJECTED));
+  }
+
+  private ConnectionFactory mockConnectionFactory(Connection connection) {
+    var connectionFactory = mock(ConnectionFactory.class);
+    when(connectionFactory.create()).thenReturn((Publisher) Mono.just(connection));
+    return connectionFactory;
+  }
+
+  private ConnectionFactory mockConnectionPool(Connection connection, int acquiredSize) {
+    var metrics = mock(PoolMetrics.class);
+    when(metrics.acquiredSize()).thenReturn(acquiredSize);
+
+    var connectionPool = mock(ConnectionPool.class);
+    when(connectionPool.getMetrics()).thenReturn(Optional.of(metrics));
+    lenient().when(connectionPool.create())
+        .thenReturn(Mono.just(connection));
+    return connectionPool;
+  }
+
+  private ConnectionFactory mockHealthCheck(double lag) {
+    var result = mock(Result.class);
+    when(result.map(any(BiFunction.class))).thenReturn(Flux.just(lag));
+
+    var statement = mock(Statement.class);
+    when(statement.execute()).thenReturn((Publisher) Flux.just(result));
+
+    var connection = mock(Connection.class);
+    when(connection.createStatement(ReplicaRoutingConnectionFactory.LAG_STMT)).thenReturn(statement);
+    when(connection.close()).thenReturn((Publisher) Mono.empty());
+
+    return mockConnectionFactory(connection);
+  }
+}
@@ -0,0 +1,70 @@
+package org.dotwebstack.framework.backend.postgres;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.r2dbc.postgresql.api.Notification;
+import java.util.Map;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectField;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+import org.junit.jupiter.api.Test;
+
+class TableChangeTest {
+
+  @Test
+  void of_returnsTableChange_forTablePayload() {
+    assertThat(TableChange.of(mockNotification(" breweries ")), is(new TableChange("breweries", null)));
+  }
+
+  @Test
+  void of_returnsRowChange_forJsonPayload() {
+    var change = TableChange.of(mockNotification("{\"table\": \"breweries\", \"key\": {\"identifier_brewery\": 1}}"));
+
+    assertThat(change, is(new TableChange("breweries", Map.of("identifier_brewery", 1))));
+  }
+
+  @Test
+  void of_returnsChangeWithoutTable_forEmptyOrInvalidPayload() {
+    assertThat(TableChange.of(mockNotification(null)), is(new TableChange(null, null)));
+    assertThat(TableChange.of(mockNotification("{\"table\": ")), is(new TableChange(null, null)));
+    assertThat(TableChange.of(mockNotification("{\"key\": \"123\"}")), is(new TableChange(null, null)));
+  }
+
+  @Test
+  void isTable_returnsTrue_forQualifiedOrUnqualifiedTable() {
+    var objectType = createObjectType();
+
+    assertThat(new TableChange("dbeerpedia.breweries", null).isTable(objectType), is(true));
+    assertThat(new TableChange("breweries", null).isTable(objectType), is(true));
+    assertThat(new TableChange("beers", null).isTable(objectType), is(false));
+    assertThat(new TableChange(null, null).isTable(objectType), is(false));
+  }
+
+  @Test
+  void getFieldValues_returnsValuesByFieldName_forKnownColumns() {
+    var change = new TableChange("breweries", Map.of("identifier_brewery", "123", "unknown", 1));
+
+    assertThat(change.getFieldValues(createObjectType()), is(Map.of("identifier", "123")));
+  }
+
+  private static Notification mockNotification(String payload) {
+    var notification = mock(Notification.class);
+    when(notification.getParameter()).thenReturn(payload);
+    return notification;
+  }
+
+  private static PostgresObjectType createObjectType() {
+    var identifierField = new PostgresObjectField();
+    identifierField.setName("identifier");
+    identifierField.setColumn("identifier_brewery");
+
+    var objectType = new PostgresObjectType();
+    objectType.setName("Brewery");
+    objectType.setTable("dbeerpedia.breweries");
+    objectType.setFields(Map.of("identifier", identifierField));
+
+    return objectType;
+  }
+}
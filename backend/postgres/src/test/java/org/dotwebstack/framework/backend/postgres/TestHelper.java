@@ -24,7 +24,7 @@ public class TestHelper {
 
   public TestHelper() {
     var postgresClient = mock(PostgresClient.class);
-    var backendLoaderFactory = new PostgresBackendLoaderFactory(postgresClient);
+    var backendLoaderFactory = new PostgresBackendLoaderFactory(postgresClient, null, null);
     this.backendModule = new PostgresBackendModule(backendLoaderFactory);
 
   }
@@ -8,6 +8,7 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.r2dbc.postgresql.codec.PostgresTypeIdentifier;
 import io.r2dbc.postgresql.message.Format;
 import io.r2dbc.postgresql.util.ByteBufUtils;
@@ -123,11 +124,20 @@ class GeometryCodecTest {
   void decode_returnsGeometry_forByteBufBinaryFormatted() {
     var geometry = geometryFactory.createPoint(new Coordinate(1, 2));
 
-    var byteBuf = ByteBufUtils.encode(ByteBufAllocator.DEFAULT, WKBWriter.toHex(new WKBWriter(2).write(geometry)));
+    var byteBuf = Unpooled.wrappedBuffer(new WKBWriter(2).write(geometry));
+
+    var actual = geometryCodec.decode(byteBuf, 1, FORMAT_BINARY, Geometry.class);
+
+    assertThat(actual, equalTo(geometry));
+  }
+
+  @Test
+  void decode_throwsException_forUnparsableBinaryByteBuf() {
+    var byteBuf = Unpooled.wrappedBuffer("foo".getBytes(StandardCharsets.UTF_8));
 
     var thrown = Assertions.assertThrows(IllegalArgumentException.class,
         () -> geometryCodec.decode(byteBuf, 1, FORMAT_BINARY, Geometry.class));
-    assertThat(thrown.getMessage(), equalTo("format must be FORMAT_TEXT"));
+    assertThat(thrown.getMessage(), equalTo("Unable to read WKB geometry"));
   }
 
   @Test
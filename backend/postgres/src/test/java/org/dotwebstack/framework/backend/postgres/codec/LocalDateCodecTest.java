@@ -9,7 +9,9 @@ import io.r2dbc.postgresql.message.Format;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.Set;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -49,17 +51,35 @@ class LocalDateCodecTest {
 
   @ParameterizedTest
   @CsvSource({"2011, 01, 01", "20211, 01, 01", "-1001, 01, 01"})
-  void decode_returnsDate_forValidBinaryFormattedDateString(String year, String month, String day) {
-    var dateString = year.concat("-")
-        .concat(month)
-        .concat("-")
-        .concat(day);
-    var bytes = dateString.getBytes(StandardCharsets.UTF_8);
-    var byteBuf = Unpooled.wrappedBuffer(bytes);
+  void decode_returnsDate_forBinaryFormattedDays(String year, String month, String day) {
+    var expected = LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day));
+    var days = ChronoUnit.DAYS.between(LocalDate.of(2000, 1, 1), expected);
+    var byteBuf = Unpooled.buffer()
+        .writeInt((int) days);
 
     var actual = localDateCodec.decode(byteBuf, 1082, Format.FORMAT_BINARY, LocalDate.class);
 
-    assertThat(actual, equalTo(LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day))));
+    assertThat(actual, equalTo(expected));
+  }
+
+  @Test
+  void decode_returnsMaxDate_forBinaryFormattedInfinity() {
+    var byteBuf = Unpooled.buffer()
+        .writeInt(Integer.MAX_VALUE);
+
+    var actual = localDateCodec.decode(byteBuf, 1082, Format.FORMAT_BINARY, LocalDate.class);
+
+    assertThat(actual, equalTo(LocalDate.MAX));
+  }
+
+  @Test
+  void decode_returnsMinDate_forBinaryFormattedNegativeInfinity() {
+    var byteBuf = Unpooled.buffer()
+        .writeInt(Integer.MIN_VALUE);
+
+    var actual = localDateCodec.decode(byteBuf, 1082, Format.FORMAT_BINARY, LocalDate.class);
+
+    assertThat(actual, equalTo(LocalDate.MIN));
   }
 
   @ParameterizedTest
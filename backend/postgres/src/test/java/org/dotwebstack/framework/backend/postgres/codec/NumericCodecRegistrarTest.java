@@ -0,0 +1,34 @@
+package org.dotwebstack.framework.backend.postgres.codec;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.codec.CodecRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class NumericCodecRegistrarTest {
+
+  @Mock
+  private PostgresqlConnection connection;
+
+  @Mock
+  private CodecRegistry registry;
+
+  private final NumericCodecRegistrar registrar = new NumericCodecRegistrar();
+
+  @Test
+  void register_registersCodec_always() {
+    Mono.from(registrar.register(connection, ByteBufAllocator.DEFAULT, registry))
+        .block();
+
+    verify(registry, times(1)).addFirst(any(NumericCodec.class));
+  }
+}
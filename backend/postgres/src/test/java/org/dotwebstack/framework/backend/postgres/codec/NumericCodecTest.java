@@ -0,0 +1,74 @@
+package org.dotwebstack.framework.backend.postgres.codec;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.message.Format;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class NumericCodecTest {
+
+  private final NumericCodec codec = new NumericCodec();
+
+  @Test
+  void canDecode_returnsTrue_forBinaryNumeric() {
+    assertThat(codec.canDecode(1700, Format.FORMAT_BINARY, Object.class), is(true));
+    assertThat(codec.canDecode(1700, Format.FORMAT_BINARY, BigDecimal.class), is(true));
+  }
+
+  @Test
+  void canDecode_returnsFalse_forOtherFormatsAndTypes() {
+    assertThat(codec.canDecode(1700, Format.FORMAT_TEXT, Object.class), is(false));
+    assertThat(codec.canDecode(1700, Format.FORMAT_BINARY, Double.class), is(false));
+    assertThat(codec.canDecode(23, Format.FORMAT_BINARY, Object.class), is(false));
+  }
+
+  @Test
+  void canEncode_returnsFalse_always() {
+    assertThat(codec.canEncode(BigDecimal.ONE), is(false));
+    assertThat(codec.canEncodeNull(BigDecimal.class), is(false));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0, 0, 0, 0, ''", "1, 0, 0, 0, 1", "12345.678, 1, 0, 3, 1 2345 6780",
+      "-12345.678, 1, 16384, 3, 1 2345 6780", "0.0001, -1, 0, 4, 1",
+      "0.00012, -1, 0, 5, 1 2000", "100000000, 2, 0, 0, 1", "1.50, 0, 0, 2, 1 5000"})
+  void decode_returnsBigDecimal_forBinaryNumeric(String expected, short weight, int sign, short displayScale,
+      String digits) {
+    var byteBuf = createNumeric(weight, sign, displayScale, digits.isEmpty() ? new String[0] : digits.split(" "));
+
+    var actual = codec.decode(byteBuf, 1700, Format.FORMAT_BINARY, BigDecimal.class);
+
+    assertThat(actual, equalTo(new BigDecimal(expected)));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"49152", "53248", "61440"})
+  void decode_throwsException_forSpecialValues(int sign) {
+    var byteBuf = createNumeric((short) 0, sign, (short) 0);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> codec.decode(byteBuf, 1700, Format.FORMAT_BINARY, BigDecimal.class));
+  }
+
+  private ByteBuf createNumeric(short weight, int sign, short displayScale, String... digits) {
+    var byteBuf = Unpooled.buffer()
+        .writeShort(digits.length)
+        .writeShort(weight)
+        .writeShort(sign)
+        .writeShort(displayScale);
+
+    for (var digit : digits) {
+      byteBuf.writeShort(Short.parseShort(digit));
+    }
+
+    return byteBuf;
+  }
+}
@@ -30,7 +30,7 @@ class ArrayObjectMapperTest {
     when(id2Column.getName()).thenReturn("x2");
     arrayObjectMapper.register("id2", new ColumnMapper(id2Column));
 
-    assertThat(arrayObjectMapper.apply(map), CoreMatchers
+    assertThat(arrayObjectMapper.apply(ResultRow.of(map)), CoreMatchers
         .equalTo(List.of(Map.of("id2", "foo_id2", "id1", "foo_id1"), Map.of("id2", "bar_id2", "id1", "bar_id1"))));
   }
 }
@@ -4,6 +4,10 @@ import static org.dotwebstack.framework.backend.postgres.query.BatchQueryBuilder
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
@@ -25,7 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class BatchQueryBuilderTest {
-  private final ObjectFieldMapper<Map<String, Object>> fieldMapper = new ObjectMapper();
+  private final ObjectFieldMapper<ResultRow> fieldMapper = new ObjectMapper();
 
   private BatchQueryBuilder batchQueryBuilder;
 
@@ -77,7 +81,8 @@ class BatchQueryBuilderTest {
 
     assertThat(result, notNullValue());
     assertThat(result.toString(),
-        equalTo("select *\n" + "from (\n  values ('id-1')\n) as \"x3\" (\"x2\")\n" + "  left outer join lateral (\n"
+        equalTo("select *\n" + "from unnest(cast('{\"id-1\"}' as varchar[])) as \"x3\" (\"x2\")\n"
+            + "  left outer join lateral (\n"
             + "    select\n" + "      *,\n" + "      \"x1\".\"ingredient__identifier\" as \"x4\"\n" + "    from\n"
             + "      ingredients,\n" + "      \"beer_ingredients\" as \"x1\"\n" + "    where (\n"
             + "      \"x1\".\"beer__identifier\" = \"ingredients\".\"identifier\"\n"
@@ -106,10 +111,76 @@ class BatchQueryBuilderTest {
 
     assertThat(result, notNullValue());
     assertThat(result.toString(),
-        equalTo("select *\n" + "from (\n  values\n" + "    ('id-1'),\n" + "    ('id-2')\n" + ") as \"x2\" (\"x1\")\n"
+        equalTo("select *\n" + "from unnest(cast('{\"id-1\",\"id-2\"}' as varchar[])) as \"x2\" (\"x1\")\n"
             + "  left outer join lateral (\n" + "    select\n" + "      *,\n"
             + "      \"beers\".\"identifier\" as \"x3\"\n" + "    from beers\n"
             + "    where \"identifier\" = \"x2\".\"x1\"\n" + "  ) as \"x4\"\n" + "    on true"));
+    assertThat(result.getBindValues(), contains((Object) new String[] {"id-1", "id-2"}));
+  }
+
+  @Test
+  void build_returnsQuery_forBatchKeysWithArrayParameterPerColumn() {
+    Set<Map<String, Object>> joinKeys = new LinkedHashSet<>();
+    joinKeys.add(Map.of("identifier", 1, "code", "a"));
+    joinKeys.add(Map.of("identifier", 2, "code", "b"));
+    joinKeys.add(Map.of("identifier", 3, "code", "c"));
+
+    var table = DSL.table("beers");
+
+    var dataQuery = DSL.select(DSL.asterisk())
+        .from(table)
+        .getQuery();
+
+    batchQueryBuilder.table(table)
+        .dataQuery(dataQuery)
+        .joinKeys(joinKeys);
+
+    var result = batchQueryBuilder.build();
+
+    assertThat(result.getSQL(), containsString("from unnest(cast(? as "));
+    assertThat(result.getBindValues(), hasSize(2));
+    assertThat(result.getBindValues(), containsInAnyOrder((Object) new Integer[] {1, 2, 3},
+        (Object) new String[] {"a", "b", "c"}));
+  }
+
+  @Test
+  void build_returnsQuery_forBatchKeysWithMixedIntegralTypes() {
+    Set<Map<String, Object>> joinKeys = new LinkedHashSet<>();
+    joinKeys.add(Map.of("identifier", 1));
+    joinKeys.add(Map.of("identifier", 2L));
+
+    var table = DSL.table("beers");
+
+    var dataQuery = DSL.select(DSL.asterisk())
+        .from(table)
+        .getQuery();
+
+    batchQueryBuilder.table(table)
+        .dataQuery(dataQuery)
+        .joinKeys(joinKeys);
+
+    var result = batchQueryBuilder.build();
+
+    assertThat(result.getBindValues(), contains((Object) new Long[] {1L, 2L}));
+  }
+
+  @Test
+  void build_throwsException_forBatchKeysWithIncompatibleTypes() {
+    Set<Map<String, Object>> joinKeys = new LinkedHashSet<>();
+    joinKeys.add(Map.of("identifier", 1));
+    joinKeys.add(Map.of("identifier", "id-2"));
+
+    var table = DSL.table("beers");
+
+    var dataQuery = DSL.select(DSL.asterisk())
+        .from(table)
+        .getQuery();
+
+    batchQueryBuilder.table(table)
+        .dataQuery(dataQuery)
+        .joinKeys(joinKeys);
+
+    assertThrows(IllegalArgumentException.class, () -> batchQueryBuilder.build());
   }
 
   @Test
@@ -2,8 +2,11 @@ package org.dotwebstack.framework.backend.postgres.query;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Map;
 import org.hamcrest.CoreMatchers;
 import org.jooq.Field;
@@ -31,7 +34,20 @@ class ColumnMapperTest {
     when(column.getName()).thenReturn("anyName");
     Map<String, Object> map = Map.of("anyName", "bbb");
 
-    var result = new ColumnMapper(column).apply(map);
+    var result = new ColumnMapper(column).apply(ResultRow.of(map));
     assertThat(result, CoreMatchers.is("bbb"));
   }
+
+  @Test
+  void apply_resolvesColumnIndexOnce_forRowsOfSameResult() {
+    Field<Object> column = mock(Field.class);
+    when(column.getName()).thenReturn("x2");
+    var columnIndex = ResultRow.createColumnIndex(List.of("x1", "x2"));
+    var mapper = new ColumnMapper(column);
+
+    assertThat(mapper.apply(new ResultRow(columnIndex, new Object[] {"a", "b"})), CoreMatchers.is("b"));
+    assertThat(mapper.apply(new ResultRow(columnIndex, new Object[] {"c", "d"})), CoreMatchers.is("d"));
+    assertThat(mapper.apply(ResultRow.of(Map.of("x2", "e"))), CoreMatchers.is("e"));
+    verify(column, times(2)).getName();
+  }
 }
@@ -0,0 +1,82 @@
+package org.dotwebstack.framework.backend.postgres.query;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.r2dbc.postgresql.codec.Json;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InlineListMapperTest {
+
+  private InlineListMapper inlineListMapper;
+
+  @BeforeEach
+  void doBeforeEach() {
+    var ingredientMapper = new ObjectMapper();
+    ingredientMapper.register("name", row -> row.get("x5"));
+
+    var beerMapper = new ObjectMapper();
+    beerMapper.register("name", row -> row.get("x2"));
+    beerMapper.register("soldPerYear", row -> row.get("x3"));
+    beerMapper.register("ingredients", new InlineListMapper("x4", ingredientMapper));
+
+    inlineListMapper = new InlineListMapper("x1", beerMapper);
+  }
+
+  @Test
+  void apply_returnsList_forJsonArray() {
+    var firstBeer = new HashMap<String, Object>();
+    firstBeer.put("name", "Beer 1");
+    firstBeer.put("soldPerYear", 1000);
+    firstBeer.put("ingredients", List.of(Map.of("name", "Hop"), Map.of("name", "Barley")));
+
+    var secondBeer = new HashMap<String, Object>();
+    secondBeer.put("name", "Beer 2");
+    secondBeer.put("soldPerYear", null);
+    secondBeer.put("ingredients", List.of());
+
+    var json = Json.of("""
+        [
+          {"x2": "Beer 1", "x3": 1000, "x4": [{"x5": "Hop"}, {"x5": "Barley"}]},
+          {"x2": "Beer 2", "x3": null, "x4": []}
+        ]""");
+
+    var result = inlineListMapper.apply(ResultRow.of(Map.of("x1", json)));
+
+    assertThat(result, is(List.of(firstBeer, secondBeer)));
+  }
+
+  @Test
+  void apply_returnsEmptyList_forNull() {
+    var row = new HashMap<String, Object>();
+    row.put("x1", null);
+
+    var result = inlineListMapper.apply(ResultRow.of(row));
+
+    assertThat(result, is(List.of()));
+  }
+
+  @Test
+  void apply_throwsException_forJsonObject() {
+    var row = ResultRow.of(Map.of("x1", Json.of("{\"x2\": \"Beer 1\"}")));
+
+    var exception = assertThrows(DotWebStackRuntimeException.class, () -> inlineListMapper.apply(row));
+
+    assertThat(exception.getMessage(), is("Expected a Json array for inlined list 'x1'."));
+  }
+
+  @Test
+  void apply_throwsException_forInvalidJson() {
+    var row = ResultRow.of(Map.of("x1", Json.of("[{\"x2\": \"Beer 1\" \"x3\": 1000}]")));
+
+    var exception = assertThrows(DotWebStackRuntimeException.class, () -> inlineListMapper.apply(row));
+
+    assertThat(exception.getMessage(), is("Unable to convert Json column to GraphQL type."));
+  }
+}
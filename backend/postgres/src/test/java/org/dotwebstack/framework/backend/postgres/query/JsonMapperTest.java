@@ -35,7 +35,7 @@ class JsonMapperTest {
 
     Map<String, Object> row = Map.of("json", json);
 
-    var result = jsonMapper.apply(row);
+    var result = jsonMapper.apply(ResultRow.of(row));
 
     assertThat(result, is(notNullValue()));
     assertThat(result.size(), is(3));
@@ -47,7 +47,7 @@ class JsonMapperTest {
     var jsonMapper = new JsonMapper("json");
     var row = new HashMap<String, Object>();
     row.put("json", null);
-    var result = jsonMapper.apply(row);
+    var result = jsonMapper.apply(ResultRow.of(row));
 
     assertThat(result, is(notNullValue()));
     assertThat(result.size(), is(0));
@@ -66,7 +66,7 @@ class JsonMapperTest {
     Map<String, Object> row = Map.of("json", json);
 
     var exception = assertThrows(DotWebStackRuntimeException.class, () -> {
-      jsonMapper.apply(row);
+      jsonMapper.apply(ResultRow.of(row));
     });
 
     assertThat(exception.getMessage(), is("Unable to convert Json column to GraphQL type."));
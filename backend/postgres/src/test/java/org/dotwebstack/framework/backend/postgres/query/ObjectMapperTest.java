@@ -25,7 +25,7 @@ class ObjectMapperTest {
     mapper.register("ff", mock(FieldMapper.class));
     Map<String, Object> row = Map.of("aa", Map.of("b", "c"));
 
-    var result = mapper.apply(row);
+    var result = mapper.apply(ResultRow.of(row));
 
     assertThat(result, is(notNullValue()));
     assertThat(result.size(), is(1));
@@ -37,7 +37,7 @@ class ObjectMapperTest {
     mapper.register("ff", mock(FieldMapper.class));
     Map<String, Object> row = Map.of("bbb", Map.of("b", "c"));
 
-    var result = mapper.apply(row);
+    var result = mapper.apply(ResultRow.of(row));
 
     assertThat(result, is(nullValue()));
   }
@@ -48,7 +48,7 @@ class ObjectMapperTest {
     mapper.register("ff", mock(FieldMapper.class));
     Map<String, Object> row = Map.of("bbb", Map.of("b", "c"));
 
-    var result = mapper.apply(row);
+    var result = mapper.apply(ResultRow.of(row));
 
     assertThat(result, is(notNullValue()));
     assertThat(result.size(), is(1));
@@ -60,7 +60,7 @@ class ObjectMapperTest {
     mapper.register("foo", mock(FieldMapper.class));
     Map<String, Object> row = Map.of("bar", true, "foo", Map.of("foo", "test"));
 
-    var result = mapper.apply(row);
+    var result = mapper.apply(ResultRow.of(row));
 
     assertThat(result, is(notNullValue()));
     assertThat(result.size(), is(1));
@@ -72,7 +72,7 @@ class ObjectMapperTest {
     mapper.register("foo", mock(FieldMapper.class));
     Map<String, Object> row = Map.of("bar", false);
 
-    var result = mapper.apply(row);
+    var result = mapper.apply(ResultRow.of(row));
 
     assertThat(result, is(nullValue()));
   }
@@ -84,7 +84,7 @@ class ObjectMapperTest {
     Map<String, Object> row = new HashMap<>();
     row.put("bar", null);
 
-    var result = mapper.apply(row);
+    var result = mapper.apply(ResultRow.of(row));
 
     assertThat(result, is(nullValue()));
   }
@@ -6,8 +6,17 @@ import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import jakarta.validation.ConstraintViolationException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectField;
+import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+import org.dotwebstack.framework.core.RequestValidationException;
+import org.dotwebstack.framework.core.backend.query.AliasManager;
+import org.dotwebstack.framework.core.datafetchers.paging.PagingCursor;
 import org.dotwebstack.framework.core.query.model.RequestContext;
+import org.dotwebstack.framework.core.query.model.SortCriteria;
+import org.dotwebstack.framework.core.query.model.SortDirection;
 import org.jooq.DSLContext;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
@@ -23,6 +32,12 @@ class PagingBuilderTest {
 
   private static final String FIRST_KEY = "$paging:first";
 
+  private static final String AFTER_KEY = "$paging:after";
+
+  private static final String BEFORE_KEY = "$paging:before";
+
+  private static final String NODES_KEY = "$paging:nodes";
+
   @Test
   void build_addLimit_forPaging() {
     RequestContext context = RequestContext.builder()
@@ -108,4 +123,161 @@ class PagingBuilderTest {
         startsWith("class org.dotwebstack.framework.backend.postgres.query.PagingBuilder has validation errors (2):"));
   }
 
+  @Test
+  void build_addsSeekCondition_forAfterCursor() {
+    var objectType = createObjectType();
+    var fieldMapper = new ObjectMapper();
+    var cursor = PagingCursor.encode(List.of("foo", "id-1"));
+    var context = RequestContext.builder()
+        .source(Map.of(FIRST_KEY, 10, AFTER_KEY, cursor))
+        .build();
+
+    SelectQuery<Record> dataQuery = dslContext.selectQuery();
+
+    createKeysetPaging(objectType, fieldMapper, context, dataQuery).build();
+
+    assertThat(dataQuery.getSQL(), is("select \"x1\".\"name\" as \"x1\", \"x1\".\"identifier\" as \"x2\" from \"x1\" "
+        + "where (\"x1\".\"name\" > ? or \"x1\".\"name\" is null "
+        + "or (\"x1\".\"name\" = ? and (\"x1\".\"identifier\" > ? or \"x1\".\"identifier\" is null))) "
+        + "order by \"x1\".\"identifier\" asc fetch next ? rows only"));
+    assertThat(dataQuery.getBindValues(), is(List.of("foo", "foo", "id-1", 10L)));
+    assertThat(fieldMapper.apply(ResultRow.of(Map.of("x1", "bar", "x2", "id-2")))
+        .get("$paging:cursor"), is(PagingCursor.encode(List.of("bar", "id-2"))));
+  }
+
+  @Test
+  void build_addsOffsetAndCursors_forSelectedCursorsWithoutCursorArgument() {
+    var objectType = createObjectType();
+    var fieldMapper = new ObjectMapper();
+    var context = RequestContext.builder()
+        .source(Map.of(OFFSET_KEY, 20, FIRST_KEY, 10, NODES_KEY, new CompletableFuture<>()))
+        .build();
+
+    SelectQuery<Record> dataQuery = dslContext.selectQuery();
+
+    createKeysetPaging(objectType, fieldMapper, context, dataQuery).build();
+
+    assertThat(dataQuery.getSQL(), is("select \"x1\".\"name\" as \"x1\", \"x1\".\"identifier\" as \"x2\" from \"x1\" "
+        + "order by \"x1\".\"identifier\" asc offset ? rows fetch next ? rows only"));
+    assertThat(dataQuery.getBindValues(), is(List.of(20L, 10L)));
+    assertThat(fieldMapper.apply(ResultRow.of(Map.of("x1", "bar", "x2", "id-2")))
+        .get("$paging:cursor"), is(PagingCursor.encode(List.of("bar", "id-2"))));
+  }
+
+  @Test
+  void build_addsReversedSeekCondition_forBeforeCursor() {
+    var objectType = createObjectType();
+    var cursor = PagingCursor.encode(List.of("foo", "id-1"));
+    var context = RequestContext.builder()
+        .source(Map.of(FIRST_KEY, 10, BEFORE_KEY, cursor))
+        .build();
+
+    SelectQuery<Record> dataQuery = dslContext.selectQuery();
+
+    createKeysetPaging(objectType, new ObjectMapper(), context, dataQuery).build();
+
+    assertThat(dataQuery.getSQL(), is("select \"x1\".\"name\" as \"x1\", \"x1\".\"identifier\" as \"x2\" from \"x1\" "
+        + "where (\"x1\".\"name\" < ? or (\"x1\".\"name\" = ? and \"x1\".\"identifier\" < ?)) "
+        + "order by \"x1\".\"identifier\" desc fetch next ? rows only"));
+  }
+
+  @Test
+  void build_throwsException_forMismatchingCursor() {
+    var objectType = createObjectType();
+    var context = RequestContext.builder()
+        .source(Map.of(FIRST_KEY, 10, AFTER_KEY, PagingCursor.encode(List.of("foo"))))
+        .build();
+
+    var builder = createKeysetPaging(objectType, new ObjectMapper(), context, dslContext.selectQuery());
+
+    var exception = assertThrows(RequestValidationException.class, builder::build);
+
+    assertThat(exception.getMessage(), startsWith("Cursor 'AAEAUwADZm9v' does not match the requested sort order."));
+  }
+
+  @Test
+  void build_throwsException_forNestedSortField() {
+    var objectType = createObjectType();
+    var context = RequestContext.builder()
+        .source(Map.of(FIRST_KEY, 10, AFTER_KEY, PagingCursor.encode(List.of("foo"))))
+        .build();
+
+    var builder = createKeysetPaging(objectType, new ObjectMapper(), context, dslContext.selectQuery())
+        .sortCriterias(List.of(SortCriteria.builder()
+            .fieldPath(List.of(objectType.getField("name"), objectType.getField("identifier")))
+            .direction(SortDirection.ASC)
+            .build()));
+
+    var exception = assertThrows(RequestValidationException.class, builder::build);
+
+    assertThat(exception.getMessage(), is("Cursor paging is not supported when sorting on nested fields."));
+  }
+
+  @Test
+  void build_throwsException_forMissingPrimaryKey() {
+    var objectType = createObjectType();
+    objectType.setPrimaryKey(List.of());
+    var context = RequestContext.builder()
+        .source(Map.of(FIRST_KEY, 10, AFTER_KEY, PagingCursor.encode(List.of("foo"))))
+        .build();
+
+    var builder = createKeysetPaging(objectType, new ObjectMapper(), context, dslContext.selectQuery())
+        .sortCriterias(List.of(SortCriteria.builder()
+            .fieldPath(List.of(objectType.getField("name")))
+            .direction(SortDirection.ASC)
+            .build()));
+
+    var exception = assertThrows(RequestValidationException.class, builder::build);
+
+    assertThat(exception.getMessage(), is("Cursor paging requires a primary key for type 'Brewery'."));
+  }
+
+  @Test
+  void build_throwsException_forUnsupportedKeysetQuery() {
+    var context = RequestContext.builder()
+        .source(Map.of(FIRST_KEY, 10, AFTER_KEY, PagingCursor.encode(List.of("foo"))))
+        .build();
+
+    var builder = PagingBuilder.newPaging()
+        .requestContext(context)
+        .dataQuery(dslContext.selectQuery());
+
+    var exception = assertThrows(IllegalStateException.class, builder::build);
+
+    assertThat(exception.getMessage(), is("Cursor paging is not supported for this query."));
+  }
+
+  private PagingBuilder createKeysetPaging(PostgresObjectType objectType, ObjectMapper fieldMapper,
+      RequestContext context, SelectQuery<Record> dataQuery) {
+    var table = DSL.table(DSL.name("x1"));
+    dataQuery.addFrom(table);
+
+    return PagingBuilder.newPaging()
+        .requestContext(context)
+        .dataQuery(dataQuery)
+        .sortCriterias(List.of(SortCriteria.builder()
+            .fieldPath(List.of(objectType.getField("name")))
+            .direction(SortDirection.ASC)
+            .build()))
+        .objectType(objectType)
+        .table(table)
+        .fieldMapper(fieldMapper)
+        .aliasManager(new AliasManager());
+  }
+
+  private PostgresObjectType createObjectType() {
+    var objectType = new PostgresObjectType();
+    objectType.setName("Brewery");
+    objectType.setTable("brewery");
+    objectType.setPrimaryKey(List.of("identifier"));
+    objectType.setFields(Map.of("identifier", createObjectField("identifier"), "name", createObjectField("name")));
+    return objectType;
+  }
+
+  private PostgresObjectField createObjectField(String name) {
+    var objectField = new PostgresObjectField();
+    objectField.setName(name);
+    objectField.setColumn(name);
+    return objectField;
+  }
 }
@@ -1,17 +1,26 @@
 package org.dotwebstack.framework.backend.postgres.query;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.dotwebstack.framework.backend.postgres.model.PostgresObjectField;
 import org.dotwebstack.framework.backend.postgres.model.PostgresObjectType;
+import org.dotwebstack.framework.core.query.model.BatchRequest;
 import org.dotwebstack.framework.core.query.model.CollectionRequest;
 import org.dotwebstack.framework.core.query.model.FieldRequest;
+import org.dotwebstack.framework.core.query.model.KeyCriteria;
 import org.dotwebstack.framework.core.query.model.ObjectRequest;
 import org.dotwebstack.framework.core.query.model.RequestContext;
 import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
@@ -32,6 +41,7 @@ class QueryTest {
     var objectRequest = initObjectRequest();
     var result = new Query(objectRequest, requestContext);
     assertThat(result, CoreMatchers.is(notNullValue()));
+    assertThat(result.isStreamable(), CoreMatchers.is(false));
   }
 
   @Test
@@ -52,6 +62,114 @@ class QueryTest {
 
     var result = new Query(request, requestContext);
     assertThat(result, CoreMatchers.is(notNullValue()));
+    assertThat(result.isStreamable(), CoreMatchers.is(true));
+  }
+
+  @Test
+  void getBindValues_returnsValuesOfSelectQuery_withoutCache() {
+    var objectType = createObjectType();
+    var result = new Query(createKeyRequest(objectType, "name", "id-1"), RequestContext.builder()
+        .build());
+
+    assertThat(result.getSelectQuery(), is(notNullValue()));
+    assertThat(result.getSql(), endsWith("where \"x1\".\"identifier_column\" = $1"));
+    assertThat(result.getBindValues(), is(List.of("id-1")));
+  }
+
+  @Test
+  void getSql_reusesCachedPlan_forRequestOfSameShape() {
+    var queryPlanCache = new QueryPlanCache(10);
+    var objectType = createObjectType();
+    var first = new Query(createKeyRequest(objectType, "name", "id-1"), RequestContext.builder()
+        .build(), queryPlanCache);
+    var firstSql = first.getSql();
+
+    var result = new Query(createKeyRequest(objectType, "name", "id-2"), RequestContext.builder()
+        .build(), queryPlanCache);
+
+    assertThat(result.getSelectQuery(), is(nullValue()));
+    assertThat(result.getSql(), is(firstSql));
+    assertThat(result.getBindValues(), is(List.of("id-2")));
+    assertThat(result.getRowMapper(), is(sameInstance(first.getRowMapper())));
+  }
+
+  @Test
+  void getSql_buildsQuery_forRequestWithOtherValueInStatement() {
+    var queryPlanCache = new QueryPlanCache(10);
+    var objectType = createObjectType();
+    var first = new Query(createKeyRequest(objectType, "name", "id-1"), RequestContext.builder()
+        .build(), queryPlanCache);
+    var firstSql = first.getSql();
+
+    var result = new Query(createKeyRequest(objectType, "identifier", "id-1"), RequestContext.builder()
+        .build(), queryPlanCache);
+
+    assertThat(result.getSelectQuery(), is(notNullValue()));
+    assertThat(result.getSql(), is(not(firstSql)));
+    assertThat(result.getBindValues(), is(List.of("id-1")));
+  }
+
+  @Test
+  void getBindValues_returnsKeyArray_forCachedBatchRequestWithOtherKeys() {
+    var queryPlanCache = new QueryPlanCache(10);
+    var objectType = createObjectType();
+    var first = new Query(createBatchRequest(objectType, Set.of(Map.of("identifier", "id-1"))),
+        RequestContext.builder()
+            .build(),
+        queryPlanCache);
+    var firstSql = first.getSql();
+
+    var result = new Query(createBatchRequest(objectType, Set.of(Map.of("identifier", "id-2"),
+        Map.of("identifier", "id-3"))), RequestContext.builder()
+            .build(),
+        queryPlanCache);
+
+    assertThat(result.getSelectQuery(), is(nullValue()));
+    assertThat(result.getSql(), is(firstSql));
+    assertThat((Object[]) result.getBindValues()
+        .get(0), arrayContainingInAnyOrder("id-2", "id-3"));
+  }
+
+  private PostgresObjectType createObjectType() {
+    var objectType = new PostgresObjectType();
+    objectType.setTable("beer");
+    objectType.setFields(new HashMap<>(Map.of("identifier", createObjectField("identifier"), "name",
+        createObjectField("name"))));
+    return objectType;
+  }
+
+  private PostgresObjectField createObjectField(String name) {
+    var objectField = new PostgresObjectField();
+    objectField.setName(name);
+    objectField.setColumn(String.format("%s_column", name));
+    return objectField;
+  }
+
+  private SingleObjectRequest createKeyRequest(PostgresObjectType objectType, String fieldName, String key) {
+    return SingleObjectRequest.builder()
+        .objectType(objectType)
+        .scalarFields(List.of(FieldRequest.builder()
+            .name(fieldName)
+            .resultKey(fieldName)
+            .build()))
+        .keyCriterias(List.of(KeyCriteria.builder()
+            .fieldPath(List.of(objectType.getField("identifier")))
+            .value(key)
+            .build()))
+        .build();
+  }
+
+  private BatchRequest createBatchRequest(PostgresObjectType objectType, Set<Map<String, Object>> keys) {
+    return BatchRequest.builder()
+        .objectRequest(SingleObjectRequest.builder()
+            .objectType(objectType)
+            .scalarFields(List.of(FieldRequest.builder()
+                .name("name")
+                .resultKey("name")
+                .build()))
+            .build())
+        .keys(keys)
+        .build();
   }
 
   private SingleObjectRequest initObjectRequest() {
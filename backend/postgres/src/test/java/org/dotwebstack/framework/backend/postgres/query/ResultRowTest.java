@@ -0,0 +1,56 @@
+package org.dotwebstack.framework.backend.postgres.query;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ResultRowTest {
+
+  @Test
+  void get_returnsValue_forColumnName() {
+    var columnIndex = ResultRow.createColumnIndex(List.of("x1", "x2"));
+    var row = new ResultRow(columnIndex, new Object[] {"foo", "bar"});
+
+    assertThat(row.get("x1"), is("foo"));
+    assertThat(row.get("x2"), is("bar"));
+    assertThat(row.get(1), is("bar"));
+  }
+
+  @Test
+  void get_returnsValue_forColumnNameInDifferentCase() {
+    var row = new ResultRow(ResultRow.createColumnIndex(List.of("Identifier")), new Object[] {"foo"});
+
+    assertThat(row.get("IDENTIFIER"), is("foo"));
+    assertThat(row.indexOf("identifier"), is(0));
+  }
+
+  @Test
+  void get_returnsNull_forUnknownColumnName() {
+    var row = new ResultRow(ResultRow.createColumnIndex(List.of("x1")), new Object[] {"foo"});
+
+    assertThat(row.indexOf("x2"), is(-1));
+    assertThat(row.get("x2"), nullValue());
+  }
+
+  @Test
+  void getColumnIndex_returnsSharedIndex_forRowsOfSameResult() {
+    var columnIndex = ResultRow.createColumnIndex(List.of("x1"));
+    var first = new ResultRow(columnIndex, new Object[] {"foo"});
+    var second = new ResultRow(columnIndex, new Object[] {"bar"});
+
+    assertThat(first.getColumnIndex(), sameInstance(second.getColumnIndex()));
+  }
+
+  @Test
+  void toMap_returnsColumnValues_always() {
+    var row = ResultRow.of(Map.of("x1", "foo", "x2", 1));
+
+    assertThat(row.toMap(), equalTo(Map.of("x1", "foo", "x2", 1)));
+  }
+}
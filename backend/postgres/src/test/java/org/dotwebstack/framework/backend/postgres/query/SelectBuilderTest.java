@@ -13,6 +13,7 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import io.r2dbc.postgresql.codec.Json;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -43,6 +44,8 @@ import org.dotwebstack.framework.core.query.model.ObjectRequest;
 import org.dotwebstack.framework.core.query.model.RequestContext;
 import org.dotwebstack.framework.core.query.model.ScalarType;
 import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
+import org.dotwebstack.framework.core.query.model.SortCriteria;
+import org.dotwebstack.framework.core.query.model.SortDirection;
 import org.dotwebstack.framework.core.query.model.UnionObjectRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -56,7 +59,7 @@ class SelectBuilderTest {
   @Mock
   private RequestContext requestContext;
 
-  private ObjectFieldMapper<Map<String, Object>> fieldMapper;
+  private ObjectFieldMapper<ResultRow> fieldMapper;
 
   private SelectBuilder selectBuilder;
 
@@ -304,13 +307,13 @@ class SelectBuilderTest {
 
     assertThat(result.getMessage(),
         is("Can't find a valid joinColumn configuration for '[PostgresObjectField(column=postal_address, "
-            + "joinColumns=[JoinColumn(name=postal_address, referencedField=ref.identifier, "
-            + "referencedColumn=null)], joinTable=null, mappedBy=null, mappedByObjectField=null, presenceColumn=null, "
+            + "joinColumns=[JoinColumn(name=postal_address, referencedField=ref.identifier, referencedColumn=null)], "
+            + "joinTable=null, mappedBy=null, mappedByObjectField=null, presenceColumn=null, inline=false, "
             + "spatial=null), PostgresObjectField(column=postal_address__ref, joinColumns=[], joinTable=null, "
-            + "mappedBy=null, mappedByObjectField=null, presenceColumn=null, spatial=null), "
+            + "mappedBy=null, mappedByObjectField=null, presenceColumn=null, inline=false, spatial=null), "
             + "PostgresObjectField(column=postal_address__ref__identifier, joinColumns=[], joinTable=null, "
-            + "mappedBy=null, mappedByObjectField=null, presenceColumn=null, spatial=null)]'. "
-            + "The joinColumn is either empty or does not match the referencedField."));
+            + "mappedBy=null, mappedByObjectField=null, presenceColumn=null, inline=false, spatial=null)]'. The "
+            + "joinColumn is either empty or does not match the referencedField."));
 
 
   }
@@ -346,12 +349,12 @@ class SelectBuilderTest {
 
     assertThat(result.getMessage(),
         is("Can't find a valid joinColumn configuration for '[PostgresObjectField(column=postal_address, "
-            + "joinColumns=[], joinTable=null, mappedBy=null, mappedByObjectField=null, "
-            + "presenceColumn=null, spatial=null), PostgresObjectField(column=postal_address__ref, joinColumns=[], "
-            + "joinTable=null, mappedBy=null, mappedByObjectField=null, presenceColumn=null, spatial=null), "
-            + "PostgresObjectField(column=postal_address__ref__identifier, joinColumns=[], joinTable=null, "
-            + "mappedBy=null, mappedByObjectField=null, presenceColumn=null, spatial=null)]'. "
-            + "The joinColumn is either empty or does not match the referencedField."));
+            + "joinColumns=[], joinTable=null, mappedBy=null, mappedByObjectField=null, presenceColumn=null, "
+            + "inline=false, spatial=null), PostgresObjectField(column=postal_address__ref, joinColumns=[], "
+            + "joinTable=null, mappedBy=null, mappedByObjectField=null, presenceColumn=null, inline=false, "
+            + "spatial=null), PostgresObjectField(column=postal_address__ref__identifier, joinColumns=[], "
+            + "joinTable=null, mappedBy=null, mappedByObjectField=null, presenceColumn=null, inline=false, "
+            + "spatial=null)]'. The joinColumn is either empty or does not match the referencedField."));
   }
 
   @Test
@@ -660,7 +663,7 @@ class SelectBuilderTest {
         + "    select array_agg(ingredient_identifier) as \"x4\"\n" + "    from \"beer_ingredient\" as \"x3\"\n"
         + "    where \"x3\".\"beer_identifier\" = \"x1\".\"identifier_column\"\n" + "  ) as \"x5\"\n" + "    on true"));
 
-    var fieldMapperResult = fieldMapper.apply(Map.of("x2", "Brewery 1"));
+    var fieldMapperResult = fieldMapper.apply(ResultRow.of(Map.of("x2", "Brewery 1")));
 
     assertThat(fieldMapperResult, notNullValue());
     assertThat(fieldMapperResult, hasEntry(equalTo("name"), equalTo("Brewery 1")));
@@ -728,7 +731,7 @@ class SelectBuilderTest {
     assertThat(result.toString(), equalTo("select\n" + "  \"x1\".\"name_column\" as \"x2\",\n"
         + "  \"x1\".\"identifier_column\" as \"x3\"\n" + "from \"beer\" as \"x1\""));
 
-    var fieldMapperResult = fieldMapper.apply(Map.of("x2", "my brewery", "x3", "id-brewery-1"));
+    var fieldMapperResult = fieldMapper.apply(ResultRow.of(Map.of("x2", "my brewery", "x3", "id-brewery-1")));
 
     assertThat(fieldMapperResult, notNullValue());
     assertThat(fieldMapperResult, hasEntry(equalTo("identifier"), equalTo("id-brewery-1")));
@@ -872,6 +875,139 @@ class SelectBuilderTest {
         + "  \"x1\".\"identifier_column\" as \"x3\"\n" + "from \"brewery\" as \"x1\""));
   }
 
+  @Test
+  void build_returnsSelectQuery_forCollectionRequestWithInlineObjectListMappedBy() {
+    var breweryObjectField = createObjectField("brewery");
+
+    var breweryJoinColumn = new JoinColumn();
+    breweryJoinColumn.setName("brewery_column");
+    breweryJoinColumn.setReferencedField("identifier");
+
+    var beerObjectType = createObjectType("beer", "identifier", "name", "soldPerYear");
+
+    breweryObjectField.setJoinColumns(List.of(breweryJoinColumn));
+    breweryObjectField.setObjectType(beerObjectType);
+    breweryObjectField.setTargetType(beerObjectType);
+
+    var objectType = createObjectType("brewery", "identifier", "name");
+
+    var beersObjectField = createObjectField("beers");
+    beersObjectField.setMappedByObjectField(breweryObjectField);
+    beersObjectField.setObjectType(objectType);
+    beersObjectField.setTargetType(beerObjectType);
+    beersObjectField.setInline(true);
+
+    var beersObjectRequest = SingleObjectRequest.builder()
+        .objectType(beerObjectType)
+        .scalarFields(List.of(FieldRequest.builder()
+            .name("name")
+            .resultKey("name")
+            .build()))
+        .build();
+
+    var beersCollectionRequest = CollectionRequest.builder()
+        .objectRequest(beersObjectRequest)
+        .build();
+
+    objectType.getFields()
+        .put("beers", beersObjectField);
+
+    var objectRequest = SingleObjectRequest.builder()
+        .objectType(objectType)
+        .scalarFields(List.of(FieldRequest.builder()
+            .name("name")
+            .resultKey("name")
+            .build()))
+        .objectListFields(Map.of(FieldRequest.builder()
+            .name("beers")
+            .resultKey("beers")
+            .build(), beersCollectionRequest))
+        .build();
+
+    var collectionRequest = CollectionRequest.builder()
+        .objectRequest(objectRequest)
+        .build();
+
+    var result = selectBuilder.build(collectionRequest, null);
+
+    assertThat(result, notNullValue());
+    assertThat(result.toString(), equalTo("select\n" + "  \"x1\".\"name_column\" as \"x2\",\n" + "  (\n"
+        + "    select coalesce(jsonb_agg(to_jsonb(\"x5\")), '[]'::jsonb)\n" + "    from (\n"
+        + "      select \"x3\".\"name_column\" as \"x4\"\n" + "      from \"beer\" as \"x3\"\n"
+        + "      where \"x3\".\"brewery_column\" = \"x1\".\"identifier_column\"\n" + "    ) as \"x5\"\n"
+        + "  ) as \"x6\"\n" + "from \"brewery\" as \"x1\""));
+
+    var fieldMapperResult = fieldMapper.apply(ResultRow.of(Map.of("x2", "my brewery", "x6",
+        Json.of("[{\"x4\": \"beer 1\"}, {\"x4\": \"beer 2\"}]"))));
+
+    assertThat(fieldMapperResult, hasEntry(equalTo("name"), equalTo("my brewery")));
+    assertThat(fieldMapperResult, hasEntry(equalTo("beers"), equalTo(List.of(Map.of("name", "beer 1"),
+        Map.of("name", "beer 2")))));
+  }
+
+  @Test
+  void build_returnsSelectQuery_forCollectionRequestWithSortedInlineObjectList() {
+    var breweryObjectField = createObjectField("brewery");
+
+    var breweryJoinColumn = new JoinColumn();
+    breweryJoinColumn.setName("brewery_column");
+    breweryJoinColumn.setReferencedField("identifier");
+
+    var beerObjectType = createObjectType("beer", "identifier", "name");
+
+    breweryObjectField.setJoinColumns(List.of(breweryJoinColumn));
+    breweryObjectField.setObjectType(beerObjectType);
+    breweryObjectField.setTargetType(beerObjectType);
+
+    var objectType = createObjectType("brewery", "identifier", "name");
+
+    var beersObjectField = createObjectField("beers");
+    beersObjectField.setMappedByObjectField(breweryObjectField);
+    beersObjectField.setObjectType(objectType);
+    beersObjectField.setTargetType(beerObjectType);
+    beersObjectField.setInline(true);
+
+    var beersObjectRequest = SingleObjectRequest.builder()
+        .objectType(beerObjectType)
+        .scalarFields(List.of(FieldRequest.builder()
+            .name("name")
+            .resultKey("name")
+            .build()))
+        .build();
+
+    var beersCollectionRequest = CollectionRequest.builder()
+        .objectRequest(beersObjectRequest)
+        .sortCriterias(List.of(SortCriteria.builder()
+            .fieldPath(List.of(beerObjectType.getField("name")))
+            .direction(SortDirection.DESC)
+            .build()))
+        .build();
+
+    objectType.getFields()
+        .put("beers", beersObjectField);
+
+    var objectRequest = SingleObjectRequest.builder()
+        .objectType(objectType)
+        .objectListFields(Map.of(FieldRequest.builder()
+            .name("beers")
+            .resultKey("beers")
+            .build(), beersCollectionRequest))
+        .build();
+
+    var collectionRequest = CollectionRequest.builder()
+        .objectRequest(objectRequest)
+        .build();
+
+    var result = selectBuilder.build(collectionRequest, null);
+
+    assertThat(result, notNullValue());
+    assertThat(result.toString(), equalTo("select (\n"
+        + "  select coalesce(jsonb_agg(to_jsonb(\"x4\") order by \"x4\".\"x3\" desc), '[]'::jsonb)\n"
+        + "  from (\n" + "    select \"x2\".\"name_column\" as \"x3\"\n" + "    from \"beer\" as \"x2\"\n"
+        + "    where \"x2\".\"brewery_column\" = \"x1\".\"identifier_column\"\n" + "  ) as \"x4\"\n"
+        + ") as \"x5\"\n" + "from \"brewery\" as \"x1\""));
+  }
+
   @Test
   void build_returnsSelectQuery_forCollectionRequestWithObjectListJoinColumn() {
     var beersObjectField = createObjectField("beers");
@@ -923,7 +1059,7 @@ class SelectBuilderTest {
     assertThat(result.toString(), equalTo("select\n" + "  \"x1\".\"name_column\" as \"x2\",\n"
         + "  \"x1\".\"identifier\" as \"x3\"\n" + "from \"brewery\" as \"x1\""));
 
-    var fieldMapperResult = fieldMapper.apply(Map.of("x2", "my brewery", "x3", "id-brewery-1"));
+    var fieldMapperResult = fieldMapper.apply(ResultRow.of(Map.of("x2", "my brewery", "x3", "id-brewery-1")));
 
     assertThat(fieldMapperResult, notNullValue());
     assertThat(fieldMapperResult, hasEntry(equalTo("$join:beers"), equalTo(PostgresJoinCondition.builder()
@@ -1073,8 +1209,9 @@ class SelectBuilderTest {
 
     assertThat(result, notNullValue());
 
-    assertThat(result.toString(), equalTo("select *\n" + "from (\n  values\n" + "    ('id-beer-1'),\n"
-        + "    ('id-beer-2')\n" + ") as \"x5\" (\"x4\")\n" + "  left outer join lateral (\n" + "    select\n"
+    assertThat(result.toString(), equalTo("select *\n"
+        + "from unnest(cast('{\"id-beer-1\",\"id-beer-2\"}' as varchar[])) as \"x5\" (\"x4\")\n"
+        + "  left outer join lateral (\n" + "    select\n"
         + "      \"x1\".\"name_column\" as \"x2\",\n" + "      \"x3\".\"beer_identifier\" as \"x6\"\n" + "    from\n"
         + "      \"ingredient\" as \"x1\",\n" + "      \"beer_ingredient\" as \"x3\"\n" + "    where (\n"
         + "      \"x3\".\"ingredient_identifier\" = \"x1\".\"identifier_column\"\n"
@@ -26,7 +26,7 @@ class SortBuilderTest {
   void build_returnsList_forSortCriteria(String sortDirection) {
     List<SortCriteria> sortCriterias = createSortCriterias(sortDirection);
 
-    ObjectFieldMapper<Map<String, Object>> rowMapper = createRowMapper();
+    ObjectFieldMapper<ResultRow> rowMapper = createRowMapper();
 
     var result = SortBuilder.newSorting()
         .sortCriterias(sortCriterias)
@@ -69,13 +69,13 @@ class SortBuilderTest {
     return List.of(objectField, nestedObjectField);
   }
 
-  private ObjectFieldMapper<Map<String, Object>> createRowMapper() {
-    ObjectFieldMapper<Map<String, Object>> rowMapper = new RowMapper<>();
+  private ObjectFieldMapper<ResultRow> createRowMapper() {
+    ObjectFieldMapper<ResultRow> rowMapper = new RowMapper<>();
 
     rowMapper.register("fieldOne", new ColumnMapper(DSL.field("x2")
         .as("x2")));
 
-    ObjectFieldMapper<Map<String, Object>> objectMapper = new ObjectMapper("x1");
+    ObjectFieldMapper<ResultRow> objectMapper = new ObjectMapper("x1");
     objectMapper.register("nestedField", new ColumnMapper(DSL.field("x3")
         .as("x3")));
     rowMapper.register("fieldTwo", objectMapper);
@@ -47,7 +47,7 @@ class SpatialColumnMapperTest {
 
     var geom = createPoint(7415);
 
-    var result = mapper.apply(Map.of("testGeometry", geom));
+    var result = mapper.apply(ResultRow.of(Map.of("testGeometry", geom)));
 
     assertThat(result, is(instanceOf(Geometry.class)));
     assertThat(((Geometry) result).getCoordinate()
@@ -66,7 +66,7 @@ class SpatialColumnMapperTest {
 
     Map<String, Object> data = Map.of("testGeometry", geom);
 
-    var exception = assertThrows(IllegalArgumentException.class, () -> mapper.apply(data));
+    var exception = assertThrows(IllegalArgumentException.class, () -> mapper.apply(ResultRow.of(data)));
 
     assertThat(exception.getMessage(),
         is(String.format("Can't reproject geometry from %s to %s.", geometrySrid, requestedSrid)));
@@ -99,7 +99,7 @@ class SpatialColumnMapperTest {
 
     var geom = createBboxPolygon(requestedSrid);
 
-    var result = mapper.apply(Map.of("testGeometry", geom));
+    var result = mapper.apply(ResultRow.of(Map.of("testGeometry", geom)));
 
     assertThat(result, is(instanceOf(Geometry.class)));
     assertThat(((Geometry) result).getSRID(), is(requestedSrid));
@@ -113,7 +113,7 @@ class SpatialColumnMapperTest {
 
     var geom = createPolygon();
 
-    var result = mapper.apply(Map.of("testGeometry", geom));
+    var result = mapper.apply(ResultRow.of(Map.of("testGeometry", geom)));
 
     assertThat(result, is(instanceOf(Geometry.class)));
     assertThat(((Geometry) result).getSRID(), is(requestedSrid));
@@ -1,61 +1,100 @@
 package org.dotwebstack.framework.backend.rdf4j;
 
-import static org.dotwebstack.framework.core.helpers.ExceptionHelper.unsupportedOperationException;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.OBJECT_TYPE_KEY;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.observeRows;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.orNoop;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
 import java.util.Map;
+import javax.annotation.Nullable;
 import org.dotwebstack.framework.backend.rdf4j.query.Query;
+import org.dotwebstack.framework.backend.rdf4j.query.QueryTemplateCache;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
 import org.dotwebstack.framework.core.backend.BackendLoader;
+import org.dotwebstack.framework.core.datafetchers.KeyGroupedFlux;
 import org.dotwebstack.framework.core.query.model.BatchRequest;
 import org.dotwebstack.framework.core.query.model.CollectionBatchRequest;
 import org.dotwebstack.framework.core.query.model.CollectionRequest;
 import org.dotwebstack.framework.core.query.model.ObjectRequest;
 import org.dotwebstack.framework.core.query.model.RequestContext;
-import org.eclipse.rdf4j.repository.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.GroupedFlux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 public class Rdf4jBackendLoader implements BackendLoader {
 
-  private final Repository repository;
+  static final String QUERY_OBSERVATION = "dotwebstack.rdf4j.query";
+
+  private final Rdf4jQueryExecutor queryExecutor;
 
   private final NodeShape nodeShape;
 
-  public Rdf4jBackendLoader(Repository repository, NodeShape nodeShape) {
-    this.repository = repository;
+  private final ObservationRegistry observationRegistry;
+
+  private final QueryTemplateCache queryTemplateCache;
+
+  public Rdf4jBackendLoader(Rdf4jQueryExecutor queryExecutor, NodeShape nodeShape,
+      ObservationRegistry observationRegistry) {
+    this(queryExecutor, nodeShape, observationRegistry, null);
+  }
+
+  public Rdf4jBackendLoader(Rdf4jQueryExecutor queryExecutor, NodeShape nodeShape,
+      ObservationRegistry observationRegistry, @Nullable QueryTemplateCache queryTemplateCache) {
+    this.queryExecutor = queryExecutor;
     this.nodeShape = nodeShape;
+    this.observationRegistry = orNoop(observationRegistry);
+    this.queryTemplateCache = queryTemplateCache;
   }
 
   @Override
   public Mono<Map<String, Object>> loadSingle(ObjectRequest objectRequest, RequestContext requestContext) {
-    var query = new Query(objectRequest, nodeShape);
-    var connection = repository.getConnection();
+    var query = new Query(objectRequest, nodeShape, queryTemplateCache);
 
-    return query.execute(connection)
-        .singleOrEmpty()
-        .doFinally(signalType -> connection.close());
+    return observe(queryExecutor.execute(query)).singleOrEmpty();
   }
 
   @Override
   public Flux<Map<String, Object>> loadMany(CollectionRequest collectionRequest, RequestContext requestContext) {
-    var query = new Query(collectionRequest, nodeShape);
-    var connection = repository.getConnection();
+    var query = new Query(collectionRequest, nodeShape, requestContext, queryTemplateCache);
+
+    return observe(queryExecutor.execute(query));
+  }
+
+  private Flux<Map<String, Object>> observe(Flux<Map<String, Object>> rows) {
+    var observation = Observation.createNotStarted(QUERY_OBSERVATION, observationRegistry)
+        .lowCardinalityKeyValue(OBJECT_TYPE_KEY, nodeShape.getName());
 
-    return query.execute(connection)
-        .doFinally(signalType -> connection.close());
+    return observeRows(rows, observation);
   }
 
+  // Every key gets a group, so parents without objects get an empty list instead of none
   @Override
   public Flux<GroupedFlux<Map<String, Object>, Map<String, Object>>> batchLoadMany(
       CollectionBatchRequest collectionBatchRequest, RequestContext context) {
-    throw unsupportedOperationException("Batch load many is not supported for RDF4J!");
+    var query = new Query(collectionBatchRequest, nodeShape, queryTemplateCache);
+    var keys = collectionBatchRequest.getJoinCriteria()
+        .getKeys();
+
+    return observe(queryExecutor.execute(query)).collectMultimap(Rdf4jBackendLoader::getGroupKey)
+        .flatMapMany(groups -> Flux.fromIterable(keys)
+            .map(key -> new KeyGroupedFlux(key, Flux.fromIterable(groups.getOrDefault(key, List.of())))));
   }
 
   @Override
   public Flux<Tuple2<Map<String, Object>, Map<String, Object>>> batchLoadSingle(BatchRequest batchRequest,
       RequestContext requestContext) {
-    throw unsupportedOperationException("Batch load single is not supported for RDF4J!");
+    var query = new Query(batchRequest, nodeShape, queryTemplateCache);
+
+    return observe(queryExecutor.execute(query)).map(row -> Tuples.of(getGroupKey(row), row))
+        .distinct(Tuple2::getT1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> getGroupKey(Map<String, Object> row) {
+    return (Map<String, Object>) row.get(Query.GROUP_KEY);
   }
 }
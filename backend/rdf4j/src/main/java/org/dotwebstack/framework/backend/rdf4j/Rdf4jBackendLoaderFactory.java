@@ -1,27 +1,36 @@
 package org.dotwebstack.framework.backend.rdf4j;
 
+import io.micrometer.observation.ObservationRegistry;
+import javax.annotation.Nullable;
+import org.dotwebstack.framework.backend.rdf4j.query.QueryTemplateCache;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeRegistry;
 import org.dotwebstack.framework.core.backend.BackendLoader;
 import org.dotwebstack.framework.core.backend.BackendLoaderFactory;
 import org.dotwebstack.framework.core.model.ObjectType;
-import org.eclipse.rdf4j.repository.Repository;
 import org.springframework.stereotype.Component;
 
 @Component
 public class Rdf4jBackendLoaderFactory implements BackendLoaderFactory {
 
-  private final Repository repository;
+  private final Rdf4jQueryExecutor queryExecutor;
 
   private final NodeShapeRegistry nodeShapeRegistry;
 
-  public Rdf4jBackendLoaderFactory(Repository repository, NodeShapeRegistry nodeShapeRegistry) {
-    this.repository = repository;
+  private final ObservationRegistry observationRegistry;
+
+  private final QueryTemplateCache queryTemplateCache;
+
+  public Rdf4jBackendLoaderFactory(Rdf4jQueryExecutor queryExecutor, NodeShapeRegistry nodeShapeRegistry,
+      @Nullable ObservationRegistry observationRegistry, @Nullable QueryTemplateCache queryTemplateCache) {
+    this.queryExecutor = queryExecutor;
     this.nodeShapeRegistry = nodeShapeRegistry;
+    this.observationRegistry = observationRegistry;
+    this.queryTemplateCache = queryTemplateCache;
   }
 
   @Override
   public <T extends ObjectType<?>> BackendLoader create(T objectType) {
     var nodeShape = nodeShapeRegistry.get(objectType.getName());
-    return new Rdf4jBackendLoader(repository, nodeShape);
+    return new Rdf4jBackendLoader(queryExecutor, nodeShape, observationRegistry, queryTemplateCache);
   }
 }
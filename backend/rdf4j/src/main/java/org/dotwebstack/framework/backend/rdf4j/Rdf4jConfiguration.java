@@ -3,14 +3,24 @@ package org.dotwebstack.framework.backend.rdf4j;
 import static org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeFactory.createShapeFromModel;
 import static org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeFactory.processInheritance;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSource;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.EndpointProperties;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.StoreType;
+import org.dotwebstack.framework.backend.rdf4j.query.QueryTemplateCache;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeRegistry;
 import org.dotwebstack.framework.core.InvalidConfigurationException;
@@ -21,12 +31,18 @@ import org.eclipse.rdf4j.model.util.Models;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.model.vocabulary.SHACL;
 import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
 import org.eclipse.rdf4j.repository.sparql.SPARQLRepository;
+import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFParser;
 import org.eclipse.rdf4j.rio.helpers.StatementCollector;
 import org.eclipse.rdf4j.rio.trig.TriGParser;
+import org.eclipse.rdf4j.sail.Sail;
+import org.eclipse.rdf4j.sail.lmdb.LmdbStore;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,6 +61,8 @@ class Rdf4jConfiguration {
 
   private static final String FILE_PATTERN = "/**.trig";
 
+  private static final String CHECKSUM_FILE = "checksum.txt";
+
   private final Rdf4jProperties rdf4jProperties;
 
   private final ResourceLoader resourceLoader;
@@ -54,12 +72,24 @@ class Rdf4jConfiguration {
     this.resourceLoader = resourceLoader;
   }
 
-  @Bean
+  @Bean(destroyMethod = "shutDown")
   Repository repository() {
     var endpoint = rdf4jProperties.getEndpoint();
     return endpoint != null ? createRemoteRepository(endpoint) : createLocalRepository();
   }
 
+  @Bean(destroyMethod = "dispose")
+  Rdf4jQueryExecutor queryExecutor(Repository repository) {
+    return new Rdf4jQueryExecutor(repository, rdf4jProperties.getExecutor());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "dotwebstack.rdf4j", name = "query-cache.enabled")
+  QueryTemplateCache queryTemplateCache() {
+    return new QueryTemplateCache(rdf4jProperties.getQueryCache()
+        .getMaxSize());
+  }
+
   private Repository createRemoteRepository(EndpointProperties endpoint) {
     var repository = new SPARQLRepository(endpoint.getUrl());
 
@@ -75,19 +105,93 @@ class Rdf4jConfiguration {
   }
 
   private Repository createLocalRepository() {
-    var repository = new SailRepository(new MemoryStore());
-    var dataModel = readModel(DATA_PATH);
+    var dataDir = rdf4jProperties.getStore()
+        .getDataDir();
+    var resources = findResources(DATA_PATH);
+
+    if (dataDir == null) {
+      var repository = new SailRepository(new MemoryStore());
+      importData(repository, resources);
+      return repository;
+    }
 
-    try (var conn = repository.getConnection()) {
-      conn.add(dataModel);
+    return createPersistentRepository(Path.of(dataDir), resources);
+  }
+
+  // The store is persisted in the data directory, and only replaced when the data files have changed since. Native and
+  // LMDB stores keep their data on disk, so the dataset does not need to fit in the heap. Every store type has a
+  // directory of its own, since the store files of one type can not be opened by the other.
+  @SneakyThrows(IOException.class)
+  private Repository createPersistentRepository(Path dataDir, List<Resource> resources) {
+    var type = rdf4jProperties.getStore()
+        .getType();
+    var storeDir = dataDir.resolve(type.name()
+        .toLowerCase(Locale.ROOT));
+
+    Files.createDirectories(storeDir);
+
+    var repository = new SailRepository(createStore(type, storeDir));
+    var checksumFile = storeDir.resolve(CHECKSUM_FILE);
+    var checksum = createChecksum(type, resources);
+
+    if (Files.exists(checksumFile) && Files.readString(checksumFile)
+        .equals(checksum)) {
+      LOG.info("Data files are unchanged, using the persisted store in {}.", storeDir);
+      return repository;
     }
 
+    LOG.info("Data files or store type have changed, importing the data into {}.", storeDir);
+    importData(repository, resources);
+    Files.writeString(checksumFile, checksum);
+
     return repository;
   }
 
+  private static Sail createStore(StoreType type, Path storeDir) {
+    return type == StoreType.LMDB ? new LmdbStore(storeDir.toFile()) : new NativeStore(storeDir.toFile());
+  }
+
+  // The data files are streamed into the store one by one, so the dataset does not need to fit in the heap either
+  private static void importData(Repository repository, List<Resource> resources) {
+    try (var conn = repository.getConnection()) {
+      conn.begin();
+      conn.clear();
+      resources.forEach(resource -> addData(conn, resource));
+      conn.commit();
+    }
+  }
+
+  @SneakyThrows(IOException.class)
+  private static void addData(RepositoryConnection conn, Resource resource) {
+    try (var inputStream = resource.getInputStream()) {
+      conn.add(inputStream, RDFFormat.TRIG);
+    }
+  }
+
+  private static String createChecksum(StoreType type, List<Resource> resources) {
+    var hasher = Hashing.sha256()
+        .newHasher()
+        .putString(type.name(), StandardCharsets.UTF_8);
+
+    resources.forEach(resource -> hasher.putBytes(hash(resource).asBytes()));
+
+    return hasher.hash()
+        .toString();
+  }
+
+  @SneakyThrows(IOException.class)
+  private static HashCode hash(Resource resource) {
+    return new ByteSource() {
+      @Override
+      public InputStream openStream() throws IOException {
+        return resource.getInputStream();
+      }
+    }.hash(Hashing.sha256());
+  }
+
   @Bean
   NodeShapeRegistry nodeShapeRegistry() {
-    var shapeModel = readModel(SHAPES_PATH);
+    var shapeModel = readModel(findResources(SHAPES_PATH));
 
     var registry = new NodeShapeRegistry(rdf4jProperties.getShape()
         .getPrefix());
@@ -106,11 +210,11 @@ class Rdf4jConfiguration {
     return registry;
   }
 
-  private Model readModel(String path) {
+  private Model readModel(List<Resource> resources) {
     var model = new LinkedHashModel();
     var parser = new TriGParser().setRDFHandler(new StatementCollector(model));
 
-    findResources(path).forEach(resource -> parse(parser, resource));
+    resources.forEach(resource -> parse(parser, resource));
 
     return model;
   }
@@ -1,12 +1,14 @@
 package org.dotwebstack.framework.backend.rdf4j;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.eclipse.rdf4j.model.IRI;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.scheduler.Schedulers;
 
 @Getter
 @Setter
@@ -19,6 +21,15 @@ public class Rdf4jProperties {
 
   private EndpointProperties endpoint;
 
+  @NotNull
+  private ExecutorProperties executor = new ExecutorProperties();
+
+  @NotNull
+  private StoreProperties store = new StoreProperties();
+
+  @NotNull
+  private QueryCacheProperties queryCache = new QueryCacheProperties();
+
   @Getter
   @Setter
   public static class ShapeProperties {
@@ -43,4 +54,39 @@ public class Rdf4jProperties {
 
     private Map<String, String> headers;
   }
+
+  @Getter
+  @Setter
+  public static class ExecutorProperties {
+
+    @Positive
+    private int maxConcurrency = Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE;
+
+    @Positive
+    private int maxQueueSize = Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE;
+  }
+
+  @Getter
+  @Setter
+  public static class StoreProperties {
+
+    private String dataDir;
+
+    @NotNull
+    private StoreType type = StoreType.NATIVE;
+  }
+
+  @Getter
+  @Setter
+  public static class QueryCacheProperties {
+
+    private boolean enabled = false;
+
+    @Positive
+    private long maxSize = 500;
+  }
+
+  public enum StoreType {
+    NATIVE, LMDB
+  }
 }
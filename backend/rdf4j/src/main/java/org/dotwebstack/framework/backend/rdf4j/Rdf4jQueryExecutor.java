@@ -0,0 +1,84 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ExecutorProperties;
+import org.dotwebstack.framework.backend.rdf4j.query.Query;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Executes queries on a bounded scheduler, since repositories evaluate queries blocking. This keeps the event loop
+ * free while queries are evaluated. At most the configured number of queries are evaluated concurrently, and queries
+ * are rejected once the configured number of queries are waiting for a thread. The number of waiting queries is
+ * published as gauge, when bound to a meter registry.
+ */
+public class Rdf4jQueryExecutor implements Disposable, MeterBinder {
+
+  static final String QUEUE_DEPTH_METRIC = "dotwebstack.rdf4j.queue.depth";
+
+  private final Repository repository;
+
+  private final Scheduler scheduler;
+
+  private final AtomicInteger queueDepth = new AtomicInteger();
+
+  public Rdf4jQueryExecutor(Repository repository, ExecutorProperties executorProperties) {
+    this.repository = repository;
+    this.scheduler = Schedulers.newBoundedElastic(executorProperties.getMaxConcurrency(),
+        executorProperties.getMaxQueueSize(), "rdf4j-query");
+  }
+
+  public Flux<Map<String, Object>> execute(Query query) {
+    return Flux.defer(() -> {
+      var dequeued = new AtomicBoolean();
+      queueDepth.incrementAndGet();
+
+      return Flux.using(() -> {
+        dequeue(dequeued);
+        return repository.getConnection();
+      }, query::execute, RepositoryConnection::close)
+          .subscribeOn(scheduler)
+          // Queries cancelled or rejected before their evaluation started leave the queue as well
+          .doFinally(signalType -> dequeue(dequeued));
+    });
+  }
+
+  /**
+   * Returns the number of queries which are waiting for a thread.
+   */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    Gauge.builder(QUEUE_DEPTH_METRIC, queueDepth, AtomicInteger::get)
+        .description("Number of queries waiting for a thread")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void dispose() {
+    scheduler.dispose();
+  }
+
+  @Override
+  public boolean isDisposed() {
+    return scheduler.isDisposed();
+  }
+
+  private void dequeue(AtomicBoolean dequeued) {
+    if (dequeued.compareAndSet(false, true)) {
+      queueDepth.decrementAndGet();
+    }
+  }
+}
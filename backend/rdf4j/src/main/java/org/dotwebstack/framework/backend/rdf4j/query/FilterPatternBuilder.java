@@ -0,0 +1,220 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import static org.dotwebstack.framework.core.datafetchers.filter.FilterConstants.EXISTS_FIELD;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.unsupportedOperationException;
+import static org.dotwebstack.framework.core.helpers.ObjectHelper.castToList;
+import static org.dotwebstack.framework.core.helpers.ObjectHelper.castToMap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.dotwebstack.framework.backend.rdf4j.model.Rdf4jObjectField;
+import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
+import org.dotwebstack.framework.backend.rdf4j.shacl.PropertyShape;
+import org.dotwebstack.framework.core.backend.filter.FilterCriteria;
+import org.dotwebstack.framework.core.backend.filter.GroupFilterOperator;
+import org.dotwebstack.framework.core.backend.filter.ObjectFieldFilterCriteria;
+import org.dotwebstack.framework.core.backend.query.AliasManager;
+import org.dotwebstack.framework.core.datafetchers.filter.FilterOperator;
+import org.dotwebstack.framework.core.model.ObjectField;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.util.Values;
+import org.eclipse.rdf4j.repository.sparql.query.QueryStringUtil;
+import org.eclipse.rdf4j.sparqlbuilder.core.SparqlBuilder;
+import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
+import org.eclipse.rdf4j.sparqlbuilder.graphpattern.GraphPattern;
+
+/**
+ * Compiles filter criteria into a SPARQL {@code FILTER}, so only the matching subjects are selected. Every field
+ * condition is an {@code EXISTS} pattern on the property path of the field, which allows conditions on multi-valued and
+ * nested fields to be combined freely with {@code &&}, {@code ||} and {@code !}.
+ */
+@Setter(onMethod = @__({@NonNull}))
+@Accessors(fluent = true)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class FilterPatternBuilder {
+
+  private static final String ERROR_MESSAGE = "Unknown filter field '{}' for type '{}'";
+
+  private FilterCriteria filterCriteria;
+
+  private NodeShape nodeShape;
+
+  private Variable subject;
+
+  private AliasManager aliasManager;
+
+  private QueryParameters parameters = QueryParameters.none();
+
+  public static FilterPatternBuilder newFiltering() {
+    return new FilterPatternBuilder();
+  }
+
+  public GraphPattern build() {
+    var expression = createExpression(filterCriteria, nodeShape, subject);
+
+    return () -> String.format("FILTER(%s)", expression);
+  }
+
+  private String createExpression(FilterCriteria filterCriteria, NodeShape nodeShape, Variable subject) {
+    if (filterCriteria.isGroupFilter()) {
+      var group = filterCriteria.asGroupFilter();
+      var operator = group.getLogicalOperator() == GroupFilterOperator.OR ? " || " : " && ";
+
+      var expressions = group.getFilterCriterias()
+          .stream()
+          .map(criteria -> createExpression(criteria, nodeShape, subject))
+          .toList();
+
+      return expressions.isEmpty() ? "true" : join(expressions, operator);
+    }
+
+    if (filterCriteria.isObjectFieldFilter()) {
+      var objectFieldFilter = filterCriteria.asObjectFieldFilter();
+      return createExpression(objectFieldFilter.getFieldPath(), objectFieldFilter, nodeShape, subject);
+    }
+
+    throw unsupportedOperationException("Filter criteria '{}' is not supported!", filterCriteria.getClass()
+        .getSimpleName());
+  }
+
+  private String createExpression(List<ObjectField> fieldPath, ObjectFieldFilterCriteria filterCriteria,
+      NodeShape nodeShape, Variable subject) {
+    var objectField = (Rdf4jObjectField) fieldPath.get(0);
+
+    if (objectField.isResource()) {
+      var term = String.format("STR(%s)", subject.getQueryString());
+      return createConditions(filterCriteria.getValue(), filterCriteria.isCaseSensitive(),
+          (operator, value) -> createCondition(term, operator, render(null, value)), objectField);
+    }
+
+    var propertyShape = nodeShape.getPropertyShape(objectField.getName());
+    var object = SparqlBuilder.var(aliasManager.newAlias());
+    var triple = subject.has(propertyShape.toPredicate(), object)
+        .getQueryString();
+
+    // Conditions on nested fields are evaluated on the nested subject
+    if (fieldPath.size() > 1) {
+      var nestedExpression =
+          createExpression(fieldPath.subList(1, fieldPath.size()), filterCriteria, propertyShape.getNode(), object);
+      return String.format("EXISTS { %s FILTER(%s) }", triple, nestedExpression);
+    }
+
+    if (objectField.getTargetType() != null) {
+      var exists = !Boolean.FALSE.equals(filterCriteria.getValue()
+          .get(EXISTS_FIELD));
+      return String.format("%sEXISTS { %s }", exists ? "" : "NOT ", triple);
+    }
+
+    return createConditions(filterCriteria.getValue(), filterCriteria.isCaseSensitive(),
+        (operator, value) -> createValueCondition(triple, object, propertyShape, operator, value), objectField);
+  }
+
+  private String createConditions(Map<String, Object> values, boolean isCaseSensitive,
+      ConditionFactory conditionFactory, ObjectField objectField) {
+    var conditions = values.entrySet()
+        .stream()
+        .map(entry -> {
+          var operator = FilterOperator.getFilterOperator(entry.getKey(), isCaseSensitive);
+
+          if (operator == null) {
+            throw illegalArgumentException(ERROR_MESSAGE, entry.getKey(), objectField.getType());
+          }
+
+          if (operator == FilterOperator.NOT) {
+            return String.format("!(%s)",
+                createConditions(castToMap(entry.getValue()), isCaseSensitive, conditionFactory, objectField));
+          }
+
+          return conditionFactory.create(operator, entry.getValue());
+        })
+        .toList();
+
+    return join(conditions, " && ");
+  }
+
+  private String createValueCondition(String triple, Variable object, PropertyShape propertyShape,
+      FilterOperator operator, Object value) {
+    if (value == null && (operator == FilterOperator.EQ || operator == FilterOperator.EQ_IGNORE_CASE)) {
+      return String.format("NOT EXISTS { %s }", triple);
+    }
+
+    // Every value needs to be present, so each value gets a pattern of its own
+    if (operator == FilterOperator.CONTAINS_ALL_OF) {
+      return join(castToList(value).stream()
+          .map(item -> createValueCondition(triple, object, propertyShape, FilterOperator.EQ, item))
+          .toList(), " && ");
+    }
+
+    var condition = createCondition(object.getQueryString(), operator, render(propertyShape, value));
+
+    return String.format("EXISTS { %s FILTER(%s) }", triple, condition);
+  }
+
+  private String createCondition(String term, FilterOperator operator, Object value) {
+    return switch (operator) {
+      case EQ -> String.format("%s = %s", term, toString(value));
+      case EQ_IGNORE_CASE -> String.format("LCASE(STR(%s)) = LCASE(%s)", term, toString(value));
+      case LT -> String.format("%s < %s", term, toString(value));
+      case LTE -> String.format("%s <= %s", term, toString(value));
+      case GT -> String.format("%s > %s", term, toString(value));
+      case GTE -> String.format("%s >= %s", term, toString(value));
+      case IN, CONTAINS_ANY_OF -> String.format("%s IN (%s)", term, toString(value));
+      case IN_IGNORE_CASE -> String.format("LCASE(STR(%s)) IN (%s)", term, ((List<?>) value).stream()
+          .map(item -> String.format("LCASE(%s)", toString(item)))
+          .collect(Collectors.joining(", ")));
+      case MATCH -> String.format("CONTAINS(LCASE(STR(%s)), LCASE(%s))", term, toString(value));
+      default -> throw unsupportedOperationException("Filter operator '{}' is not supported for RDF4J!", operator);
+    };
+  }
+
+  // Every value is rendered on its own, so lists of values can be rendered into a cached query as well
+  private Object render(@Nullable PropertyShape propertyShape, Object value) {
+    if (value instanceof List<?> list) {
+      return list.stream()
+          .map(item -> render(propertyShape, item))
+          .toList();
+    }
+
+    return parameters.render(value, item -> QueryStringUtil.valueToString(createValue(propertyShape, item)));
+  }
+
+  // Values are typed like the property, so they compare with the stored literals
+  private static Value createValue(@Nullable PropertyShape propertyShape, Object value) {
+    if (propertyShape == null) {
+      return Values.literal(String.valueOf(value));
+    }
+
+    var datatype = propertyShape.getDatatype();
+
+    return datatype != null ? Values.literal(String.valueOf(value), datatype) : Values.literal(value);
+  }
+
+  private static String toString(Object value) {
+    if (value instanceof List<?> list) {
+      return list.stream()
+          .map(FilterPatternBuilder::toString)
+          .collect(Collectors.joining(", "));
+    }
+
+    return (String) Objects.requireNonNull(value);
+  }
+
+  private static String join(List<String> expressions, String operator) {
+    return expressions.size() == 1 ? expressions.get(0) : String.format("(%s)", String.join(operator, expressions));
+  }
+
+  @FunctionalInterface
+  private interface ConditionFactory {
+
+    String create(FilterOperator operator, Object value);
+  }
+}
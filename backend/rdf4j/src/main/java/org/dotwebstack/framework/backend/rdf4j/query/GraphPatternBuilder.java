@@ -1,14 +1,20 @@
 package org.dotwebstack.framework.backend.rdf4j.query;
 
+import static org.dotwebstack.framework.backend.rdf4j.query.GraphPatternWithValues.toDataBlock;
+import static org.dotwebstack.framework.backend.rdf4j.query.Query.GROUP_KEY;
 import static org.dotwebstack.framework.backend.rdf4j.query.QueryHelper.applyCardinality;
 import static org.dotwebstack.framework.backend.rdf4j.query.QueryHelper.createTypePatterns;
 import static org.dotwebstack.framework.backend.rdf4j.query.QueryHelper.getObjectField;
+import static org.dotwebstack.framework.backend.rdf4j.query.Rdf4jJoinCondition.SUBJECT_KEY;
 import static org.dotwebstack.framework.core.backend.BackendConstants.JOIN_KEY_PREFIX;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.unsupportedOperationException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -16,20 +22,26 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
+import org.dotwebstack.framework.backend.rdf4j.shacl.PropertyShape;
+import org.dotwebstack.framework.core.backend.filter.FilterCriteria;
 import org.dotwebstack.framework.core.backend.query.AliasManager;
 import org.dotwebstack.framework.core.backend.query.ObjectFieldMapper;
 import org.dotwebstack.framework.core.query.model.FieldRequest;
+import org.dotwebstack.framework.core.query.model.JoinCriteria;
 import org.dotwebstack.framework.core.query.model.KeyCriteria;
 import org.dotwebstack.framework.core.query.model.ObjectRequest;
 import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
 import org.dotwebstack.framework.ext.spatial.SpatialConstants;
-import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.util.Values;
 import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.repository.sparql.query.QueryStringUtil;
 import org.eclipse.rdf4j.sparqlbuilder.core.SparqlBuilder;
 import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
 import org.eclipse.rdf4j.sparqlbuilder.graphpattern.GraphPattern;
 import org.eclipse.rdf4j.sparqlbuilder.graphpattern.GraphPatterns;
+import org.eclipse.rdf4j.sparqlbuilder.rdf.RdfObject;
 
 @Setter(onMethod = @__({@NonNull}))
 @Accessors(fluent = true)
@@ -46,7 +58,15 @@ class GraphPatternBuilder {
 
   private AliasManager aliasManager;
 
-  private final Map<Variable, Set<? extends Value>> valuesMap = new HashMap<>();
+  private JoinCriteria joinCriteria;
+
+  private Set<Map<String, Object>> batchKeys;
+
+  private FilterCriteria filterCriteria;
+
+  private QueryParameters parameters = QueryParameters.none();
+
+  private final Map<Variable, String> valuesMap = new HashMap<>();
 
   public static GraphPatternBuilder newGraphPattern() {
     return new GraphPatternBuilder();
@@ -74,6 +94,28 @@ class GraphPatternBuilder {
           .flatMap(entry -> createNestedPattern(entry.getKey(), entry.getValue()))
           .forEach(subPatterns::add);
 
+      singleObjectRequest.getObjectListFields()
+          .keySet()
+          .forEach(this::registerJoinMapper);
+
+      if (joinCriteria != null) {
+        subPatterns.add(createJoinPattern());
+      }
+
+      if (batchKeys != null) {
+        createBatchKeyPattern(singleObjectRequest).forEach(subPatterns::add);
+      }
+
+      if (filterCriteria != null) {
+        subPatterns.add(FilterPatternBuilder.newFiltering()
+            .filterCriteria(filterCriteria)
+            .nodeShape(nodeShape)
+            .subject(subject)
+            .aliasManager(aliasManager)
+            .parameters(parameters)
+            .build());
+      }
+
       var graphPattern = GraphPatterns.and(subPatterns.toArray(GraphPattern[]::new));
 
       if (!valuesMap.isEmpty()) {
@@ -86,6 +128,58 @@ class GraphPatternBuilder {
     }
   }
 
+  // The parents are bound with values, and their subject is mapped to group the objects per parent
+  private GraphPattern createJoinPattern() {
+    var parentAlias = aliasManager.newAlias();
+    var parent = SparqlBuilder.var(parentAlias);
+
+    valuesMap.put(parent, parameters.render(joinCriteria.getKeys(), keys -> toDataBlock(castToSet(keys).stream()
+        .map(key -> (Resource) key.get(SUBJECT_KEY))
+        .toList())));
+
+    fieldMapper.register(GROUP_KEY, bindings -> Map.of(SUBJECT_KEY, bindings.getValue(parentAlias)));
+
+    var joinCondition = (Rdf4jJoinCondition) joinCriteria.getJoinCondition();
+
+    return parent.has(joinCondition.getPredicate(), subject);
+  }
+
+  private Stream<GraphPattern> createBatchKeyPattern(SingleObjectRequest objectRequest) {
+    var names = batchKeys.stream()
+        .flatMap(key -> key.keySet()
+            .stream())
+        .collect(Collectors.toSet());
+
+    if (names.size() != 1) {
+      throw unsupportedOperationException("Batch keys of multiple fields are not supported for RDF4J!");
+    }
+
+    var name = names.iterator()
+        .next();
+    var objectField = getObjectField(objectRequest, name);
+
+    // Bindings do not hold the original key values, so the query resolves the keys by their string value
+    var keyMapper = objectField.isResource() ? new BindingMapper(subject) : new BindingMapper(aliasManager.newAlias());
+
+    fieldMapper.register(GROUP_KEY, bindings -> String.valueOf(keyMapper.apply(bindings)));
+
+    if (objectField.isResource()) {
+      valuesMap.put(subject, parameters.render(batchKeys, keys -> toDataBlock(castToSet(keys).stream()
+          .map(key -> Values.iri(String.valueOf(key.get(name))))
+          .toList())));
+      return Stream.empty();
+    }
+
+    var key = SparqlBuilder.var(keyMapper.getAlias());
+    var propertyShape = nodeShape.getPropertyShape(name);
+
+    valuesMap.put(key, parameters.render(batchKeys, keys -> toDataBlock(castToSet(keys).stream()
+        .map(batchKey -> createLiteral(propertyShape, batchKey.get(name)))
+        .toList())));
+
+    return Stream.of(subject.has(propertyShape.toPredicate(), key));
+  }
+
   private Stream<GraphPattern> createPattern(SingleObjectRequest objectRequest, KeyCriteria keyCriteria) {
     var fieldPath = keyCriteria.getFieldPath();
     return createPattern(objectRequest, fieldPath.get(fieldPath.size() - 1)
@@ -96,13 +190,26 @@ class GraphPatternBuilder {
     var objectField = getObjectField(objectRequest, name);
 
     if (objectField.isResource()) {
-      valuesMap.put(subject, Set.of(Values.iri(value.toString())));
+      valuesMap.put(subject, parameters.render(value, iri -> toDataBlock(List.of(Values.iri(iri.toString())))));
       return Stream.of();
     }
 
     var propertyShape = nodeShape.getPropertyShape(name);
+    var literal = parameters.render(value, key -> QueryStringUtil.valueToString(createLiteral(propertyShape, key)));
 
-    return Stream.of(subject.has(propertyShape.toPredicate(), Values.literal(value)));
+    return Stream.of(subject.has(propertyShape.toPredicate(), (RdfObject) () -> literal));
+  }
+
+  // Literals only match when their datatypes are equal, so keys are typed like the values of the property
+  private static Literal createLiteral(PropertyShape propertyShape, Object value) {
+    var datatype = propertyShape.getDatatype();
+
+    return datatype != null ? Values.literal(String.valueOf(value), datatype) : Values.literal(value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<Map<String, Object>> castToSet(Object keys) {
+    return (Set<Map<String, Object>>) keys;
   }
 
   private Stream<GraphPattern> createPattern(SingleObjectRequest objectRequest, FieldRequest fieldRequest) {
@@ -126,17 +233,16 @@ class GraphPatternBuilder {
         .of(applyCardinality(propertyShape, subject.has(propertyShape.toPredicate(), SparqlBuilder.var(objectAlias))));
   }
 
-  private Stream<GraphPattern> createNestedPattern(FieldRequest fieldRequest, ObjectRequest nestedObjectRequest) {
+  // Nested lists are never eager-loaded, but batch loaded by the child data fetcher with this join info
+  private void registerJoinMapper(FieldRequest fieldRequest) {
     var propertyShape = nodeShape.getPropertyShape(fieldRequest.getName());
 
-    if (fieldRequest.isList()) {
-      // Provide join info for child data fetcher
-      fieldMapper.register(JOIN_KEY_PREFIX.concat(fieldRequest.getName()),
-          new JoinMapper(subject, propertyShape.toPredicate()));
+    fieldMapper.register(JOIN_KEY_PREFIX.concat(fieldRequest.getName()),
+        new JoinMapper(subject, propertyShape.toPredicate()));
+  }
 
-      // Nested lists are never eager-loaded
-      return Stream.empty();
-    }
+  private Stream<GraphPattern> createNestedPattern(FieldRequest fieldRequest, ObjectRequest nestedObjectRequest) {
+    var propertyShape = nodeShape.getPropertyShape(fieldRequest.getName());
 
     var nestedResourceMapper = new BindingSetMapper(aliasManager.newAlias());
     var nestedResource = SparqlBuilder.var(nestedResourceMapper.getAlias());
@@ -149,6 +255,7 @@ class GraphPatternBuilder {
         .subject(nestedResource)
         .fieldMapper(nestedResourceMapper)
         .aliasManager(aliasManager)
+        .parameters(parameters)
         .build();
 
     nestedPattern = subject.has(propertyShape.toPredicate(), nestedResource)
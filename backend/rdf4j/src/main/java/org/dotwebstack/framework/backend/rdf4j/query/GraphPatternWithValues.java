@@ -1,7 +1,7 @@
 package org.dotwebstack.framework.backend.rdf4j.query;
 
+import java.util.Collection;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +16,15 @@ class GraphPatternWithValues implements GraphPattern {
 
   private final GraphPattern graphPattern;
 
-  private final Map<Variable, Set<? extends Value>> valuesMap;
+  private final Map<Variable, String> valuesMap;
+
+  // The data blocks are rendered up front, so the values of a request can be rendered into a cached query as well
+  public static String toDataBlock(Collection<? extends Value> values) {
+    return values.stream()
+        .distinct()
+        .map(QueryStringUtil::valueToString)
+        .collect(Collectors.joining(" "));
+  }
 
   @Override
   public String getQueryString() {
@@ -28,10 +36,8 @@ class GraphPatternWithValues implements GraphPattern {
     return valuesPrefix.concat(graphPattern.getQueryString());
   }
 
-  private String valueExpr(Variable variable, Set<? extends Value> values) {
-    return String.format("VALUES %s {%s}", variable.getQueryString(), values.stream()
-        .map(QueryStringUtil::valueToString)
-        .collect(Collectors.joining(" ")))
+  private String valueExpr(Variable variable, String dataBlock) {
+    return String.format("VALUES %s {%s}", variable.getQueryString(), dataBlock)
         .concat("\n");
   }
 }
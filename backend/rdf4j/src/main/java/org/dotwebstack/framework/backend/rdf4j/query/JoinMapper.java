@@ -2,6 +2,7 @@ package org.dotwebstack.framework.backend.rdf4j.query;
 
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalStateException;
 
+import java.util.Map;
 import java.util.Optional;
 import org.dotwebstack.framework.core.backend.query.FieldMapper;
 import org.eclipse.rdf4j.model.Resource;
@@ -9,7 +10,7 @@ import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
 import org.eclipse.rdf4j.sparqlbuilder.rdf.RdfPredicate;
 
-class JoinMapper implements FieldMapper<BindingSet, JoinCondition> {
+class JoinMapper implements FieldMapper<BindingSet, Rdf4jJoinCondition> {
 
   private final String alias;
 
@@ -22,11 +23,14 @@ class JoinMapper implements FieldMapper<BindingSet, JoinCondition> {
   }
 
   @Override
-  public JoinCondition apply(BindingSet bindings) {
+  public Rdf4jJoinCondition apply(BindingSet bindings) {
     var resource = Optional.ofNullable(bindings.getValue(alias))
         .map(Resource.class::cast)
         .orElseThrow(() -> illegalStateException("Subject is missing in binding set."));
 
-    return new JoinCondition(resource, predicate);
+    return Rdf4jJoinCondition.builder()
+        .key(Map.of(Rdf4jJoinCondition.SUBJECT_KEY, resource))
+        .predicate(predicate)
+        .build();
   }
 }
@@ -1,18 +1,33 @@
 package org.dotwebstack.framework.backend.rdf4j.query;
 
-import static org.dotwebstack.framework.backend.rdf4j.query.GraphPatternBuilder.newGraphPattern;
+import static java.util.Optional.ofNullable;
+import static org.dotwebstack.framework.core.backend.BackendConstants.PAGING_KEY_PREFIX;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.AFTER_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.BEFORE_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.FIRST_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.OFFSET_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.unsupportedOperationException;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
 import org.dotwebstack.framework.core.backend.query.AliasManager;
+import org.dotwebstack.framework.core.backend.query.QueryShape;
 import org.dotwebstack.framework.core.backend.query.RowMapper;
+import org.dotwebstack.framework.core.query.model.BatchRequest;
+import org.dotwebstack.framework.core.query.model.CollectionBatchRequest;
 import org.dotwebstack.framework.core.query.model.CollectionRequest;
 import org.dotwebstack.framework.core.query.model.ObjectRequest;
+import org.dotwebstack.framework.core.query.model.RequestContext;
 import org.dotwebstack.framework.core.query.model.SortCriteria;
 import org.dotwebstack.framework.core.query.model.SortDirection;
 import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.sparqlbuilder.core.OrderBy;
 import org.eclipse.rdf4j.sparqlbuilder.core.Orderable;
@@ -26,36 +41,215 @@ import reactor.core.publisher.Flux;
 
 public class Query {
 
+  public static final String GROUP_KEY = "$group";
+
   private static final Logger LOG = LoggerFactory.getLogger(Query.class);
 
   private final AliasManager aliasManager = new AliasManager();
 
-  private final RowMapper<BindingSet> rowMapper = new RowMapper<>();
+  private final QueryTemplateCache queryTemplateCache;
+
+  private final QueryShape shape;
+
+  private final QueryParameters parameters;
 
-  private final SelectQuery selectQuery;
+  private final RowMapper<BindingSet> rowMapper;
+
+  private final String queryString;
+
+  private final Map<String, Map<String, Object>> groupKeys;
 
   public Query(ObjectRequest objectRequest, NodeShape nodeShape) {
-    selectQuery = createSelect(objectRequest, nodeShape);
+    this(objectRequest, nodeShape, (QueryTemplateCache) null);
   }
 
-  public Query(CollectionRequest collectionRequest, NodeShape nodeShape) {
-    selectQuery = createSelect(collectionRequest, nodeShape);
+  public Query(ObjectRequest objectRequest, NodeShape nodeShape, @Nullable QueryTemplateCache queryTemplateCache) {
+    this.queryTemplateCache = queryTemplateCache;
+    shape = createShape(objectRequest, null, nodeShape);
+    parameters = createParameters();
+    groupKeys = null;
+
+    var template = findTemplate();
+    rowMapper = template != null ? template.getRowMapper() : new RowMapper<>();
+    queryString = template != null ? template.render(shape) : render(createSelect(objectRequest, nodeShape));
   }
 
-  public Flux<Map<String, Object>> execute(RepositoryConnection connection) {
-    var queryString = selectQuery.getQueryString();
+  public Query(CollectionRequest collectionRequest, NodeShape nodeShape, RequestContext requestContext) {
+    this(collectionRequest, nodeShape, requestContext, null);
+  }
+
+  public Query(CollectionRequest collectionRequest, NodeShape nodeShape, RequestContext requestContext,
+      @Nullable QueryTemplateCache queryTemplateCache) {
+    this.queryTemplateCache = queryTemplateCache;
+    shape = createShape(collectionRequest, createPagingContext(requestContext), nodeShape);
+    parameters = createParameters();
+    groupKeys = null;
+
+    var template = findTemplate();
+    rowMapper = template != null ? template.getRowMapper() : new RowMapper<>();
+    queryString = template != null ? template.render(shape)
+        : render(createSelect(collectionRequest, nodeShape, requestContext));
+  }
 
+  public Query(CollectionBatchRequest collectionBatchRequest, NodeShape nodeShape) {
+    this(collectionBatchRequest, nodeShape, null);
+  }
+
+  public Query(CollectionBatchRequest collectionBatchRequest, NodeShape nodeShape,
+      @Nullable QueryTemplateCache queryTemplateCache) {
+    this.queryTemplateCache = queryTemplateCache;
+    shape = createShape(collectionBatchRequest, null, nodeShape);
+    parameters = createParameters();
+    groupKeys = null;
+
+    var template = findTemplate();
+    rowMapper = template != null ? template.getRowMapper() : new RowMapper<>();
+    queryString = template != null ? template.render(shape) : render(createSelect(collectionBatchRequest, nodeShape));
+  }
+
+  public Query(BatchRequest batchRequest, NodeShape nodeShape) {
+    this(batchRequest, nodeShape, null);
+  }
+
+  public Query(BatchRequest batchRequest, NodeShape nodeShape, @Nullable QueryTemplateCache queryTemplateCache) {
+    this.queryTemplateCache = queryTemplateCache;
+    shape = createShape(batchRequest, null, nodeShape);
+    parameters = createParameters();
+    groupKeys = createGroupKeys(batchRequest);
+
+    var template = findTemplate();
+    rowMapper = template != null ? template.getRowMapper() : new RowMapper<>();
+    queryString = template != null ? template.render(shape) : render(createSelect(batchRequest, nodeShape));
+  }
+
+  /**
+   * Returns the query string, which is rendered from a cached template when the request has a known shape.
+   */
+  public String getQueryString() {
+    return queryString;
+  }
+
+  public Flux<Map<String, Object>> execute(RepositoryConnection connection) {
     LOG.debug("Executing query: {}", queryString);
 
-    var queryResult = connection.prepareTupleQuery(queryString)
-        .evaluate();
+    // Closing the result aborts the evaluation, when the subscriber cancels before all solutions are mapped
+    return Flux.using(() -> connection.prepareTupleQuery(queryString)
+        .evaluate(), this::mapSolutions, TupleQueryResult::close);
+  }
 
-    return Flux.fromIterable(queryResult)
-        .map(rowMapper);
+  // Solutions are pulled from the result on demand, so slow subscribers hold back the evaluation
+  private Flux<Map<String, Object>> mapSolutions(TupleQueryResult result) {
+    return Flux.generate(sink -> {
+      if (result.hasNext()) {
+        sink.next(mapSolution(result.next()));
+      } else {
+        sink.complete();
+      }
+    });
   }
 
-  private SelectQuery createSelect(CollectionRequest collectionRequest, NodeShape nodeShape) {
-    var query = createSelect(collectionRequest.getObjectRequest(), nodeShape);
+  // The group key of a batch row is the string value of its key, which is resolved to the requested key
+  private Map<String, Object> mapSolution(BindingSet bindings) {
+    var row = rowMapper.apply(bindings);
+
+    if (groupKeys != null) {
+      row.put(GROUP_KEY, groupKeys.get((String) row.get(GROUP_KEY)));
+    }
+
+    return row;
+  }
+
+  // The query string holds placeholders for the leaves of the shape, so it is rendered from its template
+  private String render(SelectQuery selectQuery) {
+    if (shape == null) {
+      return selectQuery.getQueryString();
+    }
+
+    var template = QueryTemplate.create(shape, parameters, selectQuery.getQueryString(), rowMapper);
+    queryTemplateCache.add(shape, template);
+
+    return template.render(shape);
+  }
+
+  private QueryShape createShape(Object request, RequestContext requestContext, NodeShape nodeShape) {
+    if (queryTemplateCache == null) {
+      return null;
+    }
+
+    var queryShape = QueryShape.of(request, requestContext, nodeShape);
+
+    return QueryTemplate.supports(queryShape) ? queryShape : null;
+  }
+
+  private QueryParameters createParameters() {
+    return shape != null ? QueryParameters.of(shape) : QueryParameters.none();
+  }
+
+  private QueryTemplate findTemplate() {
+    return shape != null ? queryTemplateCache.find(shape)
+        .orElse(null) : null;
+  }
+
+  // Only the paging arguments of the source are used for building the query, so the other source values (of the
+  // parent object) do not end up in the query shape
+  private static RequestContext createPagingContext(RequestContext requestContext) {
+    var source = requestContext != null ? requestContext.getSource() : null;
+
+    if (source == null) {
+      return null;
+    }
+
+    var pagingSource = new HashMap<String, Object>();
+
+    source.forEach((key, value) -> {
+      if (key.startsWith(PAGING_KEY_PREFIX)) {
+        pagingSource.put(key, value);
+      }
+    });
+
+    return RequestContext.builder()
+        .source(pagingSource)
+        .build();
+  }
+
+  // Keys are looked up by their string value, since bindings do not hold the original key values
+  private static Map<String, Map<String, Object>> createGroupKeys(BatchRequest batchRequest) {
+    return batchRequest.getKeys()
+        .stream()
+        .collect(Collectors.toMap(key -> String.valueOf(key.values()
+            .iterator()
+            .next()), Function.identity()));
+  }
+
+  private SelectQuery createSelect(CollectionRequest collectionRequest, NodeShape nodeShape,
+      RequestContext requestContext) {
+    var pattern = newGraphPattern(collectionRequest, nodeShape).build();
+    var query = createSelect(collectionRequest, pattern);
+
+    addPaging(query, requestContext);
+
+    return query;
+  }
+
+  private SelectQuery createSelect(CollectionBatchRequest collectionBatchRequest, NodeShape nodeShape) {
+    var collectionRequest = collectionBatchRequest.getCollectionRequest();
+    var pattern = newGraphPattern(collectionRequest, nodeShape).joinCriteria(collectionBatchRequest.getJoinCriteria())
+        .build();
+
+    return createSelect(collectionRequest, pattern);
+  }
+
+  private SelectQuery createSelect(BatchRequest batchRequest, NodeShape nodeShape) {
+    var pattern = newGraphPattern(batchRequest.getObjectRequest(), nodeShape).batchKeys(batchRequest.getKeys())
+        .build();
+
+    return Queries.SELECT()
+        .where(pattern);
+  }
+
+  private SelectQuery createSelect(CollectionRequest collectionRequest, GraphPattern pattern) {
+    var query = Queries.SELECT()
+        .where(pattern);
     var sortCriterias = collectionRequest.getSortCriterias();
 
     if (!sortCriterias.isEmpty()) {
@@ -70,15 +264,52 @@ public class Query {
         .where(createPattern(objectRequest, nodeShape));
   }
 
+  // Limits the solutions, which are mapped to objects one by one
+  private void addPaging(SelectQuery selectQuery, RequestContext requestContext) {
+    var source = requestContext != null ? requestContext.getSource() : null;
+
+    if (source == null) {
+      return;
+    }
+
+    if (source.get(PAGING_KEY_PREFIX.concat(AFTER_ARGUMENT_NAME)) != null
+        || source.get(PAGING_KEY_PREFIX.concat(BEFORE_ARGUMENT_NAME)) != null) {
+      throw unsupportedOperationException("Cursor paging is not supported for RDF4J!");
+    }
+
+    var offset = ofNullable(source.get(PAGING_KEY_PREFIX.concat(OFFSET_ARGUMENT_NAME))).map(Integer.class::cast);
+    var first = ofNullable(source.get(PAGING_KEY_PREFIX.concat(FIRST_ARGUMENT_NAME))).map(Integer.class::cast);
+
+    if (offset.isPresent() && first.isPresent() && offset.get() >= 0 && first.get() >= 0) {
+      selectQuery.limit(first.get())
+          .offset(offset.get());
+    }
+  }
+
   private GraphPattern createPattern(ObjectRequest objectRequest, NodeShape nodeShape) {
+    return newGraphPattern(objectRequest, nodeShape).build();
+  }
+
+  private GraphPatternBuilder newGraphPattern(CollectionRequest collectionRequest, NodeShape nodeShape) {
+    var graphPattern = newGraphPattern(collectionRequest.getObjectRequest(), nodeShape);
+
+    if (collectionRequest.getFilterCriteria() != null) {
+      graphPattern.filterCriteria(collectionRequest.getFilterCriteria());
+    }
+
+    return graphPattern;
+  }
+
+  private GraphPatternBuilder newGraphPattern(ObjectRequest objectRequest, NodeShape nodeShape) {
     var subject = SparqlBuilder.var(aliasManager.newAlias());
 
-    return newGraphPattern().objectRequest(objectRequest)
+    return GraphPatternBuilder.newGraphPattern()
+        .objectRequest(objectRequest)
         .nodeShape(nodeShape)
         .subject(subject)
         .fieldMapper(rowMapper)
         .aliasManager(aliasManager)
-        .build();
+        .parameters(parameters);
   }
 
   private OrderBy createOrderBy(List<SortCriteria> sortCriterias) {
@@ -40,7 +40,8 @@ class QueryHelper {
           .next());
     }
 
-    return new GraphPatternWithValues(GraphPatterns.tp(subject, typePredicate, type), Map.of(type, classes));
+    return new GraphPatternWithValues(GraphPatterns.tp(subject, typePredicate, type),
+        Map.of(type, GraphPatternWithValues.toDataBlock(classes)));
   }
 
   public static GraphPattern applyCardinality(PropertyShape propertyShape, GraphPattern graphPattern) {
@@ -0,0 +1,57 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.dotwebstack.framework.core.backend.query.QueryShape;
+
+/**
+ * Renders request values into the query string. When a request value is a leaf of the query shape, a placeholder is
+ * rendered and the renderer is recorded as a slot, so the query string can be reused for requests of the same shape by
+ * rendering the value of that leaf. Request values need to be passed as is, every conversion belongs in the renderer,
+ * since the leaf is found by the identity of the value.
+ */
+class QueryParameters {
+
+  static final char DELIMITER = '\u0000';
+
+  private final QueryShape shape;
+
+  private final List<Slot> slots = new ArrayList<>();
+
+  private QueryParameters(QueryShape shape) {
+    this.shape = shape;
+  }
+
+  static QueryParameters none() {
+    return new QueryParameters(null);
+  }
+
+  static QueryParameters of(QueryShape shape) {
+    return new QueryParameters(shape);
+  }
+
+  String render(Object value, Function<Object, String> renderer) {
+    var leafIndex = shape != null && value != null ? shape.indexOf(value) : -1;
+
+    if (leafIndex < 0) {
+      return renderer.apply(value);
+    }
+
+    slots.add(new Slot(leafIndex, renderer));
+
+    return DELIMITER + String.valueOf(slots.size() - 1) + DELIMITER;
+  }
+
+  Slot getSlot(int index) {
+    return slots.get(index);
+  }
+
+  record Slot(int leafIndex, Function<Object, String> renderer) {
+
+    String render(QueryShape shape) {
+      return renderer.apply(shape.getLeaves()
+          .get(leafIndex));
+    }
+  }
+}
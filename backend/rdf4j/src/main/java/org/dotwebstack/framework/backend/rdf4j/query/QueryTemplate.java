@@ -0,0 +1,100 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import static org.dotwebstack.framework.backend.rdf4j.query.QueryParameters.DELIMITER;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import org.dotwebstack.framework.core.backend.query.QueryShape;
+import org.dotwebstack.framework.core.backend.query.RowMapper;
+import org.eclipse.rdf4j.query.BindingSet;
+
+/**
+ * A query string with its row mapper, which is reused for requests of the same shape. The placeholders in the query
+ * string are replaced with the rendered values of the leaves they were created for. The values of the leaves without a
+ * placeholder were used for building the query string, so the template only applies to requests with equal values for
+ * these leaves.
+ */
+final class QueryTemplate {
+
+  private final List<String> segments;
+
+  private final List<QueryParameters.Slot> slots;
+
+  private final RowMapper<BindingSet> rowMapper;
+
+  private final BitSet boundLeaves;
+
+  private final List<Object> leaves;
+
+  private QueryTemplate(List<String> segments, List<QueryParameters.Slot> slots, RowMapper<BindingSet> rowMapper,
+      BitSet boundLeaves, List<Object> leaves) {
+    this.segments = segments;
+    this.slots = slots;
+    this.rowMapper = rowMapper;
+    this.boundLeaves = boundLeaves;
+    this.leaves = leaves;
+  }
+
+  /**
+   * Returns whether a template can be created for requests of this shape, which is not the case when a leaf value
+   * contains the placeholder delimiter, since its rendered value could then not be told apart from a placeholder.
+   */
+  static boolean supports(QueryShape shape) {
+    return shape.getLeaves()
+        .stream()
+        .noneMatch(leaf -> String.valueOf(leaf)
+            .indexOf(DELIMITER) >= 0);
+  }
+
+  static QueryTemplate create(QueryShape shape, QueryParameters parameters, String queryString,
+      RowMapper<BindingSet> rowMapper) {
+    var segments = new ArrayList<String>();
+    var slots = new ArrayList<QueryParameters.Slot>();
+    var boundLeaves = new BitSet();
+    var start = 0;
+
+    for (var begin = queryString.indexOf(DELIMITER); begin >= 0; begin = queryString.indexOf(DELIMITER, start)) {
+      var end = queryString.indexOf(DELIMITER, begin + 1);
+      var slot = parameters.getSlot(Integer.parseInt(queryString.substring(begin + 1, end)));
+
+      segments.add(queryString.substring(start, begin));
+      slots.add(slot);
+      boundLeaves.set(slot.leafIndex());
+      start = end + 1;
+    }
+
+    segments.add(queryString.substring(start));
+
+    return new QueryTemplate(List.copyOf(segments), List.copyOf(slots), rowMapper, boundLeaves, shape.getLeaves());
+  }
+
+  RowMapper<BindingSet> getRowMapper() {
+    return rowMapper;
+  }
+
+  boolean matches(QueryShape shape) {
+    var otherLeaves = shape.getLeaves();
+
+    for (var index = 0; index < leaves.size(); index++) {
+      if (!boundLeaves.get(index) && !Objects.deepEquals(leaves.get(index), otherLeaves.get(index))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  String render(QueryShape shape) {
+    var queryString = new StringBuilder(segments.get(0));
+
+    for (var index = 0; index < slots.size(); index++) {
+      queryString.append(slots.get(index)
+          .render(shape))
+          .append(segments.get(index + 1));
+    }
+
+    return queryString.toString();
+  }
+}
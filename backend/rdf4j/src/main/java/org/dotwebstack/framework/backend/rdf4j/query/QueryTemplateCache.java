@@ -0,0 +1,74 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.dotwebstack.framework.core.backend.query.QueryShape;
+
+/**
+ * Bounded cache of query templates, keyed by request shape. Requests of the same shape only differ in their leaf
+ * values, so a few templates are kept per shape for the leaf values which ended up in the query string itself. Its
+ * hits, misses and evictions are published as cache metrics, when bound to a meter registry. A lookup counts as a hit
+ * as soon as the shape is known, regardless of the leaf values.
+ */
+public class QueryTemplateCache implements MeterBinder {
+
+  static final String CACHE_NAME = "dotwebstack.rdf4j.queries";
+
+  static final int MAX_TEMPLATES_PER_SHAPE = 16;
+
+  private final Cache<List<Object>, List<QueryTemplate>> cache;
+
+  public QueryTemplateCache(long maximumSize) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  Optional<QueryTemplate> find(QueryShape shape) {
+    var templates = cache.getIfPresent(shape.getKey());
+
+    if (templates == null) {
+      return Optional.empty();
+    }
+
+    return templates.stream()
+        .filter(template -> template.matches(shape))
+        .findFirst();
+  }
+
+  void add(QueryShape shape, QueryTemplate template) {
+    cache.asMap()
+        .compute(shape.getKey(), (key, templates) -> {
+          if (templates == null) {
+            return List.of(template);
+          }
+
+          // The template which was added first is replaced, when the shape has too many templates
+          var newTemplates = new ArrayList<>(templates);
+
+          if (newTemplates.size() >= MAX_TEMPLATES_PER_SHAPE) {
+            newTemplates.remove(0);
+          }
+
+          newTemplates.add(template);
+
+          return List.copyOf(newTemplates);
+        });
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public long size() {
+    return cache.size();
+  }
+}
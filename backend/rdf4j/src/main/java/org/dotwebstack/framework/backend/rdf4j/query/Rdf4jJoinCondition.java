@@ -0,0 +1,17 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+import org.dotwebstack.framework.core.query.model.JoinCondition;
+import org.eclipse.rdf4j.sparqlbuilder.rdf.RdfPredicate;
+
+@SuperBuilder
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class Rdf4jJoinCondition extends JoinCondition {
+
+  public static final String SUBJECT_KEY = "$subject";
+
+  private final RdfPredicate predicate;
+}
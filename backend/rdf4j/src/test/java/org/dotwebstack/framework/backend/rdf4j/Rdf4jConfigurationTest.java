@@ -8,19 +8,27 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 import lombok.Cleanup;
 import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ShapeProperties;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.StoreType;
+import org.eclipse.rdf4j.model.util.Values;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
 import org.eclipse.rdf4j.repository.sparql.SPARQLRepository;
 import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.sail.lmdb.LmdbStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ClassPathResource;
@@ -77,6 +85,87 @@ class Rdf4jConfigurationTest {
     assertThat(conn.size(), is(equalTo(1L)));
   }
 
+  @Test
+  void repository_ReusesPersistedStore_ForUnchangedData(@TempDir Path dataDir) throws IOException {
+    var rdfResource = mockResource("<http://foo> a <http://bar>");
+    when(resourceLoader.getResources(anyString())).thenReturn(new Resource[] {rdfResource});
+    rdf4jProperties.getStore()
+        .setDataDir(dataDir.toString());
+
+    rdf4jConfiguration.repository()
+        .shutDown();
+    var repository = rdf4jConfiguration.repository();
+
+    @Cleanup
+    var conn = repository.getConnection();
+    assertThat(conn.size(), is(equalTo(1L)));
+    // The data is hashed on both startups, but only parsed on the first
+    verify(rdfResource, times(3)).getInputStream();
+    repository.shutDown();
+  }
+
+  @Test
+  void repository_ReplacesPersistedStore_ForChangedData(@TempDir Path dataDir) throws IOException {
+    var rdfResource = mockResource("<http://foo> a <http://bar>");
+    var changedResource = mockResource("<http://foo> a <http://baz> . <http://foo> a <http://qux>");
+    when(resourceLoader.getResources(anyString())).thenReturn(new Resource[] {rdfResource})
+        .thenReturn(new Resource[] {changedResource});
+    rdf4jProperties.getStore()
+        .setDataDir(dataDir.toString());
+
+    rdf4jConfiguration.repository()
+        .shutDown();
+    var repository = rdf4jConfiguration.repository();
+
+    @Cleanup
+    var conn = repository.getConnection();
+    assertThat(conn.size(), is(equalTo(2L)));
+    assertThat(conn.hasStatement(Values.iri("http://foo"), RDF.TYPE, Values.iri("http://bar"), false), is(false));
+    repository.shutDown();
+  }
+
+  @Test
+  void repository_ReusesPersistedStore_ForLmdbStore(@TempDir Path dataDir) throws IOException {
+    var rdfResource = mockResource("<http://foo> a <http://bar>");
+    when(resourceLoader.getResources(anyString())).thenReturn(new Resource[] {rdfResource});
+    rdf4jProperties.getStore()
+        .setDataDir(dataDir.toString());
+    rdf4jProperties.getStore()
+        .setType(StoreType.LMDB);
+
+    rdf4jConfiguration.repository()
+        .shutDown();
+    var repository = rdf4jConfiguration.repository();
+
+    @Cleanup
+    var conn = repository.getConnection();
+    assertThat(((SailRepository) repository).getSail(), instanceOf(LmdbStore.class));
+    assertThat(conn.size(), is(equalTo(1L)));
+    repository.shutDown();
+  }
+
+  @Test
+  void repository_ImportsData_ForChangedStoreType(@TempDir Path dataDir) throws IOException {
+    var rdfResource = mockResource("<http://foo> a <http://bar>");
+    when(resourceLoader.getResources(anyString())).thenReturn(new Resource[] {rdfResource});
+    rdf4jProperties.getStore()
+        .setDataDir(dataDir.toString());
+
+    rdf4jConfiguration.repository()
+        .shutDown();
+    rdf4jProperties.getStore()
+        .setType(StoreType.LMDB);
+    var repository = rdf4jConfiguration.repository();
+
+    @Cleanup
+    var conn = repository.getConnection();
+    assertThat(((SailRepository) repository).getSail(), instanceOf(LmdbStore.class));
+    assertThat(conn.size(), is(equalTo(1L)));
+    // The data is hashed on both startups, and parsed again for the other store type
+    verify(rdfResource, times(4)).getInputStream();
+    repository.shutDown();
+  }
+
   @Test
   void repository_CreatesRemoteRepository_WhenEndpointSet() {
     var endpoint = new Rdf4jProperties.EndpointProperties();
@@ -152,4 +241,13 @@ class Rdf4jConfigurationTest {
 
     assertThat(nodeShapeRegistry.get(Constants.BREWERY_SHAPE), is(notNullValue()));
   }
+
+  private static Resource mockResource(String rdfContent) throws IOException {
+    var rdfResource = mock(Resource.class);
+
+    when(rdfResource.isFile()).thenReturn(true);
+    when(rdfResource.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(rdfContent.getBytes()));
+
+    return rdfResource;
+  }
 }
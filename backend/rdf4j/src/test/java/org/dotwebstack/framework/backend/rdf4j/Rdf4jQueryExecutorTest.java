@@ -0,0 +1,108 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ExecutorProperties;
+import org.dotwebstack.framework.backend.rdf4j.query.Query;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+class Rdf4jQueryExecutorTest {
+
+  @Mock
+  private Repository repository;
+
+  @Mock
+  private RepositoryConnection connection;
+
+  @Mock
+  private Query query;
+
+  private Rdf4jQueryExecutor queryExecutor;
+
+  @BeforeEach
+  void doBeforeEach() {
+    var executorProperties = new ExecutorProperties();
+    executorProperties.setMaxConcurrency(1);
+
+    queryExecutor = new Rdf4jQueryExecutor(repository, executorProperties);
+  }
+
+  @AfterEach
+  void doAfterEach() {
+    queryExecutor.dispose();
+  }
+
+  @Test
+  void execute_evaluatesQueryOnExecutorThread_always() {
+    when(repository.getConnection()).thenReturn(connection);
+    when(query.execute(connection)).thenAnswer(invocation -> Flux.just(Map.of("thread", Thread.currentThread()
+        .getName())));
+
+    var rows = queryExecutor.execute(query)
+        .collectList()
+        .block();
+
+    assertThat(rows.size(), is(1));
+    assertThat((String) rows.get(0)
+        .get("thread"), startsWith("rdf4j-query"));
+    verify(connection).close();
+    assertThat(queryExecutor.getQueueDepth(), is(0));
+  }
+
+  @Test
+  void execute_queuesQueries_whenConcurrencyIsExceeded() throws InterruptedException {
+    var evaluating = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+
+    when(repository.getConnection()).thenReturn(connection);
+    when(query.execute(connection)).thenAnswer(invocation -> {
+      evaluating.countDown();
+      release.await();
+      return Flux.just(Map.of());
+    });
+
+    final var first = queryExecutor.execute(query)
+        .collectList()
+        .toFuture();
+    evaluating.await();
+
+    var second = queryExecutor.execute(query)
+        .subscribe();
+
+    assertThat(queryExecutor.getQueueDepth(), is(1));
+
+    second.dispose();
+    release.countDown();
+
+    assertThat(first.join(), is(List.of(Map.of())));
+    assertThat(queryExecutor.getQueueDepth(), is(0));
+  }
+
+  @Test
+  void bindTo_registersQueueDepthGauge_always() {
+    var meterRegistry = new SimpleMeterRegistry();
+
+    queryExecutor.bindTo(meterRegistry);
+
+    assertThat(meterRegistry.get(Rdf4jQueryExecutor.QUEUE_DEPTH_METRIC)
+        .gauge()
+        .value(), is(0.0));
+  }
+}
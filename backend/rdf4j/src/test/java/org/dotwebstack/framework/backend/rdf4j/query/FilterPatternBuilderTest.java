@@ -0,0 +1,124 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.dotwebstack.framework.backend.rdf4j.model.Rdf4jObjectField;
+import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
+import org.dotwebstack.framework.backend.rdf4j.shacl.PropertyShape;
+import org.dotwebstack.framework.backend.rdf4j.shacl.propertypath.PredicatePath;
+import org.dotwebstack.framework.core.backend.filter.FilterCriteria;
+import org.dotwebstack.framework.core.backend.filter.GroupFilterCriteria;
+import org.dotwebstack.framework.core.backend.filter.GroupFilterOperator;
+import org.dotwebstack.framework.core.backend.filter.ObjectFieldFilterCriteria;
+import org.dotwebstack.framework.core.backend.query.AliasManager;
+import org.dotwebstack.framework.core.model.ObjectField;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.util.Values;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.sparqlbuilder.core.SparqlBuilder;
+import org.junit.jupiter.api.Test;
+
+class FilterPatternBuilderTest {
+
+  private static final String BEER_DEF = "https://github.com/dotwebstack/beer/def#";
+
+  private final NodeShape addressShape = NodeShape.builder()
+      .name("Address")
+      .propertyShapes(Map.of("postalCode", createPropertyShape("postalCode", null)))
+      .build();
+
+  private final NodeShape breweryShape = NodeShape.builder()
+      .name("Brewery")
+      .propertyShapes(Map.of("name", createPropertyShape("name", XSD.STRING), "founded",
+          createPropertyShape("founded", XSD.DATE), "address", PropertyShape.builder()
+              .name("address")
+              .path(PredicatePath.builder()
+                  .iri(Values.iri(BEER_DEF, "address"))
+                  .build())
+              .node(addressShape)
+              .build()))
+      .build();
+
+  @Test
+  void build_returnsExistsFilter_forScalarField() {
+    var filterCriteria = createFieldFilter(List.of(createField("name")), Map.of("eq", "Brouwerij 1923"));
+
+    var queryString = build(filterCriteria);
+
+    assertThat(queryString,
+        is("FILTER(EXISTS { ?x1 <" + BEER_DEF + "name> ?x2 . FILTER(?x2 = \"Brouwerij 1923\") })"));
+  }
+
+  @Test
+  void build_returnsCombinedFilter_forGroupFilter() {
+    var filterCriteria = GroupFilterCriteria.builder()
+        .logicalOperator(GroupFilterOperator.OR)
+        .filterCriterias(List.of(createFieldFilter(List.of(createField("founded")), Map.of("gte", "2000-01-01")),
+            createFieldFilter(List.of(createField("name")), Map.of("not", Map.of("in", List.of("a", "b"))))))
+        .build();
+
+    var queryString = build(filterCriteria);
+
+    assertThat(queryString, equalTo("FILTER((EXISTS { ?x1 <" + BEER_DEF
+        + "founded> ?x2 . FILTER(?x2 >= \"2000-01-01\"^^<http://www.w3.org/2001/XMLSchema#date>) }"
+        + " || !(EXISTS { ?x1 <" + BEER_DEF + "name> ?x3 . FILTER(?x3 IN (\"a\", \"b\")) })))"));
+  }
+
+  @Test
+  void build_returnsNestedFilter_forNestedField() {
+    var filterCriteria =
+        createFieldFilter(List.of(createField("address"), createField("postalCode")), Map.of("eq", "2841 XB"));
+
+    var queryString = build(filterCriteria);
+
+    assertThat(queryString, equalTo("FILTER(EXISTS { ?x1 <" + BEER_DEF + "address> ?x2 . FILTER(EXISTS { ?x2 <"
+        + BEER_DEF + "postalCode> ?x3 . FILTER(?x3 = \"2841 XB\") }) })"));
+  }
+
+  @Test
+  void build_throwsException_forUnsupportedOperator() {
+    var filterCriteria = createFieldFilter(List.of(createField("name")), Map.of("intersects", "POINT (1 2)"));
+
+    assertThrows(UnsupportedOperationException.class, () -> build(filterCriteria));
+  }
+
+  private String build(FilterCriteria filterCriteria) {
+    var aliasManager = new AliasManager();
+
+    return FilterPatternBuilder.newFiltering()
+        .filterCriteria(filterCriteria)
+        .nodeShape(breweryShape)
+        .subject(SparqlBuilder.var(aliasManager.newAlias()))
+        .aliasManager(aliasManager)
+        .build()
+        .getQueryString();
+  }
+
+  private static ObjectFieldFilterCriteria createFieldFilter(List<ObjectField> fieldPath, Map<String, Object> value) {
+    return ObjectFieldFilterCriteria.builder()
+        .fieldPath(fieldPath)
+        .value(value)
+        .build();
+  }
+
+  private static ObjectField createField(String name) {
+    var objectField = new Rdf4jObjectField();
+    objectField.setName(name);
+    return objectField;
+  }
+
+  private static PropertyShape createPropertyShape(String name, IRI datatype) {
+    return PropertyShape.builder()
+        .name(name)
+        .path(PredicatePath.builder()
+            .iri(Values.iri(BEER_DEF, name))
+            .build())
+        .datatype(datatype)
+        .build();
+  }
+}
@@ -22,7 +22,7 @@ class GraphPatternWithValuesTest {
 
     var graphPattern = new GraphPatternWithValues(
         GraphPatterns.tp(VALUE_FACTORY.createIRI("https://github.com/dotwebstack/beer/def#Beer"), RDF.TYPE, typeVar),
-        Map.of(typeVar, Set.of(OWL.CLASS)));
+        Map.of(typeVar, GraphPatternWithValues.toDataBlock(Set.of(OWL.CLASS))));
 
     var queryString = graphPattern.getQueryString();
 
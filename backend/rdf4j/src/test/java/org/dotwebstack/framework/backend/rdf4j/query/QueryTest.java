@@ -0,0 +1,220 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import static org.dotwebstack.framework.core.backend.BackendConstants.PAGING_KEY_PREFIX;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.FIRST_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.OFFSET_ARGUMENT_NAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.dotwebstack.framework.backend.rdf4j.model.Rdf4jObjectField;
+import org.dotwebstack.framework.backend.rdf4j.model.Rdf4jObjectType;
+import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
+import org.dotwebstack.framework.backend.rdf4j.shacl.PropertyShape;
+import org.dotwebstack.framework.backend.rdf4j.shacl.propertypath.PredicatePath;
+import org.dotwebstack.framework.core.backend.filter.GroupFilterCriteria;
+import org.dotwebstack.framework.core.backend.filter.GroupFilterOperator;
+import org.dotwebstack.framework.core.backend.filter.ObjectFieldFilterCriteria;
+import org.dotwebstack.framework.core.query.model.BatchRequest;
+import org.dotwebstack.framework.core.query.model.CollectionRequest;
+import org.dotwebstack.framework.core.query.model.FieldRequest;
+import org.dotwebstack.framework.core.query.model.KeyCriteria;
+import org.dotwebstack.framework.core.query.model.RequestContext;
+import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
+import org.eclipse.rdf4j.model.util.Values;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.junit.jupiter.api.Test;
+
+class QueryTest {
+
+  private static final String BEER_DEF = "https://github.com/dotwebstack/beer/def#";
+
+  private final Rdf4jObjectType objectType = createObjectType();
+
+  private final NodeShape nodeShape = NodeShape.builder()
+      .name("Brewery")
+      .propertyShapes(Map.of("name", createPropertyShape("name"), "brewmaster", createPropertyShape("brewmaster")))
+      .build();
+
+  private final QueryTemplateCache queryTemplateCache = new QueryTemplateCache(10);
+
+  @Test
+  void getQueryString_rendersKeyIntoCachedTemplate_forSameShape() {
+    new Query(createKeyRequest("Brouwerij 1923"), nodeShape, queryTemplateCache);
+
+    var request = createKeyRequest("Brouwerij 1924");
+    var query = new Query(request, nodeShape, queryTemplateCache);
+
+    assertThat(queryTemplateCache.size(), is(1L));
+    assertThat(query.getQueryString(), is(new Query(request, nodeShape).getQueryString()));
+    assertThat(query.getQueryString(), not(containsString("Brouwerij 1923")));
+  }
+
+  @Test
+  void getQueryString_rendersFilterValuesIntoCachedTemplate_forSameShape() {
+    new Query(createFilterRequest(Map.of("in", List.of("a", "b"))), nodeShape, null, queryTemplateCache);
+
+    var request = createFilterRequest(Map.of("in", List.of("c", "d")));
+    var query = new Query(request, nodeShape, null, queryTemplateCache);
+
+    assertThat(queryTemplateCache.size(), is(1L));
+    assertThat(query.getQueryString(), is(new Query(request, nodeShape, null).getQueryString()));
+  }
+
+  @Test
+  void getQueryString_rebuildsQuery_forDifferentNumberOfFilterValues() {
+    new Query(createFilterRequest(Map.of("in", List.of("a", "b"))), nodeShape, null, queryTemplateCache);
+
+    var request = createFilterRequest(Map.of("in", List.of("c")));
+    var query = new Query(request, nodeShape, null, queryTemplateCache);
+
+    assertThat(queryTemplateCache.size(), is(2L));
+    assertThat(query.getQueryString(), is(new Query(request, nodeShape, null).getQueryString()));
+  }
+
+  @Test
+  void getQueryString_rebuildsQuery_forDifferentNullFilterValue() {
+    var nullValue = new HashMap<String, Object>();
+    nullValue.put("eq", null);
+    new Query(createFilterRequest(Map.of("eq", "a")), nodeShape, null, queryTemplateCache);
+
+    var request = createFilterRequest(nullValue);
+    var query = new Query(request, nodeShape, null, queryTemplateCache);
+
+    assertThat(queryTemplateCache.size(), is(2L));
+    assertThat(query.getQueryString(), containsString("NOT EXISTS"));
+  }
+
+  @Test
+  void getQueryString_rebuildsQuery_forDifferentExistsValue() {
+    new Query(createExistsRequest(Boolean.TRUE), nodeShape, null, queryTemplateCache);
+
+    var request = createExistsRequest(Boolean.FALSE);
+    var query = new Query(request, nodeShape, null, queryTemplateCache);
+
+    assertThat(queryTemplateCache.size(), is(1L));
+    assertThat(query.getQueryString(), is(new Query(request, nodeShape, null).getQueryString()));
+    assertThat(query.getQueryString(), containsString("NOT EXISTS"));
+  }
+
+  @Test
+  void getQueryString_rebuildsQuery_forDifferentPaging() {
+    var request = createFilterRequest(Map.of("eq", "a"));
+    new Query(request, nodeShape, createPagingContext(10, "parent 1"), queryTemplateCache);
+
+    var query = new Query(request, nodeShape, createPagingContext(20, "parent 2"), queryTemplateCache);
+
+    assertThat(queryTemplateCache.size(), is(1L));
+    assertThat(query.getQueryString(),
+        is(new Query(request, nodeShape, createPagingContext(20, "parent 2")).getQueryString()));
+  }
+
+  @Test
+  void getQueryString_reusesQuery_forDifferentParentSource() {
+    var request = createFilterRequest(Map.of("eq", "a"));
+    var query = new Query(request, nodeShape, createPagingContext(10, "parent 1"), queryTemplateCache);
+
+    var otherQuery = new Query(request, nodeShape, createPagingContext(10, "parent 2"), queryTemplateCache);
+
+    assertThat(queryTemplateCache.size(), is(1L));
+    assertThat(otherQuery.getQueryString(), is(query.getQueryString()));
+  }
+
+  @Test
+  void getQueryString_rendersBatchKeysIntoCachedTemplate_forAnyNumberOfKeys() {
+    new Query(createBatchRequest(Set.of(Map.of("name", "a"), Map.of("name", "b"))), nodeShape, queryTemplateCache);
+
+    var request = createBatchRequest(Set.of(Map.of("name", "c")));
+    var query = new Query(request, nodeShape, queryTemplateCache);
+
+    assertThat(queryTemplateCache.size(), is(1L));
+    assertThat(query.getQueryString(), is(new Query(request, nodeShape).getQueryString()));
+    assertThat(query.getQueryString(), not(containsString("\"a\"")));
+  }
+
+  private SingleObjectRequest createObjectRequest(List<KeyCriteria> keyCriterias) {
+    return SingleObjectRequest.builder()
+        .objectType(objectType)
+        .scalarFields(List.of(FieldRequest.builder()
+            .name("name")
+            .resultKey("name")
+            .build()))
+        .keyCriterias(keyCriterias)
+        .build();
+  }
+
+  private SingleObjectRequest createKeyRequest(Object value) {
+    return createObjectRequest(List.of(KeyCriteria.builder()
+        .fieldPath(List.of(objectType.getField("name")))
+        .value(value)
+        .build()));
+  }
+
+  private CollectionRequest createFilterRequest(Map<String, Object> value) {
+    return createCollectionRequest("name", value);
+  }
+
+  private CollectionRequest createExistsRequest(Boolean exists) {
+    return createCollectionRequest("brewmaster", Map.of("exists", exists));
+  }
+
+  private CollectionRequest createCollectionRequest(String fieldName, Map<String, Object> value) {
+    return CollectionRequest.builder()
+        .objectRequest(createObjectRequest(List.of()))
+        .filterCriteria(GroupFilterCriteria.builder()
+            .logicalOperator(GroupFilterOperator.AND)
+            .filterCriterias(List.of(ObjectFieldFilterCriteria.builder()
+                .fieldPath(List.of(objectType.getField(fieldName)))
+                .value(value)
+                .build()))
+            .build())
+        .build();
+  }
+
+  private BatchRequest createBatchRequest(Set<Map<String, Object>> keys) {
+    return BatchRequest.builder()
+        .objectRequest(createObjectRequest(List.of()))
+        .keys(keys)
+        .build();
+  }
+
+  private static RequestContext createPagingContext(int first, String parent) {
+    return RequestContext.builder()
+        .source(Map.of(PAGING_KEY_PREFIX.concat(FIRST_ARGUMENT_NAME), first,
+            PAGING_KEY_PREFIX.concat(OFFSET_ARGUMENT_NAME), 0, "parent", parent))
+        .build();
+  }
+
+  private static Rdf4jObjectType createObjectType() {
+    var objectType = new Rdf4jObjectType();
+    objectType.setName("Brewery");
+
+    var name = new Rdf4jObjectField();
+    name.setName("name");
+    objectType.getFields()
+        .put("name", name);
+
+    var brewmaster = new Rdf4jObjectField();
+    brewmaster.setName("brewmaster");
+    brewmaster.setTargetType(new Rdf4jObjectType());
+    objectType.getFields()
+        .put("brewmaster", brewmaster);
+
+    return objectType;
+  }
+
+  private static PropertyShape createPropertyShape(String name) {
+    return PropertyShape.builder()
+        .name(name)
+        .path(PredicatePath.builder()
+            .iri(Values.iri(BEER_DEF, name))
+            .build())
+        .datatype(XSD.STRING)
+        .build();
+  }
+}
@@ -1,10 +1,17 @@
 package org.dotwebstack.framework.core;
 
 import static graphql.schema.visibility.BlockedFields.newBlock;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConfigurationException;
 import static org.dotwebstack.framework.core.helpers.GraphQlHelper.createBlockedPatterns;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
 import graphql.GraphQL;
+import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.TypeResolver;
 import graphql.schema.idl.CombinedWiringFactory;
@@ -12,12 +19,22 @@ import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import graphql.schema.idl.WiringFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dotwebstack.framework.core.graphql.PersistedQueryProvider;
+import org.dotwebstack.framework.core.graphql.PersistedQueryStore;
+import org.dotwebstack.framework.core.graphql.PreparsedDocumentCache;
+import org.dotwebstack.framework.core.helpers.ResourceLoaderUtils;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
@@ -25,6 +42,7 @@ import org.springframework.context.annotation.Profile;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(GraphqlProperties.class)
 public class GraphqlConfiguration {
 
   @Bean
@@ -68,11 +86,78 @@ public class GraphqlConfiguration {
   }
 
   @Bean
-  public GraphQL graphql(@NonNull GraphQLSchema graphqlSchema, @Nullable List<Instrumentation> instrumentations) {
+  public PreparsedDocumentProvider preparsedDocumentProvider(GraphqlProperties graphqlProperties,
+      @Nullable MeterRegistry meterRegistry) {
+    PreparsedDocumentProvider documentProvider = NoOpPreparsedDocumentProvider.INSTANCE;
+
+    if (graphqlProperties.getDocumentCacheSize() > 0) {
+      var documentCache = new PreparsedDocumentCache(graphqlProperties.getDocumentCacheSize());
+      bindMetrics(documentCache, meterRegistry);
+      documentProvider = documentCache;
+    }
+
+    var persistedQueries = graphqlProperties.getPersistedQueries();
+
+    if (!persistedQueries.isEnabled()) {
+      return documentProvider;
+    }
+
+    var persistedQueryStore = new PersistedQueryStore(persistedQueries.getCacheSize(),
+        readPersistedQueries(persistedQueries.getLocation()), persistedQueries.isRegistration());
+    bindMetrics(persistedQueryStore, meterRegistry);
+
+    return new PersistedQueryProvider(persistedQueryStore, documentProvider);
+  }
+
+  private static void bindMetrics(MeterBinder meterBinder, MeterRegistry meterRegistry) {
+    if (meterRegistry != null) {
+      meterBinder.bindTo(meterRegistry);
+    }
+  }
+
+  static Map<String, String> readPersistedQueries(String location) {
+    if (StringUtils.isBlank(location)) {
+      return Map.of();
+    }
+
+    var resource = ResourceLoaderUtils.getResource(location)
+        .orElseThrow(() -> invalidConfigurationException("Persisted queries not found on location: {}", location));
+
+    Map<String, String> persistedQueries;
+
+    try (var inputStream = resource.getInputStream()) {
+      persistedQueries = new ObjectMapper().readValue(inputStream, new TypeReference<Map<String, String>>() {});
+    } catch (IOException e) {
+      throw invalidConfigurationException("Error while reading persisted queries.", e);
+    }
+
+    persistedQueries.forEach((hash, query) -> {
+      if (!Hashing.sha256()
+          .hashString(query, StandardCharsets.UTF_8)
+          .toString()
+          .equalsIgnoreCase(hash)) {
+        throw invalidConfigurationException("Persisted query hash '{}' does not match the sha256 hash of its query.",
+            hash);
+      }
+    });
+
+    LOG.info("Preloaded {} persisted queries.", persistedQueries.size());
+
+    return persistedQueries;
+  }
+
+  @Bean
+  public GraphQL graphql(@NonNull GraphQLSchema graphqlSchema, @Nullable List<Instrumentation> instrumentations,
+      @Nullable PreparsedDocumentProvider preparsedDocumentProvider) {
     var builder = GraphQL.newGraphQL(graphqlSchema);
 
-    if (instrumentations != null) {
-      instrumentations.forEach(builder::instrumentation);
+    if (preparsedDocumentProvider != null) {
+      builder.preparsedDocumentProvider(preparsedDocumentProvider);
+    }
+
+    if (instrumentations != null && !instrumentations.isEmpty()) {
+      builder.instrumentation(instrumentations.size() == 1 ? instrumentations.get(0)
+          : new ChainedInstrumentation(instrumentations));
     }
 
     return builder.build();
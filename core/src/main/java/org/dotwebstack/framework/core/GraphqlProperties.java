@@ -0,0 +1,37 @@
+package org.dotwebstack.framework.core;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "dotwebstack.graphql")
+public class GraphqlProperties {
+
+  @PositiveOrZero
+  private long documentCacheSize = 500;
+
+  @Valid
+  @NotNull
+  private PersistedQueries persistedQueries = new PersistedQueries();
+
+  @Getter
+  @Setter
+  public static class PersistedQueries {
+
+    private boolean enabled = false;
+
+    private boolean registration = true;
+
+    @PositiveOrZero
+    private long cacheSize = 1000;
+
+    private String location;
+  }
+}
@@ -5,6 +5,7 @@ import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
 import static graphql.Scalars.GraphQLBoolean;
 import static graphql.Scalars.GraphQLFloat;
 import static graphql.Scalars.GraphQLInt;
+import static graphql.Scalars.GraphQLString;
 import static graphql.language.EnumTypeDefinition.newEnumTypeDefinition;
 import static graphql.language.EnumValueDefinition.newEnumValueDefinition;
 import static graphql.language.FieldDefinition.newFieldDefinition;
@@ -30,14 +31,19 @@ import static org.dotwebstack.framework.core.datafetchers.aggregate.AggregateCon
 import static org.dotwebstack.framework.core.datafetchers.aggregate.AggregateHelper.isAggregate;
 import static org.dotwebstack.framework.core.datafetchers.filter.FilterConstants.FILTER_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.datafetchers.filter.FilterConstants.OR_FIELD;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.AFTER_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.BEFORE_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.END_CURSOR_FIELD_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.FIRST_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.NODES_FIELD_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.OFFSET_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.OFFSET_FIELD_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.START_CURSOR_FIELD_NAME;
 import static org.dotwebstack.framework.core.graphql.GraphQlConstants.CUSTOM_FIELD_VALUEFETCHER;
 import static org.dotwebstack.framework.core.graphql.GraphQlConstants.IS_BATCH_KEY_QUERY;
 import static org.dotwebstack.framework.core.graphql.GraphQlConstants.IS_CONNECTION_TYPE;
 import static org.dotwebstack.framework.core.graphql.GraphQlConstants.IS_NESTED;
+import static org.dotwebstack.framework.core.graphql.GraphQlConstants.IS_PAGING_CURSOR;
 import static org.dotwebstack.framework.core.graphql.GraphQlConstants.IS_PAGING_NODE;
 import static org.dotwebstack.framework.core.graphql.GraphQlConstants.IS_VISIBLE;
 import static org.dotwebstack.framework.core.graphql.GraphQlConstants.KEY_FIELD;
@@ -288,6 +294,14 @@ public class TypeDefinitionRegistrySchemaFactory {
         .fieldDefinition(newFieldDefinition().name(OFFSET_FIELD_NAME)
             .type(newNonNullableType(GraphQLInt.getName()))
             .build())
+        .fieldDefinition(newFieldDefinition().name(START_CURSOR_FIELD_NAME)
+            .type(newType(GraphQLString.getName()))
+            .additionalData(IS_PAGING_CURSOR, TRUE.toString())
+            .build())
+        .fieldDefinition(newFieldDefinition().name(END_CURSOR_FIELD_NAME)
+            .type(newType(GraphQLString.getName()))
+            .additionalData(IS_PAGING_CURSOR, TRUE.toString())
+            .build())
         .additionalData(Map.of(IS_CONNECTION_TYPE, TRUE.toString()))
         .build();
   }
@@ -649,7 +663,9 @@ public class TypeDefinitionRegistrySchemaFactory {
 
   private List<InputValueDefinition> createPagingArguments(Query query) {
     if (query.isList() && query.isPageable()) {
-      return Stream.concat(createFirstArgument().stream(), createOffsetArgument().stream())
+      return Stream.of(createFirstArgument(), createOffsetArgument(), createCursorArgument(AFTER_ARGUMENT_NAME),
+          createCursorArgument(BEFORE_ARGUMENT_NAME))
+          .flatMap(Optional::stream)
           .toList();
     }
 
@@ -670,6 +686,12 @@ public class TypeDefinitionRegistrySchemaFactory {
         .build());
   }
 
+  private Optional<InputValueDefinition> createCursorArgument(String argumentName) {
+    return Optional.of(newInputValueDefinition().name(argumentName)
+        .type(newType(GraphQLString.getName()))
+        .build());
+  }
+
   private List<InputValueDefinition> createInputValueDefinitions(ObjectField objectField) {
     var inputValueDefinitions = new ArrayList<InputValueDefinition>();
 
@@ -702,6 +724,8 @@ public class TypeDefinitionRegistrySchemaFactory {
       if (objectField.isPageable() && objectField.isList()) {
         createFirstArgument().ifPresent(inputValueDefinitions::add);
         createOffsetArgument().ifPresent(inputValueDefinitions::add);
+        createCursorArgument(AFTER_ARGUMENT_NAME).ifPresent(inputValueDefinitions::add);
+        createCursorArgument(BEFORE_ARGUMENT_NAME).ifPresent(inputValueDefinitions::add);
       }
     }
 
@@ -7,4 +7,6 @@ public class BackendConstants {
   public static final String JOIN_KEY_PREFIX = "$join:";
 
   public static final String PAGING_KEY_PREFIX = "$paging:";
+
+  public static final String REMOVED_KEY = "$removed";
 }
@@ -3,11 +3,18 @@ package org.dotwebstack.framework.core.backend;
 import static graphql.schema.GraphQLTypeUtil.unwrapNonNull;
 import static org.dataloader.DataLoaderFactory.newMappedDataLoader;
 import static org.dotwebstack.framework.core.backend.BackendConstants.JOIN_KEY_PREFIX;
+import static org.dotwebstack.framework.core.backend.BackendConstants.PAGING_KEY_PREFIX;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.NODES_FIELD_NAME;
 import static org.dotwebstack.framework.core.graphql.GraphQlConstants.IS_BATCH_KEY_QUERY;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalStateException;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.requestValidationException;
 import static org.dotwebstack.framework.core.helpers.GraphQlHelper.getKeyArguments;
 import static org.dotwebstack.framework.core.helpers.ObjectHelper.castToList;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.OBJECT_TYPE_KEY;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.getObservation;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.observe;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.observeRows;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.orNoop;
 import static org.dotwebstack.framework.core.helpers.TypeHelper.isListType;
 import static org.dotwebstack.framework.core.helpers.TypeHelper.isSubscription;
 
@@ -16,28 +23,40 @@ import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLTypeUtil;
+import graphql.schema.SelectedField;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.dataloader.DataLoader;
 import org.dataloader.DataLoaderOptions;
-import org.dataloader.MappedBatchLoader;
 import org.dotwebstack.framework.core.backend.validator.GraphQlValidator;
 import org.dotwebstack.framework.core.helpers.TypeHelper;
 import org.dotwebstack.framework.core.model.Settings;
 import org.dotwebstack.framework.core.query.model.BatchRequest;
 import org.dotwebstack.framework.core.query.model.CollectionBatchRequest;
+import org.dotwebstack.framework.core.query.model.CollectionRequest;
 import org.dotwebstack.framework.core.query.model.JoinCondition;
 import org.dotwebstack.framework.core.query.model.JoinCriteria;
+import org.dotwebstack.framework.core.query.model.ObjectRequest;
 import org.dotwebstack.framework.core.query.model.RequestContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 class BackendDataFetcher implements DataFetcher<Object> {
 
+  static final String LOAD_OBSERVATION = "dotwebstack.backend.load";
+
   private final BackendLoader backendLoader;
 
   private final BackendRequestFactory requestFactory;
@@ -48,18 +67,62 @@ class BackendDataFetcher implements DataFetcher<Object> {
 
   private final Settings settings;
 
+  private final ObservationRegistry observationRegistry;
+
+  private final SubscriptionRegistry subscriptionRegistry;
+
   public BackendDataFetcher(BackendLoader backendLoader, BackendRequestFactory requestFactory,
-      BackendExecutionStepInfo backendExecutionStepInfo, List<GraphQlValidator> graphQlValidators, Settings settings) {
+      BackendExecutionStepInfo backendExecutionStepInfo, List<GraphQlValidator> graphQlValidators, Settings settings,
+      ObservationRegistry observationRegistry) {
     this.backendLoader = backendLoader;
     this.requestFactory = requestFactory;
     this.backendExecutionStepInfo = backendExecutionStepInfo;
     this.graphQlValidators = graphQlValidators;
     this.settings = settings;
+    this.observationRegistry = orNoop(observationRegistry);
+    this.subscriptionRegistry = new SubscriptionRegistry(settings);
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public Object get(DataFetchingEnvironment environment) {
     Map<String, Object> source = environment.getSource();
+    var nodes = source != null ? source.get(PAGING_KEY_PREFIX.concat(NODES_FIELD_NAME)) : null;
+
+    if (nodes instanceof CompletableFuture<?> nodesFuture) {
+      return completeNodes(environment, (CompletableFuture<Object>) nodesFuture);
+    }
+
+    return fetch(environment);
+  }
+
+  private Object completeNodes(DataFetchingEnvironment environment, CompletableFuture<Object> nodesFuture) {
+    Object result;
+
+    try {
+      result = fetch(environment);
+    } catch (RuntimeException e) {
+      nodesFuture.completeExceptionally(e);
+      throw e;
+    }
+
+    if (result instanceof CompletableFuture<?> resultFuture) {
+      resultFuture.whenComplete((value, throwable) -> {
+        if (throwable != null) {
+          nodesFuture.completeExceptionally(throwable);
+        } else {
+          nodesFuture.complete(value);
+        }
+      });
+    } else {
+      nodesFuture.complete(result);
+    }
+
+    return result;
+  }
+
+  private Object fetch(DataFetchingEnvironment environment) {
+    Map<String, Object> source = environment.getSource();
 
     var executionStepInfo = backendExecutionStepInfo.getExecutionStepInfo((environment));
 
@@ -105,23 +168,48 @@ class BackendDataFetcher implements DataFetcher<Object> {
             () -> createManyBatchLoader(environment, requestContext, joinCondition)).load(joinCondition.getKey());
       }
 
-      var result = backendLoader.loadMany(collectionRequest, requestContext)
-          .map(row -> row);
-
       if (isSubscription) {
-        return result;
+        return subscriptionRegistry.subscribe(createSubscriptionKey(environment, fieldName),
+            () -> loadMany(environment, collectionRequest, requestContext),
+            () -> backendLoader.loadChanges(collectionRequest, requestContext)
+                .map(row -> row));
       }
 
-      return result.collectList()
+      return loadMany(environment, collectionRequest, requestContext).collectList()
           .toFuture();
     }
 
     var objectRequest = requestFactory.createObjectRequest(executionStepInfo, environment.getSelectionSet());
 
-    return backendLoader.loadSingle(objectRequest, requestContext)
+    return observe(backendLoader.loadSingle(objectRequest, requestContext), createObservation(environment))
         .toFuture();
   }
 
+  private Flux<Object> loadMany(DataFetchingEnvironment environment, CollectionRequest collectionRequest,
+      RequestContext requestContext) {
+    return observeRows(backendLoader.loadMany(collectionRequest, requestContext), createObservation(environment))
+        .map(row -> row);
+  }
+
+  // Fields of interfaces are selected once for every implementing type, with the same arguments
+  private static SubscriptionKey createSubscriptionKey(DataFetchingEnvironment environment, String fieldName) {
+    var selection = environment.getSelectionSet()
+        .getFields()
+        .stream()
+        .collect(Collectors.toMap(BackendDataFetcher::getResultPath, SelectedField::getArguments,
+            (first, second) -> first));
+
+    return new SubscriptionKey(fieldName, environment.getArguments(), selection);
+  }
+
+  // Aliases are part of the path, since aliased fields with different arguments are selected separately
+  private static String getResultPath(SelectedField field) {
+    var parentField = field.getParentField();
+
+    return parentField != null ? getResultPath(parentField).concat("/")
+        .concat(field.getResultKey()) : field.getResultKey();
+  }
+
   private List<?> executeBatchQueryWithKeys(DataFetchingEnvironment environment, RequestContext requestContext) {
     DataLoader<Map<String, Object>, ?> batchLoader;
 
@@ -198,24 +286,25 @@ class BackendDataFetcher implements DataFetcher<Object> {
 
     var collectionRequest = requestFactory.createCollectionRequest(executionStepInfo, environment.getSelectionSet());
 
-    MappedBatchLoader<Map<String, Object>, List<Map<String, Object>>> batchLoader = keys -> {
-      var collectionBatchRequest = CollectionBatchRequest.builder()
-          .collectionRequest(collectionRequest)
-          .joinCriteria(JoinCriteria.builder()
-              .keys(keys)
-              .joinCondition(joinCondition)
-              .build())
-          .build();
-
-      return backendLoader.batchLoadMany(collectionBatchRequest, requestContext)
-          .flatMap(group -> group.collectList()
-              .map(rows -> Tuples.of(group.key(), rows)))
-          .collectMap(Tuple2::getT1, Tuple2::getT2)
-          .toFuture();
-    };
+    return createDataLoader(environment, keys -> batchLoadMany(collectionRequest, requestContext, joinCondition, keys),
+        DataLoaderOptions.newOptions()
+            .setMaxBatchSize(settings.getMaxBatchSize()));
+  }
 
-    return newMappedDataLoader(batchLoader, DataLoaderOptions.newOptions()
-        .setMaxBatchSize(settings.getMaxBatchSize()));
+  private Mono<Map<Map<String, Object>, List<Map<String, Object>>>> batchLoadMany(CollectionRequest collectionRequest,
+      RequestContext requestContext, JoinCondition joinCondition, Set<Map<String, Object>> keys) {
+    var collectionBatchRequest = CollectionBatchRequest.builder()
+        .collectionRequest(collectionRequest)
+        .joinCriteria(JoinCriteria.builder()
+            .keys(keys)
+            .joinCondition(joinCondition)
+            .build())
+        .build();
+
+    return backendLoader.batchLoadMany(collectionBatchRequest, requestContext)
+        .flatMap(group -> group.collectList()
+            .map(rows -> Tuples.of(group.key(), rows)))
+        .collectMap(Tuple2::getT1, Tuple2::getT2);
   }
 
   private DataLoader<Map<String, Object>, Map<String, Object>> createSingleBatchLoader(
@@ -223,20 +312,49 @@ class BackendDataFetcher implements DataFetcher<Object> {
     var executionStepInfo = backendExecutionStepInfo.getExecutionStepInfo(environment);
     var objectRequest = requestFactory.createObjectRequest(executionStepInfo, environment.getSelectionSet());
 
-    MappedBatchLoader<Map<String, Object>, Map<String, Object>> batchLoader = keys -> {
+    return createDataLoader(environment, keys -> batchLoadSingle(objectRequest, requestContext, keys),
+        DataLoaderOptions.newOptions());
+  }
 
-      var batchRequest = BatchRequest.builder()
-          .objectRequest(objectRequest)
-          .keys(keys)
-          .build();
+  private Mono<Map<Map<String, Object>, Map<String, Object>>> batchLoadSingle(ObjectRequest objectRequest,
+      RequestContext requestContext, Set<Map<String, Object>> keys) {
+    var batchRequest = BatchRequest.builder()
+        .objectRequest(objectRequest)
+        .keys(keys)
+        .build();
 
-      return backendLoader.batchLoadSingle(batchRequest, requestContext)
-          .collectMap(Tuple2::getT1, objects -> objects.getT2() != BackendLoader.NILL_MAP ? objects.getT2() : null,
-              HashMap::new)
-          .toFuture();
-    };
+    return backendLoader.batchLoadSingle(batchRequest, requestContext)
+        .collectMap(Tuple2::getT1, objects -> objects.getT2() != BackendLoader.NILL_MAP ? objects.getT2() : null,
+            HashMap::new);
+  }
+
+  private <K, V> DataLoader<K, V> createDataLoader(DataFetchingEnvironment environment,
+      Function<Set<K>, Mono<Map<K, V>>> batchLoader, DataLoaderOptions options) {
+    if (observationRegistry.isNoop()) {
+      return newMappedDataLoader(keys -> batchLoader.apply(keys)
+          .toFuture(), options);
+    }
+
+    var batchLoaderObservation = new BatchLoaderObservation(observationRegistry, getObjectTypeName(environment),
+        getObservation(environment.getGraphQlContext()));
+
+    return newMappedDataLoader(batchLoaderObservation.observe(batchLoader),
+        options.setStatisticsCollector(() -> batchLoaderObservation));
+  }
+
+  private Observation createObservation(DataFetchingEnvironment environment) {
+    if (observationRegistry.isNoop()) {
+      return Observation.NOOP;
+    }
 
-    return newMappedDataLoader(batchLoader);
+    return Observation.createNotStarted(LOAD_OBSERVATION, observationRegistry)
+        .lowCardinalityKeyValue(OBJECT_TYPE_KEY, getObjectTypeName(environment))
+        .parentObservation(getObservation(environment.getGraphQlContext()));
+  }
+
+  private static String getObjectTypeName(DataFetchingEnvironment environment) {
+    return GraphQLTypeUtil.unwrapAll(environment.getFieldType())
+        .getName();
   }
 
   private String getLookupName(ExecutionStepInfo executionStepInfo, String fieldName) {
@@ -247,4 +365,8 @@ class BackendDataFetcher implements DataFetcher<Object> {
                 .getResultKey())
             : fieldName;
   }
+
+  private record SubscriptionKey(String fieldName, Map<String, Object> arguments,
+      Map<String, Map<String, Object>> selection) {
+  }
 }
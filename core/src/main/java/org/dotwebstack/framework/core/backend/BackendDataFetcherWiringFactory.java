@@ -6,18 +6,21 @@ import static org.dotwebstack.framework.core.datafetchers.aggregate.AggregateCon
 import static org.dotwebstack.framework.core.graphql.GraphQlConstants.CUSTOM_FIELD_VALUEFETCHER;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalStateException;
 import static org.dotwebstack.framework.core.helpers.GraphQlHelper.getAdditionalData;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.orNoop;
 import static org.dotwebstack.framework.core.helpers.TypeHelper.getTypeName;
 
 import graphql.language.TypeDefinition;
 import graphql.schema.DataFetcher;
 import graphql.schema.idl.FieldWiringEnvironment;
 import graphql.schema.idl.WiringFactory;
+import io.micrometer.observation.ObservationRegistry;
 import java.util.List;
 import javax.annotation.Nullable;
 import org.dotwebstack.framework.core.CustomValueDataFetcher;
 import org.dotwebstack.framework.core.CustomValueFetcherDispatcher;
 import org.dotwebstack.framework.core.OnLocalSchema;
 import org.dotwebstack.framework.core.backend.validator.GraphQlValidator;
+import org.dotwebstack.framework.core.model.ObjectType;
 import org.dotwebstack.framework.core.model.Schema;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
@@ -38,15 +41,22 @@ class BackendDataFetcherWiringFactory implements WiringFactory {
 
   private final CustomValueFetcherDispatcher customValueFetcherDispatcher;
 
+  private final ObservationRegistry observationRegistry;
+
+  private final EntityCacheManager entityCacheManager;
+
   public BackendDataFetcherWiringFactory(BackendModule<?> backendModule, BackendRequestFactory requestFactory,
       Schema schema, BackendExecutionStepInfo backendExecutionStepInfo, List<GraphQlValidator> graphQlValidators,
-      @Nullable CustomValueFetcherDispatcher customValueFetcherDispatcher) {
+      @Nullable CustomValueFetcherDispatcher customValueFetcherDispatcher,
+      @Nullable ObservationRegistry observationRegistry, EntityCacheManager entityCacheManager) {
     this.backendModule = backendModule;
     this.requestFactory = requestFactory;
     this.schema = schema;
     this.backendExecutionStepInfo = backendExecutionStepInfo;
     this.graphQlValidators = graphQlValidators;
     this.customValueFetcherDispatcher = customValueFetcherDispatcher;
+    this.observationRegistry = orNoop(observationRegistry);
+    this.entityCacheManager = entityCacheManager;
   }
 
   @Override
@@ -87,16 +97,25 @@ class BackendDataFetcherWiringFactory implements WiringFactory {
     // Initialize BackendDataFetcher without BackendLoader to support aliases for Aggregates.
     if (isAliasedType(typeName, environment)) {
       return new BackendDataFetcher(null, requestFactory, backendExecutionStepInfo, graphQlValidators,
-          schema.getSettings());
+          schema.getSettings(), observationRegistry);
     } else {
       var objectType = of(typeName).flatMap(schema::getObjectType)
           .orElseThrow();
 
       var backendLoader = backendModule.getBackendLoaderFactory()
           .create(objectType);
-      return new BackendDataFetcher(backendLoader, requestFactory, backendExecutionStepInfo, graphQlValidators,
-          schema.getSettings());
+      return new BackendDataFetcher(createCachingLoader(objectType, backendLoader), requestFactory,
+          backendExecutionStepInfo, graphQlValidators, schema.getSettings(), observationRegistry);
+    }
+  }
+
+  // The data fetchers of an object type share a single cache, since the selection is part of the key
+  private BackendLoader createCachingLoader(ObjectType<?> objectType, BackendLoader backendLoader) {
+    if (objectType.getCache() == null) {
+      return backendLoader;
     }
+
+    return new CachingBackendLoader(backendLoader, entityCacheManager.getCache(objectType), entityCacheManager);
   }
 
   private boolean isCustomValueField(FieldWiringEnvironment environment) {
@@ -24,4 +24,14 @@ public interface BackendLoader {
 
   Flux<Tuple2<Map<String, Object>, Map<String, Object>>> batchLoadSingle(BatchRequest batchRequest,
       RequestContext requestContext);
+
+  /**
+   * Returns the objects matching the collection request which are changed after subscribing, for backends which are
+   * able to detect changes. Objects which are deleted, or which no longer match the request, are signalled with a
+   * tombstone: an object holding only its key fields and {@link BackendConstants#REMOVED_KEY}. The returned flux does
+   * not complete by itself.
+   */
+  default Flux<Map<String, Object>> loadChanges(CollectionRequest collectionRequest, RequestContext context) {
+    return Flux.empty();
+  }
 }
@@ -268,6 +268,7 @@ public class BackendRequestFactory {
     return RequestContext.builder()
         .objectField(objectField)
         .source(source)
+        .graphQlContext(environment.getGraphQlContext())
         .build();
   }
 
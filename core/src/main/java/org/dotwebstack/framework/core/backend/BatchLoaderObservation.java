@@ -0,0 +1,104 @@
+package org.dotwebstack.framework.core.backend;
+
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.OBJECT_TYPE_KEY;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.sizeBucket;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.dataloader.MappedBatchLoader;
+import org.dataloader.stats.SimpleStatisticsCollector;
+import org.dataloader.stats.context.IncrementBatchLoadCountByStatisticsContext;
+import org.dataloader.stats.context.IncrementCacheHitCountStatisticsContext;
+import org.dataloader.stats.context.IncrementLoadCountStatisticsContext;
+import org.dotwebstack.framework.core.helpers.ObservationHelper;
+import reactor.core.publisher.Mono;
+
+/**
+ * Observes the batches of a data loader. The wait observation runs from the first key which is loaded until the batch
+ * is dispatched, the batch observation covers the execution of the batch itself and records the batch size. Loads
+ * which are served from the data loader cache end a pending wait without a batch. Both are nested in the given parent
+ * observation, and the batch observation is passed on to the backend.
+ */
+class BatchLoaderObservation extends SimpleStatisticsCollector {
+
+  static final String WAIT_OBSERVATION = "dotwebstack.batch.wait";
+
+  static final String LOAD_OBSERVATION = "dotwebstack.batch.load";
+
+  static final String BATCH_SIZE_KEY = "dotwebstack.batch.size";
+
+  static final String BATCH_KEYS_KEY = "dotwebstack.batch.keys";
+
+  static final String OUTCOME_KEY = "dotwebstack.batch.outcome";
+
+  private final ObservationRegistry observationRegistry;
+
+  private final String objectTypeName;
+
+  private final Observation parentObservation;
+
+  private Observation waitObservation;
+
+  private int pendingLoads;
+
+  BatchLoaderObservation(ObservationRegistry observationRegistry, String objectTypeName,
+      Observation parentObservation) {
+    this.observationRegistry = observationRegistry;
+    this.objectTypeName = objectTypeName;
+    this.parentObservation = parentObservation;
+  }
+
+  <K, V> MappedBatchLoader<K, V> observe(Function<Set<K>, Mono<Map<K, V>>> batchLoader) {
+    return keys -> {
+      var observation = Observation.createNotStarted(LOAD_OBSERVATION, observationRegistry)
+          .lowCardinalityKeyValue(OBJECT_TYPE_KEY, objectTypeName)
+          .lowCardinalityKeyValue(BATCH_SIZE_KEY, sizeBucket(keys.size()))
+          .highCardinalityKeyValue(BATCH_KEYS_KEY, String.valueOf(keys.size()))
+          .parentObservation(parentObservation);
+
+      return ObservationHelper.observe(batchLoader.apply(keys), observation)
+          .toFuture();
+    };
+  }
+
+  @Override
+  public synchronized <K> long incrementLoadCount(IncrementLoadCountStatisticsContext<K> context) {
+    if (pendingLoads++ == 0) {
+      waitObservation = Observation.createNotStarted(WAIT_OBSERVATION, observationRegistry)
+          .lowCardinalityKeyValue(OBJECT_TYPE_KEY, objectTypeName)
+          .parentObservation(parentObservation)
+          .start();
+    }
+
+    return super.incrementLoadCount(context);
+  }
+
+  @Override
+  public synchronized <K> long incrementCacheHitCount(IncrementCacheHitCountStatisticsContext<K> context) {
+    if (--pendingLoads == 0) {
+      stopWait("cached");
+    }
+
+    return super.incrementCacheHitCount(context);
+  }
+
+  @Override
+  public synchronized <K> long incrementBatchLoadCountBy(long delta,
+      IncrementBatchLoadCountByStatisticsContext<K> context) {
+    pendingLoads = 0;
+    stopWait("dispatched");
+
+    return super.incrementBatchLoadCountBy(delta, context);
+  }
+
+  private void stopWait(String outcome) {
+    if (waitObservation != null) {
+      waitObservation.lowCardinalityKeyValue(OUTCOME_KEY, outcome)
+          .stop();
+      waitObservation = null;
+    }
+  }
+}
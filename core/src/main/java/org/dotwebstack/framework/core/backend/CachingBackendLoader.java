@@ -0,0 +1,244 @@
+package org.dotwebstack.framework.core.backend;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.dotwebstack.framework.core.config.CacheConfiguration;
+import org.dotwebstack.framework.core.model.ObjectField;
+import org.dotwebstack.framework.core.query.model.BatchRequest;
+import org.dotwebstack.framework.core.query.model.CollectionBatchRequest;
+import org.dotwebstack.framework.core.query.model.CollectionRequest;
+import org.dotwebstack.framework.core.query.model.ContextCriteria;
+import org.dotwebstack.framework.core.query.model.FieldRequest;
+import org.dotwebstack.framework.core.query.model.ObjectRequest;
+import org.dotwebstack.framework.core.query.model.RequestContext;
+import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.GroupedFlux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+/**
+ * Caches single objects across requests. Entries are keyed on the object type, the key values, the selection and the
+ * context of the request. Objects which are not found are cached as well. Requests which cannot be keyed reliably,
+ * such as nested requests and requests selecting lists or aggregates, are passed on to the backend.
+ */
+class CachingBackendLoader implements BackendLoader {
+
+  private final BackendLoader backendLoader;
+
+  private final Cache<EntityKey, Map<String, Object>> cache;
+
+  private final EntityCacheManager entityCacheManager;
+
+  CachingBackendLoader(BackendLoader backendLoader, Cache<EntityKey, Map<String, Object>> cache,
+      EntityCacheManager entityCacheManager) {
+    this.backendLoader = backendLoader;
+    this.cache = cache;
+    this.entityCacheManager = entityCacheManager;
+  }
+
+  static Cache<EntityKey, Map<String, Object>> createCache(CacheConfiguration cacheConfiguration) {
+    return CacheBuilder.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(cacheConfiguration.getTtl()))
+        .maximumSize(cacheConfiguration.getMaxSize())
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public Mono<Map<String, Object>> loadSingle(ObjectRequest objectRequest, RequestContext context) {
+    var selection = isRoot(context) ? Selection.of(objectRequest) : null;
+
+    if (selection == null) {
+      return backendLoader.loadSingle(objectRequest, context);
+    }
+
+    var key = new EntityKey(selection, objectRequest.getContextCriteria(), getKeyValues(objectRequest));
+    var cachedObject = cache.getIfPresent(key);
+
+    if (cachedObject != null) {
+      return cachedObject != NILL_MAP ? Mono.just(cachedObject) : Mono.empty();
+    }
+
+    var generation = entityCacheManager.getGeneration(selection);
+
+    return backendLoader.loadSingle(objectRequest, context)
+        .map(CachingBackendLoader::copyOf)
+        .doOnNext(object -> put(key, object, generation))
+        .switchIfEmpty(Mono.fromRunnable(() -> put(key, NILL_MAP, generation)));
+  }
+
+  @Override
+  public Flux<Map<String, Object>> loadMany(CollectionRequest collectionRequest, RequestContext context) {
+    return backendLoader.loadMany(collectionRequest, context);
+  }
+
+  @Override
+  public Flux<GroupedFlux<Map<String, Object>, Map<String, Object>>> batchLoadMany(
+      CollectionBatchRequest collectionBatchRequest, RequestContext context) {
+    return backendLoader.batchLoadMany(collectionBatchRequest, context);
+  }
+
+  @Override
+  public Flux<Tuple2<Map<String, Object>, Map<String, Object>>> batchLoadSingle(BatchRequest batchRequest,
+      RequestContext requestContext) {
+    var objectRequest = batchRequest.getObjectRequest();
+    var selection = isRoot(requestContext) ? Selection.of(objectRequest) : null;
+
+    if (selection == null) {
+      return backendLoader.batchLoadSingle(batchRequest, requestContext);
+    }
+
+    var cachedObjects = new ArrayList<Tuple2<Map<String, Object>, Map<String, Object>>>();
+    var missingKeys = new HashSet<Map<String, Object>>();
+
+    batchRequest.getKeys()
+        .forEach(batchKey -> {
+          var cachedObject =
+              cache.getIfPresent(new EntityKey(selection, objectRequest.getContextCriteria(), batchKey));
+
+          if (cachedObject != null) {
+            cachedObjects.add(Tuples.of(batchKey, cachedObject));
+          } else {
+            missingKeys.add(batchKey);
+          }
+        });
+
+    if (missingKeys.isEmpty()) {
+      return Flux.fromIterable(cachedObjects);
+    }
+
+    var missingRequest = BatchRequest.builder()
+        .objectRequest(objectRequest)
+        .keys(missingKeys)
+        .build();
+    var generation = entityCacheManager.getGeneration(selection);
+
+    return Flux.fromIterable(cachedObjects)
+        .concatWith(backendLoader.batchLoadSingle(missingRequest, requestContext)
+            .map(tuple -> Tuples.of(tuple.getT1(), copyOf(tuple.getT2())))
+            .doOnNext(tuple -> put(new EntityKey(selection, objectRequest.getContextCriteria(), tuple.getT1()),
+                tuple.getT2(), generation)));
+  }
+
+  @Override
+  public Flux<Map<String, Object>> loadChanges(CollectionRequest collectionRequest, RequestContext context) {
+    return backendLoader.loadChanges(collectionRequest, context);
+  }
+
+  // Objects are only cached when no invalidation happened since loading started, since the object may be outdated. An
+  // invalidation which happens while putting may not have seen the object yet, so the object is removed again.
+  private void put(EntityKey key, Map<String, Object> object, long generation) {
+    if (entityCacheManager.getGeneration(key.selection()) != generation) {
+      return;
+    }
+
+    cache.put(key, object);
+
+    if (entityCacheManager.getGeneration(key.selection()) != generation) {
+      cache.asMap()
+          .remove(key, object);
+    }
+  }
+
+  // Nested objects may depend on the data of their parent, which is not part of the key
+  private static boolean isRoot(RequestContext context) {
+    return context == null || context.getSource() == null;
+  }
+
+  // Cached objects are shared by all requests, so these are copied into structures which can not be modified
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> copyOf(Map<String, Object> object) {
+    return object != NILL_MAP ? (Map<String, Object>) copyValue(object) : object;
+  }
+
+  // Objects can hold null values, which are rejected by Map.copyOf and List.copyOf
+  private static Object copyValue(Object value) {
+    if (value instanceof Map<?, ?> map) {
+      var copy = new LinkedHashMap<Object, Object>();
+      map.forEach((key, nestedValue) -> copy.put(key, copyValue(nestedValue)));
+      return Collections.unmodifiableMap(copy);
+    }
+
+    if (value instanceof List<?> list) {
+      return list.stream()
+          .map(CachingBackendLoader::copyValue)
+          .toList();
+    }
+
+    return value;
+  }
+
+  private static Map<String, Object> getKeyValues(ObjectRequest objectRequest) {
+    var keyValues = new HashMap<String, Object>();
+
+    ((SingleObjectRequest) objectRequest).getKeyCriterias()
+        .forEach(keyCriteria -> keyValues.put(String.join(".", keyCriteria.getFieldPath()
+            .stream()
+            .map(ObjectField::getName)
+            .toList()), keyCriteria.getValue()));
+
+    return keyValues;
+  }
+
+  record EntityKey(Selection selection, ContextCriteria contextCriteria, Map<String, Object> keyValues) {
+  }
+
+  record Selection(String objectType, Set<FieldRequest> scalarFields, Map<FieldRequest, Selection> objectFields) {
+
+    /**
+     * Returns the selection of the request, or null when the request selects data which is not captured by the
+     * selection.
+     */
+    static Selection of(ObjectRequest objectRequest) {
+      if (!(objectRequest instanceof SingleObjectRequest singleObjectRequest)
+          || !singleObjectRequest.getObjectListFields()
+              .isEmpty()
+          || !singleObjectRequest.getAggregateObjectFields()
+              .isEmpty()) {
+        return null;
+      }
+
+      var objectFields = new HashMap<FieldRequest, Selection>();
+
+      for (var objectField : singleObjectRequest.getObjectFields()
+          .entrySet()) {
+        var selection = of(objectField.getValue());
+
+        if (selection == null) {
+          return null;
+        }
+
+        objectFields.put(objectField.getKey(), selection);
+      }
+
+      return new Selection(singleObjectRequest.getObjectType()
+          .getName(), Set.copyOf(singleObjectRequest.getScalarFields()), objectFields);
+    }
+
+    Set<String> objectTypes() {
+      var objectTypes = new HashSet<String>();
+      objectTypes.add(objectType);
+      objectFields.values()
+          .forEach(selection -> objectTypes.addAll(selection.objectTypes()));
+      return objectTypes;
+    }
+
+    boolean embeds(String objectTypeName) {
+      return objectFields.values()
+          .stream()
+          .anyMatch(selection -> selection.objectType()
+              .equals(objectTypeName) || selection.embeds(objectTypeName));
+    }
+  }
+}
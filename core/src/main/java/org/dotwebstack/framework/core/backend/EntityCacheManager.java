@@ -0,0 +1,113 @@
+package org.dotwebstack.framework.core.backend;
+
+import com.google.common.cache.Cache;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.core.backend.CachingBackendLoader.EntityKey;
+import org.dotwebstack.framework.core.backend.CachingBackendLoader.Selection;
+import org.dotwebstack.framework.core.model.ObjectType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the entity caches of the object types, which are shared by all data fetchers of an object type. Backend modules
+ * use it to invalidate cached entities as soon as they learn that the underlying data has changed. Cached entities of
+ * other object types which embed the changed object type are invalidated as well, since their nested objects may be
+ * outdated. Every invalidation moves the invalidation generation of the object type forward, so entities which were
+ * being loaded while being invalidated are not cached afterwards.
+ */
+@Slf4j
+@Component
+public class EntityCacheManager {
+
+  private final Map<String, Cache<EntityKey, Map<String, Object>>> entityCaches = new ConcurrentHashMap<>();
+
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  private final AtomicLong allGeneration = new AtomicLong();
+
+  Cache<EntityKey, Map<String, Object>> getCache(ObjectType<?> objectType) {
+    return entityCaches.computeIfAbsent(objectType.getName(),
+        name -> CachingBackendLoader.createCache(objectType.getCache()));
+  }
+
+  /**
+   * Returns the invalidation generation of the selection, which changes as soon as entities of any of its object types
+   * are invalidated. The generations only move forward, so their sum changes with every invalidation.
+   */
+  long getGeneration(Selection selection) {
+    var generation = allGeneration.get();
+
+    for (var objectTypeName : selection.objectTypes()) {
+      generation += generations.computeIfAbsent(objectTypeName, name -> new AtomicLong())
+          .get();
+    }
+
+    return generation;
+  }
+
+  public void invalidate(String objectTypeName) {
+    nextGeneration(objectTypeName);
+
+    var cache = entityCaches.get(objectTypeName);
+
+    if (cache != null) {
+      LOG.debug("Invalidating entity cache of object type {}.", objectTypeName);
+      cache.invalidateAll();
+    }
+
+    invalidateEmbedding(objectTypeName);
+  }
+
+  /**
+   * Invalidates the cached entities of the object type which may match the given key values. Entities are only kept
+   * when one of their key values is known to differ, since entities can be cached under any of their keys.
+   */
+  public void invalidate(String objectTypeName, Map<String, Object> keyValues) {
+    nextGeneration(objectTypeName);
+
+    var cache = entityCaches.get(objectTypeName);
+
+    if (cache != null) {
+      LOG.debug("Invalidating entity cache of object type {} for key {}.", objectTypeName, keyValues);
+      cache.asMap()
+          .keySet()
+          .removeIf(entityKey -> mayMatch(entityKey.keyValues(), keyValues));
+    }
+
+    invalidateEmbedding(objectTypeName);
+  }
+
+  public void invalidateAll() {
+    LOG.debug("Invalidating all entity caches.");
+    allGeneration.incrementAndGet();
+    entityCaches.values()
+        .forEach(Cache::invalidateAll);
+  }
+
+  // The generation moves forward before the entities are removed, so a load which did not see the generation change
+  // puts its entity before the removal
+  private void nextGeneration(String objectTypeName) {
+    generations.computeIfAbsent(objectTypeName, name -> new AtomicLong())
+        .incrementAndGet();
+  }
+
+  // The keys of the embedded objects are not known, so all entities embedding the object type are invalidated
+  private void invalidateEmbedding(String objectTypeName) {
+    entityCaches.values()
+        .forEach(cache -> cache.asMap()
+            .keySet()
+            .removeIf(entityKey -> entityKey.selection()
+                .embeds(objectTypeName)));
+  }
+
+  // Values are compared as strings, since notifications do not carry the types of the key arguments
+  private static boolean mayMatch(Map<String, Object> cachedKeyValues, Map<String, Object> keyValues) {
+    return cachedKeyValues.entrySet()
+        .stream()
+        .allMatch(entry -> !keyValues.containsKey(entry.getKey()) || Objects.equals(String.valueOf(entry.getValue()),
+            String.valueOf(keyValues.get(entry.getKey()))));
+  }
+}
@@ -0,0 +1,67 @@
+package org.dotwebstack.framework.core.backend;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.core.model.Settings;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+/**
+ * Shares the change streams of identical subscriptions, so the backend only listens once for all of their subscribers.
+ * The initial objects are loaded for every subscriber separately, so subscribers joining a running stream always start
+ * from the current result, followed by the changes made from then on. Every subscriber has its own bounded buffer,
+ * which drops the oldest changes when the subscriber falls behind, so slow subscribers do not hold back the others. A
+ * change stream is stopped as soon as its last subscriber leaves. Once the configured number of shared streams is
+ * reached, additional subscriptions get a change stream of their own.
+ */
+@Slf4j
+class SubscriptionRegistry {
+
+  private final Map<Object, Flux<Object>> subscriptions = new ConcurrentHashMap<>();
+
+  private final Settings settings;
+
+  public SubscriptionRegistry(Settings settings) {
+    this.settings = settings;
+  }
+
+  public Flux<Object> subscribe(Object key, Supplier<Flux<Object>> initialSupplier,
+      Supplier<Flux<Object>> changesSupplier) {
+    var changes = getChanges(key, changesSupplier).onBackpressureBuffer(settings.getSubscriptionBufferSize(),
+        dropped -> LOG.debug("Subscriber of {} fell behind, dropped: {}", key, dropped),
+        BufferOverflowStrategy.DROP_OLDEST);
+
+    // Changes are subscribed to along with the initial objects, so changes made while loading are not missed. The
+    // merge only prefetches a single change, so the buffer above decides what is dropped for slow subscribers.
+    return Flux.merge(1, initialSupplier.get(), changes);
+  }
+
+  private Flux<Object> getChanges(Object key, Supplier<Flux<Object>> changesSupplier) {
+    var changes = subscriptions.get(key);
+
+    if (changes != null) {
+      return changes;
+    }
+
+    if (subscriptions.size() >= settings.getMaxSharedSubscriptions()) {
+      LOG.debug("Maximum number of shared subscriptions reached, not sharing: {}", key);
+      return changesSupplier.get();
+    }
+
+    return subscriptions.computeIfAbsent(key, k -> share(k, changesSupplier.get()));
+  }
+
+  private Flux<Object> share(Object key, Flux<Object> upstream) {
+    var shared = new AtomicReference<Flux<Object>>();
+
+    // Completed, failed or abandoned streams are removed, so subsequent subscribers listen again
+    shared.set(upstream.doFinally(signal -> subscriptions.remove(key, shared.get()))
+        .publish()
+        .refCount());
+
+    return shared.get();
+  }
+}
@@ -19,22 +19,22 @@ public abstract class AbstractObjectMapper<T> implements ObjectFieldMapper<T> {
   protected final Map<String, FieldMapper<T, ?>> fieldMappers = new HashMap<>();
 
   @Override
+  @SuppressWarnings("unchecked")
   public Map<String, Object> apply(T row) {
-    return fieldMappers.entrySet()
-        .stream()
-        .collect(HashMap::new, (map, entry) -> {
-          if (entry.getKey()
-              .equals(JSON)) {
-            var val = (Map<String, Object>) entry.getValue()
-                .apply(row);
-            if (!val.isEmpty()) {
-              map.putAll(val);
-            }
-          } else {
-            map.put(entry.getKey(), entry.getValue()
-                .apply(row));
-          }
-        }, HashMap::putAll);
+    var result = new HashMap<String, Object>(fieldMappers.size() * 2);
+
+    for (var entry : fieldMappers.entrySet()) {
+      if (entry.getKey()
+          .equals(JSON)) {
+        result.putAll((Map<String, Object>) entry.getValue()
+            .apply(row));
+      } else {
+        result.put(entry.getKey(), entry.getValue()
+            .apply(row));
+      }
+    }
+
+    return result;
   }
 
   public void register(String name, FieldMapper<T, ?> fieldMapper) {
@@ -0,0 +1,199 @@
+package org.dotwebstack.framework.core.backend.query;
+
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalStateException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.dotwebstack.framework.core.model.Context;
+import org.dotwebstack.framework.core.model.ObjectField;
+import org.dotwebstack.framework.core.model.ObjectType;
+import org.dotwebstack.framework.core.query.model.RequestContext;
+
+/**
+ * The shape of a request, which is everything the query builders can branch on. The whole request is walked: schema
+ * objects are compared by identity, enums and map keys by equality, collections by their size and elements and request
+ * objects by the values of all their fields. Any other value is a leaf, which only adds its class to the key. The leaf
+ * values are kept apart, so these can either be bound to a cached query or be compared with the values the cached query
+ * was built for.
+ */
+public final class QueryShape {
+
+  private static final String FRAMEWORK_PACKAGE = "org.dotwebstack.framework.";
+
+  private static final int AMBIGUOUS = -1;
+
+  private static final ClassValue<List<Field>> FIELDS = new ClassValue<>() {
+    @Override
+    protected List<Field> computeValue(Class<?> type) {
+      var fields = new ArrayList<Field>();
+
+      for (var current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+        Arrays.stream(current.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+            .forEach(field -> {
+              field.setAccessible(true);
+              fields.add(field);
+            });
+      }
+
+      return List.copyOf(fields);
+    }
+  };
+
+  private final List<Object> tokens = new ArrayList<>();
+
+  private final List<Object> leaves = new ArrayList<>();
+
+  private final Map<Object, Integer> leafIndexes = new IdentityHashMap<>();
+
+  private final List<Object> key;
+
+  private QueryShape(Object request, RequestContext requestContext, Object... schemaObjects) {
+    for (var schemaObject : schemaObjects) {
+      tokens.add(new Identity(schemaObject));
+    }
+
+    walk(request);
+
+    // The GraphQL context of the request context is not used for building queries
+    if (requestContext != null) {
+      walk(requestContext.getObjectField());
+      walk(requestContext.getSource());
+    } else {
+      tokens.add(Marker.NULL);
+    }
+
+    key = List.copyOf(tokens);
+  }
+
+  /**
+   * Creates the shape of a request. The schema objects the query is built for, apart from the ones referenced by the
+   * request itself, are part of the key as well.
+   */
+  public static QueryShape of(Object request, RequestContext requestContext, Object... schemaObjects) {
+    return new QueryShape(request, requestContext, schemaObjects);
+  }
+
+  public List<Object> getKey() {
+    return key;
+  }
+
+  public List<Object> getLeaves() {
+    return leaves;
+  }
+
+  /**
+   * Returns the index of the leaf holding the given value, which is compared by identity. Returns -1 when the value is
+   * not a leaf of this shape, or when it is held by more than one leaf.
+   */
+  public int indexOf(Object value) {
+    return leafIndexes.getOrDefault(value, AMBIGUOUS);
+  }
+
+  private void walk(Object value) {
+    if (value == null) {
+      tokens.add(Marker.NULL);
+    } else if (value instanceof ObjectType<?> || value instanceof ObjectField || value instanceof Context) {
+      tokens.add(new Identity(value));
+    } else if (value instanceof Enum<?>) {
+      tokens.add(value);
+    } else if (isKeySet(value)) {
+      walkKeys((Set<?>) value);
+    } else if (value instanceof Map<?, ?> map) {
+      tokens.add(Marker.MAP);
+      tokens.add(map.size());
+      map.forEach((entryKey, entryValue) -> {
+        walkKey(entryKey);
+        walk(entryValue);
+      });
+    } else if (value instanceof Collection<?> collection) {
+      tokens.add(Marker.COLLECTION);
+      tokens.add(collection.size());
+      collection.forEach(this::walk);
+    } else if (value.getClass()
+        .getName()
+        .startsWith(FRAMEWORK_PACKAGE)) {
+      walkFields(value);
+    } else {
+      tokens.add(value.getClass());
+      addLeaf(value);
+    }
+  }
+
+  private void walkKey(Object value) {
+    if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+      tokens.add(value);
+    } else {
+      walk(value);
+    }
+  }
+
+  private void walkFields(Object value) {
+    tokens.add(value.getClass());
+
+    for (var field : FIELDS.get(value.getClass())) {
+      try {
+        walk(field.get(value));
+      } catch (IllegalAccessException e) {
+        throw illegalStateException("Field '{}' of '{}' could not be read.", field.getName(), value.getClass()
+            .getName(), e);
+      }
+    }
+  }
+
+  // Batch keys are bound as one array per key column, so only the key columns and the classes of their values are
+  // part of the key. The batch query takes the columns from the first key.
+  private void walkKeys(Set<?> keys) {
+    var columnTypes = new TreeMap<String, Set<Class<?>>>();
+
+    keys.forEach(key -> ((Map<?, ?>) key).forEach((column, value) -> {
+      var types = columnTypes.computeIfAbsent(String.valueOf(column), name -> new HashSet<>());
+
+      if (value != null) {
+        types.add(value.getClass());
+      }
+    }));
+
+    tokens.add(Marker.KEYS);
+    tokens.add(List.copyOf(((Map<?, ?>) keys.iterator()
+        .next()).keySet()));
+    tokens.add(columnTypes);
+    addLeaf(keys);
+  }
+
+  private void addLeaf(Object value) {
+    leafIndexes.merge(value, leaves.size(), (index, next) -> AMBIGUOUS);
+    leaves.add(value);
+  }
+
+  private static boolean isKeySet(Object value) {
+    return value instanceof Set<?> set && !set.isEmpty() && set.stream()
+        .allMatch(Map.class::isInstance);
+  }
+
+  private enum Marker {
+    NULL, MAP, COLLECTION, KEYS
+  }
+
+  private record Identity(Object value) {
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Identity identity && identity.value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(value);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package org.dotwebstack.framework.core.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class CacheConfiguration {
+
+  @Positive
+  private int ttl = 60;
+
+  @Positive
+  private long maxSize = 1000;
+}
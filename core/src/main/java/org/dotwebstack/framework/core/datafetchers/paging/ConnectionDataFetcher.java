@@ -1,8 +1,13 @@
 package org.dotwebstack.framework.core.datafetchers.paging;
 
 import static org.dotwebstack.framework.core.backend.BackendConstants.PAGING_KEY_PREFIX;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.AFTER_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.BEFORE_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.END_CURSOR_FIELD_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.FIRST_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.NODES_FIELD_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.OFFSET_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.START_CURSOR_FIELD_NAME;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalStateException;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.requestValidationException;
 
@@ -13,6 +18,7 @@ import graphql.schema.GraphQLArgument;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -31,11 +37,24 @@ public class ConnectionDataFetcher implements DataFetcher<Object> {
 
     validateArgumentValues(firstArgumentValue, offsetArgumentValue);
 
+    var afterArgumentValue = getCursorArgumentValue(environment, AFTER_ARGUMENT_NAME);
+    var beforeArgumentValue = getCursorArgumentValue(environment, BEFORE_ARGUMENT_NAME);
+
+    validateCursorArgumentValues(afterArgumentValue, beforeArgumentValue, offsetArgumentValue);
+
     Map<String, Object> data = new HashMap<>();
     data.put(PAGING_KEY_PREFIX.concat(OFFSET_ARGUMENT_NAME), offsetArgumentValue);
     data.put(PAGING_KEY_PREFIX.concat(FIRST_ARGUMENT_NAME), firstArgumentValue);
     data.put(PagingConstants.OFFSET_ARGUMENT_NAME, offsetArgumentValue);
 
+    afterArgumentValue.ifPresent(value -> data.put(PAGING_KEY_PREFIX.concat(AFTER_ARGUMENT_NAME), value));
+    beforeArgumentValue.ifPresent(value -> data.put(PAGING_KEY_PREFIX.concat(BEFORE_ARGUMENT_NAME), value));
+
+    // The cursors are taken from the nodes, which are completed by the backend data fetcher
+    if (isCursorRequested(environment)) {
+      data.put(PAGING_KEY_PREFIX.concat(NODES_FIELD_NAME), new CompletableFuture<>());
+    }
+
     if (environment.getSource() != null) {
       data.putAll(environment.getSource());
     }
@@ -59,6 +78,19 @@ public class ConnectionDataFetcher implements DataFetcher<Object> {
     return getArgumentValue(environment, offsetArgument);
   }
 
+  private Optional<String> getCursorArgumentValue(DataFetchingEnvironment environment, String argumentName) {
+    return Optional.ofNullable(environment.getArguments()
+        .get(argumentName))
+        .map(String.class::cast);
+  }
+
+  private boolean isCursorRequested(DataFetchingEnvironment environment) {
+    var selectionSet = environment.getSelectionSet();
+
+    return selectionSet != null && selectionSet.contains(NODES_FIELD_NAME)
+        && (selectionSet.contains(START_CURSOR_FIELD_NAME) || selectionSet.contains(END_CURSOR_FIELD_NAME));
+  }
+
   private int getArgumentValue(DataFetchingEnvironment environment, GraphQLArgument graphQlArgument) {
     return (int) Optional.of(graphQlArgument)
         .map(argument -> environment.getArguments()
@@ -94,4 +126,15 @@ public class ConnectionDataFetcher implements DataFetcher<Object> {
           pagingConfiguration.getOffsetMaxValue());
     }
   }
+
+  private void validateCursorArgumentValues(Optional<String> afterArgumentValue,
+      Optional<String> beforeArgumentValue, int offsetArgumentValue) {
+    if (afterArgumentValue.isPresent() && beforeArgumentValue.isPresent()) {
+      throw requestValidationException("Arguments 'after' and 'before' can't be combined.");
+    }
+
+    if ((afterArgumentValue.isPresent() || beforeArgumentValue.isPresent()) && offsetArgumentValue > 0) {
+      throw requestValidationException("Argument 'offset' can't be combined with 'after' or 'before'.");
+    }
+  }
 }
@@ -0,0 +1,49 @@
+package org.dotwebstack.framework.core.datafetchers.paging;
+
+import static org.dotwebstack.framework.core.backend.BackendConstants.PAGING_KEY_PREFIX;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.CURSOR_KEY;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.NODES_FIELD_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.START_CURSOR_FIELD_NAME;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Resolves the start or end cursor of a connection from the cursor of its first or last node. The nodes are fetched
+ * separately, so the cursor completes once the backend data fetcher has completed the nodes of the connection.
+ */
+public class CursorDataFetcher implements DataFetcher<Object> {
+
+  @Override
+  public Object get(DataFetchingEnvironment environment) {
+    Map<String, Object> source = environment.getSource();
+
+    var nodes = source != null ? source.get(PAGING_KEY_PREFIX.concat(NODES_FIELD_NAME)) : null;
+
+    if (!(nodes instanceof CompletableFuture<?> nodesFuture)) {
+      return null;
+    }
+
+    var start = START_CURSOR_FIELD_NAME.equals(environment.getField()
+        .getName());
+
+    return nodesFuture.handle((result, throwable) -> throwable == null ? getCursor(result, start) : null);
+  }
+
+  private static Object getCursor(Object nodes, boolean start) {
+    if (!(nodes instanceof List<?> nodeList) || nodeList.isEmpty()) {
+      return null;
+    }
+
+    var node = nodeList.get(start ? 0 : nodeList.size() - 1);
+
+    if (node instanceof Map<?, ?> nodeMap) {
+      return nodeMap.get(PAGING_KEY_PREFIX.concat(CURSOR_KEY));
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,26 @@
+package org.dotwebstack.framework.core.datafetchers.paging;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.idl.FieldWiringEnvironment;
+import graphql.schema.idl.WiringFactory;
+import org.dotwebstack.framework.core.OnLocalSchema;
+import org.dotwebstack.framework.core.graphql.GraphQlConstants;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+@Component
+@Conditional(OnLocalSchema.class)
+public class CursorDataFetcherWiringFactory implements WiringFactory {
+
+  @Override
+  public boolean providesDataFetcher(FieldWiringEnvironment environment) {
+    return environment.getFieldDefinition()
+        .getAdditionalData()
+        .containsKey(GraphQlConstants.IS_PAGING_CURSOR);
+  }
+
+  @Override
+  public DataFetcher<?> getDataFetcher(FieldWiringEnvironment environment) {
+    return new CursorDataFetcher();
+  }
+}
@@ -8,7 +8,17 @@ public final class PagingConstants {
 
   public static final String OFFSET_FIELD_NAME = "offset";
 
+  public static final String START_CURSOR_FIELD_NAME = "startCursor";
+
+  public static final String END_CURSOR_FIELD_NAME = "endCursor";
+
   public static final String FIRST_ARGUMENT_NAME = "first";
 
   public static final String OFFSET_ARGUMENT_NAME = "offset";
+
+  public static final String AFTER_ARGUMENT_NAME = "after";
+
+  public static final String BEFORE_ARGUMENT_NAME = "before";
+
+  public static final String CURSOR_KEY = "cursor";
 }
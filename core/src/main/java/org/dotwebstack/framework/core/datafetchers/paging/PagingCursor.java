@@ -0,0 +1,131 @@
+package org.dotwebstack.framework.core.datafetchers.paging;
+
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.requestValidationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Encodes the key values of a row into an opaque cursor, which is used to seek to the rows after (or before) that row.
+ * Every value is written together with its type, so backends can bind the decoded values as-is.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PagingCursor {
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder()
+      .withoutPadding();
+
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private static final char NULL_TYPE = 'N';
+
+  public static String encode(List<Object> values) {
+    var bytes = new ByteArrayOutputStream();
+
+    try (var output = new DataOutputStream(bytes)) {
+      output.writeShort(values.size());
+
+      for (var value : values) {
+        output.writeChar(typeOf(value));
+
+        if (value != null) {
+          output.writeUTF(value.toString());
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return ENCODER.encodeToString(bytes.toByteArray());
+  }
+
+  public static List<Object> decode(String cursor) {
+    try (var input = new DataInputStream(new ByteArrayInputStream(DECODER.decode(cursor)))) {
+      var size = input.readShort();
+      var values = new ArrayList<>(size);
+
+      for (var index = 0; index < size; index++) {
+        var type = input.readChar();
+        values.add(type == NULL_TYPE ? null : parserOf(type).apply(input.readUTF()));
+      }
+
+      if (input.available() > 0) {
+        throw requestValidationException("Cursor '{}' is invalid.", cursor);
+      }
+
+      return values;
+    } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+      throw requestValidationException("Cursor '{}' is invalid.", cursor, e);
+    }
+  }
+
+  private static char typeOf(Object value) {
+    if (value == null) {
+      return NULL_TYPE;
+    }
+
+    if (value instanceof String) {
+      return 'S';
+    } else if (value instanceof Integer) {
+      return 'I';
+    } else if (value instanceof Long) {
+      return 'J';
+    } else if (value instanceof Short) {
+      return 'H';
+    } else if (value instanceof Double) {
+      return 'D';
+    } else if (value instanceof Float) {
+      return 'F';
+    } else if (value instanceof BigDecimal) {
+      return 'B';
+    } else if (value instanceof Boolean) {
+      return 'Z';
+    } else if (value instanceof LocalDate) {
+      return 'd';
+    } else if (value instanceof LocalDateTime) {
+      return 't';
+    } else if (value instanceof OffsetDateTime) {
+      return 'o';
+    } else if (value instanceof UUID) {
+      return 'U';
+    }
+
+    throw illegalArgumentException("Type {} is not supported in cursors.", value.getClass()
+        .getName());
+  }
+
+  private static Function<String, Object> parserOf(char type) {
+    return switch (type) {
+      case 'S' -> value -> value;
+      case 'I' -> Integer::valueOf;
+      case 'J' -> Long::valueOf;
+      case 'H' -> Short::valueOf;
+      case 'D' -> Double::valueOf;
+      case 'F' -> Float::valueOf;
+      case 'B' -> BigDecimal::new;
+      case 'Z' -> Boolean::valueOf;
+      case 'd' -> LocalDate::parse;
+      case 't' -> LocalDateTime::parse;
+      case 'o' -> OffsetDateTime::parse;
+      case 'U' -> UUID::fromString;
+      default -> throw illegalArgumentException("Unknown cursor value type {}.", type);
+    };
+  }
+}
@@ -18,6 +18,8 @@ public class GraphQlConstants {
 
   public static final String IS_PAGING_NODE = "isPagingNode";
 
+  public static final String IS_PAGING_CURSOR = "isPagingCursor";
+
   public static final String IS_BATCH_KEY_QUERY = "isBatchKeyQuery";
 
   public static final String CUSTOM_FIELD_VALUEFETCHER = "customFieldValueFetcher";
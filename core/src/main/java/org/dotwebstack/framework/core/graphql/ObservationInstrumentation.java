@@ -0,0 +1,150 @@
+package org.dotwebstack.framework.core.graphql;
+
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.OBSERVATION_KEY;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.getObservation;
+import static org.dotwebstack.framework.core.helpers.ObservationHelper.orNoop;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.language.Document;
+import graphql.validation.ValidationError;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observes the parsing, validation and execution of GraphQL operations, and the resolution of the top-level fields.
+ * With a meter registry in place, every observation results in a timer. Nested fields are not observed, since these
+ * are mostly resolved from the data of their parent.
+ *
+ * <p>
+ * The observations are nested in a request observation. The current observation is kept in the GraphQL context, so
+ * backend loads are nested in the execution of the operation. With a tracer in place, this results in a single trace
+ * per request.
+ */
+@Component
+public class ObservationInstrumentation extends SimplePerformantInstrumentation {
+
+  static final String REQUEST_OBSERVATION = "dotwebstack.graphql.request";
+
+  static final String PARSE_OBSERVATION = "dotwebstack.graphql.parse";
+
+  static final String VALIDATE_OBSERVATION = "dotwebstack.graphql.validate";
+
+  static final String EXECUTE_OBSERVATION = "dotwebstack.graphql.execute";
+
+  static final String FIELD_OBSERVATION = "dotwebstack.graphql.field";
+
+  static final String OPERATION_TYPE_KEY = "graphql.operation.type";
+
+  static final String OPERATION_NAME_KEY = "graphql.operation.name";
+
+  static final String FIELD_NAME_KEY = "graphql.field.name";
+
+  private final ObservationRegistry observationRegistry;
+
+  public ObservationInstrumentation(@Nullable ObservationRegistry observationRegistry) {
+    this.observationRegistry = orNoop(observationRegistry);
+  }
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters,
+      InstrumentationState state) {
+    return observe(Observation.createNotStarted(REQUEST_OBSERVATION, observationRegistry),
+        parameters.getGraphQLContext());
+  }
+
+  @Override
+  public InstrumentationContext<Document> beginParse(InstrumentationExecutionParameters parameters,
+      InstrumentationState state) {
+    return observe(Observation.createNotStarted(PARSE_OBSERVATION, observationRegistry),
+        parameters.getGraphQLContext());
+  }
+
+  @Override
+  public InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters,
+      InstrumentationState state) {
+    return observe(Observation.createNotStarted(VALIDATE_OBSERVATION, observationRegistry),
+        parameters.getGraphQLContext());
+  }
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+      InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+    var executionContext = parameters.getExecutionContext();
+    var operationDefinition = executionContext.getOperationDefinition();
+
+    return observe(Observation.createNotStarted(EXECUTE_OBSERVATION, observationRegistry)
+        .lowCardinalityKeyValue(OPERATION_TYPE_KEY, operationDefinition.getOperation()
+            .name()
+            .toLowerCase())
+        .highCardinalityKeyValue(OPERATION_NAME_KEY, String.valueOf(operationDefinition.getName())),
+        executionContext.getGraphQLContext());
+  }
+
+  @Override
+  public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters,
+      InstrumentationState state) {
+    var executionStepInfo = parameters.getExecutionStepInfo();
+
+    if (observationRegistry.isNoop() || executionStepInfo.getPath()
+        .getLevel() != 1) {
+      return SimpleInstrumentationContext.noOp();
+    }
+
+    var fieldName = executionStepInfo.getObjectType()
+        .getName()
+        .concat(".")
+        .concat(executionStepInfo.getFieldDefinition()
+            .getName());
+
+    // Fields are fetched concurrently, so the field observation is not kept in the GraphQL context
+    return observe(Observation.createNotStarted(FIELD_OBSERVATION, observationRegistry)
+        .lowCardinalityKeyValue(FIELD_NAME_KEY, fieldName)
+        .parentObservation(getObservation(parameters.getEnvironment()
+            .getGraphQlContext())), null);
+  }
+
+  private static <T> InstrumentationContext<T> observe(Observation observation, GraphQLContext graphQlContext) {
+    if (observation.isNoop()) {
+      return SimpleInstrumentationContext.noOp();
+    }
+
+    var parentObservation = getObservation(graphQlContext);
+
+    if (parentObservation != null) {
+      observation.parentObservation(parentObservation);
+    }
+
+    observation.start();
+
+    if (graphQlContext != null) {
+      graphQlContext.put(OBSERVATION_KEY, observation);
+    }
+
+    return SimpleInstrumentationContext.whenCompleted((result, throwable) -> {
+      if (throwable != null) {
+        observation.error(throwable);
+      }
+
+      observation.stop();
+
+      // Restores the parent, so the next observation is nested in the same parent
+      if (graphQlContext != null && parentObservation != null) {
+        graphQlContext.put(OBSERVATION_KEY, parentObservation);
+      } else if (graphQlContext != null) {
+        graphQlContext.delete(OBSERVATION_KEY);
+      }
+    });
+  }
+}
@@ -0,0 +1,31 @@
+package org.dotwebstack.framework.core.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Supports the automatic persisted query protocol, where clients send the sha256 hash of a query in the
+ * {@code persistedQuery} extension instead of the query text. Both persisted and regular queries are parsed and
+ * validated through the given document provider, so they share the same document cache.
+ */
+public class PersistedQueryProvider extends ApolloPersistedQuerySupport {
+
+  private final PreparsedDocumentProvider documentProvider;
+
+  public PersistedQueryProvider(PersistedQueryStore persistedQueryStore, PreparsedDocumentProvider documentProvider) {
+    super(persistedQueryStore);
+    this.documentProvider = documentProvider;
+  }
+
+  @Override
+  public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+      Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+    return super.getDocumentAsync(executionInput, input -> documentProvider
+        .getDocumentAsync(input, parseAndValidateFunction)
+        .join());
+  }
+}
@@ -0,0 +1,89 @@
+package org.dotwebstack.framework.core.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Resolves the query text of persisted queries by their hash. Preloaded queries are always available, queries which are
+ * registered by clients are kept in a bounded cache. A query is only registered once it has been parsed and validated
+ * without errors, and only when registration is enabled. The parsed documents themselves are left to the document provider. The registered queries are
+ * published as cache metrics, when bound to a meter registry.
+ */
+public class PersistedQueryStore implements PersistedQueryCache, MeterBinder {
+
+  static final String CACHE_NAME = "dotwebstack.graphql.persisted-queries";
+
+  private final Map<String, String> preloadedQueries;
+
+  private final Cache<Object, String> registeredQueries;
+
+  private final boolean registration;
+
+  public PersistedQueryStore(long maximumSize, Map<String, String> preloadedQueries) {
+    this(maximumSize, preloadedQueries, true);
+  }
+
+  public PersistedQueryStore(long maximumSize, Map<String, String> preloadedQueries, boolean registration) {
+    this.preloadedQueries = Map.copyOf(preloadedQueries);
+    this.registration = registration;
+    this.registeredQueries = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(Object persistedQueryId,
+      ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) throws PersistedQueryNotFound {
+    var query = getQuery(persistedQueryId);
+
+    if (query != null) {
+      return CompletableFuture.completedFuture(onCacheMiss.apply(query));
+    }
+
+    query = executionInput.getQuery();
+
+    if (!registration || StringUtils.isBlank(query) || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+      throw new PersistedQueryNotFound(persistedQueryId);
+    }
+
+    var entry = onCacheMiss.apply(query);
+
+    if (!entry.hasErrors()) {
+      registeredQueries.put(persistedQueryId, query);
+    }
+
+    return CompletableFuture.completedFuture(entry);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    GuavaCacheMetrics.monitor(meterRegistry, registeredQueries, CACHE_NAME);
+  }
+
+  public long size() {
+    return preloadedQueries.size() + registeredQueries.size();
+  }
+
+  private String getQuery(Object persistedQueryId) {
+    var query = preloadedQueries.get(persistedQueryId);
+
+    if (query != null) {
+      return query;
+    }
+
+    return registeredQueries.getIfPresent(persistedQueryId);
+  }
+}
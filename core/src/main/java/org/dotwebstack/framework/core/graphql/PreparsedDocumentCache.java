@@ -0,0 +1,60 @@
+package org.dotwebstack.framework.core.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed and validated documents, keyed by query text and operation name. Only documents without
+ * errors are cached, so invalid queries can't push out the documents which are actually in use. Its hits, misses and
+ * evictions are published as cache metrics, when bound to a meter registry.
+ */
+public class PreparsedDocumentCache implements PreparsedDocumentProvider, MeterBinder {
+
+  static final String CACHE_NAME = "dotwebstack.graphql.documents";
+
+  private final Cache<DocumentKey, PreparsedDocumentEntry> cache;
+
+  public PreparsedDocumentCache(long maximumSize) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+      Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+    var key = new DocumentKey(executionInput.getQuery(), executionInput.getOperationName());
+    var entry = cache.getIfPresent(key);
+
+    if (entry == null) {
+      entry = parseAndValidateFunction.apply(executionInput);
+
+      if (!entry.hasErrors()) {
+        cache.put(key, entry);
+      }
+    }
+
+    return CompletableFuture.completedFuture(entry);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  private record DocumentKey(String query, String operationName) {
+  }
+}
@@ -0,0 +1,97 @@
+package org.dotwebstack.framework.core.graphql;
+
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.FIRST_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.helpers.TypeHelper.QUERY_TYPE_NAME;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLCompositeType;
+import graphql.schema.GraphQLTypeUtil;
+import java.util.List;
+import org.dotwebstack.framework.core.model.ObjectField;
+import org.dotwebstack.framework.core.model.Query;
+import org.dotwebstack.framework.core.model.Schema;
+
+/**
+ * Estimates the cost of a field as the number of objects it may return, multiplied by the cost of its selection. Lists
+ * of objects count for their {@code first} argument when pageable, or for the estimated list size otherwise. Batch
+ * queries count for every requested key.
+ */
+public class QueryCostCalculator implements FieldComplexityCalculator {
+
+  private final Schema schema;
+
+  public QueryCostCalculator(Schema schema) {
+    this.schema = schema;
+  }
+
+  @Override
+  public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+    var cost = (long) getMultiplier(environment) * (1L + childComplexity);
+
+    return (int) Math.min(cost, Integer.MAX_VALUE);
+  }
+
+  private int getMultiplier(FieldComplexityEnvironment environment) {
+    var fieldName = environment.getField()
+        .getName();
+    var parentTypeName = environment.getParentType()
+        .getName();
+
+    if (QUERY_TYPE_NAME.equals(parentTypeName)) {
+      var query = schema.getQueries()
+          .get(fieldName);
+
+      return query != null ? getMultiplier(query, environment) : 1;
+    }
+
+    return schema.getObjectTypeOrInterface(parentTypeName)
+        .map(objectType -> objectType.getFields()
+            .get(fieldName))
+        .map(objectField -> getMultiplier(objectField, environment))
+        .orElse(1);
+  }
+
+  private int getMultiplier(Query query, FieldComplexityEnvironment environment) {
+    var multiplier = query.isList() ? getListMultiplier(query.isPageable(), environment) : 1;
+
+    if (query.isBatch()) {
+      return multiplier * getKeyCount(environment);
+    }
+
+    return multiplier;
+  }
+
+  private int getMultiplier(ObjectField objectField, FieldComplexityEnvironment environment) {
+    var type = GraphQLTypeUtil.unwrapAll(environment.getFieldDefinition()
+        .getType());
+
+    if (!objectField.isList() || !(type instanceof GraphQLCompositeType)) {
+      return 1;
+    }
+
+    return getListMultiplier(objectField.isPageable(), environment);
+  }
+
+  private int getListMultiplier(boolean pageable, FieldComplexityEnvironment environment) {
+    var first = environment.getArguments()
+        .get(FIRST_ARGUMENT_NAME);
+
+    if (pageable && first instanceof Integer firstValue) {
+      return Math.max(firstValue, 1);
+    }
+
+    return schema.getSettings()
+        .getEstimatedListSize();
+  }
+
+  private int getKeyCount(FieldComplexityEnvironment environment) {
+    return environment.getArguments()
+        .values()
+        .stream()
+        .filter(List.class::isInstance)
+        .mapToInt(value -> ((List<?>) value).size())
+        .max()
+        .orElse(1);
+  }
+}
@@ -0,0 +1,63 @@
+package org.dotwebstack.framework.core.graphql;
+
+import graphql.ExecutionResult;
+import graphql.analysis.QueryComplexityCalculator;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.core.OnLocalSchema;
+import org.dotwebstack.framework.core.model.Schema;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects operations of which the estimated cost exceeds the {@code maxQueryCost} setting. The cost is calculated
+ * after validation, so queries are rejected before any backend is called.
+ */
+@Slf4j
+@Component
+@Conditional(OnLocalSchema.class)
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+  private final QueryCostCalculator queryCostCalculator;
+
+  private final int maxQueryCost;
+
+  public QueryCostInstrumentation(Schema schema) {
+    this.queryCostCalculator = new QueryCostCalculator(schema);
+    this.maxQueryCost = schema.getSettings()
+        .getMaxQueryCost();
+  }
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+      InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+    if (maxQueryCost <= 0) {
+      return SimpleInstrumentationContext.noOp();
+    }
+
+    var executionContext = parameters.getExecutionContext();
+    var queryCost = QueryComplexityCalculator.newCalculator()
+        .fieldComplexityCalculator(queryCostCalculator)
+        .schema(executionContext.getGraphQLSchema())
+        .document(executionContext.getDocument())
+        .operationName(executionContext.getExecutionInput()
+            .getOperationName())
+        .variables(executionContext.getCoercedVariables())
+        .build()
+        .calculate();
+
+    LOG.debug("Estimated query cost is {}.", queryCost);
+
+    if (queryCost > maxQueryCost) {
+      throw new AbortExecutionException(
+          String.format("Query cost %d exceeds the maximum query cost of %d.", queryCost, maxQueryCost));
+    }
+
+    return SimpleInstrumentationContext.noOp();
+  }
+}
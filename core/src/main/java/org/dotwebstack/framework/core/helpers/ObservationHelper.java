@@ -0,0 +1,98 @@
+package org.dotwebstack.framework.core.helpers;
+
+import graphql.GraphQLContext;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+public class ObservationHelper {
+
+  public static final String OBJECT_TYPE_KEY = "dotwebstack.object.type";
+
+  public static final String ROWS_KEY = "dotwebstack.rows";
+
+  /**
+   * Key of the current observation in the GraphQL and Reactor contexts. It equals the key used by the Micrometer
+   * context propagation, so observations of other libraries are nested in the same trace.
+   */
+  public static final String OBSERVATION_KEY = "micrometer.observation";
+
+  private static final int[] SIZE_BUCKETS = {0, 1, 10, 100, 1000};
+
+  private ObservationHelper() {}
+
+  public static ObservationRegistry orNoop(ObservationRegistry observationRegistry) {
+    return observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+  }
+
+  /**
+   * Returns the smallest bucket the size fits in, so sizes can be used as low cardinality key value. The resulting
+   * timers count the observations per bucket, similar to a histogram.
+   */
+  public static String sizeBucket(int size) {
+    for (var bucket : SIZE_BUCKETS) {
+      if (size <= bucket) {
+        return String.valueOf(bucket);
+      }
+    }
+
+    return "+Inf";
+  }
+
+  public static Observation getObservation(GraphQLContext graphQlContext) {
+    return graphQlContext != null ? graphQlContext.get(OBSERVATION_KEY) : null;
+  }
+
+  /**
+   * Observes a flux from subscription until termination or cancellation, recording the number of emitted rows. The
+   * observation is nested in the observation of the subscriber context, and is itself passed on to the flux.
+   */
+  public static <T> Flux<T> observeRows(Flux<T> flux, Observation observation) {
+    if (observation.isNoop()) {
+      return flux;
+    }
+
+    return Flux.deferContextual(contextView -> {
+      var rows = new AtomicInteger();
+      start(observation, contextView);
+
+      return flux.doOnNext(row -> rows.incrementAndGet())
+          .doOnError(observation::error)
+          .doFinally(signalType -> observation.lowCardinalityKeyValue(ROWS_KEY, sizeBucket(rows.get()))
+              .highCardinalityKeyValue(ROWS_KEY + ".count", String.valueOf(rows.get()))
+              .stop())
+          .contextWrite(context -> context.put(OBSERVATION_KEY, observation));
+    });
+  }
+
+  /**
+   * Observes a mono from subscription until termination or cancellation, nested in the same way as
+   * {@link #observeRows(Flux, Observation)}.
+   */
+  public static <T> Mono<T> observe(Mono<T> mono, Observation observation) {
+    if (observation.isNoop()) {
+      return mono;
+    }
+
+    return Mono.deferContextual(contextView -> {
+      start(observation, contextView);
+
+      return mono.doOnError(observation::error)
+          .doFinally(signalType -> observation.stop())
+          .contextWrite(context -> context.put(OBSERVATION_KEY, observation));
+    });
+  }
+
+  private static void start(Observation observation, ContextView contextView) {
+    if (observation.getContext()
+        .getParentObservation() == null) {
+      contextView.<Observation>getOrEmpty(OBSERVATION_KEY)
+          .ifPresent(observation::parentObservation);
+    }
+
+    observation.start();
+  }
+}
@@ -13,6 +13,7 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.dotwebstack.framework.core.config.CacheConfiguration;
 import org.dotwebstack.framework.core.config.FilterConfiguration;
 import org.dotwebstack.framework.core.config.SortableByConfiguration;
 
@@ -35,6 +36,9 @@ public abstract class AbstractObjectType<T extends ObjectField> implements Objec
   @Valid
   protected Map<String, FilterConfiguration> filters = new HashMap<>();
 
+  @Valid
+  protected CacheConfiguration cache;
+
   public T getField(String name) {
     return ofNullable(fields.get(name))
         .orElseThrow(() -> illegalArgumentException("Field '{}' does not exist in object type '{}'.", name, getName()));
@@ -2,6 +2,7 @@ package org.dotwebstack.framework.core.model;
 
 import java.util.List;
 import java.util.Map;
+import org.dotwebstack.framework.core.config.CacheConfiguration;
 import org.dotwebstack.framework.core.config.FilterConfiguration;
 import org.dotwebstack.framework.core.config.SortableByConfiguration;
 
@@ -23,5 +24,7 @@ public interface ObjectType<T extends ObjectField> {
 
   Map<String, FilterConfiguration> getFilters();
 
+  CacheConfiguration getCache();
+
   boolean isNested();
 }
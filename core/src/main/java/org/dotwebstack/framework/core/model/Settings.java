@@ -14,4 +14,12 @@ public class Settings {
   private int maxBatchSize = 250;
 
   private int maxBatchKeySize = 100;
+
+  private int maxQueryCost = 0;
+
+  private int estimatedListSize = 10;
+
+  private int maxSharedSubscriptions = 1000;
+
+  private int subscriptionBufferSize = 256;
 }
@@ -1,5 +1,6 @@
 package org.dotwebstack.framework.core.query.model;
 
+import graphql.GraphQLContext;
 import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,4 +13,6 @@ public class RequestContext {
   private final ObjectField objectField;
 
   private final Map<String, Object> source;
+
+  private final GraphQLContext graphQlContext;
 }
@@ -0,0 +1,107 @@
+package org.dotwebstack.framework.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import graphql.Scalars;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import java.util.List;
+import java.util.Map;
+import org.dotwebstack.framework.core.graphql.PersistedQueryProvider;
+import org.dotwebstack.framework.core.graphql.PreparsedDocumentCache;
+import org.junit.jupiter.api.Test;
+
+class GraphqlConfigurationTest {
+
+  private final GraphqlConfiguration graphqlConfiguration = new GraphqlConfiguration();
+
+  @Test
+  void preparsedDocumentProvider_returnsPersistedQueryProvider_whenEnabled() {
+    var provider = graphqlConfiguration.preparsedDocumentProvider(createProperties(500, true), null);
+
+    assertThat(provider, instanceOf(PersistedQueryProvider.class));
+  }
+
+  @Test
+  void preparsedDocumentProvider_returnsDocumentCache_whenPersistedQueriesDisabled() {
+    var provider = graphqlConfiguration.preparsedDocumentProvider(createProperties(500, false), null);
+
+    assertThat(provider, instanceOf(PreparsedDocumentCache.class));
+  }
+
+  @Test
+  void preparsedDocumentProvider_returnsDocumentCache_byDefault() {
+    var provider = graphqlConfiguration.preparsedDocumentProvider(new GraphqlProperties(), null);
+
+    assertThat(provider, instanceOf(PreparsedDocumentCache.class));
+  }
+
+  @Test
+  void preparsedDocumentProvider_returnsNoOp_whenDisabled() {
+    var provider = graphqlConfiguration.preparsedDocumentProvider(createProperties(0, false), null);
+
+    assertThat(provider, is(NoOpPreparsedDocumentProvider.INSTANCE));
+  }
+
+  @Test
+  void graphql_chainsInstrumentations_forMultipleInstrumentations() {
+    var first = mock(Instrumentation.class);
+    var second = mock(Instrumentation.class);
+
+    var graphql = graphqlConfiguration.graphql(createSchema(), List.of(first, second), null);
+
+    assertThat(graphql.getInstrumentation(), instanceOf(ChainedInstrumentation.class));
+    assertThat(((ChainedInstrumentation) graphql.getInstrumentation()).getInstrumentations(),
+        is(List.of(first, second)));
+  }
+
+  @Test
+  void readPersistedQueries_returnsQueries_forLocation() {
+    var persistedQueries = GraphqlConfiguration.readPersistedQueries("persisted-queries.json");
+
+    assertThat(persistedQueries,
+        is(Map.of("24bdc40a9f59ea30b2c2e68a7129e246b620a31389e665f38359eccbeadadf8a", "{ beers { name } }")));
+  }
+
+  @Test
+  void readPersistedQueries_throwsException_forHashMismatch() {
+    var exception = assertThrows(InvalidConfigurationException.class,
+        () -> GraphqlConfiguration.readPersistedQueries("persisted-queries-invalid.json"));
+
+    assertThat(exception.getMessage(),
+        is("Persisted query hash '24bdc40a9f59ea30b2c2e68a7129e246b620a31389e665f38359eccbeadadf8a' "
+            + "does not match the sha256 hash of its query."));
+  }
+
+  @Test
+  void readPersistedQueries_throwsException_forMissingLocation() {
+    var exception = assertThrows(InvalidConfigurationException.class,
+        () -> GraphqlConfiguration.readPersistedQueries("missing.json"));
+
+    assertThat(exception.getMessage(), is("Persisted queries not found on location: missing.json"));
+  }
+
+  private static GraphqlProperties createProperties(long documentCacheSize, boolean persistedQueriesEnabled) {
+    var graphqlProperties = new GraphqlProperties();
+    graphqlProperties.setDocumentCacheSize(documentCacheSize);
+    graphqlProperties.getPersistedQueries()
+        .setEnabled(persistedQueriesEnabled);
+    return graphqlProperties;
+  }
+
+  private static GraphQLSchema createSchema() {
+    return GraphQLSchema.newSchema()
+        .query(GraphQLObjectType.newObject()
+            .name("Query")
+            .field(field -> field.name("foo")
+                .type(Scalars.GraphQLString)))
+        .build();
+  }
+}
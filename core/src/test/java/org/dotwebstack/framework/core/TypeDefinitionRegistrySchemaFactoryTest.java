@@ -179,7 +179,14 @@ class TypeDefinitionRegistrySchemaFactoryTest {
 
     assertThat(breweryConnectionFieldDefinition.getInputValueDefinitions(),
         IsIterableContaining.hasItems(allOf(hasProperty("name", equalTo(PagingConstants.FIRST_ARGUMENT_NAME))),
-            hasProperty("name", equalTo(PagingConstants.OFFSET_FIELD_NAME))));
+            hasProperty("name", equalTo(PagingConstants.OFFSET_FIELD_NAME)),
+            hasProperty("name", equalTo(PagingConstants.AFTER_ARGUMENT_NAME)),
+            hasProperty("name", equalTo(PagingConstants.BEFORE_ARGUMENT_NAME))));
+
+    var connectionFieldDefinitions = getFieldDefinitions(registry, "BreweryConnection");
+    assertThat(connectionFieldDefinitions,
+        IsIterableContaining.hasItems(hasProperty("name", equalTo(PagingConstants.START_CURSOR_FIELD_NAME)),
+            hasProperty("name", equalTo(PagingConstants.END_CURSOR_FIELD_NAME))));
   }
 
   @Test
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import graphql.GraphQLContext;
 import graphql.execution.ExecutionStepInfo;
 import graphql.execution.MergedField;
 import graphql.execution.ResultPath;
@@ -32,6 +33,8 @@ import graphql.schema.DataFetchingFieldSelectionSet;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLOutputType;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,6 +45,7 @@ import org.dotwebstack.framework.core.RequestValidationException;
 import org.dotwebstack.framework.core.backend.validator.GraphQlValidator;
 import org.dotwebstack.framework.core.datafetchers.KeyGroupedFlux;
 import org.dotwebstack.framework.core.graphql.GraphQlConstants;
+import org.dotwebstack.framework.core.helpers.ObservationHelper;
 import org.dotwebstack.framework.core.model.ObjectField;
 import org.dotwebstack.framework.core.model.Settings;
 import org.dotwebstack.framework.core.query.model.BatchRequest;
@@ -50,6 +54,7 @@ import org.dotwebstack.framework.core.query.model.CollectionRequest;
 import org.dotwebstack.framework.core.query.model.JoinCondition;
 import org.dotwebstack.framework.core.query.model.RequestContext;
 import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
+import org.dotwebstack.framework.core.testhelpers.TestObservationHandler;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -61,6 +66,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.GroupedFlux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
@@ -112,6 +118,23 @@ class BackendDataFetcherTest {
     assertThat(result, is("bbb"));
   }
 
+  @Test
+  void get_completesPendingNodes_forConnection() {
+    var nodes = List.of(Map.of("identifier", "foo"));
+    var pendingNodes = new CompletableFuture<>();
+    Map<String, Object> source = new HashMap<>();
+    source.put("nodes", nodes);
+    source.put("$paging:nodes", pendingNodes);
+    when(environment.getSource()).thenReturn(source);
+
+    mockExecutionStepInfo("nodes", "nodes");
+
+    var result = backendDataFetcher.get(environment);
+
+    assertThat(result, is(nodes));
+    assertThat(pendingNodes.join(), is(nodes));
+  }
+
   @Test
   void get_throwsException_forBatchQueryMissingKey() {
     mockExecutionStepInfo("itemsBatchQuery", "itemsBatchQuery");
@@ -401,20 +424,61 @@ class BackendDataFetcherTest {
     Map<String, Object> data = new HashMap<>();
     data.put("aa", new String[] {"a", "b"});
     when(backendLoader.loadMany(any(CollectionRequest.class), any(RequestContext.class))).thenReturn(Flux.just(data));
+    Map<String, Object> changedData = Map.of("aa", "c");
+    when(backendLoader.loadChanges(any(CollectionRequest.class), any(RequestContext.class)))
+        .thenReturn(Flux.just(changedData));
 
+    mockSubscriptionSettings();
     mockGraphQlFieldDefinition(Map.of());
 
-    var result = ((Flux<?>) backendDataFetcher.get(environment)).blockFirst();
+    var results = ((Flux<?>) backendDataFetcher.get(environment)).collectList()
+        .block();
+    var result = results.get(0);
 
     assertThat(result, CoreMatchers.is(notNullValue()));
     assertTrue(result instanceof Map);
     assertThat(((Map<?, ?>) result).get("aa"), is(data.get("aa")));
+    assertThat(results.get(1), is(changedData));
 
     verify(requestFactory).createCollectionRequest(any(ExecutionStepInfo.class),
         any(DataFetchingFieldSelectionSet.class));
     verify(backendLoader).loadMany(any(CollectionRequest.class), any(RequestContext.class));
   }
 
+  @Test
+  void get_sharesChanges_forIdenticalSubscriptions() {
+    when(requestFactory.createRequestContext(environment)).thenReturn(RequestContext.builder()
+        .build());
+    mockOperationDefinition(OperationDefinition.Operation.SUBSCRIPTION);
+    when(environment.getSelectionSet()).thenReturn(mock(DataFetchingFieldSelectionSet.class));
+    mockExecutionStepInfoWithResultPath("bbb", "bbb");
+
+    Map<String, Object> data = Map.of("aa", "a");
+    when(backendLoader.loadMany(any(), any())).thenReturn(Flux.just(data));
+    var changes = Sinks.many()
+        .multicast()
+        .<Map<String, Object>>onBackpressureBuffer();
+    when(backendLoader.loadChanges(any(), any())).thenReturn(changes.asFlux());
+
+    mockSubscriptionSettings();
+    mockGraphQlFieldDefinition(Map.of());
+
+    var firstResults = new ArrayList<Object>();
+    var secondResults = new ArrayList<Object>();
+    var firstSubscription = ((Flux<?>) backendDataFetcher.get(environment)).subscribe(firstResults::add);
+    var secondSubscription = ((Flux<?>) backendDataFetcher.get(environment)).subscribe(secondResults::add);
+
+    Map<String, Object> changedData = Map.of("aa", "c");
+    changes.tryEmitNext(changedData);
+    firstSubscription.dispose();
+    secondSubscription.dispose();
+
+    assertThat(firstResults, is(List.of(data, changedData)));
+    assertThat(secondResults, is(List.of(data, changedData)));
+    verify(backendLoader, times(2)).loadMany(any(), any());
+    verify(backendLoader).loadChanges(any(), any());
+  }
+
   @Test
   void get_returnsMonoMap_ifSourceNull_SubscriptionFalse_and_ListTypeFalse() {
     var requestContext = RequestContext.builder()
@@ -451,10 +515,44 @@ class BackendDataFetcherTest {
     verify(backendLoader).loadSingle(any(SingleObjectRequest.class), any(RequestContext.class));
   }
 
+  @Test
+  void get_observesLoad_inGraphQlContextObservation() {
+    var handler = new TestObservationHandler();
+    var registry = TestObservationHandler.createRegistry(handler);
+    var parentObservation = Observation.start("parent", registry);
+    var requestContext = RequestContext.builder()
+        .build();
+    when(requestFactory.createRequestContext(environment)).thenReturn(requestContext);
+    when(environment.getGraphQlContext())
+        .thenReturn(GraphQLContext.of(Map.of(ObservationHelper.OBSERVATION_KEY, parentObservation)));
+    when(environment.getFieldType()).thenReturn(newObject().name("Beer")
+        .build());
+
+    mockOperationDefinition(OperationDefinition.Operation.QUERY);
+    mockExecutionStepInfo("beer", "beer");
+    mockGraphQlFieldDefinition(Map.of());
+
+    var objectRequest = SingleObjectRequest.builder()
+        .build();
+    when(requestFactory.createObjectRequest(any(ExecutionStepInfo.class), any())).thenReturn(objectRequest);
+    when(backendLoader.loadSingle(objectRequest, requestContext)).thenReturn(Mono.just(Map.of("name", "Beer 1")));
+
+    var dataFetcher = new BackendDataFetcher(backendLoader, requestFactory, backendExecutionStepInfo,
+        graphQlValidators, settings, registry);
+
+    ((CompletableFuture<?>) dataFetcher.get(environment)).join();
+
+    assertThat(handler.getNames(), is(List.of(BackendDataFetcher.LOAD_OBSERVATION)));
+    assertThat(handler.getKeyValues(BackendDataFetcher.LOAD_OBSERVATION),
+        is(Map.of(ObservationHelper.OBJECT_TYPE_KEY, "Beer")));
+    assertThat(handler.getParentName(BackendDataFetcher.LOAD_OBSERVATION), is("parent"));
+  }
+
   @Test
   void get_throwsException_ifBackendLoaderIsNull() {
     var dataFetcherWithoutBackendLoader =
-        new BackendDataFetcher(null, requestFactory, backendExecutionStepInfo, graphQlValidators, mock(Settings.class));
+        new BackendDataFetcher(null, requestFactory, backendExecutionStepInfo, graphQlValidators, mock(Settings.class),
+            ObservationRegistry.NOOP);
 
     mockExecutionStepInfo("a", "a");
 
@@ -463,6 +561,11 @@ class BackendDataFetcherTest {
     assertThat(thrown.getMessage(), equalTo("BackendLoader can't be null."));
   }
 
+  private void mockSubscriptionSettings() {
+    when(settings.getMaxSharedSubscriptions()).thenReturn(1000);
+    when(settings.getSubscriptionBufferSize()).thenReturn(256);
+  }
+
   private void mockOperationDefinition(OperationDefinition.Operation operation) {
     var operationDefinition = mock(OperationDefinition.class);
 
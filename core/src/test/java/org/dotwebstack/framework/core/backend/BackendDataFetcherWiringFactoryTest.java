@@ -48,7 +48,7 @@ class BackendDataFetcherWiringFactoryTest {
     SchemaReader schemaReader = new SchemaReader(TestHelper.createSimpleObjectMapper());
     Schema schema = schemaReader.read("dotwebstack/dotwebstack-objecttypes-complex-fields.yaml");
     dataFetcher = new BackendDataFetcherWiringFactory(backendModule, requestFactory, schema, backendExecutionStepInfo,
-        List.of(), null);
+        List.of(), null, null, new EntityCacheManager());
 
     lenient().when(environment.getFieldDefinition())
         .thenReturn(newFieldDefinition().build());
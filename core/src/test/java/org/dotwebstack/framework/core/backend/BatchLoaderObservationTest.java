@@ -0,0 +1,84 @@
+package org.dotwebstack.framework.core.backend;
+
+import static org.dataloader.DataLoaderFactory.newMappedDataLoader;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+
+import io.micrometer.observation.Observation;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dotwebstack.framework.core.helpers.ObservationHelper;
+import org.dotwebstack.framework.core.testhelpers.TestObservationHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class BatchLoaderObservationTest {
+
+  private final TestObservationHandler handler = new TestObservationHandler();
+
+  private Observation parentObservation;
+
+  private Observation backendObservation;
+
+  private DataLoader<String, String> dataLoader;
+
+  @BeforeEach
+  void doBeforeEach() {
+    var registry = TestObservationHandler.createRegistry(handler);
+    parentObservation = Observation.start("parent", registry);
+
+    var observation = new BatchLoaderObservation(registry, "Beer", parentObservation);
+
+    dataLoader = newMappedDataLoader(observation.<String, String>observe(keys -> Mono.deferContextual(context -> {
+      backendObservation = context.get(ObservationHelper.OBSERVATION_KEY);
+
+      return Mono.just(keys.stream()
+          .collect(Collectors.toMap(Function.identity(), String::toUpperCase)));
+    })), DataLoaderOptions.newOptions()
+        .setStatisticsCollector(() -> observation));
+  }
+
+  @Test
+  void observe_recordsWaitAndLoad_forDispatchedBatch() {
+    dataLoader.load("a");
+    dataLoader.load("b");
+    dataLoader.dispatchAndJoin();
+
+    assertThat(handler.getNames(),
+        is(List.of(BatchLoaderObservation.WAIT_OBSERVATION, BatchLoaderObservation.LOAD_OBSERVATION)));
+    assertThat(handler.getKeyValues(BatchLoaderObservation.WAIT_OBSERVATION),
+        hasEntry(BatchLoaderObservation.OUTCOME_KEY, "dispatched"));
+    assertThat(handler.getKeyValues(BatchLoaderObservation.LOAD_OBSERVATION),
+        is(Map.of(ObservationHelper.OBJECT_TYPE_KEY, "Beer", BatchLoaderObservation.BATCH_SIZE_KEY, "10",
+            BatchLoaderObservation.BATCH_KEYS_KEY, "2")));
+  }
+
+  @Test
+  void observe_nestsObservations_inParentObservation() {
+    dataLoader.load("a");
+    dataLoader.dispatchAndJoin();
+
+    assertThat(handler.getParentName(BatchLoaderObservation.WAIT_OBSERVATION), is("parent"));
+    assertThat(handler.getParentName(BatchLoaderObservation.LOAD_OBSERVATION), is("parent"));
+    assertThat(backendObservation.getContext()
+        .getName(), is(BatchLoaderObservation.LOAD_OBSERVATION));
+  }
+
+  @Test
+  void observe_endsWait_forCachedLoad() {
+    dataLoader.load("a");
+    dataLoader.dispatchAndJoin();
+    dataLoader.load("a");
+
+    assertThat(handler.getNames(), is(List.of(BatchLoaderObservation.WAIT_OBSERVATION,
+        BatchLoaderObservation.LOAD_OBSERVATION, BatchLoaderObservation.WAIT_OBSERVATION)));
+    assertThat(handler.getKeyValues(BatchLoaderObservation.LOAD_OBSERVATION),
+        hasEntry(BatchLoaderObservation.BATCH_SIZE_KEY, "1"));
+  }
+}
@@ -0,0 +1,340 @@
+package org.dotwebstack.framework.core.backend;
+
+import static org.dotwebstack.framework.core.helpers.ObjectHelper.castToMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.dotwebstack.framework.core.config.CacheConfiguration;
+import org.dotwebstack.framework.core.query.model.AggregateObjectRequest;
+import org.dotwebstack.framework.core.query.model.BatchRequest;
+import org.dotwebstack.framework.core.query.model.CollectionRequest;
+import org.dotwebstack.framework.core.query.model.FieldRequest;
+import org.dotwebstack.framework.core.query.model.KeyCriteria;
+import org.dotwebstack.framework.core.query.model.RequestContext;
+import org.dotwebstack.framework.core.query.model.SingleObjectRequest;
+import org.dotwebstack.framework.core.testhelpers.TestObjectField;
+import org.dotwebstack.framework.core.testhelpers.TestObjectType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+@ExtendWith(MockitoExtension.class)
+class CachingBackendLoaderTest {
+
+  private static final RequestContext ROOT_CONTEXT = RequestContext.builder()
+      .build();
+
+  @Mock
+  private BackendLoader backendLoader;
+
+  private TestObjectType objectType;
+
+  private EntityCacheManager entityCacheManager;
+
+  private CachingBackendLoader cachingBackendLoader;
+
+  @BeforeEach
+  void doBeforeEach() {
+    objectType = new TestObjectType();
+    objectType.setName("Municipality");
+    objectType.setCache(new CacheConfiguration());
+
+    entityCacheManager = new EntityCacheManager();
+    cachingBackendLoader =
+        new CachingBackendLoader(backendLoader, entityCacheManager.getCache(objectType), entityCacheManager);
+  }
+
+  @Test
+  void loadSingle_returnsCachedObject_forEqualRequest() {
+    when(backendLoader.loadSingle(any(), any())).thenReturn(Mono.just(Map.of("name", "Utrecht")));
+
+    var first = cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), ROOT_CONTEXT)
+        .block();
+    var second = cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), ROOT_CONTEXT)
+        .block();
+
+    assertThat(first, is(Map.of("name", "Utrecht")));
+    assertThat(second, is(first));
+    verify(backendLoader, times(1)).loadSingle(any(), any());
+  }
+
+  @Test
+  void loadSingle_returnsUnmodifiableObject_forCachedObject() {
+    var nested = new HashMap<String, Object>();
+    nested.put("name", "Utrecht");
+    nested.put("code", null);
+
+    var object = new HashMap<String, Object>();
+    object.put("province", nested);
+    object.put("neighbours", new ArrayList<>(List.of("0363")));
+    when(backendLoader.loadSingle(any(), any())).thenReturn(Mono.just(object));
+
+    var result = cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), ROOT_CONTEXT)
+        .block();
+
+    assertThat(result, is(object));
+    assertThrows(UnsupportedOperationException.class, () -> result.put("name", "Amsterdam"));
+    assertThrows(UnsupportedOperationException.class, () -> castToMap(result.get("province")).clear());
+    assertThrows(UnsupportedOperationException.class, () -> ((List<?>) result.get("neighbours")).clear());
+
+    object.put("name", "Amsterdam");
+
+    var cached = cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), ROOT_CONTEXT)
+        .block();
+
+    assertThat(cached, is(result));
+  }
+
+  @Test
+  void loadSingle_loadsObject_forDifferentKeyOrSelection() {
+    when(backendLoader.loadSingle(any(), any())).thenReturn(Mono.just(Map.of("name", "Utrecht")));
+
+    cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), ROOT_CONTEXT)
+        .block();
+    cachingBackendLoader.loadSingle(createObjectRequest("0363", "name"), ROOT_CONTEXT)
+        .block();
+    cachingBackendLoader.loadSingle(createObjectRequest("0344", "code"), ROOT_CONTEXT)
+        .block();
+
+    verify(backendLoader, times(3)).loadSingle(any(), any());
+  }
+
+  @Test
+  void loadSingle_cachesMissingObject_asEmpty() {
+    when(backendLoader.loadSingle(any(), any())).thenReturn(Mono.empty());
+
+    cachingBackendLoader.loadSingle(createObjectRequest("9999", "name"), ROOT_CONTEXT)
+        .block();
+    var result = cachingBackendLoader.loadSingle(createObjectRequest("9999", "name"), ROOT_CONTEXT)
+        .block();
+
+    assertThat(result, is(nullValue()));
+    verify(backendLoader, times(1)).loadSingle(any(), any());
+  }
+
+  @Test
+  void loadSingle_doesNotCacheObject_whenInvalidatedWhileLoading() {
+    when(backendLoader.loadSingle(any(), any())).thenReturn(Mono.fromCallable(() -> {
+      entityCacheManager.invalidate("Municipality", Map.of("code", "0344"));
+      return Map.of("name", "Utrecht");
+    }), Mono.just(Map.of("name", "Utrecht (new)")));
+
+    var first = cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), ROOT_CONTEXT)
+        .block();
+    var second = cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), ROOT_CONTEXT)
+        .block();
+    var third = cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), ROOT_CONTEXT)
+        .block();
+
+    assertThat(first, is(Map.of("name", "Utrecht")));
+    assertThat(second, is(Map.of("name", "Utrecht (new)")));
+    assertThat(third, is(second));
+    verify(backendLoader, times(2)).loadSingle(any(), any());
+  }
+
+  @Test
+  void loadSingle_doesNotCacheMissingObject_whenInvalidatedWhileLoading() {
+    when(backendLoader.loadSingle(any(), any()))
+        .thenReturn(Mono.fromRunnable(() -> entityCacheManager.invalidate("Municipality")));
+
+    cachingBackendLoader.loadSingle(createObjectRequest("9999", "name"), ROOT_CONTEXT)
+        .block();
+    cachingBackendLoader.loadSingle(createObjectRequest("9999", "name"), ROOT_CONTEXT)
+        .block();
+
+    verify(backendLoader, times(2)).loadSingle(any(), any());
+  }
+
+  @Test
+  void loadSingle_doesNotCacheObject_whenEmbeddedObjectTypeInvalidatedWhileLoading() {
+    var objectRequest = SingleObjectRequest.builder()
+        .objectType(objectType)
+        .objectFields(Map.of(FieldRequest.builder()
+            .name("province")
+            .resultKey("province")
+            .build(), SingleObjectRequest.builder()
+                .objectType(createObjectType("Province"))
+                .build()))
+        .build();
+    when(backendLoader.loadSingle(any(), any())).thenReturn(Mono.fromCallable(() -> {
+      entityCacheManager.invalidate("Province");
+      return Map.of("name", "Utrecht");
+    }));
+
+    cachingBackendLoader.loadSingle(objectRequest, ROOT_CONTEXT)
+        .block();
+    cachingBackendLoader.loadSingle(objectRequest, ROOT_CONTEXT)
+        .block();
+
+    verify(backendLoader, times(2)).loadSingle(any(), any());
+  }
+
+  @Test
+  void loadSingle_bypassesCache_forNestedRequest() {
+    var nestedContext = RequestContext.builder()
+        .source(Map.of("code", "0344"))
+        .build();
+    when(backendLoader.loadSingle(any(), any())).thenReturn(Mono.just(Map.of("name", "Utrecht")));
+
+    cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), nestedContext)
+        .block();
+    cachingBackendLoader.loadSingle(createObjectRequest("0344", "name"), nestedContext)
+        .block();
+
+    verify(backendLoader, times(2)).loadSingle(any(), any());
+  }
+
+  @Test
+  void loadSingle_bypassesCache_forAggregateSelection() {
+    var objectRequest = SingleObjectRequest.builder()
+        .objectType(objectType)
+        .aggregateObjectFields(List.of(AggregateObjectRequest.builder()
+            .build()))
+        .build();
+    when(backendLoader.loadSingle(any(), any())).thenReturn(Mono.just(Map.of("name", "Utrecht")));
+
+    cachingBackendLoader.loadSingle(objectRequest, ROOT_CONTEXT)
+        .block();
+    cachingBackendLoader.loadSingle(objectRequest, ROOT_CONTEXT)
+        .block();
+
+    verify(backendLoader, times(2)).loadSingle(any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void batchLoadSingle_loadsMissingKeysOnly_forPartiallyCachedBatch() {
+    Map<String, Object> utrechtKey = Map.of("code", "0344");
+    Map<String, Object> amsterdamKey = Map.of("code", "0363");
+    Map<String, Object> utrecht = Map.of("name", "Utrecht");
+    Map<String, Object> amsterdam = Map.of("name", "Amsterdam");
+
+    when(backendLoader.batchLoadSingle(any(), any())).thenReturn(Flux.just(Tuples.of(utrechtKey, utrecht)),
+        Flux.just(Tuples.of(amsterdamKey, amsterdam)));
+
+    cachingBackendLoader.batchLoadSingle(createBatchRequest(Set.of(utrechtKey)), ROOT_CONTEXT)
+        .collectList()
+        .block();
+    var result = cachingBackendLoader.batchLoadSingle(createBatchRequest(Set.of(utrechtKey, amsterdamKey)),
+        ROOT_CONTEXT)
+        .collectList()
+        .block();
+
+    assertThat(result, containsInAnyOrder(Tuples.of(utrechtKey, utrecht), Tuples.of(amsterdamKey, amsterdam)));
+
+    var captor = ArgumentCaptor.forClass(BatchRequest.class);
+    verify(backendLoader, times(2)).batchLoadSingle(captor.capture(), any());
+    assertThat(captor.getAllValues()
+        .get(1)
+        .getKeys(), is(Set.of(amsterdamKey)));
+  }
+
+  @Test
+  void batchLoadSingle_returnsCachedObjects_forCachedBatch() {
+    Map<String, Object> utrechtKey = Map.of("code", "0344");
+    Tuple2<Map<String, Object>, Map<String, Object>> utrecht = Tuples.of(utrechtKey, Map.of("name", "Utrecht"));
+
+    when(backendLoader.batchLoadSingle(any(), any())).thenReturn(Flux.just(utrecht));
+
+    cachingBackendLoader.batchLoadSingle(createBatchRequest(Set.of(utrechtKey)), ROOT_CONTEXT)
+        .collectList()
+        .block();
+    var result = cachingBackendLoader.batchLoadSingle(createBatchRequest(Set.of(utrechtKey)), ROOT_CONTEXT)
+        .collectList()
+        .block();
+
+    assertThat(result, is(List.of(utrecht)));
+    verify(backendLoader, times(1)).batchLoadSingle(any(), any());
+  }
+
+  @Test
+  void batchLoadSingle_doesNotCacheObjects_whenInvalidatedWhileLoading() {
+    Map<String, Object> utrechtKey = Map.of("code", "0344");
+    Tuple2<Map<String, Object>, Map<String, Object>> utrecht = Tuples.of(utrechtKey, Map.of("name", "Utrecht"));
+
+    when(backendLoader.batchLoadSingle(any(), any()))
+        .thenReturn(Flux.defer(() -> {
+          entityCacheManager.invalidateAll();
+          return Flux.just(utrecht);
+        }));
+
+    cachingBackendLoader.batchLoadSingle(createBatchRequest(Set.of(utrechtKey)), ROOT_CONTEXT)
+        .collectList()
+        .block();
+    cachingBackendLoader.batchLoadSingle(createBatchRequest(Set.of(utrechtKey)), ROOT_CONTEXT)
+        .collectList()
+        .block();
+
+    verify(backendLoader, times(2)).batchLoadSingle(any(), any());
+  }
+
+  @Test
+  void loadChanges_delegatesToBackendLoader_always() {
+    var collectionRequest = CollectionRequest.builder()
+        .objectRequest(createObjectRequest("0344", "name"))
+        .build();
+    Map<String, Object> changedObject = Map.of("name", "Utrecht");
+    when(backendLoader.loadChanges(collectionRequest, ROOT_CONTEXT)).thenReturn(Flux.just(changedObject));
+
+    var result = cachingBackendLoader.loadChanges(collectionRequest, ROOT_CONTEXT)
+        .collectList()
+        .block();
+
+    assertThat(result, is(List.of(changedObject)));
+  }
+
+  private SingleObjectRequest createObjectRequest(String code, String fieldName) {
+    var codeField = new TestObjectField();
+    codeField.setName("code");
+
+    return SingleObjectRequest.builder()
+        .objectType(objectType)
+        .scalarFields(List.of(FieldRequest.builder()
+            .name(fieldName)
+            .resultKey(fieldName)
+            .build()))
+        .keyCriterias(List.of(KeyCriteria.builder()
+            .fieldPath(List.of(codeField))
+            .value(code)
+            .build()))
+        .build();
+  }
+
+  private static TestObjectType createObjectType(String name) {
+    var nestedObjectType = new TestObjectType();
+    nestedObjectType.setName(name);
+    return nestedObjectType;
+  }
+
+  private BatchRequest createBatchRequest(Set<Map<String, Object>> keys) {
+    return BatchRequest.builder()
+        .objectRequest(SingleObjectRequest.builder()
+            .objectType(objectType)
+            .scalarFields(List.of(FieldRequest.builder()
+                .name("name")
+                .resultKey("name")
+                .build()))
+            .build())
+        .keys(keys)
+        .build();
+  }
+}
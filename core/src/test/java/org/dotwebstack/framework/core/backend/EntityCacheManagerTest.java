@@ -0,0 +1,122 @@
+package org.dotwebstack.framework.core.backend;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Map;
+import java.util.Set;
+import org.dotwebstack.framework.core.backend.CachingBackendLoader.EntityKey;
+import org.dotwebstack.framework.core.backend.CachingBackendLoader.Selection;
+import org.dotwebstack.framework.core.config.CacheConfiguration;
+import org.dotwebstack.framework.core.query.model.FieldRequest;
+import org.dotwebstack.framework.core.testhelpers.TestObjectType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheManagerTest {
+
+  private static final Selection SELECTION = new Selection("Brewery", Set.of(), Map.of());
+
+  private EntityCacheManager entityCacheManager;
+
+  private TestObjectType objectType;
+
+  @BeforeEach
+  void doBeforeEach() {
+    entityCacheManager = new EntityCacheManager();
+    objectType = new TestObjectType();
+    objectType.setName("Brewery");
+    objectType.setCache(new CacheConfiguration());
+  }
+
+  @Test
+  void getCache_returnsSameCache_forSameObjectType() {
+    var cache = entityCacheManager.getCache(objectType);
+
+    assertThat(entityCacheManager.getCache(objectType), is(sameInstance(cache)));
+  }
+
+  @Test
+  void invalidate_removesAllEntities_forObjectType() {
+    var cache = entityCacheManager.getCache(objectType);
+    cache.put(createKey(Map.of("identifier", "1")), Map.of());
+    cache.put(createKey(Map.of("identifier", "2")), Map.of());
+
+    entityCacheManager.invalidate("Brewery");
+
+    assertThat(cache.size(), is(0L));
+  }
+
+  @Test
+  void invalidate_removesMatchingEntities_forKeyValues() {
+    var cache = entityCacheManager.getCache(objectType);
+    cache.put(createKey(Map.of("identifier", 1)), Map.of());
+    cache.put(createKey(Map.of("identifier", 2)), Map.of());
+    cache.put(createKey(Map.of("name", "Brewery X")), Map.of());
+
+    entityCacheManager.invalidate("Brewery", Map.of("identifier", "1"));
+
+    assertThat(cache.asMap()
+        .keySet(), is(Set.of(createKey(Map.of("identifier", 2)))));
+  }
+
+  @Test
+  void invalidate_removesEmbeddingEntities_forEmbeddedObjectType() {
+    var cache = entityCacheManager.getCache(objectType);
+    var embeddingKey = new EntityKey(new Selection("Brewery", Set.of(),
+        Map.of(FieldRequest.builder()
+            .name("owner")
+            .build(), new Selection("Person", Set.of(), Map.of()))),
+        null, Map.of("identifier", "1"));
+    cache.put(embeddingKey, Map.of());
+    cache.put(createKey(Map.of("identifier", "1")), Map.of());
+
+    entityCacheManager.invalidate("Person", Map.of("identifier", "2"));
+
+    assertThat(cache.asMap()
+        .keySet(), is(Set.of(createKey(Map.of("identifier", "1")))));
+  }
+
+  @Test
+  void invalidate_doesNothing_forUncachedObjectType() {
+    var cache = entityCacheManager.getCache(objectType);
+    cache.put(createKey(Map.of("identifier", "1")), Map.of());
+
+    entityCacheManager.invalidate("Beer");
+    entityCacheManager.invalidate("Beer", Map.of("identifier", "1"));
+
+    assertThat(cache.size(), is(1L));
+  }
+
+  @Test
+  void getGeneration_changes_whenEmbeddedObjectTypeIsInvalidated() {
+    var selection = new Selection("Brewery", Set.of(), Map.of(FieldRequest.builder()
+        .name("owner")
+        .build(), new Selection("Person", Set.of(), Map.of())));
+    var generation = entityCacheManager.getGeneration(selection);
+
+    entityCacheManager.invalidate("Beer");
+
+    assertThat(entityCacheManager.getGeneration(selection), is(generation));
+
+    entityCacheManager.invalidate("Person", Map.of("identifier", "1"));
+
+    assertThat(entityCacheManager.getGeneration(selection), is(not(generation)));
+  }
+
+  @Test
+  void invalidateAll_removesAllEntities() {
+    var cache = entityCacheManager.getCache(objectType);
+    cache.put(createKey(Map.of("identifier", "1")), Map.of());
+
+    entityCacheManager.invalidateAll();
+
+    assertThat(cache.size(), is(0L));
+  }
+
+  private static EntityKey createKey(Map<String, Object> keyValues) {
+    return new EntityKey(SELECTION, null, keyValues);
+  }
+}
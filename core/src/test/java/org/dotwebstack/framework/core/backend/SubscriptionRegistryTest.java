@@ -0,0 +1,121 @@
+package org.dotwebstack.framework.core.backend;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.dotwebstack.framework.core.model.Settings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+class SubscriptionRegistryTest {
+
+  private SubscriptionRegistry subscriptionRegistry;
+
+  @BeforeEach
+  void doBeforeEach() {
+    var settings = new Settings();
+    settings.setMaxSharedSubscriptions(2);
+    settings.setSubscriptionBufferSize(2);
+
+    subscriptionRegistry = new SubscriptionRegistry(settings);
+  }
+
+  @Test
+  void subscribe_loadsInitialObjects_forJoiningSubscriber() {
+    var sink = Sinks.many()
+        .multicast()
+        .onBackpressureBuffer();
+
+    subscriptionRegistry.subscribe("key", Flux::empty, sink::asFlux)
+        .subscribe();
+    List.of("a", "b", "c")
+        .forEach(sink::tryEmitNext);
+
+    var results = new ArrayList<Object>();
+    subscriptionRegistry.subscribe("key", () -> Flux.just("current"), Flux::empty)
+        .subscribe(results::add);
+    sink.tryEmitNext("d");
+
+    assertThat(results, is(List.of("current", "d")));
+  }
+
+  @Test
+  void subscribe_dropsOldestChanges_forSlowSubscriber() {
+    var sink = Sinks.many()
+        .multicast()
+        .onBackpressureBuffer();
+    var subscriber = new SlowSubscriber();
+
+    subscriptionRegistry.subscribe("key", Flux::empty, sink::asFlux)
+        .subscribe(subscriber);
+    List.of("a", "b", "c", "d")
+        .forEach(sink::tryEmitNext);
+    subscriber.request(Long.MAX_VALUE);
+
+    // The first change is already prefetched by the merge with the initial objects
+    assertThat(subscriber.results, is(List.of("a", "c", "d")));
+  }
+
+  @Test
+  void subscribe_listensAgain_afterCompletion() {
+    var listens = new AtomicInteger();
+
+    List.of(1, 2)
+        .forEach(i -> subscriptionRegistry.subscribe("key", Flux::empty, () -> Flux.defer(() -> {
+          listens.incrementAndGet();
+          return Flux.just("a");
+        }))
+            .blockLast());
+
+    assertThat(listens.get(), is(2));
+  }
+
+  @Test
+  void subscribe_sharesChangesByKey_only() {
+    var results = new ArrayList<Object>();
+
+    subscriptionRegistry.subscribe("key", Flux::empty, () -> Flux.<Object>just("a")
+        .concatWith(Flux.never()))
+        .subscribe();
+    subscriptionRegistry.subscribe("other", Flux::empty, () -> Flux.just("b"))
+        .subscribe(results::add);
+
+    assertThat(results, is(List.of("b")));
+  }
+
+  @Test
+  void subscribe_doesNotShare_whenMaximumReached() {
+    var listens = new AtomicInteger();
+
+    List.of("a", "b", "c", "c")
+        .forEach(key -> subscriptionRegistry.subscribe(key, Flux::empty, () -> Flux.defer(() -> {
+          listens.incrementAndGet();
+          return Flux.never();
+        }))
+            .subscribe());
+
+    assertThat(listens.get(), is(4));
+  }
+
+  private static class SlowSubscriber extends BaseSubscriber<Object> {
+
+    private final List<Object> results = new ArrayList<>();
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+      // Nothing is requested until the subscriber catches up
+    }
+
+    @Override
+    protected void hookOnNext(Object value) {
+      results.add(value);
+    }
+  }
+}
@@ -45,4 +45,16 @@ class SchemaReaderTest {
         .get("identifier")
         .getType(), CoreMatchers.is("ID"));
   }
+
+  @Test
+  void read_returnsCacheConfiguration_forObjectTypeWithCache() {
+    var result = schemaReader.read("dotwebstack/dotwebstack-objecttypes-with-cache.yaml");
+
+    var cacheConfiguration = result.getObjectTypes()
+        .get("Municipality")
+        .getCache();
+
+    assertThat(cacheConfiguration.getTtl(), CoreMatchers.is(300));
+    assertThat(cacheConfiguration.getMaxSize(), CoreMatchers.is(500L));
+  }
 }
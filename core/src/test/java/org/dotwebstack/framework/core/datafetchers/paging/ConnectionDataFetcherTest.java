@@ -2,10 +2,16 @@ package org.dotwebstack.framework.core.datafetchers.paging;
 
 import static graphql.schema.GraphQLArgument.newArgument;
 import static org.dotwebstack.framework.core.backend.BackendConstants.PAGING_KEY_PREFIX;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.AFTER_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.BEFORE_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.END_CURSOR_FIELD_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.FIRST_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.NODES_FIELD_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.OFFSET_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.START_CURSOR_FIELD_NAME;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.lenient;
@@ -15,8 +21,10 @@ import static org.mockito.Mockito.when;
 import graphql.Scalars;
 import graphql.execution.DataFetcherResult;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import graphql.schema.GraphQLFieldDefinition;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.dotwebstack.framework.core.RequestValidationException;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -107,6 +115,52 @@ class ConnectionDataFetcherTest {
         PAGING_KEY_PREFIX.concat(OFFSET_ARGUMENT_NAME), 10000000, PAGING_KEY_PREFIX.concat(FIRST_ARGUMENT_NAME), 0)));
   }
 
+  @Test
+  void get_returnsResult_forAfterArgument() {
+    when(dataFetchingEnvironment.getArguments()).thenReturn(Map.of(FIRST_ARGUMENT_NAME, 2, AFTER_ARGUMENT_NAME, "abc"));
+
+    var dataFetcherResult = (DataFetcherResult<?>) connectionDataFetcher.get(dataFetchingEnvironment);
+
+    assertThat(dataFetcherResult.getData(),
+        equalTo(Map.of(OFFSET_ARGUMENT_NAME, 0, PAGING_KEY_PREFIX.concat(OFFSET_ARGUMENT_NAME), 0,
+            PAGING_KEY_PREFIX.concat(FIRST_ARGUMENT_NAME), 2, PAGING_KEY_PREFIX.concat(AFTER_ARGUMENT_NAME), "abc")));
+  }
+
+  @Test
+  void get_addsPendingNodes_forRequestedCursor() {
+    var selectionSet = mock(DataFetchingFieldSelectionSet.class);
+    when(selectionSet.contains(NODES_FIELD_NAME)).thenReturn(true);
+    when(selectionSet.contains(START_CURSOR_FIELD_NAME)).thenReturn(false);
+    when(selectionSet.contains(END_CURSOR_FIELD_NAME)).thenReturn(true);
+    when(dataFetchingEnvironment.getSelectionSet()).thenReturn(selectionSet);
+    when(dataFetchingEnvironment.getArguments()).thenReturn(Map.of());
+
+    var dataFetcherResult = (DataFetcherResult<?>) connectionDataFetcher.get(dataFetchingEnvironment);
+    var data = (Map<?, ?>) dataFetcherResult.getData();
+
+    assertThat(data.get(PAGING_KEY_PREFIX.concat(NODES_FIELD_NAME)), instanceOf(CompletableFuture.class));
+  }
+
+  @Test
+  void get_throwsException_forAfterAndBeforeArguments() {
+    when(dataFetchingEnvironment.getArguments())
+        .thenReturn(Map.of(AFTER_ARGUMENT_NAME, "abc", BEFORE_ARGUMENT_NAME, "def"));
+
+    RequestValidationException exception =
+        assertThrows(RequestValidationException.class, () -> connectionDataFetcher.get(dataFetchingEnvironment));
+    assertThat(exception.getMessage(), is("Arguments 'after' and 'before' can't be combined."));
+  }
+
+  @Test
+  void get_throwsException_forCursorAndOffsetArguments() {
+    when(dataFetchingEnvironment.getArguments())
+        .thenReturn(Map.of(OFFSET_ARGUMENT_NAME, 20, AFTER_ARGUMENT_NAME, "abc"));
+
+    RequestValidationException exception =
+        assertThrows(RequestValidationException.class, () -> connectionDataFetcher.get(dataFetchingEnvironment));
+    assertThat(exception.getMessage(), is("Argument 'offset' can't be combined with 'after' or 'before'."));
+  }
+
   @Test
   void get_throwsException_forInvalidTooHighFirstArgumentValue() {
     when(dataFetchingEnvironment.getArguments()).thenReturn(Map.of(FIRST_ARGUMENT_NAME, 101, OFFSET_ARGUMENT_NAME, 20));
@@ -0,0 +1,79 @@
+package org.dotwebstack.framework.core.datafetchers.paging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.when;
+
+import graphql.language.Field;
+import graphql.schema.DataFetchingEnvironment;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CursorDataFetcherTest {
+
+  private static final String NODES_KEY = "$paging:nodes";
+
+  @Mock
+  private DataFetchingEnvironment environment;
+
+  private final CursorDataFetcher cursorDataFetcher = new CursorDataFetcher();
+
+  @Test
+  void get_returnsCursorOfLastNode_forEndCursor() {
+    var nodes = new CompletableFuture<>();
+    when(environment.getSource()).thenReturn(Map.of(NODES_KEY, nodes));
+    when(environment.getField()).thenReturn(new Field("endCursor"));
+
+    var result = (CompletableFuture<?>) cursorDataFetcher.get(environment);
+    nodes.complete(List.of(Map.of("$paging:cursor", "first"), Map.of("$paging:cursor", "last")));
+
+    assertThat(result.join(), is("last"));
+  }
+
+  @Test
+  void get_returnsCursorOfFirstNode_forStartCursor() {
+    var nodes = CompletableFuture.completedFuture(
+        List.of(Map.of("$paging:cursor", "first"), Map.of("$paging:cursor", "last")));
+    when(environment.getSource()).thenReturn(Map.of(NODES_KEY, nodes));
+    when(environment.getField()).thenReturn(new Field("startCursor"));
+
+    var result = (CompletableFuture<?>) cursorDataFetcher.get(environment);
+
+    assertThat(result.join(), is("first"));
+  }
+
+  @Test
+  void get_returnsNull_forEmptyNodes() {
+    when(environment.getSource()).thenReturn(Map.of(NODES_KEY, CompletableFuture.completedFuture(List.of())));
+    when(environment.getField()).thenReturn(new Field("endCursor"));
+
+    var result = (CompletableFuture<?>) cursorDataFetcher.get(environment);
+
+    assertThat(result.join(), is(nullValue()));
+  }
+
+  @Test
+  void get_returnsNull_forFailedNodes() {
+    when(environment.getSource())
+        .thenReturn(Map.of(NODES_KEY, CompletableFuture.failedFuture(new IllegalStateException("failed"))));
+    when(environment.getField()).thenReturn(new Field("endCursor"));
+
+    var result = (CompletableFuture<?>) cursorDataFetcher.get(environment);
+
+    assertThat(result.join(), is(nullValue()));
+  }
+
+  @Test
+  void get_returnsNull_whenNodesAreNotRequested() {
+    when(environment.getSource()).thenReturn(Map.of("offset", 0));
+
+    assertThat(cursorDataFetcher.get(environment), is(nullValue()));
+  }
+}
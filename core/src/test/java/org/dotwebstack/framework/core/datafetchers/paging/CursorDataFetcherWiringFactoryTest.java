@@ -0,0 +1,45 @@
+package org.dotwebstack.framework.core.datafetchers.paging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import graphql.language.FieldDefinition;
+import graphql.schema.idl.FieldWiringEnvironment;
+import org.dotwebstack.framework.core.graphql.GraphQlConstants;
+import org.junit.jupiter.api.Test;
+
+class CursorDataFetcherWiringFactoryTest {
+
+  private final CursorDataFetcherWiringFactory wiringFactory = new CursorDataFetcherWiringFactory();
+
+  @Test
+  void providesDataFetcher_returnsTrue_forCursorField() {
+    var fieldWiringEnvironment = mock(FieldWiringEnvironment.class);
+    when(fieldWiringEnvironment.getFieldDefinition()).thenReturn(FieldDefinition.newFieldDefinition()
+        .name("endCursor")
+        .additionalData(GraphQlConstants.IS_PAGING_CURSOR, Boolean.TRUE.toString())
+        .build());
+
+    assertThat(wiringFactory.providesDataFetcher(fieldWiringEnvironment), is(true));
+  }
+
+  @Test
+  void providesDataFetcher_returnsFalse_forDefaultField() {
+    var fieldWiringEnvironment = mock(FieldWiringEnvironment.class);
+    when(fieldWiringEnvironment.getFieldDefinition()).thenReturn(FieldDefinition.newFieldDefinition()
+        .name("offset")
+        .build());
+
+    assertThat(wiringFactory.providesDataFetcher(fieldWiringEnvironment), is(false));
+  }
+
+  @Test
+  void getDataFetcher_returnsCursorDataFetcher() {
+    var fieldWiringEnvironment = mock(FieldWiringEnvironment.class);
+
+    assertThat(wiringFactory.getDataFetcher(fieldWiringEnvironment), instanceOf(CursorDataFetcher.class));
+  }
+}
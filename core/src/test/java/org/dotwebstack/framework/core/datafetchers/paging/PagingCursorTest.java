@@ -0,0 +1,56 @@
+package org.dotwebstack.framework.core.datafetchers.paging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.dotwebstack.framework.core.RequestValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PagingCursorTest {
+
+  @Test
+  void decode_returnsEncodedValues_forSupportedTypes() {
+    List<Object> values = Arrays.asList("brewery-1", 1, 2L, (short) 3, 4.5d, 5.5f, new BigDecimal("6.50"), true,
+        LocalDate.of(2024, 1, 31), LocalDateTime.of(2024, 1, 31, 12, 30), OffsetDateTime.parse("2024-01-31T12:30Z"),
+        UUID.fromString("1b7b0d5c-1d43-4d4a-9f5e-0b8c1f6a2f4e"), null);
+
+    var cursor = PagingCursor.encode(values);
+
+    assertThat(PagingCursor.decode(cursor), is(values));
+  }
+
+  @Test
+  void encode_returnsUrlSafeCursor() {
+    var cursor = PagingCursor.encode(List.of("???>>>", 1));
+
+    assertThat(cursor.matches("[A-Za-z0-9_-]+"), is(true));
+  }
+
+  @Test
+  void encode_throwsException_forUnsupportedType() {
+    List<Object> values = List.of(new Object());
+
+    var exception = assertThrows(IllegalArgumentException.class, () -> PagingCursor.encode(values));
+
+    assertThat(exception.getMessage(), is("Type java.lang.Object is not supported in cursors."));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "foo", "!!!", "AAEAWAAEdHJ1ZQ"})
+  void decode_throwsException_forInvalidCursor(String cursor) {
+    var exception = assertThrows(RequestValidationException.class, () -> PagingCursor.decode(cursor));
+
+    assertThat(exception.getMessage(), startsWith("Cursor '" + cursor + "' is invalid."));
+  }
+}
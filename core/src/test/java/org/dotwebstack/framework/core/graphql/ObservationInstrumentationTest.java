@@ -0,0 +1,78 @@
+package org.dotwebstack.framework.core.graphql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.Map;
+import org.dotwebstack.framework.core.testhelpers.TestObservationHandler;
+import org.junit.jupiter.api.Test;
+
+class ObservationInstrumentationTest {
+
+  private final TestObservationHandler handler = new TestObservationHandler();
+
+  @Test
+  void instrumentation_observesOperationAndTopLevelFields() {
+    var graphQl = createGraphQl(TestObservationHandler.createRegistry(handler));
+
+    var result = graphQl.execute("query beers { beers { name } }");
+
+    assertThat(result.getErrors(), is(empty()));
+    assertThat(handler.getNames(),
+        is(List.of(ObservationInstrumentation.PARSE_OBSERVATION, ObservationInstrumentation.VALIDATE_OBSERVATION,
+            ObservationInstrumentation.FIELD_OBSERVATION, ObservationInstrumentation.EXECUTE_OBSERVATION,
+            ObservationInstrumentation.REQUEST_OBSERVATION)));
+    assertThat(handler.getKeyValues(ObservationInstrumentation.FIELD_OBSERVATION),
+        hasEntry(ObservationInstrumentation.FIELD_NAME_KEY, "Query.beers"));
+    assertThat(handler.getKeyValues(ObservationInstrumentation.EXECUTE_OBSERVATION),
+        is(Map.of(ObservationInstrumentation.OPERATION_TYPE_KEY, "query",
+            ObservationInstrumentation.OPERATION_NAME_KEY, "beers")));
+  }
+
+  @Test
+  void instrumentation_nestsObservations_inRequestObservation() {
+    var graphQl = createGraphQl(TestObservationHandler.createRegistry(handler));
+
+    graphQl.execute("{ beers { name } }");
+
+    assertThat(handler.getParentName(ObservationInstrumentation.PARSE_OBSERVATION),
+        is(ObservationInstrumentation.REQUEST_OBSERVATION));
+    assertThat(handler.getParentName(ObservationInstrumentation.VALIDATE_OBSERVATION),
+        is(ObservationInstrumentation.REQUEST_OBSERVATION));
+    assertThat(handler.getParentName(ObservationInstrumentation.EXECUTE_OBSERVATION),
+        is(ObservationInstrumentation.REQUEST_OBSERVATION));
+    assertThat(handler.getParentName(ObservationInstrumentation.FIELD_OBSERVATION),
+        is(ObservationInstrumentation.EXECUTE_OBSERVATION));
+    assertThat(handler.getParentName(ObservationInstrumentation.REQUEST_OBSERVATION), is(nullValue()));
+  }
+
+  @Test
+  void instrumentation_executesQuery_withoutRegistry() {
+    var graphQl = createGraphQl(null);
+
+    var result = graphQl.execute("{ beers { name } }");
+
+    assertThat(result.getErrors(), is(empty()));
+    assertThat(handler.getNames(), is(empty()));
+  }
+
+  private GraphQL createGraphQl(ObservationRegistry observationRegistry) {
+    var typeDefinitionRegistry = new SchemaParser().parse("type Query { beers: [Beer] } type Beer { name: String }");
+    var runtimeWiring = RuntimeWiring.newRuntimeWiring()
+        .type("Query", builder -> builder.dataFetcher("beers", environment -> List.of(Map.of("name", "Beer 1"))))
+        .build();
+
+    return GraphQL.newGraphQL(new SchemaGenerator().makeExecutableSchema(typeDefinitionRegistry, runtimeWiring))
+        .instrumentation(new ObservationInstrumentation(observationRegistry))
+        .build();
+  }
+}
@@ -0,0 +1,84 @@
+package org.dotwebstack.framework.core.graphql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.language.Document;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class PersistedQueryProviderTest {
+
+  private static final String HASH = "24bdc40a9f59ea30b2c2e68a7129e246b620a31389e665f38359eccbeadadf8a";
+
+  private static final String QUERY = "{ beers { name } }";
+
+  private final List<String> parsedQueries = new ArrayList<>();
+
+  private final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate = executionInput -> {
+    parsedQueries.add(executionInput.getQuery());
+    return new PreparsedDocumentEntry(Document.newDocument()
+        .build());
+  };
+
+  private final PersistedQueryProvider provider =
+      new PersistedQueryProvider(new PersistedQueryStore(10, Map.of()), new PreparsedDocumentCache(10));
+
+  @Test
+  void getDocumentAsync_returnsNotFound_forUnknownHash() {
+    var entry = provider.getDocumentAsync(createExecutionInput(PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH),
+        parseAndValidate)
+        .join();
+
+    assertThat(entry.hasErrors(), is(true));
+    assertThat(entry.getErrors()
+        .get(0)
+        .getMessage(), is("PersistedQueryNotFound"));
+  }
+
+  @Test
+  void getDocumentAsync_returnsIdInvalid_forHashMismatch() {
+    var entry = provider.getDocumentAsync(createExecutionInput("{ breweries { name } }", HASH), parseAndValidate)
+        .join();
+
+    assertThat(entry.hasErrors(), is(true));
+    assertThat(entry.getErrors()
+        .get(0)
+        .getMessage(), is("PersistedQueryIdInvalid"));
+  }
+
+  @Test
+  void getDocumentAsync_resolvesHashOnly_afterRegistration() {
+    provider.getDocumentAsync(createExecutionInput(QUERY, HASH), parseAndValidate)
+        .join();
+    var entry = provider.getDocumentAsync(createExecutionInput(PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH),
+        parseAndValidate)
+        .join();
+
+    assertThat(entry.hasErrors(), is(false));
+    assertThat(parsedQueries, is(List.of(QUERY)));
+  }
+
+  @Test
+  void getDocumentAsync_usesDocumentProvider_forRegularQuery() {
+    provider.getDocumentAsync(createExecutionInput(QUERY, null), parseAndValidate)
+        .join();
+    provider.getDocumentAsync(createExecutionInput(QUERY, null), parseAndValidate)
+        .join();
+
+    assertThat(parsedQueries, is(List.of(QUERY)));
+  }
+
+  private ExecutionInput createExecutionInput(String query, String hash) {
+    return ExecutionInput.newExecutionInput()
+        .query(query)
+        .extensions(hash == null ? Map.of() : Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash)))
+        .build();
+  }
+}
@@ -0,0 +1,129 @@
+package org.dotwebstack.framework.core.graphql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.language.Document;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PersistedQueryStoreTest {
+
+  private static final String HASH = "24bdc40a9f59ea30b2c2e68a7129e246b620a31389e665f38359eccbeadadf8a";
+
+  private static final String QUERY = "{ beers { name } }";
+
+  private final List<String> parsedQueries = new ArrayList<>();
+
+  private final PersistedQueryCacheMiss onCacheMiss = query -> {
+    parsedQueries.add(query);
+    return new PreparsedDocumentEntry(Document.newDocument()
+        .build());
+  };
+
+  @Test
+  void getPersistedQueryDocumentAsync_throwsNotFound_forUnknownHash() {
+    var store = new PersistedQueryStore(10, Map.of());
+    var executionInput = createExecutionInput(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+
+    assertThrows(PersistedQueryNotFound.class,
+        () -> store.getPersistedQueryDocumentAsync(HASH, executionInput, onCacheMiss));
+  }
+
+  @Test
+  void getPersistedQueryDocumentAsync_registersQuery_forHashWithQuery() throws Exception {
+    var store = new PersistedQueryStore(10, Map.of());
+
+    store.getPersistedQueryDocumentAsync(HASH, createExecutionInput(QUERY), onCacheMiss)
+        .join();
+    var entry = store
+        .getPersistedQueryDocumentAsync(HASH, createExecutionInput(PersistedQuerySupport.PERSISTED_QUERY_MARKER),
+            onCacheMiss)
+        .join();
+
+    assertThat(entry.hasErrors(), is(false));
+    assertThat(parsedQueries, is(List.of(QUERY, QUERY)));
+    assertThat(store.size(), is(1L));
+  }
+
+  @Test
+  void getPersistedQueryDocumentAsync_doesNotRegister_forInvalidQuery() throws Exception {
+    var store = new PersistedQueryStore(10, Map.of());
+    PersistedQueryCacheMiss invalid = query -> new PreparsedDocumentEntry(List.of(GraphqlErrorBuilder.newError()
+        .message("Invalid syntax")
+        .build()));
+
+    var entry = store.getPersistedQueryDocumentAsync(HASH, createExecutionInput("{ beers {"), invalid)
+        .join();
+
+    assertThat(entry.hasErrors(), is(true));
+    assertThat(store.size(), is(0L));
+  }
+
+  @Test
+  void getPersistedQueryDocumentAsync_returnsPreloadedQuery_forKnownHash() throws Exception {
+    var store = new PersistedQueryStore(10, Map.of(HASH, QUERY));
+
+    store.getPersistedQueryDocumentAsync(HASH, createExecutionInput(PersistedQuerySupport.PERSISTED_QUERY_MARKER),
+        onCacheMiss)
+        .join();
+
+    assertThat(parsedQueries, is(List.of(QUERY)));
+  }
+
+  @Test
+  void getPersistedQueryDocumentAsync_throwsNotFound_forHashWithQueryWithoutRegistration() {
+    var store = new PersistedQueryStore(10, Map.of(), false);
+    var executionInput = createExecutionInput(QUERY);
+
+    assertThrows(PersistedQueryNotFound.class,
+        () -> store.getPersistedQueryDocumentAsync(HASH, executionInput, onCacheMiss));
+    assertThat(parsedQueries, is(List.of()));
+    assertThat(store.size(), is(0L));
+  }
+
+  @Test
+  void getPersistedQueryDocumentAsync_returnsPreloadedQuery_withoutRegistration() throws Exception {
+    var store = new PersistedQueryStore(10, Map.of(HASH, QUERY), false);
+
+    store.getPersistedQueryDocumentAsync(HASH, createExecutionInput(PersistedQuerySupport.PERSISTED_QUERY_MARKER),
+        onCacheMiss)
+        .join();
+
+    assertThat(parsedQueries, is(List.of(QUERY)));
+  }
+
+  @Test
+  void getPersistedQueryDocumentAsync_evictsRegisteredQueries_whenMaximumSizeIsReached() throws Exception {
+    var store = new PersistedQueryStore(1, Map.of());
+    var meterRegistry = new SimpleMeterRegistry();
+    store.bindTo(meterRegistry);
+
+    store.getPersistedQueryDocumentAsync(HASH, createExecutionInput(QUERY), onCacheMiss)
+        .join();
+    store.getPersistedQueryDocumentAsync("other", createExecutionInput("{ breweries { name } }"), onCacheMiss)
+        .join();
+
+    assertThat(store.size(), is(1L));
+    assertThat(meterRegistry.get("cache.evictions")
+        .tag("cache", PersistedQueryStore.CACHE_NAME)
+        .functionCounter()
+        .count(), is(1.0));
+  }
+
+  private ExecutionInput createExecutionInput(String query) {
+    return ExecutionInput.newExecutionInput()
+        .query(query)
+        .build();
+  }
+}
@@ -0,0 +1,110 @@
+package org.dotwebstack.framework.core.graphql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.language.Document;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class PreparsedDocumentCacheTest {
+
+  private final AtomicInteger parseCount = new AtomicInteger();
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate = executionInput -> {
+    parseCount.incrementAndGet();
+    return new PreparsedDocumentEntry(Document.newDocument()
+        .build());
+  };
+
+  @Test
+  void getDocumentAsync_returnsCachedEntry_forSameQueryAndOperationName() {
+    var cache = new PreparsedDocumentCache(10);
+    cache.bindTo(meterRegistry);
+
+    var first = cache.getDocumentAsync(createExecutionInput("{ beers { name } }", "beers"), parseAndValidate)
+        .join();
+    var second = cache.getDocumentAsync(createExecutionInput("{ beers { name } }", "beers"), parseAndValidate)
+        .join();
+
+    assertThat(second, sameInstance(first));
+    assertThat(parseCount.get(), is(1));
+    assertThat(getCount("cache.gets", "hit"), is(1.0));
+    assertThat(getCount("cache.gets", "miss"), is(1.0));
+  }
+
+  @Test
+  void getDocumentAsync_parsesAgain_forDifferentOperationName() {
+    var cache = new PreparsedDocumentCache(10);
+
+    cache.getDocumentAsync(createExecutionInput("{ beers { name } }", "beers"), parseAndValidate)
+        .join();
+    cache.getDocumentAsync(createExecutionInput("{ beers { name } }", null), parseAndValidate)
+        .join();
+
+    assertThat(parseCount.get(), is(2));
+    assertThat(cache.size(), is(2L));
+  }
+
+  @Test
+  void getDocumentAsync_doesNotCache_forInvalidDocument() {
+    var cache = new PreparsedDocumentCache(10);
+    Function<ExecutionInput, PreparsedDocumentEntry> invalid = executionInput -> {
+      parseCount.incrementAndGet();
+      return new PreparsedDocumentEntry(List.of(GraphqlErrorBuilder.newError()
+          .message("Invalid syntax")
+          .build()));
+    };
+
+    cache.getDocumentAsync(createExecutionInput("{ beers {", null), invalid)
+        .join();
+    var result = cache.getDocumentAsync(createExecutionInput("{ beers {", null), invalid)
+        .join();
+
+    assertThat(result.hasErrors(), is(true));
+    assertThat(parseCount.get(), is(2));
+    assertThat(cache.size(), is(0L));
+  }
+
+  @Test
+  void getDocumentAsync_evictsEntries_whenMaximumSizeIsReached() {
+    var cache = new PreparsedDocumentCache(1);
+    cache.bindTo(meterRegistry);
+
+    cache.getDocumentAsync(createExecutionInput("{ beers { name } }", null), parseAndValidate)
+        .join();
+    cache.getDocumentAsync(createExecutionInput("{ breweries { name } }", null), parseAndValidate)
+        .join();
+
+    assertThat(cache.size(), is(1L));
+    assertThat(meterRegistry.get("cache.evictions")
+        .tag("cache", PreparsedDocumentCache.CACHE_NAME)
+        .functionCounter()
+        .count(), is(1.0));
+  }
+
+  private double getCount(String name, String result) {
+    return meterRegistry.get(name)
+        .tag("cache", PreparsedDocumentCache.CACHE_NAME)
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+
+  private ExecutionInput createExecutionInput(String query, String operationName) {
+    return ExecutionInput.newExecutionInput()
+        .query(query)
+        .operationName(operationName)
+        .build();
+  }
+}
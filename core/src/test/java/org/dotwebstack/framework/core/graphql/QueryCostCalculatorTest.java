@@ -0,0 +1,80 @@
+package org.dotwebstack.framework.core.graphql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import graphql.analysis.QueryComplexityCalculator;
+import graphql.execution.CoercedVariables;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import org.dotwebstack.framework.core.model.Schema;
+import org.dotwebstack.framework.core.testhelpers.TestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryCostCalculatorTest {
+
+  private Schema schema;
+
+  private GraphQLSchema graphQlSchema;
+
+  @BeforeEach
+  void doBeforeEach() {
+    schema = TestHelper.loadSchemaWithDefaultBackendModule("dotwebstack/dotwebstack-query-cost.yaml");
+    graphQlSchema = TestHelper.schemaToGraphQl(schema);
+  }
+
+  @Test
+  void calculate_countsEveryField_forSingleObject() {
+    var cost = calculate("{ brewery(identifier: \"1\") { identifier name } }");
+
+    assertThat(cost, is(3));
+  }
+
+  @Test
+  void calculate_multipliesByEstimatedListSize_forList() {
+    var cost = calculate("{ breweryList { identifier name } }");
+
+    assertThat(cost, is(15));
+  }
+
+  @Test
+  void calculate_multipliesByFirst_forPageableList() {
+    var cost = calculate("{ breweryCollection(first: 20) { nodes { name } } }");
+
+    assertThat(cost, is(60));
+  }
+
+  @Test
+  void calculate_multipliesByFirstDefault_forPageableListWithoutFirst() {
+    var cost = calculate("{ breweryCollection { nodes { name } } }");
+
+    assertThat(cost, is(30));
+  }
+
+  @Test
+  void calculate_multipliesByKeyCount_forBatchQuery() {
+    var cost = calculate("{ breweryBatch(identifier: [\"1\", \"2\", \"3\"]) { name } }");
+
+    assertThat(cost, is(6));
+  }
+
+  @Test
+  void calculate_multipliesNestedLists() {
+    var cost = calculate("{ breweryCollection(first: 10) { nodes { name beers { name } "
+        + "beerCollection(first: 4) { nodes { name } } } } }");
+
+    // beers: 5 * (1 + 1) = 10, beerCollection: 4 * (1 + (1 + 1)) = 12, nodes: 1 + 1 + 10 + 12 = 24
+    assertThat(cost, is(10 * (1 + 24)));
+  }
+
+  private int calculate(String query) {
+    return QueryComplexityCalculator.newCalculator()
+        .fieldComplexityCalculator(new QueryCostCalculator(schema))
+        .schema(graphQlSchema)
+        .document(Parser.parse(query))
+        .variables(CoercedVariables.emptyVariables())
+        .build()
+        .calculate();
+  }
+}
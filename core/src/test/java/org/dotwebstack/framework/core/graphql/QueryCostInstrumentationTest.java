@@ -0,0 +1,59 @@
+package org.dotwebstack.framework.core.graphql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import graphql.GraphQL;
+import graphql.execution.AbortExecutionException;
+import org.dotwebstack.framework.core.model.Schema;
+import org.dotwebstack.framework.core.testhelpers.TestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryCostInstrumentationTest {
+
+  private Schema schema;
+
+  @BeforeEach
+  void doBeforeEach() {
+    schema = TestHelper.loadSchemaWithDefaultBackendModule("dotwebstack/dotwebstack-query-cost.yaml");
+  }
+
+  @Test
+  void beginExecuteOperation_executesQuery_whenCostIsWithinMaximum() {
+    var result = createGraphQl().execute("{ breweryCollection(first: 20) { nodes { name } } }");
+
+    assertThat(result.getErrors(), not(hasItem(instanceOf(AbortExecutionException.class))));
+  }
+
+  @Test
+  void beginExecuteOperation_rejectsQuery_whenCostExceedsMaximum() {
+    var result = createGraphQl().execute("{ breweryCollection(first: 50) { nodes { name } } }");
+
+    assertThat(result.getErrors()
+        .size(), is(1));
+    assertThat(result.getErrors()
+        .get(0)
+        .getMessage(), is("Query cost 150 exceeds the maximum query cost of 100."));
+    assertThat(result.getData(), is((Object) null));
+  }
+
+  @Test
+  void beginExecuteOperation_executesQuery_whenMaximumIsDisabled() {
+    schema.getSettings()
+        .setMaxQueryCost(0);
+
+    var result = createGraphQl().execute("{ breweryCollection(first: 50) { nodes { name } } }");
+
+    assertThat(result.getErrors(), not(hasItem(instanceOf(AbortExecutionException.class))));
+  }
+
+  private GraphQL createGraphQl() {
+    return GraphQL.newGraphQL(TestHelper.schemaToGraphQl(schema))
+        .instrumentation(new QueryCostInstrumentation(schema))
+        .build();
+  }
+}
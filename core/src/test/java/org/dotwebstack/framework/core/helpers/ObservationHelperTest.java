@@ -0,0 +1,95 @@
+package org.dotwebstack.framework.core.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import graphql.GraphQLContext;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.Map;
+import org.dotwebstack.framework.core.testhelpers.TestObservationHandler;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ObservationHelperTest {
+
+  @Test
+  void sizeBucket_returnsSmallestBucket_forSize() {
+    assertThat(ObservationHelper.sizeBucket(0), is("0"));
+    assertThat(ObservationHelper.sizeBucket(1), is("1"));
+    assertThat(ObservationHelper.sizeBucket(2), is("10"));
+    assertThat(ObservationHelper.sizeBucket(100), is("100"));
+    assertThat(ObservationHelper.sizeBucket(1000), is("1000"));
+    assertThat(ObservationHelper.sizeBucket(1001), is("+Inf"));
+  }
+
+  @Test
+  void orNoop_returnsNoopRegistry_forNull() {
+    assertThat(ObservationHelper.orNoop(null), sameInstance(ObservationRegistry.NOOP));
+  }
+
+  @Test
+  void observeRows_recordsRows_onCompletion() {
+    var handler = new TestObservationHandler();
+    var observation = Observation.createNotStarted("test", TestObservationHandler.createRegistry(handler));
+
+    var rows = ObservationHelper.observeRows(Flux.just(1, 2, 3), observation)
+        .collectList()
+        .block();
+
+    assertThat(rows, is(List.of(1, 2, 3)));
+
+    assertThat(handler.getNames(), is(List.of("test")));
+    assertThat(handler.getKeyValues("test"), hasEntry(ObservationHelper.ROWS_KEY, "10"));
+    assertThat(handler.getKeyValues("test"), hasEntry(ObservationHelper.ROWS_KEY + ".count", "3"));
+  }
+
+  @Test
+  void observeRows_nestsObservation_inSubscriberContext() {
+    var handler = new TestObservationHandler();
+    var registry = TestObservationHandler.createRegistry(handler);
+    var parentObservation = Observation.start("parent", registry);
+    var observation = Observation.createNotStarted("test", registry);
+
+    var current = ObservationHelper.observeRows(Flux.deferContextual(context -> Flux.just(context.<Observation>get(
+        ObservationHelper.OBSERVATION_KEY))), observation)
+        .contextWrite(context -> context.put(ObservationHelper.OBSERVATION_KEY, parentObservation))
+        .blockFirst();
+
+    assertThat(current, sameInstance(observation));
+    assertThat(handler.getParentName("test"), is("parent"));
+  }
+
+  @Test
+  void observe_recordsObservation_onCompletion() {
+    var handler = new TestObservationHandler();
+    var observation = Observation.createNotStarted("test", TestObservationHandler.createRegistry(handler));
+
+    var value = ObservationHelper.observe(Mono.just(1), observation)
+        .block();
+
+    assertThat(value, is(1));
+    assertThat(handler.getNames(), is(List.of("test")));
+  }
+
+  @Test
+  void getObservation_returnsObservation_fromGraphQlContext() {
+    var observation = Observation.createNotStarted("test", ObservationRegistry.create());
+
+    assertThat(ObservationHelper.getObservation(GraphQLContext.of(Map.of(ObservationHelper.OBSERVATION_KEY,
+        observation))), sameInstance(observation));
+    assertThat(ObservationHelper.getObservation(null), is(nullValue()));
+  }
+
+  @Test
+  void observeRows_returnsFlux_forNoopObservation() {
+    var flux = Flux.just(1);
+
+    assertThat(ObservationHelper.observeRows(flux, Observation.NOOP), sameInstance(flux));
+  }
+}
@@ -0,0 +1,59 @@
+package org.dotwebstack.framework.core.testhelpers;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+public class TestObservationHandler implements ObservationHandler<Observation.Context> {
+
+  private final List<Observation.Context> stopped = new CopyOnWriteArrayList<>();
+
+  public static ObservationRegistry createRegistry(TestObservationHandler handler) {
+    var registry = ObservationRegistry.create();
+    registry.observationConfig()
+        .observationHandler(handler);
+    return registry;
+  }
+
+  @Override
+  public void onStop(Observation.Context context) {
+    stopped.add(context);
+  }
+
+  @Override
+  public boolean supportsContext(Observation.Context context) {
+    return true;
+  }
+
+  public List<String> getNames() {
+    return stopped.stream()
+        .map(Observation.Context::getName)
+        .toList();
+  }
+
+  public Map<String, String> getKeyValues(String name) {
+    return getContext(name).getAllKeyValues()
+        .stream()
+        .collect(Collectors.toMap(KeyValue::getKey, KeyValue::getValue));
+  }
+
+  public String getParentName(String name) {
+    var parentObservation = getContext(name).getParentObservation();
+
+    return parentObservation != null ? parentObservation.getContextView()
+        .getName() : null;
+  }
+
+  private Observation.Context getContext(String name) {
+    return stopped.stream()
+        .filter(context -> context.getName()
+            .equals(name))
+        .findFirst()
+        .orElseThrow();
+  }
+}
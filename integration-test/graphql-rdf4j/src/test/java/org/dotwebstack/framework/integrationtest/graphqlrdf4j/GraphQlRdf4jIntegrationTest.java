@@ -12,15 +12,20 @@ import static org.dotwebstack.framework.integrationtest.graphqlrdf4j.Constants.B
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
+import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.dataloader.DataLoaderRegistry;
 import org.dotwebstack.framework.test.TestApplication;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -117,6 +122,89 @@ class GraphQlRdf4jIntegrationTest {
                     "asWKB", "ACAAAAQAAAAAAAAAAQAAAAABQBfqxuQjKTNAShvL0rQDxA=="))));
   }
 
+  @Test
+  void graphQlQuery_ReturnsBeersPerBrewery_forNestedList() {
+    // Nested lists are batch loaded with the data loaders of the request
+    var executionInput = ExecutionInput.newExecutionInput("{ breweries { identifier, beers { name }}}")
+        .dataLoaderRegistry(new DataLoaderRegistry())
+        .build();
+
+    ExecutionResult result = graphQL.execute(executionInput);
+
+    assertResultHasNoErrors(result);
+    Map<String, Object> data = result.getData();
+    var beerNames = ((List<Map<String, Object>>) data.get("breweries")).stream()
+        .collect(Collectors.toMap(brewery -> brewery.get(BREWERY_IDENTIFIER_FIELD),
+            brewery -> ((List<Map<String, Object>>) brewery.get("beers")).stream()
+                .map(beer -> beer.get("name"))
+                .collect(Collectors.toSet())));
+
+    assertThat(beerNames.get("123"), is(Set.of("Straffe Hendrik", "Brugse zot")));
+    assertThat(beerNames.get("789"), is(Set.of("Alfa Edel Pils", "Alfa Krachtig Dort")));
+    assertThat(beerNames.get("456"), is(Set.of()));
+  }
+
+  @Test
+  void graphQlQuery_ReturnsBreweriesPerKey_forBatchQuery() {
+    String query = "{ breweryBatch(identifier: [\"123\", \"789\", \"999\"]) { identifier, name }}";
+
+    ExecutionResult result = graphQL.execute(query);
+
+    assertResultHasNoErrors(result);
+    Map<String, Object> data = result.getData();
+    var breweries = (List<Map<String, Object>>) data.get("breweryBatch");
+
+    assertThat(breweries.size(), is(3));
+    assertThat(breweries.get(0), hasEntry(BREWERY_IDENTIFIER_FIELD, "123"));
+    assertThat(breweries.get(1), hasEntry(BREWERY_IDENTIFIER_FIELD, "789"));
+    assertThat(breweries.get(2), is(nullValue()));
+  }
+
+  @Test
+  void graphQlQuery_ReturnsFilteredBreweries_forFilter() {
+    String query = "{ breweries(filter: {name: {eq: \"Brouwerij 1923\"}}) { identifier, name }}";
+
+    ExecutionResult result = graphQL.execute(query);
+
+    assertResultHasNoErrors(result);
+    Map<String, Object> data = result.getData();
+    var breweries = (List<Map<String, Object>>) data.get("breweries");
+
+    assertThat(breweries.size(), is(1));
+    assertThat(breweries.get(0), hasEntry(BREWERY_IDENTIFIER_FIELD, BREWERY_IDENTIFIER_EXAMPLE_1.stringValue()));
+  }
+
+  @Test
+  void graphQlQuery_ReturnsFilteredBreweries_forCombinedFilter() {
+    String query = "{ breweries(filter: {founded: {gte: \"1900-01-01\"}, _or: {number: {gt: 50}}}) { identifier }}";
+
+    ExecutionResult result = graphQL.execute(query);
+
+    assertResultHasNoErrors(result);
+    Map<String, Object> data = result.getData();
+    var identifiers = ((List<Map<String, Object>>) data.get("breweries")).stream()
+        .map(brewery -> brewery.get(BREWERY_IDENTIFIER_FIELD))
+        .collect(Collectors.toSet());
+
+    assertThat(identifiers, is(Set.of("123", "456", "1", "2")));
+  }
+
+  @Test
+  void graphQlQuery_ReturnsMapPerKey_forQueriesOfSameShape() {
+    // The second query reuses the cached template of the first, with its own key substituted
+    var identifiers = List.of("123", "789")
+        .stream()
+        .map(identifier -> graphQL.execute(String.format("{ brewery(identifier: \"%s\") { identifier }}", identifier)))
+        .map(result -> {
+          assertResultHasNoErrors(result);
+          return ((Map<String, Object>) result.<Map<String, Object>>getData()
+              .get(BREWERY_FIELD)).get(BREWERY_IDENTIFIER_FIELD);
+        })
+        .toList();
+
+    assertThat(identifiers, is(List.of("123", "789")));
+  }
+
   private void assertResultHasNoErrors(ExecutionResult result) {
     assertThat(result.getErrors(), is(empty()));
   }
@@ -9,6 +9,7 @@ import graphql.ExceptionWhileDataFetching;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import java.io.IOException;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +41,10 @@ class GraphqlController {
 
   private static final String VARIABLES = "variables";
 
+  private static final String EXTENSIONS = "extensions";
+
+  private static final String PERSISTED_QUERY = "persistedQuery";
+
   public GraphqlController(GraphQL graphQL) {
     this.graphQL = graphQL;
     this.objectMapper = new ObjectMapper();
@@ -47,17 +52,23 @@ class GraphqlController {
 
   @CrossOrigin
   @GetMapping(path = "/", produces = MediaType.APPLICATION_JSON_VALUE)
-  public Mono<Map<String, Object>> handleGet(@RequestParam(QUERY) String query,
+  public Mono<Map<String, Object>> handleGet(@RequestParam(value = QUERY, required = false) String query,
       @RequestParam(value = OPERATION_NAME, required = false) String operationName,
-      @RequestParam(value = VARIABLES, required = false) String variablesJson) {
+      @RequestParam(value = VARIABLES, required = false) String variablesJson,
+      @RequestParam(value = EXTENSIONS, required = false) String extensionsJson) {
 
     if (operationName != null) {
       validateOperationNameIsNotEmptyString(operationName);
     }
 
-    Map<String, Object> variablesMap = convertVariablesJson(variablesJson);
+    Map<String, Object> variablesMap = convertJsonMap(variablesJson, VARIABLES);
+    Map<String, Object> extensionsMap = convertJsonMap(extensionsJson, EXTENSIONS);
 
-    var executionInput = getExecutionInput(query, operationName, variablesMap);
+    if (query == null && !isPersistedQuery(extensionsMap)) {
+      throw requestValidationException("Required parameter 'query' is not present.");
+    }
+
+    var executionInput = getExecutionInput(query, operationName, variablesMap, extensionsMap);
 
     return Mono.fromFuture(graphQL.executeAsync(executionInput))
         .flatMap(executionResult -> handleErrors(executionInput, executionResult));
@@ -66,12 +77,13 @@ class GraphqlController {
   @CrossOrigin
   @PostMapping(value = "/", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
   public Mono<Map<String, Object>> handlePost(@RequestBody Map<String, Object> requestBody) {
+    var persistedQuery = isPersistedQuery(getNestedMap(requestBody, EXTENSIONS));
 
-    if (!requestBody.containsKey(QUERY)) {
+    if (!requestBody.containsKey(QUERY) && !persistedQuery) {
       throw requestValidationException("Required parameter 'query' is not present.");
     }
 
-    if (StringUtils.isBlank(requestBody.get(QUERY)
+    if (requestBody.containsKey(QUERY) && StringUtils.isBlank(requestBody.get(QUERY)
         .toString())) {
       throw requestValidationException("Required parameter 'query' can not be empty.");
     }
@@ -91,7 +103,7 @@ class GraphqlController {
   @PostMapping(value = "/", consumes = "application/graphql", produces = MediaType.APPLICATION_JSON_VALUE)
   public Mono<Map<String, Object>> handlePost(@RequestBody(required = false) String body) {
 
-    var executionInput = getExecutionInput(body, null, Map.of());
+    var executionInput = getExecutionInput(body, null, Map.of(), Map.of());
 
     return Mono.fromFuture(graphQL.executeAsync(executionInput))
         .flatMap(executionResult -> handleErrors(executionInput, executionResult));
@@ -126,7 +138,7 @@ class GraphqlController {
   }
 
   @SuppressWarnings("unchecked")
-  private Map<String, Object> convertVariablesJson(String jsonMap) {
+  private Map<String, Object> convertJsonMap(String jsonMap, String parameterName) {
     if (jsonMap == null) {
       return Map.of();
     }
@@ -134,20 +146,27 @@ class GraphqlController {
     try {
       return objectMapper.readValue(jsonMap, Map.class);
     } catch (IOException e) {
-      throw requestValidationException("Could not convert variables GET parameter: expected a JSON map");
+      throw requestValidationException("Could not convert {} GET parameter: expected a JSON map", parameterName);
     }
   }
 
+  private boolean isPersistedQuery(Map<String, Object> extensions) {
+    return extensions.get(PERSISTED_QUERY) instanceof Map;
+  }
+
   private ExecutionInput getExecutionInput(Map<String, Object> requestBody) {
     return getExecutionInput((String) requestBody.get(QUERY), (String) requestBody.get(OPERATION_NAME),
-        getNestedMap(requestBody, VARIABLES));
+        getNestedMap(requestBody, VARIABLES), getNestedMap(requestBody, EXTENSIONS));
   }
 
-  private ExecutionInput getExecutionInput(String query, String operationName, Map<String, Object> variables) {
+  private ExecutionInput getExecutionInput(String query, String operationName, Map<String, Object> variables,
+      Map<String, Object> extensions) {
+    // Persisted queries may be sent without query text, which is then resolved from the persisted query store
     return ExecutionInput.newExecutionInput()
-        .query(query)
+        .query(query != null ? query : PersistedQuerySupport.PERSISTED_QUERY_MARKER)
         .operationName(operationName)
         .variables(variables)
+        .extensions(extensions)
         .dataLoaderRegistry(new DataLoaderRegistry())
         .build();
   }
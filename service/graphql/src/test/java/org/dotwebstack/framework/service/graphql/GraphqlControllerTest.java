@@ -5,6 +5,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import graphql.ExceptionWhileDataFetching;
@@ -14,6 +15,7 @@ import graphql.GraphQL;
 import graphql.GraphQLError;
 import graphql.execution.ResultPath;
 import graphql.execution.UnknownOperationException;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import graphql.language.SourceLocation;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +24,7 @@ import org.dotwebstack.framework.core.RequestValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
@@ -30,6 +33,8 @@ import reactor.test.StepVerifier;
 @ExtendWith(MockitoExtension.class)
 class GraphqlControllerTest {
 
+  private static final String HASH = "24bdc40a9f59ea30b2c2e68a7129e246b620a31389e665f38359eccbeadadf8a";
+
   @Mock
   GraphQL graphQL;
 
@@ -52,7 +57,7 @@ class GraphqlControllerTest {
 
     when(graphQL.executeAsync(any(ExecutionInput.class)))
         .thenReturn(CompletableFuture.completedFuture(executionResult));
-    Mono<Map<String, Object>> result = graphqlController.handleGet(query, null, null);
+    Mono<Map<String, Object>> result = graphqlController.handleGet(query, null, null, null);
 
     StepVerifier.create(result)
         .assertNext(resultMap -> {
@@ -75,7 +80,7 @@ class GraphqlControllerTest {
     var query = "{beers{identifier_beer name}}";
 
     Throwable throwable =
-        assertThrows(RequestValidationException.class, () -> graphqlController.handleGet(query, null, ""));
+        assertThrows(RequestValidationException.class, () -> graphqlController.handleGet(query, null, "", null));
 
     assertThat(throwable.getMessage(), is("Could not convert variables GET parameter: expected a JSON map"));
   }
@@ -86,7 +91,7 @@ class GraphqlControllerTest {
         "query beerCollection{beers{identifier_beer name}} query breweryCollection{breweries{identifier_brewery name}}";
 
     Throwable throwable =
-        assertThrows(RequestValidationException.class, () -> graphqlController.handleGet(query, "", null));
+        assertThrows(RequestValidationException.class, () -> graphqlController.handleGet(query, "", null, null));
 
     assertThat(throwable.getMessage(), is("Must provide operation name if query contains multiple operations."));
   }
@@ -100,7 +105,7 @@ class GraphqlControllerTest {
     when(graphQL.executeAsync(any(ExecutionInput.class))).thenThrow(exception);
 
     Throwable throwable =
-        assertThrows(UnknownOperationException.class, () -> graphqlController.handleGet(query, null, null));
+        assertThrows(UnknownOperationException.class, () -> graphqlController.handleGet(query, null, null, null));
 
     assertThat(throwable.getMessage(), is("Must provide operation name if query contains multiple operations."));
   }
@@ -113,7 +118,7 @@ class GraphqlControllerTest {
     when(graphQL.executeAsync(any(ExecutionInput.class)))
         .thenReturn(CompletableFuture.completedFuture(executionResult));
 
-    Mono<Map<String, Object>> result = graphqlController.handleGet(query, null, null);
+    Mono<Map<String, Object>> result = graphqlController.handleGet(query, null, null, null);
 
     var graphQlError = new ExceptionWhileDataFetching(ResultPath.fromList(List.of("beers")), new NullPointerException(),
         SourceLocation.EMPTY);
@@ -133,7 +138,7 @@ class GraphqlControllerTest {
     when(graphQL.executeAsync(any(ExecutionInput.class)))
         .thenReturn(CompletableFuture.completedFuture(executionResult));
 
-    Mono<Map<String, Object>> result = graphqlController.handleGet(query, null, null);
+    Mono<Map<String, Object>> result = graphqlController.handleGet(query, null, null, null);
 
 
     var graphQlError = new ExceptionWhileDataFetching(ResultPath.fromList(List.of("beers")),
@@ -147,6 +152,62 @@ class GraphqlControllerTest {
   }
 
 
+  @Test
+  void handleGet_shouldThrowException_whenQueryIsMissing() {
+    Throwable throwable =
+        assertThrows(RequestValidationException.class, () -> graphqlController.handleGet(null, null, null, null));
+
+    assertThat(throwable.getMessage(), is("Required parameter 'query' is not present."));
+  }
+
+  @Test
+  void handleGet_shouldThrowException_whenExtensionsIsNotJsonMap() {
+    Throwable throwable =
+        assertThrows(RequestValidationException.class, () -> graphqlController.handleGet(null, null, null, "[]"));
+
+    assertThat(throwable.getMessage(), is("Could not convert extensions GET parameter: expected a JSON map"));
+  }
+
+  @Test
+  void handleGet_shouldExecutePersistedQuery_whenOnlyHashIsProvided() {
+    var extensions = "{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"" + HASH + "\"}}";
+
+    when(graphQL.executeAsync(any(ExecutionInput.class))).thenReturn(CompletableFuture.completedFuture(
+        ExecutionResultImpl.newExecutionResult()
+            .data(Map.of())
+            .build()));
+
+    StepVerifier.create(graphqlController.handleGet(null, null, null, extensions))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    var captor = ArgumentCaptor.forClass(ExecutionInput.class);
+    verify(graphQL).executeAsync(captor.capture());
+    assertThat(captor.getValue()
+        .getQuery(), is(PersistedQuerySupport.PERSISTED_QUERY_MARKER));
+    assertThat(captor.getValue()
+        .getExtensions(), is(Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", HASH))));
+  }
+
+  @Test
+  void handlePost_shouldExecutePersistedQuery_whenOnlyHashIsProvided() {
+    var body = Map.<String, Object>of("extensions", Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", HASH)));
+
+    when(graphQL.executeAsync(any(ExecutionInput.class))).thenReturn(CompletableFuture.completedFuture(
+        ExecutionResultImpl.newExecutionResult()
+            .data(Map.of())
+            .build()));
+
+    StepVerifier.create(graphqlController.handlePost(body))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    var captor = ArgumentCaptor.forClass(ExecutionInput.class);
+    verify(graphQL).executeAsync(captor.capture());
+    assertThat(captor.getValue()
+        .getQuery(), is(PersistedQuerySupport.PERSISTED_QUERY_MARKER));
+  }
+
   @Test
   void handlePost_shouldReturnMono_applicationJson() {
     var body = Map.of("query", "{beers{identifier_beer name}}", "variables", Map.of());
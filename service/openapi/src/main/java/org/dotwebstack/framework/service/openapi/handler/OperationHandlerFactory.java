@@ -1,12 +1,20 @@
 package org.dotwebstack.framework.service.openapi.handler;
 
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalStateException;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.internalServerErrorException;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConfigurationException;
 import static org.dotwebstack.framework.service.openapi.exception.OpenApiExceptionHelper.notAcceptableException;
 import static org.dotwebstack.framework.service.openapi.exception.OpenApiExceptionHelper.notFoundException;
 import static org.dotwebstack.framework.service.openapi.helper.DwsExtensionHelper.defaultMediaTypeFirst;
+import static org.dotwebstack.framework.service.openapi.helper.DwsExtensionHelper.getDwsCacheTtl;
+import static org.dotwebstack.framework.service.openapi.helper.DwsExtensionHelper.referencesRequest;
 import static org.dotwebstack.framework.service.openapi.mapping.MapperUtils.getHandleableResponseEntry;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import graphql.ExceptionWhileDataFetching;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
@@ -14,6 +22,8 @@ import graphql.GraphQL;
 import graphql.GraphQLError;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.responses.ApiResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -28,7 +38,10 @@ import org.dotwebstack.framework.service.openapi.query.QueryProperties;
 import org.dotwebstack.framework.service.openapi.response.BodyMapper;
 import org.dotwebstack.framework.service.openapi.response.header.ResponseHeaderResolver;
 import org.dotwebstack.graphql.orchestrate.delegate.DelegateException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.HandlerFunction;
@@ -40,6 +53,8 @@ import reactor.core.publisher.Mono;
 @Component
 public class OperationHandlerFactory {
 
+  private static final long RESPONSE_CACHE_MAX_SIZE = 1000;
+
   private final GraphQL graphQL;
 
   private final QueryMapper queryMapper;
@@ -50,13 +65,17 @@ public class OperationHandlerFactory {
 
   private final ResponseHeaderResolver responseHeaderResolver;
 
+  private final ObjectMapper objectMapper;
+
   public OperationHandlerFactory(GraphQL graphQL, QueryMapper queryMapper, Collection<BodyMapper> bodyMappers,
-      ParameterResolverFactory parameterResolverFactory, ResponseHeaderResolver responseHeaderResolver) {
+      ParameterResolverFactory parameterResolverFactory, ResponseHeaderResolver responseHeaderResolver,
+      Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
     this.graphQL = graphQL;
     this.queryMapper = queryMapper;
     this.bodyMappers = bodyMappers;
     this.parameterResolverFactory = parameterResolverFactory;
     this.responseHeaderResolver = responseHeaderResolver;
+    this.objectMapper = jackson2ObjectMapperBuilder.build();
   }
 
   public HandlerFunction<ServerResponse> create(Operation operation) {
@@ -67,6 +86,12 @@ public class OperationHandlerFactory {
         .build();
 
     var requestHandler = createRequestHandler(operationContext);
+    var cacheTtl = getDwsCacheTtl(operation);
+
+    if (cacheTtl.isPresent()) {
+      return createCachingHandler(operationContext, requestHandler, cacheTtl.get());
+    }
+
     var responseHandler = createResponseHandler(operationContext);
 
     if (!operationContext.hasQuery()) {
@@ -80,6 +105,96 @@ public class OperationHandlerFactory {
             .flatMap(executionResult -> responseHandler.apply(executionResult, operationRequest)));
   }
 
+  private HandlerFunction<ServerResponse> createCachingHandler(OperationContext operationContext,
+      Function<ServerRequest, Mono<OperationRequest>> requestHandler, Duration cacheTtl) {
+    if (!operationContext.hasQuery() || !operationContext.isResponseWithBody()) {
+      throw invalidConfigurationException("Operation {} can only be cached when it has a query and a response body.",
+          operationContext.getOperation()
+              .getOperationId());
+    }
+
+    // Responses are keyed on the parameters, so expressions may not read anything else from the request
+    if (referencesRequest(operationContext.getOperation())) {
+      throw invalidConfigurationException("Operation {} can not be cached, since its expressions refer to the request.",
+          operationContext.getOperation()
+              .getOperationId());
+    }
+
+    var bodyMapperMap = createBodyMapperMap(operationContext);
+    Cache<ResponseKey, CachedResponse> responseCache = CacheBuilder.newBuilder()
+        .expireAfterWrite(cacheTtl)
+        .maximumSize(RESPONSE_CACHE_MAX_SIZE)
+        .build();
+
+    Function<OperationRequest, Mono<CachedResponse>> responseLoader =
+        operationRequest -> Mono.just(queryMapper.map(operationRequest))
+            .flatMap(this::execute)
+            .flatMap(executionResult -> Mono.justOrEmpty(getQueryResult(operationContext, executionResult))
+                .switchIfEmpty(Mono.error(() -> notFoundException("Did not find data for your response."))))
+            .flatMap(queryResult -> bodyMapperMap.get(operationRequest.getPreferredMediaType())
+                .map(operationRequest, queryResult))
+            .map(content -> createCachedResponse(operationRequest, content));
+
+    return serverRequest -> requestHandler.apply(serverRequest)
+        .flatMap(operationRequest -> {
+          if (!HttpMethod.GET.equals(serverRequest.method())) {
+            return responseLoader.apply(operationRequest)
+                .flatMap(cachedResponse -> createResponse(operationContext, cachedResponse));
+          }
+
+          // Resolved parameters include the path parameters, so the key identifies the requested resource
+          var responseKey = new ResponseKey(operationRequest.getParameters(), operationRequest.getPreferredMediaType());
+
+          return Mono.justOrEmpty(responseCache.getIfPresent(responseKey))
+              .switchIfEmpty(Mono.defer(() -> responseLoader.apply(operationRequest)
+                  .doOnNext(cachedResponse -> responseCache.put(responseKey, cachedResponse))))
+              .flatMap(cachedResponse -> serverRequest.checkNotModified(cachedResponse.etag())
+                  .switchIfEmpty(Mono.defer(() -> createResponse(operationContext, cachedResponse))));
+        });
+  }
+
+  private CachedResponse createCachedResponse(OperationRequest operationRequest, Object content) {
+    var mediaType = operationRequest.getPreferredMediaType();
+    var headers = new HttpHeaders();
+    responseHeaderResolver.resolve(operationRequest, content)
+        .accept(headers);
+
+    // Strong validator, since equal representations of a resource are serialized to identical bytes
+    var etag = Hashing.sha256()
+        .newHasher()
+        .putString(mediaType.toString(), StandardCharsets.UTF_8)
+        .putBytes(serialize(content))
+        .hash()
+        .toString();
+
+    return new CachedResponse(content, mediaType, HttpHeaders.readOnlyHttpHeaders(headers), '"' + etag + '"');
+  }
+
+  private byte[] serialize(Object content) {
+    if (content instanceof byte[] bytes) {
+      return bytes;
+    }
+
+    if (content instanceof String string) {
+      return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    try {
+      return objectMapper.writeValueAsBytes(content);
+    } catch (JsonProcessingException e) {
+      throw illegalStateException("Response content could not be serialized.", e);
+    }
+  }
+
+  private static Mono<ServerResponse> createResponse(OperationContext operationContext,
+      CachedResponse cachedResponse) {
+    return ServerResponse.status(operationContext.getHttpStatus())
+        .contentType(cachedResponse.mediaType())
+        .headers(headers -> headers.addAll(cachedResponse.headers()))
+        .eTag(cachedResponse.etag())
+        .body(BodyInserters.fromValue(cachedResponse.content()));
+  }
+
   private Function<ServerRequest, Mono<OperationRequest>> createRequestHandler(OperationContext operationContext) {
     var parameterResolver = parameterResolverFactory.create(operationContext.getOperation());
 
@@ -109,9 +224,7 @@ public class OperationHandlerFactory {
     return (executionResult, operationRequest) -> {
       Object queryResult = null;
       if (operationContext.hasQuery()) {
-        Map<String, Object> data = executionResult.getData();
-        queryResult = data.get(operationContext.getQueryProperties()
-            .getField());
+        queryResult = getQueryResult(operationContext, executionResult);
 
         if (queryResult == null) {
           return Mono.error(notFoundException("Did not find data for your response."));
@@ -133,6 +246,12 @@ public class OperationHandlerFactory {
     };
   }
 
+  private static Object getQueryResult(OperationContext operationContext, ExecutionResult executionResult) {
+    Map<String, Object> data = executionResult.getData();
+    return data.get(operationContext.getQueryProperties()
+        .getField());
+  }
+
   private Mono<ExecutionResult> execute(ExecutionInput executionInput) {
     LOG.debug("Executing query:\n{}", executionInput.getQuery());
     LOG.debug("Query variables:\n{}", executionInput.getVariables());
@@ -229,4 +348,10 @@ public class OperationHandlerFactory {
         .findFirst()
         .orElseThrow(() -> invalidConfigurationException("Could not find body mapper for media type {}.", mediaType));
   }
+
+  private record ResponseKey(Map<String, Object> parameters, MediaType mediaType) {
+  }
+
+  private record CachedResponse(Object content, MediaType mediaType, HttpHeaders headers, String etag) {
+  }
 }
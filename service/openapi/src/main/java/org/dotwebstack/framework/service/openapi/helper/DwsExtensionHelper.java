@@ -4,6 +4,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConfigurationException;
+import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_CACHE;
 import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_DEFAULT;
 import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_ENVELOPE;
 import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_EXPR;
@@ -19,16 +20,25 @@ import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DW
 import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_TYPE;
 
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.dotwebstack.framework.service.openapi.jexl.JexlExpression;
 
@@ -36,6 +46,8 @@ public class DwsExtensionHelper {
 
   static final String DWS_QUERY_JEXL_CONTEXT_REQUEST = "request";
 
+  private static final Pattern REQUEST_PATTERN = Pattern.compile("\\b" + DWS_QUERY_JEXL_CONTEXT_REQUEST + "\\b");
+
   private DwsExtensionHelper() {}
 
   public static String getDwsType(@NonNull Schema<?> schema) {
@@ -150,6 +162,75 @@ public class DwsExtensionHelper {
     return result;
   }
 
+  public static Optional<Duration> getDwsCacheTtl(@NonNull Operation operation) {
+    if (operation.getExtensions() == null || !operation.getExtensions()
+        .containsKey(X_DWS_CACHE)) {
+      return Optional.empty();
+    }
+
+    var ttl = operation.getExtensions()
+        .get(X_DWS_CACHE);
+
+    if (!(ttl instanceof Integer seconds) || seconds <= 0) {
+      throw invalidConfigurationException("Extension {} should be a positive number of seconds, but found {}.",
+          X_DWS_CACHE, ttl);
+    }
+
+    return Optional.of(Duration.ofSeconds(seconds));
+  }
+
+  /**
+   * Returns whether any expression of the operation reads the request, in its query as well as in its responses. The
+   * response of such an operation can not be derived from its parameters alone.
+   */
+  public static boolean referencesRequest(@NonNull Operation operation) {
+    var visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    return referencesRequest(operation.getExtensions(), false, visited)
+        || referencesRequest(operation.getResponses(), false, visited);
+  }
+
+  private static boolean referencesRequest(Object value, boolean expression, Set<Object> visited) {
+    if (value instanceof String string) {
+      return expression && REQUEST_PATTERN.matcher(string)
+          .find();
+    }
+
+    if (value instanceof ApiResponse response) {
+      return referencesRequest(response.getContent(), expression, visited)
+          || referencesRequest(response.getHeaders(), expression, visited);
+    }
+
+    if (value instanceof Header header) {
+      return referencesRequest(header.getSchema(), expression, visited);
+    }
+
+    if (value instanceof MediaType mediaType) {
+      return referencesRequest(mediaType.getSchema(), expression, visited);
+    }
+
+    // Resolved schemas may be recursive, so every schema is only visited once
+    if (value instanceof Schema<?> schema) {
+      return visited.add(schema) && Stream.of(schema.getExtensions(), schema.getProperties(), schema.getItems(),
+          schema.getAllOf(), schema.getAnyOf(), schema.getOneOf(), schema.getAdditionalProperties())
+          .anyMatch(child -> referencesRequest(child, expression, visited));
+    }
+
+    if (value instanceof Map<?, ?> map) {
+      return map.entrySet()
+          .stream()
+          .anyMatch(entry -> referencesRequest(entry.getValue(), expression || X_DWS_EXPR.equals(entry.getKey())
+              || X_DWS_QUERY_PARAMETER_VALUEEXPR.equals(entry.getKey()), visited));
+    }
+
+    if (value instanceof Collection<?> collection) {
+      return collection.stream()
+          .anyMatch(child -> referencesRequest(child, expression, visited));
+    }
+
+    return false;
+  }
+
   public static Optional<JexlExpression> getJexlExpression(@NonNull Schema<?> schema) {
     var expr = getDwsExtension(schema, X_DWS_EXPR);
     if (expr == null) {
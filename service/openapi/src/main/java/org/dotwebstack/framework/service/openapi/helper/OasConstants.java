@@ -52,6 +52,8 @@ public class OasConstants {
 
   public static final String X_DWS_EXPANDED_PARAMS = "x-dws-expand";
 
+  public static final String X_DWS_CACHE = "x-dws-cache";
+
   public static final String HEADER_CONTENT_TYPE = "Content-Type";
 
   public static final String X_DWS_QUERY_FIELD = "field";
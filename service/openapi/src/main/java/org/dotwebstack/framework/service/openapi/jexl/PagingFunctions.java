@@ -17,6 +17,10 @@ public class PagingFunctions implements JexlFunction {
 
   private static final Pattern PAGE_PATTERN = Pattern.compile("page=([0-9]+)");
 
+  private static final Pattern PAGE_PARAM_PATTERN = Pattern.compile("([?&])page=[0-9]+(&)?");
+
+  private static final Pattern CURSOR_PATTERN = Pattern.compile("cursor=([A-Za-z0-9_-]*)");
+
   @Override
   public String getNamespace() {
     return NAMESPACE;
@@ -31,6 +35,12 @@ public class PagingFunctions implements JexlFunction {
     }
 
     if (((Collection<?>) nodes).size() == pageSize) {
+      var endCursor = ((Map<String, Object>) data).get(PagingConstants.END_CURSOR_FIELD_NAME);
+
+      if (endCursor != null) {
+        return createCursorUri(uri, endCursor.toString());
+      }
+
       Matcher matcher = PAGE_PATTERN.matcher(uri);
       boolean found = matcher.find();
       if (found) {
@@ -61,4 +71,17 @@ public class PagingFunctions implements JexlFunction {
       return null;
     }
   }
+
+  private static String createCursorUri(String uri, String cursor) {
+    // The cursor seeks to the next page itself, so the page number no longer applies
+    var pageMatcher = PAGE_PARAM_PATTERN.matcher(uri);
+    var result = pageMatcher.find() ? pageMatcher.replaceFirst(pageMatcher.group(2) != null ? "$1" : "") : uri;
+
+    Matcher matcher = CURSOR_PATTERN.matcher(result);
+    if (matcher.find()) {
+      return matcher.replaceFirst("cursor=" + cursor);
+    }
+
+    return result.contains("?") ? result + "&cursor=" + cursor : result + "?cursor=" + cursor;
+  }
 }
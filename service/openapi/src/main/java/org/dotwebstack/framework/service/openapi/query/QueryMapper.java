@@ -4,6 +4,7 @@ import static graphql.schema.GraphQLTypeUtil.unwrapAll;
 import static org.dotwebstack.framework.core.datafetchers.ContextConstants.CONTEXT_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.datafetchers.SortConstants.SORT_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.datafetchers.filter.FilterConstants.FILTER_ARGUMENT_NAME;
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.END_CURSOR_FIELD_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.NODES_FIELD_NAME;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConfigurationException;
 import static org.dotwebstack.framework.service.openapi.helper.DwsExtensionHelper.resolveDwsName;
@@ -122,9 +123,24 @@ public class QueryMapper {
               "Could not create valid selection set for `selectionSet`: {}", selectionSetString));
     }
 
-    return new SelectionSet(
-        mapSchema(operationRequest.getResponseSchema(), fieldDefinition, MappingContext.build(operationRequest))
-            .toList());
+    var fields = mapSchema(operationRequest.getResponseSchema(), fieldDefinition,
+        MappingContext.build(operationRequest));
+
+    // The end cursor of the page is needed to create the link to the next page
+    if (isCursorPaging(operationRequest, fieldDefinition)) {
+      fields = Stream.concat(fields, Stream.of(new Field(END_CURSOR_FIELD_NAME)));
+    }
+
+    return new SelectionSet(fields.toList());
+  }
+
+  private boolean isCursorPaging(OperationRequest operationRequest, GraphQLFieldDefinition fieldDefinition) {
+    var paging = operationRequest.getContext()
+        .getQueryProperties()
+        .getPaging();
+
+    return paging != null && paging.getCursor() != null && isPageableField(fieldDefinition)
+        && ((GraphQLObjectType) unwrapAll(fieldDefinition.getType())).getFieldDefinition(END_CURSOR_FIELD_NAME) != null;
   }
 
   private Stream<Field> mapSchema(Schema<?> schema, GraphQLFieldDefinition fieldDefinition,
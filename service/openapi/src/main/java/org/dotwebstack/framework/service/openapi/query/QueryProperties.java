@@ -50,5 +50,7 @@ public class QueryProperties {
     private String pageSize;
 
     private String page;
+
+    private String cursor;
   }
 }
@@ -1,5 +1,6 @@
 package org.dotwebstack.framework.service.openapi.query.paging;
 
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.AFTER_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.FIRST_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.OFFSET_FIELD_NAME;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConfigurationException;
@@ -20,9 +21,9 @@ public class QueryPaging {
 
   private static final String PAGE = "page";
 
-  public static Map<String, Integer> toPagingArguments(QueryProperties.Paging paging, Map<String, Object> parameters,
+  public static Map<String, Object> toPagingArguments(QueryProperties.Paging paging, Map<String, Object> parameters,
       PagingConfiguration pagingConfiguration) {
-    Map<String, Integer> pagingArguments = new HashMap<>();
+    Map<String, Object> pagingArguments = new HashMap<>();
     if (paging != null) {
       var pageSizeValue = parameters.get(paging.getPageSize()
           .split("\\.")[1]);
@@ -53,7 +54,17 @@ public class QueryPaging {
       }
 
       pagingArguments.put(FIRST_ARGUMENT_NAME, pageSize);
-      pagingArguments.put(OFFSET_FIELD_NAME, offset);
+
+      var cursorValue = paging.getCursor() != null ? parameters.get(paging.getCursor()
+          .split("\\.")[1]) : null;
+
+      // A cursor seeks to the next page itself, so it replaces the offset
+      if (cursorValue != null) {
+        pagingArguments.put(AFTER_ARGUMENT_NAME, cursorValue.toString());
+        pagingArguments.put(OFFSET_FIELD_NAME, 0);
+      } else {
+        pagingArguments.put(OFFSET_FIELD_NAME, offset);
+      }
     }
 
     return pagingArguments;
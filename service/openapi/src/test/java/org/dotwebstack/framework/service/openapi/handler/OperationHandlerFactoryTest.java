@@ -4,10 +4,14 @@ import static graphql.ExecutionResultImpl.newExecutionResult;
 import static org.dotwebstack.framework.service.openapi.TestConstants.APPLICATION_JSON_HAL;
 import static org.dotwebstack.framework.service.openapi.TestMocks.mockRequest;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_XML;
@@ -41,6 +45,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.ServerRequest;
 import org.zalando.problem.ThrowableProblem;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -77,7 +85,7 @@ class OperationHandlerFactoryTest {
     when(bodyMapper.map(any(), any())).thenReturn(Mono.just(List.of()));
 
     var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
-        parameterResolverFactory, responseHeaderResolver);
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
 
     var executionInput = mock(ExecutionInput.class);
     var executionResult = TestResources.graphQlResult("brewery-collection");
@@ -99,7 +107,7 @@ class OperationHandlerFactoryTest {
     var operation = createOperation("/brewery-old/{identifier}", Map.of("identifier", "foo"));
 
     var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
-        parameterResolverFactory, responseHeaderResolver);
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
 
     var executionInput = mock(ExecutionInput.class);
     var executionResult = TestResources.graphQlResult("brewery-old");
@@ -121,7 +129,7 @@ class OperationHandlerFactoryTest {
     var operation = createOperation("/brewery-old2/{identifier}", Map.of("identifier", "foo"));
 
     var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
-        parameterResolverFactory, responseHeaderResolver);
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
 
     when(responseHeaderResolver.resolve(any(), any())).thenReturn(httpHeaders -> {
     });
@@ -140,7 +148,7 @@ class OperationHandlerFactoryTest {
     when(bodyMapper.map(any(), any())).thenReturn(Mono.just(Map.of()));
 
     var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
-        parameterResolverFactory, responseHeaderResolver);
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
 
     var executionInput = mock(ExecutionInput.class);
     var executionResult = TestResources.graphQlResult("brewery-collection");
@@ -186,7 +194,7 @@ class OperationHandlerFactoryTest {
     when(bodyMapper.supports(any(), any())).thenReturn(true);
 
     var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
-        parameterResolverFactory, responseHeaderResolver);
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
 
     var executionInput = mock(ExecutionInput.class);
     var executionResult = TestResources.graphQlResult("brewery-not-found");
@@ -206,7 +214,7 @@ class OperationHandlerFactoryTest {
     when(bodyMapper.supports(any(), any())).thenReturn(true);
 
     var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
-        parameterResolverFactory, responseHeaderResolver);
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
 
     var executionInput = mock(ExecutionInput.class);
     var executionResult = newExecutionResult().addError(new QueryOperationMissingError())
@@ -227,7 +235,7 @@ class OperationHandlerFactoryTest {
     when(bodyMapper.supports(any(), any())).thenReturn(true);
 
     var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
-        parameterResolverFactory, responseHeaderResolver);
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
 
     var executionInput = mock(ExecutionInput.class);
     var executionResult = newExecutionResult()
@@ -250,7 +258,7 @@ class OperationHandlerFactoryTest {
     when(bodyMapper.supports(any(), any())).thenReturn(true);
 
     var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
-        parameterResolverFactory, responseHeaderResolver);
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
 
     var throwableProblem = new ThrowableProblem() {};
     var executionInput = mock(ExecutionInput.class);
@@ -274,11 +282,121 @@ class OperationHandlerFactoryTest {
     when(bodyMapper.supports(any(), any())).thenReturn(true, false);
 
     var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
-        parameterResolverFactory, responseHeaderResolver);
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
 
     assertThrows(InvalidConfigurationException.class, () -> operationHandlerFactory.create(operation));
   }
 
+  @Test
+  void create_servesCachedResponse_forRepeatedRequest() {
+    var operation = createCachedOperation("/breweries");
+    when(bodyMapper.supports(any(), any())).thenReturn(true);
+    when(bodyMapper.map(any(), any())).thenReturn(Mono.just(List.of()));
+
+    var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
+
+    var executionInput = mock(ExecutionInput.class);
+    var executionResult = TestResources.graphQlResult("brewery-collection");
+
+    when(queryMapper.map(any())).thenReturn(executionInput);
+    when(graphQl.executeAsync(executionInput)).thenReturn(CompletableFuture.completedFuture(executionResult));
+    when(responseHeaderResolver.resolve(any(), any())).thenReturn(httpHeaders -> {
+    });
+
+    var result = operationHandlerFactory.create(operation);
+
+    StepVerifier.create(result.handle(mockRequest(HttpMethod.GET, "/breweries")))
+        .assertNext(response -> assertThat(response.statusCode(), is(HttpStatus.OK)))
+        .verifyComplete();
+
+    StepVerifier.create(result.handle(mockRequest(HttpMethod.GET, "/breweries")))
+        .assertNext(response -> {
+          assertThat(response.statusCode(), is(HttpStatus.OK));
+          assertThat(response.headers()
+              .getETag(), is(notNullValue()));
+        })
+        .verifyComplete();
+
+    verify(graphQl, times(1)).executeAsync(executionInput);
+  }
+
+  @Test
+  void create_returnsNotModified_forMatchingEtag() {
+    var operation = createCachedOperation("/breweries");
+    when(bodyMapper.supports(any(), any())).thenReturn(true);
+    when(bodyMapper.map(any(), any())).thenReturn(Mono.just(List.of()));
+
+    var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
+
+    var executionInput = mock(ExecutionInput.class);
+    var executionResult = TestResources.graphQlResult("brewery-collection");
+
+    when(queryMapper.map(any())).thenReturn(executionInput);
+    when(graphQl.executeAsync(executionInput)).thenReturn(CompletableFuture.completedFuture(executionResult));
+    when(responseHeaderResolver.resolve(any(), any())).thenReturn(httpHeaders -> {
+    });
+
+    var result = operationHandlerFactory.create(operation);
+    var etag = result.handle(mockRequest(HttpMethod.GET, "/breweries"))
+        .map(response -> response.headers()
+            .getETag())
+        .block();
+
+    var serverHttpRequest = MockServerHttpRequest.get("/breweries")
+        .ifNoneMatch(etag)
+        .build();
+    var serverRequest = ServerRequest.create(MockServerWebExchange.from(serverHttpRequest), List.of());
+
+    StepVerifier.create(result.handle(serverRequest))
+        .assertNext(response -> assertThat(response.statusCode(), is(HttpStatus.NOT_MODIFIED)))
+        .verifyComplete();
+
+    verify(graphQl, times(1)).executeAsync(executionInput);
+  }
+
+  @Test
+  void create_throwsException_forCachedOperationWithoutBody() {
+    var operation = createCachedOperation("/brewery-old/{identifier}");
+
+    var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
+
+    assertThrows(InvalidConfigurationException.class, () -> operationHandlerFactory.create(operation));
+  }
+
+  @Test
+  void create_throwsException_forCachedOperationReferringToRequest() {
+    var operation = createCachedOperation("/breweries");
+    operation.getResponses()
+        .get("200")
+        .getContent()
+        .get("application/json")
+        .getSchema()
+        .addExtension("x-dws-expr", "req:accepts(\"text/html\", request) ? 'html' : 'json'");
+
+    var operationHandlerFactory = new OperationHandlerFactory(graphQl, queryMapper, List.of(bodyMapper),
+        parameterResolverFactory, responseHeaderResolver, new Jackson2ObjectMapperBuilder());
+
+    var exception = assertThrows(InvalidConfigurationException.class, () -> operationHandlerFactory.create(operation));
+
+    assertThat(exception.getMessage(), endsWith("can not be cached, since its expressions refer to the request."));
+  }
+
+  private Operation createCachedOperation(String path) {
+    // Loaded separately, since the extension would otherwise leak into the shared specification
+    var operation = TestResources.openApi("openapi.yaml")
+        .getPaths()
+        .get(path)
+        .getGet();
+    operation.addExtension("x-dws-cache", 60);
+
+    when(parameterResolverFactory.create(operation)).thenReturn(serverRequest -> Mono.just(Map.of()));
+
+    return operation;
+  }
+
   private Operation createOperation(String path, Map<String, Object> parameters) {
     var operation = openApi.getPaths()
         .get(path)
@@ -2,6 +2,7 @@ package org.dotwebstack.framework.service.openapi.helper;
 
 import static graphql.Assert.assertTrue;
 import static java.util.Collections.emptyMap;
+import static org.dotwebstack.framework.service.openapi.helper.DwsExtensionHelper.getDwsCacheTtl;
 import static org.dotwebstack.framework.service.openapi.helper.DwsExtensionHelper.getDwsExtensionOfClass;
 import static org.dotwebstack.framework.service.openapi.helper.DwsExtensionHelper.getDwsQueryName;
 import static org.dotwebstack.framework.service.openapi.helper.DwsExtensionHelper.getDwsQueryParameters;
@@ -18,6 +19,7 @@ import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +62,25 @@ class DwsExtensionHelperTest {
     assertEquals(Optional.empty(), getDwsQueryName(getAdvancedForm));
   }
 
+  @Test
+  void getDwsCacheTtl_returnsDuration_whenSpecified() {
+    var operation = new Operation().extensions(Map.of("x-dws-cache", 60));
+
+    assertEquals(Optional.of(Duration.ofSeconds(60)), getDwsCacheTtl(operation));
+  }
+
+  @Test
+  void getDwsCacheTtl_returnsEmpty_withoutDwsCache() {
+    assertEquals(Optional.empty(), getDwsCacheTtl(new Operation()));
+  }
+
+  @Test
+  void getDwsCacheTtl_throwsException_forInvalidTtl() {
+    var operation = new Operation().extensions(Map.of("x-dws-cache", "1m"));
+
+    assertThrows(InvalidConfigurationException.class, () -> getDwsCacheTtl(operation));
+  }
+
   @Test
   void getDwsQueryParameters_returnsParameters_whenSpecified() {
     Operation getWithDwsParameters = TestResources.openApi()
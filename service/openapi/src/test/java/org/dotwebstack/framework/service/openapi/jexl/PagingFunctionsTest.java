@@ -1,6 +1,7 @@
 package org.dotwebstack.framework.service.openapi.jexl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -34,6 +35,16 @@ class PagingFunctionsTest {
         Arguments.of("4", "http://dotwebstack.com", "/breweries?page=5", null));
   }
 
+  static Stream<Arguments> argumentsNextCursor() {
+    return Stream.of(Arguments.of("/breweries", "http://dotwebstack.com/breweries?cursor=abc"),
+        Arguments.of("/breweries?page=5", "http://dotwebstack.com/breweries?cursor=abc"),
+        Arguments.of("/breweries?cursor=xyz", "http://dotwebstack.com/breweries?cursor=abc"),
+        Arguments.of("/breweries?foo=bar&page=5", "http://dotwebstack.com/breweries?foo=bar&cursor=abc"),
+        Arguments.of("/breweries?page=5&foo=bar", "http://dotwebstack.com/breweries?foo=bar&cursor=abc"),
+        Arguments.of("/breweries?foo=bar&page=5&cursor=xyz&pageSize=3",
+            "http://dotwebstack.com/breweries?foo=bar&cursor=abc&pageSize=3"));
+  }
+
   static Stream<Arguments> argumentsPrev() {
     return Stream.of(Arguments.of("http://dotwebstack.com", "/breweries", null),
         Arguments.of("http://dotwebstack.com", "/breweries?page=1", null),
@@ -61,6 +72,25 @@ class PagingFunctionsTest {
     assertThat(next, is(expected));
   }
 
+  @ParameterizedTest
+  @MethodSource("argumentsNextCursor")
+  void next_returnsCursorUri_forEndCursor(String requestPathAndQuery, String expected) {
+    var data = Map.of("nodes", List.of("a", "b", "c"), "endCursor", "abc");
+
+    String next = pagingFunctions.next(data, 3, "http://dotwebstack.com", requestPathAndQuery);
+
+    assertThat(next, is(expected));
+  }
+
+  @Test
+  void next_returnsNull_forEndCursorOnLastPage() {
+    var data = Map.of("nodes", List.of("a", "b"), "endCursor", "abc");
+
+    String next = pagingFunctions.next(data, 3, "http://dotwebstack.com", "/breweries?cursor=xyz");
+
+    assertThat(next, is(nullValue()));
+  }
+
   @Test
   void next_givenUnPageableData_throwsException() {
     var data = Map.of("foo", "a", "b", "c");
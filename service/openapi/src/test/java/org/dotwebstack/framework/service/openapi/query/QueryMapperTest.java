@@ -77,6 +77,8 @@ class QueryMapperTest {
             "brewery-pageable-collection-with-params"),
         Arguments.of("/breweries-pageable-with-params", APPLICATION_JSON_HAL, Map.of("page", 2, "pageSize", 42),
             "brewery-pageable-collection-with-params"),
+        Arguments.of("/breweries-pageable-with-cursor", APPLICATION_JSON,
+            Map.of("page", 2, "pageSize", 42, "cursor", "AAEAUwAFYnJldzE"), "brewery-pageable-collection-with-cursor"),
         Arguments.of("/breweries-all-of", APPLICATION_JSON, Map.of(), "brewery-collection"),
         Arguments.of("/breweries-all-of", APPLICATION_JSON_HAL, Map.of(), "brewery-collection"),
         Arguments.of("/breweries-all-of", APPLICATION_JSON, Map.of("x-dws-expand", List.of("postalAddress")),
@@ -1,5 +1,6 @@
 package org.dotwebstack.framework.service.openapi.query.paging;
 
+import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.AFTER_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.FIRST_ARGUMENT_NAME;
 import static org.dotwebstack.framework.core.datafetchers.paging.PagingConstants.OFFSET_FIELD_NAME;
 import static org.hamcrest.CoreMatchers.is;
@@ -102,7 +103,7 @@ class QueryPagingTest {
   void toPagingArguments_suppliesCorrectFirstAndOffsetOnFirstPage_forPageSize() {
     Map<String, Object> parameters = Map.of("pageSize", 42, "page", 1);
 
-    Map<String, Integer> arguments = QueryPaging.toPagingArguments(paging, parameters, pagingConfiguration);
+    Map<String, Object> arguments = QueryPaging.toPagingArguments(paging, parameters, pagingConfiguration);
 
     assertThat(arguments.get(FIRST_ARGUMENT_NAME), is(42));
     assertThat(arguments.get(OFFSET_FIELD_NAME), is(0));
@@ -112,7 +113,7 @@ class QueryPagingTest {
   void toPagingArguments_suppliesCorrectFirstAndOffsetOnFirstPage_forBigIntegerPageAndPageSize() {
     Map<String, Object> parameters = Map.of("pageSize", BigInteger.valueOf(42), "page", BigInteger.valueOf(1));
 
-    Map<String, Integer> arguments = QueryPaging.toPagingArguments(paging, parameters, pagingConfiguration);
+    Map<String, Object> arguments = QueryPaging.toPagingArguments(paging, parameters, pagingConfiguration);
 
     assertThat(arguments.get(FIRST_ARGUMENT_NAME), is(42));
     assertThat(arguments.get(OFFSET_FIELD_NAME), is(0));
@@ -122,12 +123,28 @@ class QueryPagingTest {
   void toPagingArguments_suppliesCorrectFirstAndOffset_forPageAndPageSize() {
     Map<String, Object> parameters = Map.of("pageSize", 42, "page", 3);
 
-    Map<String, Integer> arguments = QueryPaging.toPagingArguments(paging, parameters, pagingConfiguration);
+    Map<String, Object> arguments = QueryPaging.toPagingArguments(paging, parameters, pagingConfiguration);
 
     assertThat(arguments.get(FIRST_ARGUMENT_NAME), is(42));
     assertThat(arguments.get(OFFSET_FIELD_NAME), is(84));
   }
 
+  @Test
+  void toPagingArguments_suppliesAfterInsteadOfOffset_forCursor() {
+    var cursorPaging = new QueryProperties.Paging();
+    cursorPaging.setPage("$query.page");
+    cursorPaging.setPageSize("$query.pageSize");
+    cursorPaging.setCursor("$query.cursor");
+
+    Map<String, Object> parameters = Map.of("pageSize", 42, "page", 3, "cursor", "AAEAUwAFYnJldzE");
+
+    Map<String, Object> arguments = QueryPaging.toPagingArguments(cursorPaging, parameters, pagingConfiguration);
+
+    assertThat(arguments.get(FIRST_ARGUMENT_NAME), is(42));
+    assertThat(arguments.get(OFFSET_FIELD_NAME), is(0));
+    assertThat(arguments.get(AFTER_ARGUMENT_NAME), is("AAEAUwAFYnJldzE"));
+  }
+
   @Test
   void toPagingArguments_throwsParameterValidationException_whenMaxFirstIsExceeded() {
     Map<String, Object> parameters = Map.of("pageSize", 101, "page", 1);